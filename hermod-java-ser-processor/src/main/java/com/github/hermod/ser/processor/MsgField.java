@@ -0,0 +1,29 @@
+package com.github.hermod.ser.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>MsgField. </p>
+ * 
+ * Marks a getter of a {@link MsgType} interface as a field of the message : getX() or isX() (for a boolean), returning a boolean, byte,
+ * short, int, long, float, double or String. The optional setter is setX(value).
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface MsgField {
+
+    /**
+     * key.
+     * 
+     * @return the key of the field in the Msg, positive
+     */
+    int key();
+}
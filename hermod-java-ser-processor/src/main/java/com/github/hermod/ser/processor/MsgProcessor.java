@@ -0,0 +1,238 @@
+package com.github.hermod.ser.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import com.github.hermod.ser.processor.MsgSourceWriter.Field;
+import com.github.hermod.ser.processor.MsgSourceWriter.FieldKind;
+
+/**
+ * <p>MsgProcessor. </p>
+ * 
+ * Generates at compile time the Msg class of each {@link MsgType} interface (see {@link MsgSourceWriter}), nothing is generated at runtime.
+ * The errors (duplicate key, unsupported type, method which is neither a {@link MsgField} getter nor its setter) are reported on the
+ * elements, the class is not generated.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+@SupportedAnnotationTypes("com.github.hermod.ser.processor.MsgType")
+public final class MsgProcessor extends AbstractProcessor {
+
+    private static final String MSG_PACKAGE = "com.github.hermod.ser";
+    private static final String GET         = "get";
+    private static final String IS          = "is";
+    private static final String SET         = "set";
+    private static final String MSG         = "Msg";
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> aAnnotations, final RoundEnvironment aRoundEnv) {
+        for (final Element element : aRoundEnv.getElementsAnnotatedWith(MsgType.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@MsgType must be on an interface.");
+            } else {
+                process((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * process.
+     * 
+     * @param aInterface
+     */
+    private void process(final TypeElement aInterface) {
+        final List<Field> fields = new ArrayList<Field>();
+        final Map<String, ExecutableElement> setters = new HashMap<String, ExecutableElement>();
+        boolean valid = true;
+        for (final ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(aInterface))) {
+            // the methods of Msg (when the interface extends it) are implemented by AbstractMsg
+            final boolean msgMethod = this.processingEnv.getElementUtils().getPackageOf(method).getQualifiedName().contentEquals(MSG_PACKAGE);
+            if (!method.getModifiers().contains(Modifier.ABSTRACT) || msgMethod) {
+                continue;
+            }
+            final MsgField msgField = method.getAnnotation(MsgField.class);
+            if (msgField != null) {
+                final Field field = toField(method, msgField.key());
+                valid &= field != null;
+                if (field != null) {
+                    fields.add(field);
+                }
+            } else if (isSetter(method)) {
+                setters.put(method.getSimpleName().toString(), method);
+            } else {
+                error(method, "The method " + method.getSimpleName() + " is neither a @MsgField getter nor a setter.");
+                valid = false;
+            }
+        }
+        if (fields.size() > MsgSourceWriter.MAX_FIELDS) {
+            error(aInterface, "A @MsgType has at most " + MsgSourceWriter.MAX_FIELDS + " @MsgField, not " + fields.size() + ".");
+            valid = false;
+        }
+        Collections.sort(fields, new Comparator<Field>() {
+            @Override
+            public int compare(final Field aField1, final Field aField2) {
+                return Integer.compare(aField1.getKey(), aField2.getKey());
+            }
+        });
+        for (int i = 1; i < fields.size(); i++) {
+            if (fields.get(i).getKey() == fields.get(i - 1).getKey()) {
+                error(fields.get(i).getGetter(), "The key=" + fields.get(i).getKey() + " is already the key of "
+                + fields.get(i - 1).getGetter().getSimpleName() + ".");
+                valid = false;
+            }
+        }
+        for (final Field field : fields) {
+            final ExecutableElement setter = setters.remove(field.getSetterName());
+            if (setter != null) {
+                if (!this.processingEnv.getTypeUtils().isSameType(setter.getParameters().get(0).asType(), field.getGetter().getReturnType())) {
+                    error(setter, "The setter " + setter.getSimpleName() + " must take a " + field.getGetter().getReturnType() + ".");
+                    valid = false;
+                }
+                field.setSetterDeclared(true);
+            }
+        }
+        for (final ExecutableElement setter : setters.values()) {
+            error(setter, "The setter " + setter.getSimpleName() + " has no @MsgField getter.");
+            valid = false;
+        }
+        if (valid) {
+            write(aInterface, fields);
+        }
+    }
+
+    /**
+     * toField.
+     * 
+     * @param aGetter
+     * @param aKey
+     * @return the field of aGetter, null if aGetter is not valid
+     */
+    private Field toField(final ExecutableElement aGetter, final int aKey) {
+        final String methodName = aGetter.getSimpleName().toString();
+        final FieldKind kind = toFieldKind(aGetter.getReturnType());
+        final String prefix = (methodName.startsWith(GET)) ? GET : (methodName.startsWith(IS) && kind == FieldKind.BOOLEAN) ? IS : null;
+        if (aKey < 0) {
+            error(aGetter, "The key=" + aKey + " of " + methodName + " must be positive.");
+        } else if (kind == null) {
+            error(aGetter, "The type " + aGetter.getReturnType() + " of " + methodName
+            + " is not supported, use boolean, byte, short, int, long, float, double or String.");
+        } else if (!aGetter.getParameters().isEmpty() || prefix == null || methodName.length() == prefix.length()) {
+            error(aGetter, "The @MsgField " + methodName + " must be a getter without parameter (getX() or isX()).");
+        } else {
+            return new Field(aGetter, aKey, kind, methodName.substring(prefix.length()));
+        }
+        return null;
+    }
+
+    /**
+     * toFieldKind.
+     * 
+     * @param aType
+     * @return the kind of field of aType, null if aType is not supported
+     */
+    private FieldKind toFieldKind(final TypeMirror aType) {
+        switch (aType.getKind()) {
+            case BOOLEAN:
+                return FieldKind.BOOLEAN;
+            case BYTE:
+                return FieldKind.BYTE;
+            case SHORT:
+                return FieldKind.SHORT;
+            case INT:
+                return FieldKind.INT;
+            case LONG:
+                return FieldKind.LONG;
+            case FLOAT:
+                return FieldKind.FLOAT;
+            case DOUBLE:
+                return FieldKind.DOUBLE;
+            case DECLARED:
+                final TypeElement stringType = this.processingEnv.getElementUtils().getTypeElement(String.class.getName());
+                return (this.processingEnv.getTypeUtils().isSameType(aType, stringType.asType())) ? FieldKind.STRING : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * isSetter.
+     * 
+     * @param aMethod
+     * @return true if aMethod is void setX(value)
+     */
+    private static boolean isSetter(final ExecutableElement aMethod) {
+        final String methodName = aMethod.getSimpleName().toString();
+        return methodName.startsWith(SET) && methodName.length() > SET.length() && aMethod.getParameters().size() == 1
+        && aMethod.getReturnType().getKind() == TypeKind.VOID;
+    }
+
+    /**
+     * write.
+     * 
+     * @param aInterface
+     * @param aFields
+     */
+    private void write(final TypeElement aInterface, final List<Field> aFields) {
+        final String packageName = this.processingEnv.getElementUtils().getPackageOf(aInterface).getQualifiedName().toString();
+        final String name = aInterface.getAnnotation(MsgType.class).name();
+        final String className = (name.isEmpty()) ? aInterface.getSimpleName() + MSG : name;
+        final String qualifiedClassName = (packageName.isEmpty()) ? className : packageName + '.' + className;
+        try {
+            final JavaFileObject source = this.processingEnv.getFiler().createSourceFile(qualifiedClassName, aInterface);
+            try (final Writer writer = source.openWriter()) {
+                writer.write(new MsgSourceWriter(packageName, className, aInterface.getQualifiedName().toString(), aFields).write());
+            }
+        } catch (final IOException e) {
+            error(aInterface, "Impossible to write " + qualifiedClassName + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * error.
+     * 
+     * @param aElement
+     * @param aMessage
+     */
+    private void error(final Element aElement, final String aMessage) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, aMessage, aElement);
+    }
+}
@@ -0,0 +1,670 @@
+package com.github.hermod.ser.processor;
+
+import java.util.List;
+import java.util.Locale;
+
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ExecutableElement;
+
+/**
+ * <p>MsgSourceWriter. </p>
+ * 
+ * Writes the source of the Msg class of a {@link MsgType} interface :
+ * 
+ * <pre>
+ * one field per {@link MsgField}   = a primitive field (a byte 0/1 for a boolean) or a String field, with a presence bit in a long
+ * typed getters and setters        = final methods on the fields, without boxing nor key lookup
+ * generic Msg methods              = a switch on the constant keys, the other keys are stored in an IndexedObjectsMsg overflow
+ * codec                            = the format of IndexedObjectsMsg (compact key, type, little-endian value), inlined per field
+ * </pre>
+ * 
+ * A field is always serialized with its Type (an int is not narrowed), any Type convertible without loss is accepted by the deserialization.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+final class MsgSourceWriter {
+
+    static final int            MAX_FIELDS        = Long.SIZE;
+
+    private static final int    ONE_BYTE_KEY      = 0xFF;
+    private static final int    ONE_BYTE_LENGTH   = 1;
+    private static final int    FIVE_BYTES_LENGTH = 5;
+    private static final String PRESENCE          = "_PRESENCE";
+
+    /**
+     * <p>FieldKind, the supported types of {@link MsgField}. </p>
+     * 
+     */
+    enum FieldKind {
+        BOOLEAN("boolean", "BYTE", 1, "Byte"),
+        BYTE("byte", "BYTE", 1, "Byte"),
+        SHORT("short", "SHORT", 2, "Short"),
+        INT("int", "INT", 4, "Int"),
+        LONG("long", "LONG", 8, "Long"),
+        FLOAT("float", "FLOAT", 4, "Float"),
+        DOUBLE("double", "DOUBLE", 8, "Double"),
+        STRING("String", "STRING_UTF_8", 0, null);
+
+        private final String javaType;
+        private final String type;
+        private final int    size;
+        private final String bytesSuffix;
+
+        /**
+         * Constructor.
+         * 
+         * @param aJavaType
+         * @param aType the name of the Type of the serialized field
+         * @param aSize the length of the serialized value, 0 if variable
+         * @param aBytesSuffix the suffix of the DirectBytes accessors
+         */
+        private FieldKind(final String aJavaType, final String aType, final int aSize, final String aBytesSuffix) {
+            this.javaType = aJavaType;
+            this.type = aType;
+            this.size = aSize;
+            this.bytesSuffix = aBytesSuffix;
+        }
+    }
+
+    /**
+     * <p>Field, a {@link MsgField} getter. </p>
+     * 
+     */
+    static final class Field {
+        private final ExecutableElement getter;
+        private final int               key;
+        private final FieldKind         kind;
+        private final String            property;
+        private boolean                 setterDeclared;
+
+        /**
+         * Constructor.
+         * 
+         * @param aGetter
+         * @param aKey
+         * @param aKind
+         * @param aProperty the name of the getter without get or is
+         */
+        Field(final ExecutableElement aGetter, final int aKey, final FieldKind aKind, final String aProperty) {
+            this.getter = aGetter;
+            this.key = aKey;
+            this.kind = aKind;
+            this.property = aProperty;
+        }
+
+        /**
+         * getGetter.
+         * 
+         * @return
+         */
+        ExecutableElement getGetter() {
+            return this.getter;
+        }
+
+        /**
+         * getKey.
+         * 
+         * @return
+         */
+        int getKey() {
+            return this.key;
+        }
+
+        /**
+         * getSetterName.
+         * 
+         * @return
+         */
+        String getSetterName() {
+            return "set" + this.property;
+        }
+
+        /**
+         * setSetterDeclared.
+         * 
+         * @param aSetterDeclared true if the interface declares the setter
+         */
+        void setSetterDeclared(final boolean aSetterDeclared) {
+            this.setterDeclared = aSetterDeclared;
+        }
+
+        /**
+         * fieldName.
+         * 
+         * @return the name of the field storing the value
+         */
+        private String fieldName() {
+            final String fieldName = Character.toLowerCase(this.property.charAt(0)) + this.property.substring(1);
+            return (SourceVersion.isKeyword(fieldName) || fieldName.equals("presences") || fieldName.equals("overflow")) ? fieldName + "Value"
+            : fieldName;
+        }
+
+        /**
+         * constantName.
+         * 
+         * @return the property in upper case, words separated by _
+         */
+        private String constantName() {
+            return this.property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        }
+
+        /**
+         * keyLength.
+         * 
+         * @return the length of the serialized key
+         */
+        private int keyLength() {
+            return (this.key < ONE_BYTE_KEY) ? ONE_BYTE_LENGTH : FIVE_BYTES_LENGTH;
+        }
+    }
+
+    private final String        packageName;
+    private final String        className;
+    private final String        interfaceName;
+    private final List<Field>   fields;
+    private final StringBuilder sb;
+
+    /**
+     * Constructor.
+     * 
+     * @param aPackageName
+     * @param aClassName the simple name of the generated class
+     * @param aInterfaceName the qualified name of the interface
+     * @param aFields the fields sorted by key
+     */
+    MsgSourceWriter(final String aPackageName, final String aClassName, final String aInterfaceName, final List<Field> aFields) {
+        this.packageName = aPackageName;
+        this.className = aClassName;
+        this.interfaceName = aInterfaceName;
+        this.fields = aFields;
+        this.sb = new StringBuilder();
+    }
+
+    /**
+     * write.
+     * 
+     * @return the source of the class
+     */
+    String write() {
+        writeHeader();
+        writeAccessors();
+        writeGenericMethods();
+        writeKeysMethods();
+        writeCodec();
+        line("}");
+        return this.sb.toString();
+    }
+
+    /**
+     * line.
+     * 
+     * @param aLine
+     */
+    private void line(final String aLine) {
+        this.sb.append(aLine).append('\n');
+    }
+
+    /**
+     * override.
+     * 
+     * @param aSee the member of the overridden method, for the @see
+     */
+    private void override(final String aSee) {
+        line("    /**");
+        line("     * (non-Javadoc)");
+        line("     * ");
+        line("     * @see " + aSee);
+        line("     */");
+        line("    @Override");
+    }
+
+    /**
+     * presence.
+     * 
+     * @param aField
+     * @return the test of the presence bit of aField
+     */
+    private static String presence(final Field aField) {
+        return "(this.presences & " + aField.constantName() + PRESENCE + ") != 0";
+    }
+
+    /**
+     * writeHeader.
+     * 
+     */
+    private void writeHeader() {
+        if (!this.packageName.isEmpty()) {
+            line("package " + this.packageName + ";");
+            line("");
+        }
+        line("import static com.github.hermod.ser.Types.BYTE_TYPE;");
+        line("import static com.github.hermod.ser.Types.DOUBLE_TYPE;");
+        line("import static com.github.hermod.ser.Types.FLOAT_TYPE;");
+        line("import static com.github.hermod.ser.Types.INT_TYPE;");
+        line("import static com.github.hermod.ser.Types.LONG_TYPE;");
+        line("import static com.github.hermod.ser.Types.SHORT_TYPE;");
+        line("import static com.github.hermod.ser.impl.Msgs.ERROR_WHEN_KEY_NOT_PRESENT;");
+        line("import static com.github.hermod.ser.impl.Msgs.XFF;");
+        line("");
+        line("import javax.annotation.processing.Generated;");
+        line("");
+        line("import com.github.hermod.ser.BytesSerializable;");
+        line("import com.github.hermod.ser.Serializable;");
+        line("import com.github.hermod.ser.Type;");
+        line("import com.github.hermod.ser.impl.AbstractMsg;");
+        line("import com.github.hermod.ser.impl.DirectBytes;");
+        line("import com.github.hermod.ser.impl.IndexedObjectsMsg;");
+        line("import com.github.hermod.ser.impl.Msgs;");
+        line("");
+        line("/**");
+        line(" * <p>" + this.className + ". </p>");
+        line(" * ");
+        line(" * Msg of {@link " + this.interfaceName + "}, generated by MsgProcessor : one field per @MsgField, the other keys in an");
+        line(" * IndexedObjectsMsg, serialized in the format of IndexedObjectsMsg.");
+        line(" * ");
+        line(" */");
+        line("@Generated(\"" + MsgProcessor.class.getName() + "\")");
+        line("public final class " + this.className + " extends AbstractMsg implements " + this.interfaceName
+        + ", Serializable, BytesSerializable {");
+        line("");
+        for (final Field field : this.fields) {
+            line("    public static final int KEY_" + field.constantName() + " = " + field.key + ";");
+        }
+        for (int i = 0; i < this.fields.size(); i++) {
+            line("    private static final long " + this.fields.get(i).constantName() + PRESENCE + " = 1L << " + i + ";");
+        }
+        line("    private static final String ERROR_WRONG_TYPE = \"The key=%s is a %s field of " + this.className
+        + ", it cannot store %s.\";");
+        line("");
+        line("    private long presences;");
+        for (final Field field : this.fields) {
+            line("    private " + ((field.kind == FieldKind.BOOLEAN) ? "byte" : field.kind.javaType) + " " + field.fieldName() + ";");
+        }
+        line("    private IndexedObjectsMsg overflow;");
+        line("");
+        line("    /**");
+        line("     * Constructor.");
+        line("     * ");
+        line("     */");
+        line("    public " + this.className + "() {");
+        line("        super();");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * create.");
+        line("     * ");
+        line("     * @return an empty " + this.className);
+        line("     */");
+        line("    public static " + this.className + " create() {");
+        line("        return new " + this.className + "();");
+        line("    }");
+        line("");
+    }
+
+    /**
+     * writeAccessors.
+     * 
+     */
+    private void writeAccessors() {
+        for (final Field field : this.fields) {
+            final String name = field.fieldName();
+            final String getterName = field.getter.getSimpleName().toString();
+            override(this.interfaceName + "#" + getterName + "()");
+            line("    public final " + field.kind.javaType + " " + getterName + "() {");
+            if (field.kind == FieldKind.STRING) {
+                line("        return this." + name + ";");
+            } else {
+                line("        if (!(" + presence(field) + ")) {");
+                line("            throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, KEY_" + field.constantName()
+                + "));");
+                line("        }");
+                line("        return this." + name + ((field.kind == FieldKind.BOOLEAN) ? " != 0;" : ";"));
+            }
+            line("    }");
+            line("");
+            if (field.setterDeclared) {
+                override(this.interfaceName + "#" + field.getSetterName() + "(" + field.kind.javaType + ")");
+            } else {
+                line("    /**");
+                line("     * " + field.getSetterName() + ".");
+                line("     * ");
+                line("     * @param aValue" + ((field.kind == FieldKind.STRING) ? " null to remove the field" : ""));
+                line("     */");
+            }
+            line("    public final void " + field.getSetterName() + "(final " + field.kind.javaType + " aValue) {");
+            if (field.kind == FieldKind.STRING) {
+                line("        this." + name + " = aValue;");
+                line("        if (aValue != null) {");
+                line("            this.presences |= " + field.constantName() + PRESENCE + ";");
+                line("        } else {");
+                line("            this.presences &= ~" + field.constantName() + PRESENCE + ";");
+                line("        }");
+            } else {
+                line("        this." + name + " = " + ((field.kind == FieldKind.BOOLEAN) ? "(byte) (aValue ? 1 : 0);" : "aValue;"));
+                line("        this.presences |= " + field.constantName() + PRESENCE + ";");
+            }
+            line("    }");
+            line("");
+        }
+    }
+
+    /**
+     * writeGenericMethods, getValue, setValue and removeValue of AbstractMsg.
+     * 
+     */
+    private void writeGenericMethods() {
+        override("com.github.hermod.ser.impl.AbstractMsg#getValue(int)");
+        line("    protected final Object getValue(final int aKey) {");
+        line("        switch (aKey) {");
+        for (final Field field : this.fields) {
+            final String value = (field.kind == FieldKind.STRING) ? "this." + field.fieldName() : ((field.kind.bytesSuffix.equals("Int"))
+            ? "Integer" : field.kind.bytesSuffix) + ".valueOf(this." + field.fieldName() + ")";
+            line("            case KEY_" + field.constantName() + ":");
+            line("                return (" + presence(field) + ") ? " + value + " : null;");
+        }
+        line("            default:");
+        line("                return (this.overflow != null) ? getStoredValue(this.overflow, aKey) : null;");
+        line("        }");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)");
+        line("    protected final void setValue(final int aKey, final Object aValue) {");
+        line("        switch (aKey) {");
+        for (final Field field : this.fields) {
+            final String name = field.fieldName();
+            final String type = "Type." + field.kind.type;
+            line("            case KEY_" + field.constantName() + ": {");
+            switch (field.kind) {
+                case STRING:
+                    line("                if (!(aValue instanceof String)) {");
+                    line("                    throw wrongType(aKey, " + type + ", aValue);");
+                    line("                }");
+                    line("                this." + name + " = (String) aValue;");
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    line("                final double value = decimalValue(aKey, " + type + ", aValue);");
+                    if (field.kind == FieldKind.FLOAT) {
+                        line("                if (value != (float) value && !Double.isNaN(value)) {");
+                        line("                    throw wrongType(aKey, " + type + ", aValue);");
+                        line("                }");
+                        line("                this." + name + " = (float) value;");
+                    } else {
+                        line("                this." + name + " = value;");
+                    }
+                    break;
+                default:
+                    line("                final long value = integralValue(aKey, " + type + ", aValue);");
+                    if (field.kind != FieldKind.LONG) {
+                        final String javaType = (field.kind == FieldKind.BOOLEAN) ? "byte" : field.kind.javaType;
+                        line("                if (value != (" + javaType + ") value) {");
+                        line("                    throw wrongType(aKey, " + type + ", aValue);");
+                        line("                }");
+                        line("                this." + name + " = (" + javaType + ") value;");
+                    } else {
+                        line("                this." + name + " = value;");
+                    }
+                    break;
+            }
+            line("                this.presences |= " + field.constantName() + PRESENCE + ";");
+            line("                break;");
+            line("            }");
+        }
+        line("            default:");
+        line("                if (this.overflow == null) {");
+        line("                    this.overflow = IndexedObjectsMsg.create();");
+        line("                }");
+        line("                setStoredValue(this.overflow, aKey, aValue);");
+        line("        }");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.impl.AbstractMsg#removeValue(int)");
+        line("    protected final void removeValue(final int aKey) {");
+        line("        switch (aKey) {");
+        for (final Field field : this.fields) {
+            line("            case KEY_" + field.constantName() + ":");
+            if (field.kind == FieldKind.STRING) {
+                line("                this." + field.fieldName() + " = null;");
+            }
+            line("                this.presences &= ~" + field.constantName() + PRESENCE + ";");
+            line("                break;");
+        }
+        line("            default:");
+        line("                checkKey(aKey);");
+        line("                if (this.overflow != null) {");
+        line("                    this.overflow.remove(aKey);");
+        line("                }");
+        line("        }");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * integralValue.");
+        line("     * ");
+        line("     * @param aKey");
+        line("     * @param aType the Type of the field of aKey");
+        line("     * @param aValue");
+        line("     * @return aValue as a long if it is a Byte, a Short, an Integer or a Long");
+        line("     */");
+        line("    private static long integralValue(final int aKey, final Type aType, final Object aValue) {");
+        line("        if (aValue instanceof Byte || aValue instanceof Short || aValue instanceof Integer || aValue instanceof Long) {");
+        line("            return ((Number) aValue).longValue();");
+        line("        }");
+        line("        throw wrongType(aKey, aType, aValue);");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * decimalValue.");
+        line("     * ");
+        line("     * @param aKey");
+        line("     * @param aType the Type of the field of aKey");
+        line("     * @param aValue");
+        line("     * @return aValue as a double if it is a Float or a Double, or an integral converted exactly");
+        line("     */");
+        line("    private static double decimalValue(final int aKey, final Type aType, final Object aValue) {");
+        line("        if (aValue instanceof Float || aValue instanceof Double) {");
+        line("            return ((Number) aValue).doubleValue();");
+        line("        } else if (aValue instanceof Byte || aValue instanceof Short || aValue instanceof Integer || aValue instanceof Long) {");
+        line("            final long value = ((Number) aValue).longValue();");
+        line("            if (value == (long) (double) value && value != Long.MAX_VALUE) {");
+        line("                return value;");
+        line("            }");
+        line("        }");
+        line("        throw wrongType(aKey, aType, aValue);");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * wrongType.");
+        line("     * ");
+        line("     * @param aKey");
+        line("     * @param aType the Type of the field of aKey");
+        line("     * @param aValue");
+        line("     * @return");
+        line("     */");
+        line("    private static IllegalArgumentException wrongType(final int aKey, final Type aType, final Object aValue) {");
+        line("        return new IllegalArgumentException(String.format(ERROR_WRONG_TYPE, aKey, aType, aValue));");
+        line("    }");
+        line("");
+    }
+
+    /**
+     * writeKeysMethods.
+     * 
+     */
+    private void writeKeysMethods() {
+        override("com.github.hermod.ser.Msg#removeAll()");
+        line("    public final void removeAll() {");
+        line("        this.presences = 0;");
+        for (final Field field : this.fields) {
+            if (field.kind == FieldKind.STRING) {
+                line("        this." + field.fieldName() + " = null;");
+            }
+        }
+        line("        if (this.overflow != null) {");
+        line("            this.overflow.removeAll();");
+        line("        }");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.Msg#isEmpty()");
+        line("    public final boolean isEmpty() {");
+        line("        return this.presences == 0 && (this.overflow == null || this.overflow.isEmpty());");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.Msg#contains(int)");
+        line("    public final boolean contains(final int aKey) {");
+        line("        switch (aKey) {");
+        for (final Field field : this.fields) {
+            line("            case KEY_" + field.constantName() + ":");
+            line("                return " + presence(field) + ";");
+        }
+        line("            default:");
+        line("                return this.overflow != null && this.overflow.contains(aKey);");
+        line("        }");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.impl.AbstractMsg#nextKey(int)");
+        line("    public final int nextKey(final int aFromKey) {");
+        line("        final int overflowKey = (this.overflow != null) ? this.overflow.nextKey(Math.max(aFromKey, 0)) : -1;");
+        for (final Field field : this.fields) {
+            line("        if (aFromKey <= KEY_" + field.constantName() + " && " + presence(field) + ") {");
+            line("            return (overflowKey != -1 && overflowKey < KEY_" + field.constantName() + ") ? overflowKey : KEY_"
+            + field.constantName() + ";");
+            line("        }");
+        }
+        line("        return overflowKey;");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.Msg#getKeysArray()");
+        line("    public final int[] getKeysArray() {");
+        line("        final int[] keys = new int[getKeysLength()];");
+        line("        int index = 0;");
+        line("        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {");
+        line("            keys[index++] = key;");
+        line("        }");
+        line("        return keys;");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.Msg#getKeysLength()");
+        line("    public final int getKeysLength() {");
+        line("        return Long.bitCount(this.presences) + ((this.overflow != null) ? this.overflow.getKeysLength() : 0);");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.Msg#getKeyMax()");
+        line("    public final int getKeyMax() {");
+        line("        final int overflowKeyMax = (this.overflow != null) ? this.overflow.getKeyMax() : -1;");
+        for (int i = this.fields.size() - 1; i >= 0; i--) {
+            final Field field = this.fields.get(i);
+            line("        if (" + presence(field) + ") {");
+            line("            return Math.max(overflowKeyMax, KEY_" + field.constantName() + ");");
+            line("        }");
+        }
+        line("        return overflowKeyMax;");
+        line("    }");
+        line("");
+    }
+
+    /**
+     * writeCodec.
+     * 
+     */
+    private void writeCodec() {
+        override("com.github.hermod.ser.Serializable#getLength()");
+        line("    public final int getLength() {");
+        line("        int length = (this.overflow != null) ? this.overflow.getLength() : 0;");
+        for (final Field field : this.fields) {
+            line("        if (" + presence(field) + ") {");
+            if (field.kind == FieldKind.STRING) {
+                line("            length += " + (field.keyLength() + 1) + " + Msgs.getValueLength(this." + field.fieldName() + ");");
+            } else {
+                line("            length += " + (field.keyLength() + 1 + field.kind.size) + ";");
+            }
+            line("        }");
+        }
+        line("        return length;");
+        line("    }");
+        line("");
+        line("    /**");
+        line("     * writeFields.");
+        line("     * ");
+        line("     * @param aBytes");
+        line("     * @param aOffset");
+        line("     * @return the offset after the written fields");
+        line("     */");
+        line("    private int writeFields(final byte[] aBytes, final int aOffset) {");
+        line("        int offset = aOffset;");
+        for (final Field field : this.fields) {
+            final int keyLength = field.keyLength();
+            line("        if (" + presence(field) + ") {");
+            if (keyLength == ONE_BYTE_LENGTH) {
+                line("            aBytes[offset] = (byte) KEY_" + field.constantName() + ";");
+            } else {
+                line("            aBytes[offset] = (byte) XFF;");
+                line("            DirectBytes.putIntLE(aBytes, offset + 1, KEY_" + field.constantName() + ");");
+            }
+            if (field.kind == FieldKind.STRING) {
+                line("            offset = Msgs.writeTypedValue(aBytes, offset + " + keyLength + ", this." + field.fieldName() + ");");
+            } else {
+                line("            aBytes[offset + " + keyLength + "] = " + field.kind.type + "_TYPE;");
+                if (field.kind.size == 1) {
+                    line("            aBytes[offset + " + (keyLength + 1) + "] = this." + field.fieldName() + ";");
+                } else {
+                    line("            DirectBytes.put" + field.kind.bytesSuffix + "LE(aBytes, offset + " + (keyLength + 1) + ", this."
+                    + field.fieldName() + ");");
+                }
+                line("            offset += " + (keyLength + 1 + field.kind.size) + ";");
+            }
+            line("        }");
+        }
+        line("        return (this.overflow != null) ? offset + this.overflow.serializeToBytes(aBytes, offset) : offset;");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.BytesSerializable#serializeToBytes()");
+        line("    public final byte[] serializeToBytes() {");
+        line("        final byte[] bytes = new byte[getLength()];");
+        line("        writeFields(bytes, 0);");
+        line("        return bytes;");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)");
+        line("    public final int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {");
+        line("        final int length = getLength();");
+        line("        if (aDestOffset < 0 || aDestBytes.length - aDestOffset < length) {");
+        line("            throw new IllegalArgumentException(\"Impossible to serialize \" + length + \" bytes into a byte[] of \" + aDestBytes.length");
+        line("            + \" bytes from offset=\" + aDestOffset + \".\");");
+        line("        }");
+        line("        return writeFields(aDestBytes, aDestOffset) - aDestOffset;");
+        line("    }");
+        line("");
+        override("com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)");
+        line("    public final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {");
+        line("        removeAll();");
+        line("        final int end = aSrcOffset + aSrcLength;");
+        line("        int offset = aSrcOffset;");
+        line("        while (offset < end) {");
+        line("            // the fields of their own Type with a one byte key are read inline, the others by the codec of IndexedObjectsMsg");
+        line("            switch (aSrcBytes[offset] & XFF) {");
+        for (final Field field : this.fields) {
+            if (field.kind == FieldKind.STRING || field.keyLength() != ONE_BYTE_LENGTH) {
+                continue;
+            }
+            line("                case KEY_" + field.constantName() + ":");
+            line("                    if (aSrcBytes[offset + 1] == " + field.kind.type + "_TYPE) {");
+            if (field.kind.size == 1) {
+                line("                        this." + field.fieldName() + " = aSrcBytes[offset + 2];");
+            } else {
+                line("                        this." + field.fieldName() + " = DirectBytes.get" + field.kind.bytesSuffix + "LE(aSrcBytes, offset + 2);");
+            }
+            line("                        this.presences |= " + field.constantName() + PRESENCE + ";");
+            line("                        offset += " + (2 + field.kind.size) + ";");
+            line("                        continue;");
+            line("                    }");
+            line("                    break;");
+        }
+        line("                default:");
+        line("                    break;");
+        line("            }");
+        line("            offset = Msgs.deserializeField(aSrcBytes, offset, this);");
+        line("        }");
+        line("    }");
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.hermod.ser.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>MsgType. </p>
+ * 
+ * Marks an interface as a message type : {@link MsgProcessor} generates, in the package of the interface, a final Msg class implementing it,
+ * with one field per {@link MsgField} getter.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface MsgType {
+
+    /**
+     * name.
+     * 
+     * @return the simple name of the generated class, the name of the interface followed by Msg by default
+     */
+    String name() default "";
+}
@@ -0,0 +1,7 @@
+/**
+ * <p>Annotation processor generating the typed Msgs of hermod-java-ser-impl. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+package com.github.hermod.ser.processor;
@@ -0,0 +1,229 @@
+package com.github.hermod.ser.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.impl.IndexedObjectsMsg;
+
+/**
+ * <p>MsgProcessorTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class MsgProcessorTest {
+
+    /**
+     * createQuoteMsg.
+     * 
+     * @return a QuoteMsg with all its fields
+     */
+    private static QuoteMsg createQuoteMsg() {
+        final QuoteMsg quoteMsg = QuoteMsg.create();
+        quoteMsg.setSymbol("EUR/USD");
+        quoteMsg.setFirm(true);
+        quoteMsg.setSide((byte) -1);
+        quoteMsg.setVenue((short) 1000);
+        quoteMsg.setQuantity(1000000);
+        quoteMsg.setTimestamp(Long.MAX_VALUE);
+        quoteMsg.setSpread(0.5f);
+        quoteMsg.setPrice(1.08125);
+        quoteMsg.setSequence(42L);
+        return quoteMsg;
+    }
+
+    /**
+     * testTypedAccessors.
+     * 
+     */
+    @Test
+    public void testTypedAccessors() {
+        final QuoteMsg quoteMsg = QuoteMsg.create();
+        assertThat(quoteMsg.isEmpty()).isTrue();
+        assertThat(quoteMsg.getSymbol()).isNull();
+        try {
+            quoteMsg.getQuantity();
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+        final Quote quote = createQuoteMsg();
+        assertThat(quote.getSymbol()).isEqualTo("EUR/USD");
+        assertThat(quote.isFirm()).isTrue();
+        assertThat(quote.getSide()).isEqualTo((byte) -1);
+        assertThat(quote.getVenue()).isEqualTo((short) 1000);
+        assertThat(quote.getQuantity()).isEqualTo(1000000);
+        assertThat(quote.getTimestamp()).isEqualTo(Long.MAX_VALUE);
+        assertThat(quote.getSpread()).isEqualTo(0.5f);
+        assertThat(quote.getPrice()).isEqualTo(1.08125);
+        assertThat(quote.getSequence()).isEqualTo(42L);
+    }
+
+    /**
+     * testGenericAccessors.
+     * 
+     */
+    @Test
+    public void testGenericAccessors() {
+        final QuoteMsg quoteMsg = createQuoteMsg();
+        quoteMsg.set(10, "overflow");
+        assertThat(quoteMsg.getAsInt(QuoteMsg.KEY_QUANTITY)).isEqualTo(1000000);
+        assertThat(quoteMsg.getAsBoolean(QuoteMsg.KEY_FIRM)).isTrue();
+        assertThat(quoteMsg.getAsString(10)).isEqualTo("overflow");
+        assertThat(quoteMsg.getKeysArray()).isEqualTo(new int[] { 0, 1, 2, 3, 4, 5, 6, 7, 10, 300 });
+        assertThat(quoteMsg.getKeysLength()).isEqualTo(10);
+        assertThat(quoteMsg.getKeyMax()).isEqualTo(300);
+        quoteMsg.set(QuoteMsg.KEY_TIMESTAMP, 3);
+        assertThat(quoteMsg.getTimestamp()).isEqualTo(3L);
+        quoteMsg.remove(QuoteMsg.KEY_SYMBOL, QuoteMsg.KEY_SEQUENCE);
+        assertThat(quoteMsg.getSymbol()).isNull();
+        assertThat(quoteMsg.contains(QuoteMsg.KEY_SEQUENCE)).isFalse();
+        assertThat(quoteMsg.getKeyMax()).isEqualTo(10);
+        quoteMsg.removeAll();
+        assertThat(quoteMsg.isEmpty()).isTrue();
+        assertThat(quoteMsg.nextKey(0)).isEqualTo(-1);
+    }
+
+    /**
+     * testSetWithWrongType.
+     * 
+     */
+    @Test
+    public void testSetWithWrongType() {
+        final QuoteMsg quoteMsg = QuoteMsg.create();
+        try {
+            quoteMsg.set(QuoteMsg.KEY_SIDE, 1000);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+        try {
+            quoteMsg.set(QuoteMsg.KEY_PRICE, "1.08");
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+        try {
+            quoteMsg.set(QuoteMsg.KEY_SPREAD, (1 << 24) + 1);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(quoteMsg.isEmpty()).isTrue();
+
+        // an integral converted exactly is accepted on a decimal field
+        quoteMsg.set(QuoteMsg.KEY_PRICE, 100);
+        quoteMsg.set(QuoteMsg.KEY_SPREAD, 2L);
+        assertThat(quoteMsg.getPrice()).isEqualTo(100.0);
+        assertThat(quoteMsg.getSpread()).isEqualTo(2f);
+    }
+
+    /**
+     * testSerializeToIndexedObjectsMsg.
+     * 
+     */
+    @Test
+    public void testSerializeToIndexedObjectsMsg() {
+        final QuoteMsg quoteMsg = createQuoteMsg();
+        quoteMsg.set(10, new int[] { 1, 2, 3 });
+        final byte[] bytes = quoteMsg.serializeToBytes();
+        assertThat(bytes.length).isEqualTo(quoteMsg.getLength());
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        msg.deserializeFromBytes(bytes, 0, bytes.length);
+        assertThat(msg.getAsString(0)).isEqualTo("EUR/USD");
+        assertThat(msg.getAsBoolean(1)).isTrue();
+        assertThat(msg.getAsByte(2)).isEqualTo((byte) -1);
+        assertThat(msg.getAsShort(3)).isEqualTo((short) 1000);
+        assertThat(msg.getAsInt(4)).isEqualTo(1000000);
+        assertThat(msg.getAsLong(5)).isEqualTo(Long.MAX_VALUE);
+        assertThat(msg.getAsFloat(6)).isEqualTo(0.5f);
+        assertThat(msg.getAsDouble(7)).isEqualTo(1.08125);
+        assertThat(msg.getAsInts(10)).isEqualTo(new int[] { 1, 2, 3 });
+        assertThat(msg.getAsLong(300)).isEqualTo(42L);
+        assertThat(msg.getKeysLength()).isEqualTo(10);
+    }
+
+    /**
+     * testDeserializeFromIndexedObjectsMsg.
+     * 
+     */
+    @Test
+    public void testDeserializeFromIndexedObjectsMsg() {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        msg.set(0, "EUR/USD");
+        msg.set(1, true);
+        msg.set(4, 3);
+        msg.set(5, 7);
+        msg.set(7, 1.08125);
+        msg.set(10, "overflow");
+        msg.set(300, 42L);
+        final byte[] bytes = msg.serializeToBytes();
+        final QuoteMsg quoteMsg = createQuoteMsg();
+        quoteMsg.deserializeFromBytes(bytes, 0, bytes.length);
+        assertThat(quoteMsg.getSymbol()).isEqualTo("EUR/USD");
+        assertThat(quoteMsg.isFirm()).isTrue();
+        assertThat(quoteMsg.getQuantity()).isEqualTo(3);
+        assertThat(quoteMsg.getTimestamp()).isEqualTo(7L);
+        assertThat(quoteMsg.getPrice()).isEqualTo(1.08125);
+        assertThat(quoteMsg.getSequence()).isEqualTo(42L);
+        assertThat(quoteMsg.getAsString(10)).isEqualTo("overflow");
+        assertThat(quoteMsg.contains(QuoteMsg.KEY_SIDE)).isFalse();
+        assertThat(quoteMsg.getKeysLength()).isEqualTo(7);
+        final byte[] quoteBytes = quoteMsg.serializeToBytes();
+        final QuoteMsg deserializedQuoteMsg = QuoteMsg.create();
+        deserializedQuoteMsg.deserializeFromBytes(quoteBytes, 0, quoteBytes.length);
+        assertThat(deserializedQuoteMsg).isEqualTo(quoteMsg);
+    }
+
+    /**
+     * testProcessorErrors.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void testProcessorErrors() throws IOException {
+        final String source = "package test;\n" //
+        + "import com.github.hermod.ser.processor.MsgField;\n" //
+        + "import com.github.hermod.ser.processor.MsgType;\n" //
+        + "@MsgType\n" //
+        + "public interface Invalid {\n" //
+        + "    @MsgField(key = 1) int getA();\n" //
+        + "    @MsgField(key = 1) int getB();\n" //
+        + "    @MsgField(key = 2) Object getC();\n" //
+        + "    void setD(int aD);\n" //
+        + "}\n";
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final File outputDirectory = Files.createTempDirectory("msg-processor").toFile();
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, Arrays.asList("-d", outputDirectory.getPath(),
+        "-cp", System.getProperty("java.class.path")), null, Arrays.asList(new SimpleJavaFileObject(URI.create("string:///test/Invalid.java"),
+        JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean aIgnoreEncodingErrors) {
+                return source;
+            }
+        }));
+        task.setProcessors(Arrays.asList(new MsgProcessor()));
+        assertThat(task.call()).isFalse();
+        final List<Diagnostic<? extends JavaFileObject>> errors = diagnostics.getDiagnostics();
+        assertThat(errors).hasSize(3);
+        assertThat(errors.toString()).contains("key=1").contains("java.lang.Object").contains("setD");
+        assertThat(new File(outputDirectory, "test/InvalidMsg.class").exists()).isFalse();
+    }
+}
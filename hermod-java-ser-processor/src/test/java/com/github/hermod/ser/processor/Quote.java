@@ -0,0 +1,97 @@
+package com.github.hermod.ser.processor;
+
+/**
+ * <p>Quote, a {@link MsgType} of the tests, QuoteMsg is generated by MsgProcessor. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+@MsgType
+public interface Quote {
+
+    /**
+     * getSymbol.
+     * 
+     * @return
+     */
+    @MsgField(key = 0)
+    String getSymbol();
+
+    /**
+     * setSymbol.
+     * 
+     * @param aSymbol
+     */
+    void setSymbol(final String aSymbol);
+
+    /**
+     * isFirm.
+     * 
+     * @return
+     */
+    @MsgField(key = 1)
+    boolean isFirm();
+
+    /**
+     * getSide.
+     * 
+     * @return
+     */
+    @MsgField(key = 2)
+    byte getSide();
+
+    /**
+     * getVenue.
+     * 
+     * @return
+     */
+    @MsgField(key = 3)
+    short getVenue();
+
+    /**
+     * getQuantity.
+     * 
+     * @return
+     */
+    @MsgField(key = 4)
+    int getQuantity();
+
+    /**
+     * setQuantity.
+     * 
+     * @param aQuantity
+     */
+    void setQuantity(final int aQuantity);
+
+    /**
+     * getTimestamp.
+     * 
+     * @return
+     */
+    @MsgField(key = 5)
+    long getTimestamp();
+
+    /**
+     * getSpread.
+     * 
+     * @return
+     */
+    @MsgField(key = 6)
+    float getSpread();
+
+    /**
+     * getPrice.
+     * 
+     * @return
+     */
+    @MsgField(key = 7)
+    double getPrice();
+
+    /**
+     * getSequence.
+     * 
+     * @return
+     */
+    @MsgField(key = 300)
+    long getSequence();
+}
@@ -0,0 +1,1826 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.Types.ARRAY_FIXED_VALUE_TYPE;
+import static com.github.hermod.ser.Types.ARRAY_VARIABLE_VALUE_TYPE;
+import static com.github.hermod.ser.Types.BYTE_TYPE;
+import static com.github.hermod.ser.Types.DECIMAL_TYPE;
+import static com.github.hermod.ser.Types.DOUBLE_TYPE;
+import static com.github.hermod.ser.Types.FIVE_BITS_DECIMAL_TYPE;
+import static com.github.hermod.ser.Types.FLOAT_TYPE;
+import static com.github.hermod.ser.Types.INTEGER_TYPE;
+import static com.github.hermod.ser.Types.INT_TYPE;
+import static com.github.hermod.ser.Types.LONG_TYPE;
+import static com.github.hermod.ser.Types.MSG_TYPE;
+import static com.github.hermod.ser.Types.NULL_TYPE;
+import static com.github.hermod.ser.Types.SHORT_TYPE;
+import static com.github.hermod.ser.Types.STRING_UTF_8_TYPE;
+import static com.github.hermod.ser.impl.Msgs.EIGHT;
+import static com.github.hermod.ser.impl.Msgs.ERROR_WHEN_KEY_NOT_PRESENT;
+import static com.github.hermod.ser.impl.Msgs.FOUR;
+import static com.github.hermod.ser.impl.Msgs.ONE;
+import static com.github.hermod.ser.impl.Msgs.TWO;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import com.github.hermod.ser.ByteBufSerializable;
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Serializable;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>AbstractMsg. </p>
+ * 
+ * Skeleton of the Msgs of this package, {@link IndexedObjectsMsg} included : the value semantics (integer narrowing, float narrowing, typed
+ * Null, defensive copies) are implemented once here. Each value is seen as an Object (Byte, Short, Integer, Long, Float, Double, String, Msg,
+ * Null or an array), a subclass only has to store and retrieve them, and overrides the accessors it can serve faster (without boxing for
+ * instance).
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public abstract class AbstractMsg implements Msg {
+
+    /**
+     * getValue.
+     * 
+     * @param aKey
+     * @return the stored value, null if the key is absent or out of range
+     */
+    protected abstract Object getValue(final int aKey);
+
+    /**
+     * setValue.
+     * 
+     * @param aKey
+     * @param aValue the value to store (never null, a Null is used for null values)
+     * @throws IllegalArgumentException if the key is negative
+     */
+    protected abstract void setValue(final int aKey, final Object aValue);
+
+    /**
+     * removeValue.
+     * 
+     * @param aKey
+     * @throws IllegalArgumentException if the key is negative
+     */
+    protected abstract void removeValue(final int aKey);
+
+    /**
+     * getStoredValue, for the subclasses storing some keys in another Msg (the overflow of the Msgs generated by hermod-java-ser-processor).
+     * 
+     * @param aMsg
+     * @param aKey
+     * @return the stored value of aKey in aMsg, without copy
+     */
+    protected static final Object getStoredValue(final AbstractMsg aMsg, final int aKey) {
+        return aMsg.getValue(aKey);
+    }
+
+    /**
+     * setStoredValue, the reverse of {@link #getStoredValue(AbstractMsg, int)}.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aValue a value returned by getStoredValue, stored as is (not narrowed, not copied)
+     */
+    protected static final void setStoredValue(final AbstractMsg aMsg, final int aKey, final Object aValue) {
+        aMsg.setValue(aKey, aValue);
+    }
+
+    /**
+     * copyMsg.
+     * 
+     * @param aMsg
+     * @return the copy of a nested Msg returned by getAsMsg and getAsMsgs
+     */
+    protected Msg copyMsg(final Msg aMsg) {
+        return IndexedObjectsMsg.createFromMsg(aMsg);
+    }
+
+    /**
+     * checkKey.
+     * 
+     * @param aKey
+     */
+    protected static final void checkKey(final int aKey) {
+        if (aKey < 0) {
+            throw new IllegalArgumentException("The key=" + aKey + " must be positive.");
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isSerializable()
+     */
+    @Override
+    public boolean isSerializable() {
+        return this instanceof Serializable;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isBytesSerializable()
+     */
+    @Override
+    public boolean isBytesSerializable() {
+        return this instanceof BytesSerializable;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isByteBufferSerializable()
+     */
+    @Override
+    public boolean isByteBufferSerializable() {
+        return this instanceof ByteBufferSerializable;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isByteBufSerializable()
+     */
+    @Override
+    public boolean isByteBufSerializable() {
+        return this instanceof ByteBufSerializable;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#contains(int)
+     */
+    @Override
+    public boolean contains(final int aKey) {
+        return getValue(aKey) != null;
+    }
+
+    /**
+     * nextKey, cursor over the keys in ascending order, without allocation :
+     * <code>for (int key = msg.nextKey(0); key != -1; key = msg.nextKey(key + 1))</code>.
+     * 
+     * @param aFromKey
+     * @return the first present key &gt;= aFromKey, -1 if there is none
+     */
+    public int nextKey(final int aFromKey) {
+        final int keyMax = getKeyMax();
+        for (int key = Math.max(aFromKey, 0); key <= keyMax; key++) {
+            if (contains(key)) {
+                return key;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * forEachKey.
+     * 
+     * @param aKeyConsumer called with each present key, in ascending order
+     */
+    public final void forEachKey(final IntConsumer aKeyConsumer) {
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            aKeyConsumer.accept(key);
+        }
+    }
+
+    /**
+     * accept, see {@link Msgs#accept(Msg, MsgVisitor)}. The scalars are read with the primitive getters.
+     * 
+     * @param aVisitor
+     */
+    public void accept(final MsgVisitor aVisitor) {
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            switch (getTypeAsByte(key)) {
+                case BYTE_TYPE:
+                    aVisitor.visitByte(key, getAsByte(key));
+                    break;
+                case SHORT_TYPE:
+                    aVisitor.visitShort(key, getAsShort(key));
+                    break;
+                case INT_TYPE:
+                    aVisitor.visitInt(key, getAsInt(key));
+                    break;
+                case LONG_TYPE:
+                    aVisitor.visitLong(key, getAsLong(key));
+                    break;
+                case FLOAT_TYPE:
+                    aVisitor.visitFloat(key, getAsFloat(key));
+                    break;
+                case DOUBLE_TYPE:
+                    aVisitor.visitDouble(key, getAsDouble(key));
+                    break;
+                default:
+                    Msgs.visitValue(key, getValue(key), aVisitor);
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getType(int)
+     */
+    @Override
+    public Type getType(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value == null) {
+            return Type.NULL;
+        }
+        return (value instanceof Null) ? ((Null) value).getType() : Type.valueOf(value.getClass());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getTypeAsByte(int)
+     */
+    @Override
+    public byte getTypeAsByte(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value == null) ? NULL_TYPE : Type.valueOf(value.getClass()).getId();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isArray(int)
+     */
+    @Override
+    public boolean isArray(final int aKey) {
+        final byte type = getTypeAsByte(aKey);
+        return type == ARRAY_FIXED_VALUE_TYPE || type == ARRAY_VARIABLE_VALUE_TYPE;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getArrayLength(int)
+     */
+    @Override
+    public int getArrayLength(final int aKey) {
+        return Msgs.getArrayLength(getValue(aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNull(int)
+     */
+    @Override
+    public Null getAsNull(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof Null) ? (Null) value : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsBoolean(int)
+     */
+    @Override
+    public boolean getAsBoolean(final int aKey) {
+        final Boolean value = getAsNullableBoolean(aKey);
+        if (value != null) {
+            return value.booleanValue();
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableBoolean(int)
+     */
+    @Override
+    public Boolean getAsNullableBoolean(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof Byte) {
+            return ((Byte) value).byteValue() == 0 ? Boolean.FALSE : Boolean.TRUE;
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsByte(int)
+     */
+    @Override
+    public byte getAsByte(final int aKey) {
+        final Byte value = getAsNullableByte(aKey);
+        if (value != null) {
+            return value.byteValue();
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableByte(int)
+     */
+    @Override
+    public Byte getAsNullableByte(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof Byte) ? (Byte) value : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsShort(int)
+     */
+    @Override
+    public short getAsShort(final int aKey) {
+        final Short value = getAsNullableShort(aKey);
+        if (value != null) {
+            return value.shortValue();
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableShort(int)
+     */
+    @Override
+    public Short getAsNullableShort(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof Short) {
+            return (Short) value;
+        }
+        if (value instanceof Byte) {
+            return Short.valueOf(((Byte) value).shortValue());
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsInt(int)
+     */
+    @Override
+    public int getAsInt(final int aKey) {
+        final Integer value = getAsNullableInteger(aKey);
+        if (value != null) {
+            return value.intValue();
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableInteger(int)
+     */
+    @Override
+    public Integer getAsNullableInteger(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return Integer.valueOf(((Number) value).intValue());
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsLong(int)
+     */
+    @Override
+    public long getAsLong(final int aKey) {
+        final Long value = getAsNullableLong(aKey);
+        if (value != null) {
+            return value.longValue();
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableLong(int)
+     */
+    @Override
+    public Long getAsNullableLong(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Long.valueOf(((Number) value).longValue());
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsFloat(int)
+     */
+    @Override
+    public float getAsFloat(final int aKey) {
+        final Float value = getAsNullableFloat(aKey);
+        if (value != null) {
+            return value.floatValue();
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableFloat(int)
+     */
+    @Override
+    public Float getAsNullableFloat(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof Float) ? (Float) value : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsDouble(int)
+     */
+    @Override
+    public double getAsDouble(final int aKey) {
+        final Double value = getAsNullableDouble(aKey);
+        if (value != null) {
+            return value.doubleValue();
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableDouble(int)
+     */
+    @Override
+    public Double getAsNullableDouble(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Float) {
+            return Double.valueOf(((Float) value).doubleValue());
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsString(int)
+     */
+    @Override
+    public String getAsString(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof String) ? (String) value : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsMsg(int)
+     */
+    @Override
+    public Msg getAsMsg(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof Msg) ? copyMsg((Msg) value) : null;
+    }
+
+    /**
+     * getAsBorrowedMsg, the nested Msg of aKey without copy : it must be read only and it is valid until aKey is set or removed.
+     * 
+     * @param aKey
+     * @return the stored Msg, null if aKey does not contain a Msg
+     */
+    public Msg getAsBorrowedMsg(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof Msg) ? (Msg) value : null;
+    }
+
+    /**
+     * getAsBorrowedMsgs, the nested Msgs of aKey without copy : the array and its Msgs must be read only, they are valid until aKey is set
+     * or removed.
+     * 
+     * @param aKey
+     * @return the stored Msg array, null if aKey does not contain a Msg array
+     */
+    public Msg[] getAsBorrowedMsgs(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof Msg[]) ? (Msg[]) value : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsMsg(int, com.github.hermod.ser.Msg)
+     */
+    @Override
+    public void getAsMsg(final int aKey, final Msg aDestMsg) {
+        final Object value = getValue(aKey);
+        if (value instanceof Msg) {
+            aDestMsg.setAll((Msg) value);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#get(int)
+     */
+    @Override
+    public Object get(final int aKey) {
+        return get(aKey, Object.class);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#get(int, java.lang.Class)
+     */
+    @Override
+    public <T> T get(final int aKey, final Class<T> aClazz) {
+        final Object value = getValue(aKey);
+        if (value == null) {
+            return null;
+        }
+        switch (Type.valueOf(value.getClass()).getId()) {
+            case BYTE_TYPE:
+            case SHORT_TYPE:
+            case INT_TYPE:
+            case LONG_TYPE:
+            case FLOAT_TYPE:
+            case DOUBLE_TYPE:
+            case STRING_UTF_8_TYPE:
+            case NULL_TYPE:
+                return aClazz.cast(value);
+
+            case INTEGER_TYPE:
+            case DECIMAL_TYPE:
+            case FIVE_BITS_DECIMAL_TYPE:
+                return null;
+
+            case MSG_TYPE:
+                return aClazz.cast(copyMsg((Msg) value));
+
+            case ARRAY_FIXED_VALUE_TYPE:
+                return aClazz.cast(Msgs.copyArray(value));
+
+            case ARRAY_VARIABLE_VALUE_TYPE:
+                return aClazz.cast(getAsObjects(aKey));
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsBooleans(int)
+     */
+    @Override
+    public boolean[] getAsBooleans(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof byte[]) {
+            final byte[] bytes = (byte[]) value;
+            final boolean[] results = new boolean[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] != 0 && bytes[i] != 1) {
+                    return null;
+                }
+                results[i] = bytes[i] != 0;
+            }
+            return results;
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableBooleans(int)
+     */
+    @Override
+    public Boolean[] getAsNullableBooleans(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof byte[]) {
+            final byte[] bytes = (byte[]) value;
+            final Boolean[] results = new Boolean[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] != 0 && bytes[i] != 1) {
+                    return null;
+                }
+                results[i] = Boolean.valueOf(bytes[i] != 0);
+            }
+            return results;
+        } else if (value instanceof Byte[]) {
+            final Byte[] bytes = (Byte[]) value;
+            final Boolean[] results = new Boolean[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] != null && bytes[i].byteValue() != 0 && bytes[i].byteValue() != 1) {
+                    return null;
+                }
+                results[i] = (bytes[i] == null) ? null : Boolean.valueOf(bytes[i].byteValue() != 0);
+            }
+            return results;
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsBytes(int)
+     */
+    @Override
+    public byte[] getAsBytes(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof byte[]) ? ((byte[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableBytes(int)
+     */
+    @Override
+    public Byte[] getAsNullableBytes(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof byte[]) {
+            final byte[] bytes = (byte[]) value;
+            final Byte[] results = new Byte[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                results[i] = Byte.valueOf(bytes[i]);
+            }
+            return results;
+        }
+        return (value instanceof Byte[]) ? ((Byte[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsShorts(int)
+     */
+    @Override
+    public short[] getAsShorts(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof short[]) ? ((short[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableShorts(int)
+     */
+    @Override
+    public Short[] getAsNullableShorts(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof short[]) {
+            final short[] shorts = (short[]) value;
+            final Short[] results = new Short[shorts.length];
+            for (int i = 0; i < shorts.length; i++) {
+                results[i] = Short.valueOf(shorts[i]);
+            }
+            return results;
+        }
+        return (value instanceof Short[]) ? ((Short[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsInts(int)
+     */
+    @Override
+    public int[] getAsInts(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof int[]) ? ((int[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableIntegers(int)
+     */
+    @Override
+    public Integer[] getAsNullableIntegers(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof int[]) {
+            final int[] ints = (int[]) value;
+            final Integer[] results = new Integer[ints.length];
+            for (int i = 0; i < ints.length; i++) {
+                results[i] = Integer.valueOf(ints[i]);
+            }
+            return results;
+        }
+        return (value instanceof Integer[]) ? ((Integer[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsLongs(int)
+     */
+    @Override
+    public long[] getAsLongs(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof long[]) ? ((long[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableLongs(int)
+     */
+    @Override
+    public Long[] getAsNullableLongs(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof long[]) {
+            final long[] longs = (long[]) value;
+            final Long[] results = new Long[longs.length];
+            for (int i = 0; i < longs.length; i++) {
+                results[i] = Long.valueOf(longs[i]);
+            }
+            return results;
+        }
+        return (value instanceof Long[]) ? ((Long[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsFloats(int)
+     */
+    @Override
+    public float[] getAsFloats(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof float[]) ? ((float[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableFloats(int)
+     */
+    @Override
+    public Float[] getAsNullableFloats(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof float[]) {
+            final float[] floats = (float[]) value;
+            final Float[] results = new Float[floats.length];
+            for (int i = 0; i < floats.length; i++) {
+                results[i] = Float.valueOf(floats[i]);
+            }
+            return results;
+        }
+        return (value instanceof Float[]) ? ((Float[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsDoubles(int)
+     */
+    @Override
+    public double[] getAsDoubles(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof double[]) ? ((double[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableDoubles(int)
+     */
+    @Override
+    public Double[] getAsNullableDoubles(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof double[]) {
+            final double[] doubles = (double[]) value;
+            final Double[] results = new Double[doubles.length];
+            for (int i = 0; i < doubles.length; i++) {
+                results[i] = Double.valueOf(doubles[i]);
+            }
+            return results;
+        }
+        return (value instanceof Double[]) ? ((Double[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsStrings(int)
+     */
+    @Override
+    public String[] getAsStrings(final int aKey) {
+        final Object value = getValue(aKey);
+        return (value instanceof String[]) ? ((String[]) value).clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsMsgs(int)
+     */
+    @Override
+    public Msg[] getAsMsgs(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof Msg[]) {
+            final Msg[] msgs = (Msg[]) value;
+            final Msg[] results = new Msg[msgs.length];
+            for (int i = 0; i < msgs.length; i++) {
+                results[i] = (msgs[i] != null) ? copyMsg(msgs[i]) : null;
+            }
+            return results;
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsMsgs(int, com.github.hermod.ser.Msg[])
+     */
+    @Override
+    public void getAsMsgs(final int aKey, final Msg... aDestMsgs) {
+        final Object value = getValue(aKey);
+        if (value instanceof Msg[]) {
+            final Msg[] msgs = (Msg[]) value;
+            if (msgs.length != aDestMsgs.length) {
+                throw new IllegalArgumentException("The destMsgs with length=" + aDestMsgs.length + " must be have the same field array length="
+                + msgs.length + ". Use getArrayLength() to know the length before call this method.");
+            }
+            for (int i = 0; i < msgs.length; i++) {
+                aDestMsgs[i].setAll(msgs[i]);
+            }
+        }
+    }
+
+    /**
+     * getAsBytes, copies the byte array of aKey into aDestBytes without allocation.
+     * 
+     * @param aKey
+     * @param aDestBytes
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain a byte array
+     * @throws IllegalArgumentException if aDestBytes is too small from aDestOffset, use getArrayLength() before
+     */
+    public int getAsBytes(final int aKey, final byte[] aDestBytes, final int aDestOffset) {
+        return Msgs.copyArray(getValue(aKey), byte[].class, aDestBytes, aDestOffset);
+    }
+
+    /**
+     * getAsShorts, copies the short array of aKey into aDestShorts without allocation.
+     * 
+     * @param aKey
+     * @param aDestShorts
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain a short array
+     * @throws IllegalArgumentException if aDestShorts is too small from aDestOffset, use getArrayLength() before
+     */
+    public int getAsShorts(final int aKey, final short[] aDestShorts, final int aDestOffset) {
+        return Msgs.copyArray(getValue(aKey), short[].class, aDestShorts, aDestOffset);
+    }
+
+    /**
+     * getAsInts, copies the int array of aKey into aDestInts without allocation.
+     * 
+     * @param aKey
+     * @param aDestInts
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain a int array
+     * @throws IllegalArgumentException if aDestInts is too small from aDestOffset, use getArrayLength() before
+     */
+    public int getAsInts(final int aKey, final int[] aDestInts, final int aDestOffset) {
+        return Msgs.copyArray(getValue(aKey), int[].class, aDestInts, aDestOffset);
+    }
+
+    /**
+     * getAsLongs, copies the long array of aKey into aDestLongs without allocation.
+     * 
+     * @param aKey
+     * @param aDestLongs
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain a long array
+     * @throws IllegalArgumentException if aDestLongs is too small from aDestOffset, use getArrayLength() before
+     */
+    public int getAsLongs(final int aKey, final long[] aDestLongs, final int aDestOffset) {
+        return Msgs.copyArray(getValue(aKey), long[].class, aDestLongs, aDestOffset);
+    }
+
+    /**
+     * getAsFloats, copies the float array of aKey into aDestFloats without allocation.
+     * 
+     * @param aKey
+     * @param aDestFloats
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain a float array
+     * @throws IllegalArgumentException if aDestFloats is too small from aDestOffset, use getArrayLength() before
+     */
+    public int getAsFloats(final int aKey, final float[] aDestFloats, final int aDestOffset) {
+        return Msgs.copyArray(getValue(aKey), float[].class, aDestFloats, aDestOffset);
+    }
+
+    /**
+     * getAsDoubles, copies the double array of aKey into aDestDoubles without allocation.
+     * 
+     * @param aKey
+     * @param aDestDoubles
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain a double array
+     * @throws IllegalArgumentException if aDestDoubles is too small from aDestOffset, use getArrayLength() before
+     */
+    public int getAsDoubles(final int aKey, final double[] aDestDoubles, final int aDestOffset) {
+        return Msgs.copyArray(getValue(aKey), double[].class, aDestDoubles, aDestOffset);
+    }
+
+    /**
+     * getAsObjects, copies the array of aKey into aDestObjects, the primitive arrays are boxed as with getAsObjects(int).
+     * 
+     * @param aKey
+     * @param aDestObjects
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain an array
+     * @throws IllegalArgumentException if aDestObjects is too small from aDestOffset, use getArrayLength() before
+     */
+    public int getAsObjects(final int aKey, final Object[] aDestObjects, final int aDestOffset) {
+        return Msgs.copyArray(getValue(aKey), Object[].class, aDestObjects, aDestOffset);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsObjects(int)
+     */
+    @Override
+    public Object[] getAsObjects(final int aKey) {
+        final Object value = getValue(aKey);
+        if (value instanceof byte[]) {
+            return getAsNullableBytes(aKey);
+        } else if (value instanceof short[]) {
+            return getAsNullableShorts(aKey);
+        } else if (value instanceof int[]) {
+            return getAsNullableIntegers(aKey);
+        } else if (value instanceof long[]) {
+            return getAsNullableLongs(aKey);
+        } else if (value instanceof float[]) {
+            return getAsNullableFloats(aKey);
+        } else if (value instanceof double[]) {
+            return getAsNullableDoubles(aKey);
+        } else if (value instanceof Object[]) {
+            return ((Object[]) value).clone();
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAllAsMsg()
+     */
+    @Override
+    public Msg getAllAsMsg() {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.createWithKeyMax(Math.max(getKeyMax(), 0));
+        msg.setAll(this);
+        return msg;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAllAsObjects()
+     */
+    @Override
+    public Object[] getAllAsObjects() {
+        final Object[] objects = new Object[getKeyMax() + 1];
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            objects[key] = get(key);
+        }
+        return objects;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAllAsObjects(java.lang.Object[])
+     */
+    @Override
+    public void getAllAsObjects(final Object... aObjects) {
+        final int keyMax = getKeyMax();
+        if (aObjects.length <= keyMax) {
+            throw new IllegalArgumentException("The objects with length=" + aObjects.length + " must be longer than the keyMax=" + keyMax
+            + ". Use getKeyMax() to know the length before call this method.");
+        }
+        Arrays.fill(aObjects, null);
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            aObjects[key] = get(key);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Object)
+     */
+    @Override
+    public void set(final int aKey, final Object aObject) {
+        if (aObject instanceof Byte) {
+            set(aKey, (Byte) aObject);
+        } else if (aObject instanceof Short) {
+            set(aKey, (Short) aObject);
+        } else if (aObject instanceof Integer) {
+            set(aKey, (Integer) aObject);
+        } else if (aObject instanceof Long) {
+            set(aKey, (Long) aObject);
+        } else if (aObject instanceof Float) {
+            set(aKey, (Float) aObject);
+        } else if (aObject instanceof Double) {
+            set(aKey, (Double) aObject);
+        } else if (aObject instanceof String) {
+            set(aKey, (String) aObject);
+        } else if (aObject instanceof Msg) {
+            set(aKey, (Msg) aObject);
+        } else if (aObject instanceof Boolean) {
+            set(aKey, (Boolean) aObject);
+        } else if (aObject instanceof Null) {
+            set(aKey, (Null) aObject);
+        } else if (aObject instanceof boolean[]) {
+            set(aKey, (boolean[]) aObject);
+        } else if (aObject instanceof byte[] || aObject instanceof short[] || aObject instanceof int[] || aObject instanceof long[]
+        || aObject instanceof float[] || aObject instanceof double[]) {
+            setArray(aKey, aObject, Null.ARRAY_FIXED_VALUE_NULL);
+        } else if (aObject instanceof Object[]) {
+            set(aKey, (Object[]) aObject);
+        } else {
+            throw new IllegalArgumentException("Impossible to set this type of value=" + ((aObject != null) ? aObject.getClass() : null));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Object, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Object aObject, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aObject);
+        } else if (aObject instanceof Boolean) {
+            set(aKey, (Boolean) aObject, false);
+        } else if (aObject instanceof Byte) {
+            set(aKey, (Byte) aObject, false);
+        } else if (aObject instanceof Short) {
+            set(aKey, (Short) aObject, false);
+        } else if (aObject instanceof Integer) {
+            set(aKey, (Integer) aObject, false);
+        } else if (aObject instanceof Long) {
+            set(aKey, (Long) aObject, false);
+        } else if (aObject instanceof Float) {
+            set(aKey, (Float) aObject, false);
+        } else if (aObject instanceof Double) {
+            set(aKey, (Double) aObject, false);
+        } else {
+            set(aKey, aObject);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, com.github.hermod.ser.Null)
+     */
+    @Override
+    public void set(final int aKey, final Null aNull) {
+        checkKey(aKey);
+        if (Null.NULL.equals(aNull)) {
+            throw new IllegalArgumentException(Msgs.ERROR_WHEN_YOU_SET_NULL_WITH_LENGTH_0);
+        }
+        if (aNull == null) {
+            removeValue(aKey);
+        } else {
+            setValue(aKey, aNull);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, boolean)
+     */
+    @Override
+    public void set(final int aKey, final boolean aBoolean) {
+        set(aKey, (byte) (aBoolean ? ONE : 0));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Boolean)
+     */
+    @Override
+    public void set(final int aKey, final Boolean aBoolean) {
+        if (aBoolean != null) {
+            set(aKey, aBoolean.booleanValue());
+        } else {
+            set(aKey, Null.valueOf(Type.INTEGER));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Boolean, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Boolean aBoolean, final boolean optimizeLength) {
+        if (aBoolean == null && !optimizeLength) {
+            set(aKey, Null.valueOf(ONE));
+        } else {
+            set(aKey, aBoolean);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, byte)
+     */
+    @Override
+    public void set(final int aKey, final byte aByte) {
+        checkKey(aKey);
+        setValue(aKey, Byte.valueOf(aByte));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Byte)
+     */
+    @Override
+    public void set(final int aKey, final Byte aByte) {
+        if (aByte != null) {
+            set(aKey, aByte.byteValue());
+        } else {
+            set(aKey, Null.INTEGER_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Byte, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Byte aByte, final boolean optimizeLength) {
+        if (aByte == null && !optimizeLength) {
+            set(aKey, Null.valueOf(ONE));
+        } else {
+            set(aKey, aByte);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short)
+     */
+    @Override
+    public void set(final int aKey, final short aShort) {
+        if (aShort == (byte) aShort) {
+            set(aKey, (byte) aShort);
+        } else {
+            set(aKey, aShort, false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Short)
+     */
+    @Override
+    public void set(final int aKey, final Short aShort) {
+        if (aShort != null) {
+            set(aKey, aShort.shortValue());
+        } else {
+            set(aKey, Null.INTEGER_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short, boolean)
+     */
+    @Override
+    public void set(final int aKey, final short aShort, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aShort);
+        } else {
+            checkKey(aKey);
+            setValue(aKey, Short.valueOf(aShort));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Short, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Short aShort, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aShort);
+        } else if (aShort == null) {
+            set(aKey, Null.valueOf(TWO));
+        } else {
+            set(aKey, aShort.shortValue(), false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int)
+     */
+    @Override
+    public void set(final int aKey, final int aInt) {
+        if (aInt == (short) aInt) {
+            set(aKey, (short) aInt);
+        } else {
+            set(aKey, aInt, false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Integer)
+     */
+    @Override
+    public void set(final int aKey, final Integer aInteger) {
+        if (aInteger != null) {
+            set(aKey, aInteger.intValue());
+        } else {
+            set(aKey, Null.INTEGER_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int, boolean)
+     */
+    @Override
+    public void set(final int aKey, final int aInt, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aInt);
+        } else {
+            checkKey(aKey);
+            setValue(aKey, Integer.valueOf(aInt));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Integer, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Integer aInteger, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aInteger);
+        } else if (aInteger == null) {
+            set(aKey, Null.valueOf(FOUR));
+        } else {
+            set(aKey, aInteger.intValue(), false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long)
+     */
+    @Override
+    public void set(final int aKey, final long aLong) {
+        if (aLong == (int) aLong) {
+            set(aKey, (int) aLong);
+        } else {
+            set(aKey, aLong, false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Long)
+     */
+    @Override
+    public void set(final int aKey, final Long aLong) {
+        if (aLong != null) {
+            set(aKey, aLong.longValue());
+        } else {
+            set(aKey, Null.INTEGER_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long, boolean)
+     */
+    @Override
+    public void set(final int aKey, final long aLong, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aLong);
+        } else {
+            checkKey(aKey);
+            setValue(aKey, Long.valueOf(aLong));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Long, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Long aLong, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aLong);
+        } else if (aLong == null) {
+            set(aKey, Null.valueOf(EIGHT));
+        } else {
+            set(aKey, aLong.longValue(), false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, float)
+     */
+    @Override
+    public void set(final int aKey, final float aFloat) {
+        checkKey(aKey);
+        setValue(aKey, Float.valueOf(aFloat));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Float)
+     */
+    @Override
+    public void set(final int aKey, final Float aFloat) {
+        if (aFloat != null) {
+            set(aKey, aFloat.floatValue());
+        } else {
+            set(aKey, Null.DECIMAL_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Float, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Float aFloat, final boolean optimizeLength) {
+        if (aFloat == null && !optimizeLength) {
+            set(aKey, Null.valueOf(FOUR));
+        } else {
+            set(aKey, aFloat);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double)
+     */
+    @Override
+    public void set(final int aKey, final double aDouble) {
+        if (aDouble == (float) aDouble) {
+            set(aKey, (float) aDouble);
+        } else {
+            set(aKey, aDouble, false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Double)
+     */
+    @Override
+    public void set(final int aKey, final Double aDouble) {
+        if (aDouble != null) {
+            set(aKey, aDouble.doubleValue());
+        } else {
+            set(aKey, Null.DECIMAL_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double, boolean)
+     */
+    @Override
+    public void set(final int aKey, final double aDouble, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aDouble);
+        } else {
+            checkKey(aKey);
+            setValue(aKey, Double.valueOf(aDouble));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Double, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Double aDouble, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aDouble);
+        } else if (aDouble == null) {
+            set(aKey, Null.valueOf(EIGHT));
+        } else {
+            set(aKey, aDouble.doubleValue(), false);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double, int)
+     */
+    @Override
+    public void set(final int aKey, final double aDouble, final int aScale) {
+        // TODO to really implement it
+        set(aKey, aDouble);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Double, int)
+     */
+    @Override
+    public void set(final int aKey, final Double aDouble, final int aScale) {
+        // TODO to really implement it
+        set(aKey, aDouble);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Double, int, boolean)
+     */
+    @Override
+    public void set(final int aKey, final Double aDouble, final int aScale, final boolean optimizeLength) {
+        if (aDouble == null) {
+            set(aKey, Null.DECIMAL_NULL);
+        } else {
+            set(aKey, aDouble, aScale);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.String)
+     */
+    @Override
+    public void set(final int aKey, final String aString) {
+        checkKey(aKey);
+        setValue(aKey, (aString != null) ? aString : Null.STRING_UTF8_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.String, boolean)
+     */
+    @Override
+    public void set(final int aKey, final String aString, final boolean forceAsciiEncoding) {
+        set(aKey, aString);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, com.github.hermod.ser.Msg)
+     */
+    @Override
+    public void set(final int aKey, final Msg aMsg) {
+        checkKey(aKey);
+        setValue(aKey, (aMsg != null) ? aMsg : Null.MSG_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, boolean[])
+     */
+    @Override
+    public void set(final int aKey, final boolean... aBooleans) {
+        if (aBooleans != null) {
+            final byte[] bytes = new byte[aBooleans.length];
+            for (int i = 0; i < aBooleans.length; i++) {
+                bytes[i] = (byte) (aBooleans[i] ? 1 : 0);
+            }
+            setArray(aKey, bytes, Null.ARRAY_FIXED_VALUE_NULL);
+        } else {
+            setArray(aKey, null, Null.ARRAY_FIXED_VALUE_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Boolean[])
+     */
+    @Override
+    public void set(final int aKey, final Boolean... aBooleans) {
+        if (aBooleans != null) {
+            final Byte[] bytes = new Byte[aBooleans.length];
+            for (int i = 0; i < aBooleans.length; i++) {
+                bytes[i] = (aBooleans[i] == null) ? null : Byte.valueOf((byte) (aBooleans[i].booleanValue() ? 1 : 0));
+            }
+            setArray(aKey, bytes, Null.ARRAY_VARIABLE_VALUE_NULL);
+        } else {
+            setArray(aKey, null, Null.ARRAY_VARIABLE_VALUE_NULL);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, byte[])
+     */
+    @Override
+    public void set(final int aKey, final byte... aBytes) {
+        setArray(aKey, aBytes, Null.ARRAY_FIXED_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Byte[])
+     */
+    @Override
+    public void set(final int aKey, final Byte... aBytes) {
+        setArray(aKey, aBytes, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short[])
+     */
+    @Override
+    public void set(final int aKey, final short... aShorts) {
+        setArray(aKey, aShorts, Null.ARRAY_FIXED_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Short[])
+     */
+    @Override
+    public void set(final int aKey, final Short... aShorts) {
+        setArray(aKey, aShorts, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int[])
+     */
+    @Override
+    public void set(final int aKey, final int... aInts) {
+        setArray(aKey, aInts, Null.ARRAY_FIXED_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Integer[])
+     */
+    @Override
+    public void set(final int aKey, final Integer... aInts) {
+        setArray(aKey, aInts, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long[])
+     */
+    @Override
+    public void set(final int aKey, final long... aLongs) {
+        setArray(aKey, aLongs, Null.ARRAY_FIXED_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Long[])
+     */
+    @Override
+    public void set(final int aKey, final Long... aLongs) {
+        setArray(aKey, aLongs, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, float[])
+     */
+    @Override
+    public void set(final int aKey, final float... aFloats) {
+        setArray(aKey, aFloats, Null.ARRAY_FIXED_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Float[])
+     */
+    @Override
+    public void set(final int aKey, final Float... aFloats) {
+        setArray(aKey, aFloats, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double[])
+     */
+    @Override
+    public void set(final int aKey, final double... aDoubles) {
+        setArray(aKey, aDoubles, Null.ARRAY_FIXED_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.Double[])
+     */
+    @Override
+    public void set(final int aKey, final Double... aDoubles) {
+        setArray(aKey, aDoubles, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.String[])
+     */
+    @Override
+    public void set(final int aKey, final String... aStrings) {
+        setArray(aKey, aStrings, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, java.lang.String[], boolean)
+     */
+    @Override
+    public void set(final int aKey, final String[] aStrings, final boolean forceAsciiEncoding) {
+        set(aKey, aStrings);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, com.github.hermod.ser.Msg[])
+     */
+    @Override
+    public void set(final int aKey, final Msg... aMsgs) {
+        setArray(aKey, aMsgs, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * set.
+     * 
+     * @param aKey
+     * @param aObjectArray
+     */
+    public void set(final int aKey, final Object[] aObjectArray) {
+        setArray(aKey, aObjectArray, Null.ARRAY_VARIABLE_VALUE_NULL);
+    }
+
+    /**
+     * setArray.
+     * 
+     * @param aKey
+     * @param aArray
+     * @param aNull the Null to store when aArray is null
+     */
+    private void setArray(final int aKey, final Object aArray, final Null aNull) {
+        checkKey(aKey);
+        setValue(aKey, (aArray != null) ? aArray : aNull);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#setAll(com.github.hermod.ser.Msg)
+     */
+    @Override
+    public void setAll(final Msg aMsg) {
+        if (aMsg != null) {
+            for (int key = Msgs.nextKey(aMsg, 0); key != -1; key = Msgs.nextKey(aMsg, key + 1)) {
+                final Object value = aMsg.get(key);
+                if (value != null) {
+                    set(key, value, false);
+                } else {
+                    set(key, aMsg.getAsNull(key));
+                }
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#setAll(java.lang.Object[])
+     */
+    @Override
+    public void setAll(final Object... anObjects) {
+        for (int key = 0; key < anObjects.length; key++) {
+            set(key, anObjects[key]);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#remove(int[])
+     */
+    @Override
+    public void remove(final int... aKeys) {
+        if (aKeys != null) {
+            for (final int key : aKeys) {
+                checkKey(key);
+                removeValue(key);
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return Msgs.serializeToJson(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Msgs.hashCode(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(final Object aObj) {
+        return Msgs.equals(aObj, this);
+    }
+}
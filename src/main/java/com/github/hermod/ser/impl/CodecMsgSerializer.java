@@ -0,0 +1,128 @@
+package com.github.hermod.ser.impl;
+
+import java.nio.ByteBuffer;
+
+import com.github.hermod.ser.ByteBufferMsgSerializer;
+import com.github.hermod.ser.BytesMsgSerializer;
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>CodecMsgSerializer.</p>
+ * 
+ * Serializer of any Msg with the binary codec of this module, the encoding is chosen per instance : {@link #create()} for the compact
+ * encoding of IndexedObjectsMsg.serializeToBytes, {@link #createVarInt()} for the var-length keys, lengths and integers (LEB128, zigzag for
+ * the signed integers). The bytes written by one encoding must be read with the same one.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class CodecMsgSerializer implements BytesMsgSerializer, ByteBufferMsgSerializer {
+
+    private final MsgCodec codec;
+
+    /**
+     * Constructor.
+     * 
+     * @param aCodec
+     */
+    private CodecMsgSerializer(final MsgCodec aCodec) {
+        this.codec = aCodec;
+    }
+
+    /**
+     * create.
+     * 
+     * @return a serializer with the compact encoding, the one of the Msgs of this module
+     */
+    public static CodecMsgSerializer create() {
+        return new CodecMsgSerializer(MsgCodec.DEFAULT);
+    }
+
+    /**
+     * createVarInt.
+     * 
+     * @return a serializer with the var-length keys, lengths and integers
+     */
+    public static CodecMsgSerializer createVarInt() {
+        return new CodecMsgSerializer(MsgCodec.VAR_INT);
+    }
+
+    /**
+     * isVarInt.
+     * 
+     * @return true if the keys, the lengths and the integers are var-length
+     */
+    public boolean isVarInt() {
+        return this.codec.isVarInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see com.github.hermod.ser.MsgSerializer#getLength(com.github.hermod.ser.Msg)
+     */
+    @Override
+    public int getLength(final Msg aMsg) {
+        return this.codec.getLength(aMsg);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see com.github.hermod.ser.BytesMsgSerializer#serializeToBytes(com.github.hermod.ser.Msg)
+     */
+    @Override
+    public byte[] serializeToBytes(final Msg aSrcMsg) {
+        return this.codec.serializeToBytes(aSrcMsg);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see com.github.hermod.ser.BytesMsgSerializer#serializeToBytes(com.github.hermod.ser.Msg, byte[], int)
+     */
+    @Override
+    public int serializeToBytes(final Msg aSrcMsg, final byte[] aDestBytes, final int aDestOffset) {
+        return this.codec.serializeToBytes(aSrcMsg, aDestBytes, aDestOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see com.github.hermod.ser.BytesMsgSerializer#deserializeFromBytes(byte[], int, int, com.github.hermod.ser.Msg)
+     */
+    @Override
+    public void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength, final Msg aDestMsg) {
+        this.codec.deserializeFromBytes(aSrcBytes, aSrcOffset, aSrcLength, aDestMsg);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see com.github.hermod.ser.ByteBufferMsgSerializer#serializeToByteBuffer(com.github.hermod.ser.Msg)
+     */
+    @Override
+    public ByteBuffer serializeToByteBuffer(final Msg aSrcMsg) {
+        return this.codec.serializeToByteBuffer(aSrcMsg);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see com.github.hermod.ser.ByteBufferMsgSerializer#serializeToByteBuffer(com.github.hermod.ser.Msg, java.nio.ByteBuffer)
+     */
+    @Override
+    public void serializeToByteBuffer(final Msg aSrcMsg, final ByteBuffer aDestByteBuffer) {
+        this.codec.serializeToByteBuffer(aSrcMsg, aDestByteBuffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see com.github.hermod.ser.ByteBufferMsgSerializer#deserializeFromByteBuffer(java.nio.ByteBuffer, com.github.hermod.ser.Msg)
+     */
+    @Override
+    public void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer, final Msg aDestMsg) {
+        this.codec.deserializeFromByteBuffer(aSrcByteBuffer, aDestMsg);
+    }
+}
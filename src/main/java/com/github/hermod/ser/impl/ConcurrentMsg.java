@@ -0,0 +1,558 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.Msgs.DEFAULT_MAX_KEY;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Serializable;
+
+/**
+ * <p>ConcurrentMsg. </p>
+ * 
+ * Thread-safe Msg for a latest state updated by many writers and read by many readers. The values are stored in chunks of 64 atomic slots,
+ * referenced by a directory : each set or remove is a single atomic slot write, and the directory grows without lock (its free entries are
+ * sealed before the copy, so no chunk installed concurrently is lost, and the chunks themselves are never copied). Readers never block.
+ * 
+ * The single reads, nextKey and getKeysArray are weakly consistent. To read or write several keys as one update, use
+ * {@link #snapshot(Msg)} / {@link #snapshot()} and {@link #update(Consumer)} (or setAll / removeAll) : the updates are ordered by a sequence
+ * lock, the snapshots retry until they have read between two updates. The serializations write such a snapshot.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class ConcurrentMsg extends AbstractMsg implements Serializable, BytesSerializable, ByteBufferSerializable {
+
+    private static final int                                                     CHUNK_SHIFT  = 6;
+    private static final int                                                     CHUNK_LENGTH = 1 << CHUNK_SHIFT;
+    private static final int                                                     CHUNK_MASK   = CHUNK_LENGTH - 1;
+    private static final long                                                    NESTED       = 0;
+
+    // marks a free directory entry which has been copied by a growth
+    private static final AtomicReferenceArray<Object>                            MOVED        = new AtomicReferenceArray<Object>(0);
+
+    private final AtomicReference<AtomicReferenceArray<AtomicReferenceArray<Object>>> directory;
+    private final AtomicInteger                                                  keysLength;
+    // even when no update is in progress
+    private final AtomicLong                                                     sequence;
+    // only the thread which owns the update can find itself here
+    private Thread                                                               updatingThread;
+
+    /**
+     * Constructor.
+     * 
+     * @param aKeyMax
+     */
+    private ConcurrentMsg(final int aKeyMax) {
+        final int directoryLength = Msgs.calculateNextPowerOf2((Math.max(aKeyMax, 0) >>> CHUNK_SHIFT) + 1);
+        this.directory = new AtomicReference<AtomicReferenceArray<AtomicReferenceArray<Object>>>(
+        new AtomicReferenceArray<AtomicReferenceArray<Object>>(directoryLength));
+        this.keysLength = new AtomicInteger();
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * create.
+     * 
+     * @return
+     */
+    public static ConcurrentMsg create() {
+        return new ConcurrentMsg(DEFAULT_MAX_KEY);
+    }
+
+    /**
+     * createWithKeyMax.
+     * 
+     * @param keyMax
+     * @return
+     */
+    public static ConcurrentMsg createWithKeyMax(final int keyMax) {
+        return new ConcurrentMsg(keyMax);
+    }
+
+    /**
+     * createFromMsg.
+     * 
+     * @param aMsg
+     * @return
+     */
+    public static ConcurrentMsg createFromMsg(final Msg aMsg) {
+        final ConcurrentMsg msg = new ConcurrentMsg((aMsg != null) ? aMsg.getKeyMax() : DEFAULT_MAX_KEY);
+        msg.setAll(aMsg);
+        return msg;
+    }
+
+    /**
+     * createFromValues.
+     * 
+     * @param values
+     * @return
+     */
+    public static ConcurrentMsg createFromValues(final Object... values) {
+        final ConcurrentMsg msg = new ConcurrentMsg(values.length);
+        msg.setAll(values);
+        return msg;
+    }
+
+    /**
+     * chunk.
+     * 
+     * @param aKey
+     * @return the chunk of aKey, null if it has never been written
+     */
+    private AtomicReferenceArray<Object> chunk(final int aKey) {
+        final int index = aKey >>> CHUNK_SHIFT;
+        while (true) {
+            final AtomicReferenceArray<AtomicReferenceArray<Object>> currentDirectory = this.directory.get();
+            if (index >= currentDirectory.length()) {
+                return null;
+            }
+            final AtomicReferenceArray<Object> chunk = currentDirectory.get(index);
+            // a sealed entry of the current directory was free, none can be installed before the new directory is published
+            if (chunk != MOVED || this.directory.get() == currentDirectory) {
+                return (chunk != MOVED) ? chunk : null;
+            }
+        }
+    }
+
+    /**
+     * chunkForWrite.
+     * 
+     * @param aKey
+     * @return the chunk of aKey, installed if needed
+     */
+    private AtomicReferenceArray<Object> chunkForWrite(final int aKey) {
+        checkKey(aKey);
+        final int index = aKey >>> CHUNK_SHIFT;
+        while (true) {
+            final AtomicReferenceArray<AtomicReferenceArray<Object>> currentDirectory = this.directory.get();
+            if (index >= currentDirectory.length()) {
+                grow(currentDirectory, index + 1);
+                continue;
+            }
+            final AtomicReferenceArray<Object> chunk = currentDirectory.get(index);
+            if (chunk == MOVED) {
+                // helps the growth in progress
+                grow(currentDirectory, currentDirectory.length());
+            } else if (chunk != null) {
+                return chunk;
+            } else {
+                final AtomicReferenceArray<Object> newChunk = new AtomicReferenceArray<Object>(CHUNK_LENGTH);
+                if (currentDirectory.compareAndSet(index, null, newChunk)) {
+                    return newChunk;
+                }
+            }
+        }
+    }
+
+    /**
+     * grow, seals the free entries of aDirectory, copies it and publishes the copy if aDirectory is still the current one.
+     * 
+     * @param aDirectory
+     * @param aMinLength
+     */
+    private void grow(final AtomicReferenceArray<AtomicReferenceArray<Object>> aDirectory, final int aMinLength) {
+        final AtomicReferenceArray<AtomicReferenceArray<Object>> newDirectory = new AtomicReferenceArray<AtomicReferenceArray<Object>>(
+        Msgs.calculateNextPowerOf2(aMinLength));
+        for (int i = 0; i < aDirectory.length(); i++) {
+            aDirectory.compareAndSet(i, null, MOVED);
+            final AtomicReferenceArray<Object> chunk = aDirectory.get(i);
+            newDirectory.set(i, (chunk != MOVED) ? chunk : null);
+        }
+        this.directory.compareAndSet(aDirectory, newDirectory);
+    }
+
+    /**
+     * beginUpdate.
+     * 
+     * @return the odd sequence of the update, NESTED if the current thread already owns the update
+     */
+    private long beginUpdate() {
+        if (this.updatingThread == Thread.currentThread()) {
+            return NESTED;
+        }
+        while (true) {
+            final long currentSequence = this.sequence.get();
+            if ((currentSequence & 1) == 0 && this.sequence.compareAndSet(currentSequence, currentSequence + 1)) {
+                this.updatingThread = Thread.currentThread();
+                return currentSequence + 1;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * endUpdate.
+     * 
+     * @param aSequence
+     */
+    private void endUpdate(final long aSequence) {
+        if (aSequence != NESTED) {
+            this.updatingThread = null;
+            this.sequence.set(aSequence + 1);
+        }
+    }
+
+    /**
+     * update, applies aUpdater as one update : a snapshot contains all its modifications or none. The updates are serialized between them
+     * (the single sets and removes are not), a nested update is part of the outer one, and a snapshot taken by aUpdater reads the fields as
+     * they are in the update.
+     * 
+     * @param aUpdater
+     */
+    public final void update(final Consumer<? super ConcurrentMsg> aUpdater) {
+        final long updateSequence = beginUpdate();
+        try {
+            aUpdater.accept(this);
+        } finally {
+            endUpdate(updateSequence);
+        }
+    }
+
+    /**
+     * snapshot, copies the fields into aDestMsg (cleared before) as they are between two updates. The nested Msgs and arrays are not copied.
+     * 
+     * @param aDestMsg
+     */
+    public final void snapshot(final Msg aDestMsg) {
+        if (this.updatingThread == Thread.currentThread()) {
+            // the update of the current thread cannot end while it is copied
+            copyFields(aDestMsg);
+            return;
+        }
+        while (true) {
+            final long startSequence = this.sequence.get();
+            if ((startSequence & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            copyFields(aDestMsg);
+            if (this.sequence.get() == startSequence) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * snapshot.
+     * 
+     * @return an immutable copy of the fields as they are between two updates
+     */
+    public final ImmutableMsg snapshot() {
+        return snapshotMsg().freeze();
+    }
+
+    /**
+     * snapshotMsg.
+     * 
+     * @return a copy of the fields as they are between two updates
+     */
+    private IndexedObjectsMsg snapshotMsg() {
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.createWithKeyMax(Math.max(getKeyMax(), 0));
+        snapshot(destMsg);
+        return destMsg;
+    }
+
+    /**
+     * copyFields.
+     * 
+     * @param aDestMsg cleared before the copy
+     */
+    private void copyFields(final Msg aDestMsg) {
+        aDestMsg.removeAll();
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            final Object value = getValue(key);
+            if (value != null) {
+                Msgs.setStoredValue(aDestMsg, key, value);
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getValue(int)
+     */
+    @Override
+    protected final Object getValue(final int aKey) {
+        if (aKey < 0) {
+            return null;
+        }
+        final AtomicReferenceArray<Object> chunk = chunk(aKey);
+        return (chunk != null) ? chunk.get(aKey & CHUNK_MASK) : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)
+     */
+    @Override
+    protected final void setValue(final int aKey, final Object aValue) {
+        if (chunkForWrite(aKey).getAndSet(aKey & CHUNK_MASK, aValue) == null) {
+            this.keysLength.incrementAndGet();
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#removeValue(int)
+     */
+    @Override
+    protected final void removeValue(final int aKey) {
+        checkKey(aKey);
+        final AtomicReferenceArray<Object> chunk = chunk(aKey);
+        if (chunk != null && chunk.getAndSet(aKey & CHUNK_MASK, null) != null) {
+            this.keysLength.decrementAndGet();
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#copyMsg(com.github.hermod.ser.Msg)
+     */
+    @Override
+    protected Msg copyMsg(final Msg aMsg) {
+        return IndexedObjectsMsg.createFromMsg(aMsg);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * As one update.
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setAll(com.github.hermod.ser.Msg)
+     */
+    @Override
+    public final void setAll(final Msg aMsg) {
+        final long updateSequence = beginUpdate();
+        try {
+            super.setAll(aMsg);
+        } finally {
+            endUpdate(updateSequence);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * As one update.
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setAll(java.lang.Object[])
+     */
+    @Override
+    public final void setAll(final Object... anObjects) {
+        final long updateSequence = beginUpdate();
+        try {
+            super.setAll(anObjects);
+        } finally {
+            endUpdate(updateSequence);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * As one update.
+     * 
+     * @see com.github.hermod.ser.Msg#removeAll()
+     */
+    @Override
+    public final void removeAll() {
+        final long updateSequence = beginUpdate();
+        try {
+            for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+                removeValue(key);
+            }
+        } finally {
+            endUpdate(updateSequence);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isEmpty()
+     */
+    @Override
+    public final boolean isEmpty() {
+        return this.keysLength.get() == 0;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysLength()
+     */
+    @Override
+    public final int getKeysLength() {
+        return this.keysLength.get();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysArray()
+     */
+    @Override
+    public final int[] getKeysArray() {
+        int[] keys = new int[this.keysLength.get()];
+        int length = 0;
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            if (length == keys.length) {
+                keys = Arrays.copyOf(keys, length * 2 + 1);
+            }
+            keys[length++] = key;
+        }
+        return (length == keys.length) ? keys : Arrays.copyOf(keys, length);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#nextKey(int)
+     */
+    @Override
+    public final int nextKey(final int aFromKey) {
+        final AtomicReferenceArray<AtomicReferenceArray<Object>> currentDirectory = this.directory.get();
+        for (int key = Math.max(aFromKey, 0); (key >>> CHUNK_SHIFT) < currentDirectory.length();) {
+            final AtomicReferenceArray<Object> chunk = currentDirectory.get(key >>> CHUNK_SHIFT);
+            if (chunk == null || chunk == MOVED) {
+                key = ((key >>> CHUNK_SHIFT) + 1) << CHUNK_SHIFT;
+                continue;
+            }
+            for (int i = key & CHUNK_MASK; i < CHUNK_LENGTH; i++) {
+                if (chunk.get(i) != null) {
+                    return (key & ~CHUNK_MASK) + i;
+                }
+            }
+            key = ((key >>> CHUNK_SHIFT) + 1) << CHUNK_SHIFT;
+        }
+        return -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeyMax()
+     */
+    @Override
+    public final int getKeyMax() {
+        final AtomicReferenceArray<AtomicReferenceArray<Object>> currentDirectory = this.directory.get();
+        for (int index = currentDirectory.length(); index-- != 0;) {
+            final AtomicReferenceArray<Object> chunk = currentDirectory.get(index);
+            if (chunk != null && chunk != MOVED) {
+                for (int i = CHUNK_LENGTH; i-- != 0;) {
+                    if (chunk.get(i) != null) {
+                        return (index << CHUNK_SHIFT) + i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Of one snapshot.
+     * 
+     * @see com.github.hermod.ser.Serializable#getLength()
+     */
+    @Override
+    public final int getLength() {
+        return MsgCodec.DEFAULT.getLength(snapshotMsg());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Of one snapshot.
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes()
+     */
+    @Override
+    public final byte[] serializeToBytes() {
+        return MsgCodec.DEFAULT.serializeToBytes(snapshotMsg());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Of one snapshot.
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)
+     */
+    @Override
+    public final int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {
+        return MsgCodec.DEFAULT.serializeToBytes(snapshotMsg(), aDestBytes, aDestOffset);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * As one update.
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)
+     */
+    @Override
+    public final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        final long updateSequence = beginUpdate();
+        try {
+            MsgCodec.DEFAULT.deserializeFromBytes(aSrcBytes, aSrcOffset, aSrcLength, this);
+        } finally {
+            endUpdate(updateSequence);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Of one snapshot.
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer()
+     */
+    @Override
+    public final ByteBuffer serializeToByteBuffer() {
+        return MsgCodec.DEFAULT.serializeToByteBuffer(snapshotMsg());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Of one snapshot.
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void serializeToByteBuffer(final ByteBuffer aDestByteBuffer) {
+        MsgCodec.DEFAULT.serializeToByteBuffer(snapshotMsg(), aDestByteBuffer);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * As one update.
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#deserializeFromByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer) {
+        final long updateSequence = beginUpdate();
+        try {
+            MsgCodec.DEFAULT.deserializeFromByteBuffer(aSrcByteBuffer, this);
+        } finally {
+            endUpdate(updateSequence);
+        }
+    }
+}
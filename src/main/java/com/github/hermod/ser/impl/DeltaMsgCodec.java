@@ -0,0 +1,660 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.Msgs.EIGHT;
+import static com.github.hermod.ser.impl.Msgs.ONE;
+
+import java.util.Arrays;
+
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>DeltaMsgCodec. </p>
+ * 
+ * Stateful codec of the successive Msgs of several streams : a frame carries only the keys changed since the previous Msg of its stream and
+ * the keys removed since, the previous Msg being kept by the encoder and, after the decoding, by the decoder.
+ * 
+ * <pre>
+ * frame type   = SNAPSHOT (all the keys) or DELTA, 1 byte
+ * stream id    = var-length long
+ * sequence     = var-length long, + 1 per frame of the stream
+ * removed keys = DELTA only, length of the bitmap in bytes (var-length int) + bitmap, the bit k of the byte k / 8 is set if k is removed
+ * fields       = key, type and value of each changed key (DELTA) or of each key (SNAPSHOT), as written by IndexedObjectsMsg.serializeToBytes
+ * </pre>
+ * 
+ * The first frame of a stream is a snapshot, then one every snapshotInterval deltas and after {@link #refresh(long)}. A delta which does
+ * not follow the last frame decoded on its stream (lost frame, decoder restarted) is rejected with an IllegalStateException until the next
+ * snapshot of the stream : the receiver asks the sender for a refresh.
+ * 
+ * The values are compared one level deep (the arrays by content, the Msgs with equals). Not thread-safe, an encoder and a decoder per
+ * thread.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class DeltaMsgCodec {
+
+    public static final byte          SNAPSHOT                  = 0;
+    public static final byte          DELTA                     = 1;
+    public static final int           DEFAULT_SNAPSHOT_INTERVAL = 1000;
+
+    private static final int          BITS_PER_BYTE_SHIFT       = 3;
+    private static final int          BIT_IN_BYTE_MASK          = 7;
+
+    private final int                 snapshotInterval;
+    private final Streams             encoderStreams;
+    private final Streams             decoderStreams;
+
+    // the frame being encoded, filled by prepare
+    private int[]                     changedKeys;
+    private Object[]                  changedValues;
+    private int                       changedLength;
+    private byte[]                    removedBitmap;
+    private int                       removedBitmapLength;
+    private int                       fieldsLength;
+
+    private long                      rawLength;
+    private long                      encodedLength;
+    private long                      snapshotsCount;
+    private long                      deltasCount;
+    private long                      rejectedDeltasCount;
+
+    /**
+     * Constructor.
+     * 
+     * @param aSnapshotInterval
+     */
+    private DeltaMsgCodec(final int aSnapshotInterval) {
+        if (aSnapshotInterval < 0) {
+            throw new IllegalArgumentException("The snapshotInterval=" + aSnapshotInterval + " must be positive.");
+        }
+        this.snapshotInterval = aSnapshotInterval;
+        this.encoderStreams = new Streams();
+        this.decoderStreams = new Streams();
+        this.changedKeys = new int[EIGHT];
+        this.changedValues = new Object[EIGHT];
+        this.removedBitmap = new byte[EIGHT];
+    }
+
+    /**
+     * create.
+     * 
+     * @return a codec with a snapshot every DEFAULT_SNAPSHOT_INTERVAL deltas
+     */
+    public static DeltaMsgCodec create() {
+        return new DeltaMsgCodec(DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aSnapshotInterval the number of deltas between two snapshots of a stream, 0 for a snapshot only on the first frame and after
+     *            a refresh
+     * @return
+     */
+    public static DeltaMsgCodec create(final int aSnapshotInterval) {
+        return new DeltaMsgCodec(aSnapshotInterval);
+    }
+
+    /**
+     * getSnapshotInterval.
+     * 
+     * @return
+     */
+    public int getSnapshotInterval() {
+        return this.snapshotInterval;
+    }
+
+    // encoding
+
+    /**
+     * encode.
+     * 
+     * @param aStreamId
+     * @param aMsg
+     * @return the frame of aMsg
+     */
+    public byte[] encode(final long aStreamId, final Msg aMsg) {
+        final Stream stream = encoderStream(aStreamId);
+        final boolean snapshot = isSnapshotNeeded(stream);
+        final byte[] bytes = new byte[prepare(aStreamId, stream, aMsg, snapshot)];
+        write(aStreamId, stream, aMsg, snapshot, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * encode.
+     * 
+     * @param aStreamId
+     * @param aMsg
+     * @param aDestBytes
+     * @param aDestOffset
+     * @return the length of the frame written at aDestOffset
+     */
+    public int encode(final long aStreamId, final Msg aMsg, final byte[] aDestBytes, final int aDestOffset) {
+        final Stream stream = encoderStream(aStreamId);
+        final boolean snapshot = isSnapshotNeeded(stream);
+        final int length = prepare(aStreamId, stream, aMsg, snapshot);
+        if (aDestOffset < 0 || aDestBytes.length - aDestOffset < length) {
+            throw new IllegalArgumentException("The frame of length=" + length + " does not fit at the offset=" + aDestOffset + " of bytes of length="
+            + aDestBytes.length + ".");
+        }
+        write(aStreamId, stream, aMsg, snapshot, aDestBytes, aDestOffset);
+        return length;
+    }
+
+    /**
+     * refresh, the next frame encoded on aStreamId is a snapshot.
+     * 
+     * @param aStreamId
+     */
+    public void refresh(final long aStreamId) {
+        final Stream stream = this.encoderStreams.get(aStreamId);
+        if (stream != null) {
+            stream.snapshotNeeded = true;
+        }
+    }
+
+    /**
+     * refreshAll, the next frame encoded on each stream is a snapshot.
+     * 
+     */
+    public void refreshAll() {
+        final Stream[] streams = this.encoderStreams.streams;
+        for (int slot = 0; slot < streams.length; slot++) {
+            if (streams[slot] != null) {
+                streams[slot].snapshotNeeded = true;
+            }
+        }
+    }
+
+    /**
+     * encoderStream.
+     * 
+     * @param aStreamId
+     * @return the encoding state of aStreamId, created if needed
+     */
+    private Stream encoderStream(final long aStreamId) {
+        Stream stream = this.encoderStreams.get(aStreamId);
+        if (stream == null) {
+            stream = new Stream();
+            this.encoderStreams.put(aStreamId, stream);
+        }
+        return stream;
+    }
+
+    /**
+     * isSnapshotNeeded.
+     * 
+     * @param aStream
+     * @return
+     */
+    private boolean isSnapshotNeeded(final Stream aStream) {
+        return aStream.snapshotNeeded || (this.snapshotInterval != 0 && aStream.deltasSinceSnapshot >= this.snapshotInterval);
+    }
+
+    /**
+     * prepare, collects the changed and the removed keys of aMsg.
+     * 
+     * @param aStreamId
+     * @param aStream
+     * @param aMsg
+     * @param aSnapshot
+     * @return the length of the frame
+     */
+    private int prepare(final long aStreamId, final Stream aStream, final Msg aMsg, final boolean aSnapshot) {
+        final IndexedObjectsMsg previous = aStream.msg;
+        int length = ONE + DirectBytes.varLongLength(aStreamId) + DirectBytes.varLongLength(aStream.sequence + 1);
+        // the fields length of aMsg serialized without delta, from the one of the previous Msg updated by the changed and removed keys
+        int fieldsLength = (aSnapshot) ? 0 : aStream.fieldsLength;
+        this.changedLength = 0;
+        for (int key = Msgs.nextKey(aMsg, 0); key != -1; key = Msgs.nextKey(aMsg, key + 1)) {
+            final Object value = Msgs.getStoredValue(aMsg, key);
+            final Object previousValue = (aSnapshot) ? null : previous.getValue(key);
+            if (aSnapshot || !Msgs.valueEquals(value, previousValue)) {
+                addChanged(key, value);
+                final int fieldLength = fieldLength(key, value);
+                length += fieldLength;
+                fieldsLength += fieldLength;
+                if (previousValue != null) {
+                    fieldsLength -= fieldLength(key, previousValue);
+                }
+            }
+        }
+        this.removedBitmapLength = 0;
+        if (!aSnapshot) {
+            for (int key = previous.nextKey(0); key != -1; key = previous.nextKey(key + 1)) {
+                if (!aMsg.contains(key)) {
+                    addRemoved(key);
+                    fieldsLength -= fieldLength(key, previous.getValue(key));
+                }
+            }
+            length += DirectBytes.varIntLength(this.removedBitmapLength) + this.removedBitmapLength;
+        }
+        this.fieldsLength = fieldsLength;
+        return length;
+    }
+
+    /**
+     * fieldLength.
+     * 
+     * @param aKey
+     * @param aValue
+     * @return the length of the key, type and value of a field
+     */
+    private static int fieldLength(final int aKey, final Object aValue) {
+        return MsgCodec.DEFAULT.compactLength(aKey) + ONE + MsgCodec.DEFAULT.valueLength(aValue);
+    }
+
+    /**
+     * addChanged.
+     * 
+     * @param aKey
+     * @param aValue
+     */
+    private void addChanged(final int aKey, final Object aValue) {
+        if (this.changedLength == this.changedKeys.length) {
+            this.changedKeys = Arrays.copyOf(this.changedKeys, this.changedLength * 2);
+            this.changedValues = Arrays.copyOf(this.changedValues, this.changedLength * 2);
+        }
+        this.changedKeys[this.changedLength] = aKey;
+        this.changedValues[this.changedLength] = aValue;
+        this.changedLength++;
+    }
+
+    /**
+     * addRemoved, the keys are added in ascending order.
+     * 
+     * @param aKey
+     */
+    private void addRemoved(final int aKey) {
+        final int index = aKey >>> BITS_PER_BYTE_SHIFT;
+        if (index >= this.removedBitmap.length) {
+            this.removedBitmap = Arrays.copyOf(this.removedBitmap, Math.max(index + 1, this.removedBitmap.length * 2));
+        }
+        if (index >= this.removedBitmapLength) {
+            Arrays.fill(this.removedBitmap, this.removedBitmapLength, index + 1, (byte) 0);
+            this.removedBitmapLength = index + 1;
+        }
+        this.removedBitmap[index] |= 1 << (aKey & BIT_IN_BYTE_MASK);
+    }
+
+    /**
+     * write, writes the frame prepared and moves aStream to aMsg.
+     * 
+     * @param aStreamId
+     * @param aStream
+     * @param aMsg
+     * @param aSnapshot
+     * @param aBytes
+     * @param aOffset
+     */
+    private void write(final long aStreamId, final Stream aStream, final Msg aMsg, final boolean aSnapshot, final byte[] aBytes,
+    final int aOffset) {
+        final IndexedObjectsMsg previous = aStream.msg;
+        aBytes[aOffset] = (aSnapshot) ? SNAPSHOT : DELTA;
+        int offset = DirectBytes.putVarLong(aBytes, aOffset + ONE, aStreamId);
+        offset = DirectBytes.putVarLong(aBytes, offset, aStream.sequence + 1);
+        if (aSnapshot) {
+            previous.removeAll();
+        } else {
+            offset = DirectBytes.putVarInt(aBytes, offset, this.removedBitmapLength);
+            System.arraycopy(this.removedBitmap, 0, aBytes, offset, this.removedBitmapLength);
+            offset += this.removedBitmapLength;
+            for (int index = 0; index < this.removedBitmapLength; index++) {
+                for (int bits = this.removedBitmap[index] & 0xFF; bits != 0; bits &= bits - 1) {
+                    previous.remove((index << BITS_PER_BYTE_SHIFT) + Integer.numberOfTrailingZeros(bits));
+                }
+            }
+        }
+        for (int i = 0; i < this.changedLength; i++) {
+            final Object value = this.changedValues[i];
+            offset = MsgCodec.DEFAULT.writeCompact(aBytes, offset, this.changedKeys[i]);
+            offset = MsgCodec.DEFAULT.writeTypedValue(aBytes, offset, value);
+            Msgs.setStoredValue(previous, this.changedKeys[i], copyValue(value));
+            this.changedValues[i] = null;
+        }
+        aStream.sequence++;
+        aStream.snapshotNeeded = false;
+        aStream.fieldsLength = this.fieldsLength;
+        if (aSnapshot) {
+            aStream.deltasSinceSnapshot = 0;
+            this.snapshotsCount++;
+        } else {
+            aStream.deltasSinceSnapshot++;
+            this.deltasCount++;
+        }
+        this.rawLength += this.fieldsLength;
+        this.encodedLength += offset - aOffset;
+    }
+
+    // decoding
+
+    /**
+     * decode, applies the frame to the previous Msg of its stream and copies the whole Msg into aDestMsg. Use
+     * {@link #decode(byte[], int, int)} and {@link #getAsBorrowedMsg(long)} to read it without copy.
+     * 
+     * @param aSrcBytes
+     * @param aSrcOffset
+     * @param aSrcLength
+     * @param aDestMsg set to the Msg of the frame, removed before
+     * @return the stream id of the frame
+     * @throws IllegalStateException if the frame is a delta which does not follow the last frame decoded on its stream
+     */
+    public long decode(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength, final Msg aDestMsg) {
+        final long streamId = decode(aSrcBytes, aSrcOffset, aSrcLength);
+        final IndexedObjectsMsg msg = this.decoderStreams.get(streamId).msg;
+        aDestMsg.removeAll();
+        for (int key = msg.nextKey(0); key != -1; key = msg.nextKey(key + 1)) {
+            Msgs.setStoredValue(aDestMsg, key, copyValue(msg.getValue(key)));
+        }
+        return streamId;
+    }
+
+    /**
+     * decode, applies the frame to the previous Msg of its stream, its cost follows the length of the frame and not of the Msg.
+     * 
+     * @param aSrcBytes
+     * @param aSrcOffset
+     * @param aSrcLength
+     * @return the stream id of the frame, its Msg is read by {@link #getAsBorrowedMsg(long)}
+     * @throws IllegalStateException if the frame is a delta which does not follow the last frame decoded on its stream
+     */
+    public long decode(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        final int end = aSrcOffset + aSrcLength;
+        final byte frameType = aSrcBytes[aSrcOffset];
+        int offset = aSrcOffset + ONE;
+        final long streamId = DirectBytes.getVarLong(aSrcBytes, offset);
+        offset += DirectBytes.getVarLength(aSrcBytes, offset);
+        final long sequence = DirectBytes.getVarLong(aSrcBytes, offset);
+        offset += DirectBytes.getVarLength(aSrcBytes, offset);
+        Stream stream = this.decoderStreams.get(streamId);
+        if (frameType == SNAPSHOT) {
+            if (stream == null) {
+                stream = new Stream();
+                this.decoderStreams.put(streamId, stream);
+            }
+            MsgCodec.DEFAULT.deserializeFromBytes(aSrcBytes, offset, end - offset, stream.msg);
+        } else if (frameType == DELTA) {
+            if (stream == null || stream.snapshotNeeded || sequence != stream.sequence + 1) {
+                if (stream != null) {
+                    stream.snapshotNeeded = true;
+                }
+                this.rejectedDeltasCount++;
+                throw new IllegalStateException("Impossible to apply the delta sequence=" + sequence + " of the stream=" + streamId
+                + ", a snapshot is needed.");
+            }
+            final int bitmapLength = DirectBytes.getVarInt(aSrcBytes, offset);
+            offset += DirectBytes.getVarLength(aSrcBytes, offset);
+            for (int index = 0; index < bitmapLength; index++) {
+                for (int bits = aSrcBytes[offset + index] & 0xFF; bits != 0; bits &= bits - 1) {
+                    stream.msg.remove((index << BITS_PER_BYTE_SHIFT) + Integer.numberOfTrailingZeros(bits));
+                }
+            }
+            offset += bitmapLength;
+            while (offset < end) {
+                offset = MsgCodec.DEFAULT.readField(aSrcBytes, offset, stream.msg);
+            }
+        } else {
+            throw new IllegalArgumentException("The frame type=" + frameType + " is neither a SNAPSHOT nor a DELTA.");
+        }
+        stream.sequence = sequence;
+        stream.snapshotNeeded = false;
+        return streamId;
+    }
+
+    /**
+     * getAsBorrowedMsg, the last Msg decoded on aStreamId without copy : it must be read only and it is valid until the next frame of
+     * aStreamId is decoded.
+     * 
+     * @param aStreamId
+     * @return the decoded Msg, null if no frame of aStreamId is decoded
+     */
+    public Msg getAsBorrowedMsg(final long aStreamId) {
+        final Stream stream = this.decoderStreams.get(aStreamId);
+        return (stream != null) ? stream.msg : null;
+    }
+
+    /**
+     * isSynchronized.
+     * 
+     * @param aStreamId
+     * @return true if a delta of aStreamId can be decoded, false if a snapshot is needed
+     */
+    public boolean isSynchronized(final long aStreamId) {
+        final Stream stream = this.decoderStreams.get(aStreamId);
+        return stream != null && !stream.snapshotNeeded;
+    }
+
+    /**
+     * remove, forgets the encoding and the decoding state of aStreamId.
+     * 
+     * @param aStreamId
+     */
+    public void remove(final long aStreamId) {
+        this.encoderStreams.remove(aStreamId);
+        this.decoderStreams.remove(aStreamId);
+    }
+
+    /**
+     * copyValue.
+     * 
+     * @param aValue
+     * @return a copy of aValue if it is mutable (array, Msg), aValue otherwise
+     */
+    private static Object copyValue(final Object aValue) {
+        if (aValue instanceof Msg) {
+            return IndexedObjectsMsg.createFromMsg((Msg) aValue);
+        }
+        final Object array = Msgs.copyArray(aValue);
+        return (array != null) ? array : aValue;
+    }
+
+    // counters of the encoded frames
+
+    /**
+     * getRawLength.
+     * 
+     * @return the total length of the encoded Msgs serialized without delta
+     */
+    public long getRawLength() {
+        return this.rawLength;
+    }
+
+    /**
+     * getEncodedLength.
+     * 
+     * @return the total length of the encoded frames
+     */
+    public long getEncodedLength() {
+        return this.encodedLength;
+    }
+
+    /**
+     * getCompressionRatio.
+     * 
+     * @return rawLength / encodedLength, 0 if nothing is encoded
+     */
+    public double getCompressionRatio() {
+        return (this.encodedLength != 0) ? (double) this.rawLength / this.encodedLength : 0;
+    }
+
+    /**
+     * getSnapshotsCount.
+     * 
+     * @return
+     */
+    public long getSnapshotsCount() {
+        return this.snapshotsCount;
+    }
+
+    /**
+     * getDeltasCount.
+     * 
+     * @return
+     */
+    public long getDeltasCount() {
+        return this.deltasCount;
+    }
+
+    /**
+     * getRejectedDeltasCount.
+     * 
+     * @return the number of deltas which could not be decoded
+     */
+    public long getRejectedDeltasCount() {
+        return this.rejectedDeltasCount;
+    }
+
+    /**
+     * <p>Stream, the previous Msg of a stream, its sequence and, on the encoder, the length of its fields.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class Stream {
+
+        private final IndexedObjectsMsg msg                 = IndexedObjectsMsg.create();
+        private long                    sequence            = -1;
+        private boolean                 snapshotNeeded      = true;
+        private int                     deltasSinceSnapshot;
+        private int                     fieldsLength;
+    }
+
+    /**
+     * <p>Streams, the Streams by stream id in an open-addressing table (linear probing, backward shift on remove) : the ids stay primitive
+     * longs, not boxed on each frame.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class Streams {
+
+        private static final int  MIN_CAPACITY    = 8;
+        private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+        private long[]            ids;
+        // null in an empty slot, any long being a valid id
+        private Stream[]          streams;
+        private int               size;
+        private int               mask;
+
+        /**
+         * Constructor.
+         * 
+         */
+        Streams() {
+            allocate(MIN_CAPACITY);
+        }
+
+        /**
+         * allocate.
+         * 
+         * @param aCapacity a power of 2
+         */
+        private void allocate(final int aCapacity) {
+            this.ids = new long[aCapacity];
+            this.streams = new Stream[aCapacity];
+            this.mask = aCapacity - 1;
+        }
+
+        /**
+         * hash.
+         * 
+         * @param aId
+         * @return the home slot of aId
+         */
+        private int hash(final long aId) {
+            final long h = aId * HASH_MULTIPLIER;
+            return (int) (h ^ (h >>> Integer.SIZE)) & this.mask;
+        }
+
+        /**
+         * get.
+         * 
+         * @param aId
+         * @return the Stream of aId, null if absent
+         */
+        Stream get(final long aId) {
+            int slot = hash(aId);
+            while (this.streams[slot] != null) {
+                if (this.ids[slot] == aId) {
+                    return this.streams[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            return null;
+        }
+
+        /**
+         * put, aId being absent.
+         * 
+         * @param aId
+         * @param aStream
+         */
+        void put(final long aId, final Stream aStream) {
+            if ((this.size + 1) * 2 > this.ids.length) {
+                rehash(this.ids.length * 2);
+            }
+            int slot = hash(aId);
+            while (this.streams[slot] != null) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.ids[slot] = aId;
+            this.streams[slot] = aStream;
+            this.size++;
+        }
+
+        /**
+         * rehash.
+         * 
+         * @param aCapacity a power of 2
+         */
+        private void rehash(final int aCapacity) {
+            final long[] oldIds = this.ids;
+            final Stream[] oldStreams = this.streams;
+            allocate(aCapacity);
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldStreams[i] != null) {
+                    int slot = hash(oldIds[i]);
+                    while (this.streams[slot] != null) {
+                        slot = (slot + 1) & this.mask;
+                    }
+                    this.ids[slot] = oldIds[i];
+                    this.streams[slot] = oldStreams[i];
+                }
+            }
+        }
+
+        /**
+         * remove.
+         * 
+         * @param aId
+         */
+        void remove(final long aId) {
+            int slot = hash(aId);
+            while (this.streams[slot] != null && this.ids[slot] != aId) {
+                slot = (slot + 1) & this.mask;
+            }
+            if (this.streams[slot] == null) {
+                return;
+            }
+            int next = slot;
+            while (true) {
+                next = (next + 1) & this.mask;
+                if (this.streams[next] == null) {
+                    break;
+                }
+                final int home = hash(this.ids[next]);
+                // the entry in next can be moved to slot only if its home is not cyclically in ]slot, next]
+                final boolean stays = (slot <= next) ? (slot < home && home <= next) : (slot < home || home <= next);
+                if (!stays) {
+                    this.ids[slot] = this.ids[next];
+                    this.streams[slot] = this.streams[next];
+                    slot = next;
+                }
+            }
+            this.streams[slot] = null;
+            this.size--;
+        }
+    }
+}
@@ -1,12 +1,1306 @@
 package com.github.hermod.ser.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * <p>DirectBytes.</p>
  * 
+ * Unchecked little/big-endian access to short, int, long, float, double and var-length ints at arbitrary offsets in a byte[], a ByteBuffer
+ * (heap or direct, absolute index, position untouched) or a native address. The byte[] and ByteBuffer accesses use VarHandles views, so
+ * the JIT compiles them to single loads/stores, the native addresses use sun.misc.Unsafe when it is available. Unsafe is only named by
+ * reflection, its methods are MethodHandles bound at class init (constants the JIT inlines), so the code compiles without the proprietary
+ * API warnings.
+ * 
+ * The var-length ints are unsigned LEB128 (7 bits per byte, high bit set when another byte follows).
+ * 
  * @author anavarro - Jan 6, 2014
  * 
  */
 public final class DirectBytes {
 
-    // TODO use Use to acess to a byte[]
+    private static final VarHandle SHORT_LE_ARRAY   = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_BE_ARRAY   = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE_ARRAY     = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE_ARRAY     = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE_ARRAY    = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE_ARRAY    = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle FLOAT_LE_ARRAY   = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_BE_ARRAY   = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE_LE_ARRAY  = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE_ARRAY  = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final VarHandle SHORT_LE_BUFFER  = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_BE_BUFFER  = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE_BUFFER    = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE_BUFFER    = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE_BUFFER   = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE_BUFFER   = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle FLOAT_LE_BUFFER  = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_BE_BUFFER  = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE_LE_BUFFER = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE_BUFFER = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final boolean   NATIVE_LE        = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * MAX_VAR_INT_LENGTH, max length of a var-length int.
+     */
+    public static final int        MAX_VAR_INT_LENGTH  = 5;
+
+    /**
+     * MAX_VAR_LONG_LENGTH, max length of a var-length long.
+     */
+    public static final int        MAX_VAR_LONG_LENGTH = 10;
+
+    private static final int       VAR_BITS         = 7;
+    private static final int       VAR_MASK         = 0x7F;
+    private static final int       VAR_CONTINUE     = 0x80;
+    private static final long      VAR_STOPS        = 0x8080808080808080L;
+
+    private static final MethodHandle GET_BYTE;
+    private static final MethodHandle PUT_BYTE;
+    private static final MethodHandle GET_SHORT;
+    private static final MethodHandle PUT_SHORT;
+    private static final MethodHandle GET_INT;
+    private static final MethodHandle PUT_INT;
+    private static final MethodHandle GET_LONG;
+    private static final MethodHandle PUT_LONG;
+    private static final MethodHandle INVOKE_CLEANER;
+    private static final boolean      UNSAFE_AVAILABLE;
+
+    static {
+        final Object unsafe = loadUnsafe();
+        GET_BYTE = findUnsafeMethod(unsafe, "getByte", byte.class, long.class);
+        PUT_BYTE = findUnsafeMethod(unsafe, "putByte", void.class, long.class, byte.class);
+        GET_SHORT = findUnsafeMethod(unsafe, "getShort", short.class, long.class);
+        PUT_SHORT = findUnsafeMethod(unsafe, "putShort", void.class, long.class, short.class);
+        GET_INT = findUnsafeMethod(unsafe, "getInt", int.class, long.class);
+        PUT_INT = findUnsafeMethod(unsafe, "putInt", void.class, long.class, int.class);
+        GET_LONG = findUnsafeMethod(unsafe, "getLong", long.class, long.class);
+        PUT_LONG = findUnsafeMethod(unsafe, "putLong", void.class, long.class, long.class);
+        INVOKE_CLEANER = findUnsafeMethod(unsafe, "invokeCleaner", void.class, ByteBuffer.class);
+        UNSAFE_AVAILABLE = GET_BYTE != null && PUT_BYTE != null && GET_SHORT != null && PUT_SHORT != null && GET_INT != null && PUT_INT != null
+        && GET_LONG != null && PUT_LONG != null;
+    }
+
+    /**
+     * Constructor.
+     * 
+     */
+    private DirectBytes() {
+    }
+
+    /**
+     * loadUnsafe.
+     * 
+     * @return the sun.misc.Unsafe, null if not available
+     */
+    private static Object loadUnsafe() {
+        try {
+            final Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return field.get(null);
+        } catch (final Exception e) {
+            return null;
+        } catch (final LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * findUnsafeMethod.
+     * 
+     * @param aUnsafe
+     * @param aName
+     * @param aReturnType
+     * @param aParameterTypes
+     * @return the method of aUnsafe bound to it, null if not available
+     */
+    private static MethodHandle findUnsafeMethod(final Object aUnsafe, final String aName, final Class<?> aReturnType,
+    final Class<?>... aParameterTypes) {
+        if (aUnsafe == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().findVirtual(aUnsafe.getClass(), aName, MethodType.methodType(aReturnType, aParameterTypes))
+            .bindTo(aUnsafe);
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * unsafeError.
+     * 
+     * @param aThrowable thrown by an Unsafe MethodHandle
+     * @return aThrowable if it is a RuntimeException, wrapped otherwise
+     */
+    private static RuntimeException unsafeError(final Throwable aThrowable) {
+        if (aThrowable instanceof Error) {
+            throw (Error) aThrowable;
+        }
+        return (aThrowable instanceof RuntimeException) ? (RuntimeException) aThrowable : new IllegalStateException(aThrowable);
+    }
+
+    /**
+     * isUnsafeAvailable.
+     * 
+     * @return true if the native address methods can be used
+     */
+    public static boolean isUnsafeAvailable() {
+        return UNSAFE_AVAILABLE;
+    }
+
+    /**
+     * checkUnsafe.
+     * 
+     */
+    private static void checkUnsafe() {
+        if (!UNSAFE_AVAILABLE) {
+            throw new UnsupportedOperationException("Impossible to access to a native address, sun.misc.Unsafe is not available.");
+        }
+    }
+
+    /**
+     * free, releases now the native memory of a direct ByteBuffer allocated by {@link ByteBuffer#allocateDirect(int)}, instead of waiting for
+     * its collection. The buffer must not be used after. Does nothing for a heap buffer or when sun.misc.Unsafe is not available.
+     * 
+     * @param aBuffer
+     */
+    public static void free(final ByteBuffer aBuffer) {
+        if (INVOKE_CLEANER != null && aBuffer.isDirect()) {
+            try {
+                INVOKE_CLEANER.invokeExact(aBuffer);
+            } catch (final Throwable e) {
+                throw unsafeError(e);
+            }
+        }
+    }
+
+    // byte[]
+
+    /**
+     * getShortLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static short getShortLE(final byte[] aBytes, final int aOffset) {
+        return (short) SHORT_LE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * getShortBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static short getShortBE(final byte[] aBytes, final int aOffset) {
+        return (short) SHORT_BE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * putShortLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aShort
+     */
+    public static void putShortLE(final byte[] aBytes, final int aOffset, final short aShort) {
+        SHORT_LE_ARRAY.set(aBytes, aOffset, aShort);
+    }
+
+    /**
+     * putShortBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aShort
+     */
+    public static void putShortBE(final byte[] aBytes, final int aOffset, final short aShort) {
+        SHORT_BE_ARRAY.set(aBytes, aOffset, aShort);
+    }
+
+    /**
+     * getIntLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static int getIntLE(final byte[] aBytes, final int aOffset) {
+        return (int) INT_LE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * getIntBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static int getIntBE(final byte[] aBytes, final int aOffset) {
+        return (int) INT_BE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * putIntLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aInt
+     */
+    public static void putIntLE(final byte[] aBytes, final int aOffset, final int aInt) {
+        INT_LE_ARRAY.set(aBytes, aOffset, aInt);
+    }
+
+    /**
+     * putIntBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aInt
+     */
+    public static void putIntBE(final byte[] aBytes, final int aOffset, final int aInt) {
+        INT_BE_ARRAY.set(aBytes, aOffset, aInt);
+    }
+
+    /**
+     * getLongLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static long getLongLE(final byte[] aBytes, final int aOffset) {
+        return (long) LONG_LE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * getLongBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static long getLongBE(final byte[] aBytes, final int aOffset) {
+        return (long) LONG_BE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * putLongLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aLong
+     */
+    public static void putLongLE(final byte[] aBytes, final int aOffset, final long aLong) {
+        LONG_LE_ARRAY.set(aBytes, aOffset, aLong);
+    }
+
+    /**
+     * putLongBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aLong
+     */
+    public static void putLongBE(final byte[] aBytes, final int aOffset, final long aLong) {
+        LONG_BE_ARRAY.set(aBytes, aOffset, aLong);
+    }
+
+    /**
+     * getFloatLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static float getFloatLE(final byte[] aBytes, final int aOffset) {
+        return (float) FLOAT_LE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * getFloatBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static float getFloatBE(final byte[] aBytes, final int aOffset) {
+        return (float) FLOAT_BE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * putFloatLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aFloat
+     */
+    public static void putFloatLE(final byte[] aBytes, final int aOffset, final float aFloat) {
+        FLOAT_LE_ARRAY.set(aBytes, aOffset, aFloat);
+    }
+
+    /**
+     * putFloatBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aFloat
+     */
+    public static void putFloatBE(final byte[] aBytes, final int aOffset, final float aFloat) {
+        FLOAT_BE_ARRAY.set(aBytes, aOffset, aFloat);
+    }
+
+    /**
+     * getDoubleLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static double getDoubleLE(final byte[] aBytes, final int aOffset) {
+        return (double) DOUBLE_LE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * getDoubleBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    public static double getDoubleBE(final byte[] aBytes, final int aOffset) {
+        return (double) DOUBLE_BE_ARRAY.get(aBytes, aOffset);
+    }
+
+    /**
+     * putDoubleLE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aDouble
+     */
+    public static void putDoubleLE(final byte[] aBytes, final int aOffset, final double aDouble) {
+        DOUBLE_LE_ARRAY.set(aBytes, aOffset, aDouble);
+    }
+
+    /**
+     * putDoubleBE.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aDouble
+     */
+    public static void putDoubleBE(final byte[] aBytes, final int aOffset, final double aDouble) {
+        DOUBLE_BE_ARRAY.set(aBytes, aOffset, aDouble);
+    }
+
+    // ByteBuffer, absolute index
+
+    /**
+     * getShortLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static short getShortLE(final ByteBuffer aBuffer, final int aIndex) {
+        return (short) SHORT_LE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * getShortBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static short getShortBE(final ByteBuffer aBuffer, final int aIndex) {
+        return (short) SHORT_BE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * putShortLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aShort
+     */
+    public static void putShortLE(final ByteBuffer aBuffer, final int aIndex, final short aShort) {
+        SHORT_LE_BUFFER.set(aBuffer, aIndex, aShort);
+    }
+
+    /**
+     * putShortBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aShort
+     */
+    public static void putShortBE(final ByteBuffer aBuffer, final int aIndex, final short aShort) {
+        SHORT_BE_BUFFER.set(aBuffer, aIndex, aShort);
+    }
+
+    /**
+     * getIntLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static int getIntLE(final ByteBuffer aBuffer, final int aIndex) {
+        return (int) INT_LE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * getIntBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static int getIntBE(final ByteBuffer aBuffer, final int aIndex) {
+        return (int) INT_BE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * putIntLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aInt
+     */
+    public static void putIntLE(final ByteBuffer aBuffer, final int aIndex, final int aInt) {
+        INT_LE_BUFFER.set(aBuffer, aIndex, aInt);
+    }
+
+    /**
+     * putIntBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aInt
+     */
+    public static void putIntBE(final ByteBuffer aBuffer, final int aIndex, final int aInt) {
+        INT_BE_BUFFER.set(aBuffer, aIndex, aInt);
+    }
+
+    /**
+     * getLongLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static long getLongLE(final ByteBuffer aBuffer, final int aIndex) {
+        return (long) LONG_LE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * getLongBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static long getLongBE(final ByteBuffer aBuffer, final int aIndex) {
+        return (long) LONG_BE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * putLongLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aLong
+     */
+    public static void putLongLE(final ByteBuffer aBuffer, final int aIndex, final long aLong) {
+        LONG_LE_BUFFER.set(aBuffer, aIndex, aLong);
+    }
+
+    /**
+     * putLongLERelease, a putLongLE which is never visible before the stores which precede it.
+     * 
+     * @param aBuffer a direct buffer
+     * @param aIndex aligned on 8 bytes from the address of aBuffer
+     * @param aLong
+     */
+    public static void putLongLERelease(final ByteBuffer aBuffer, final int aIndex, final long aLong) {
+        LONG_LE_BUFFER.setRelease(aBuffer, aIndex, aLong);
+    }
+
+    /**
+     * putLongBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aLong
+     */
+    public static void putLongBE(final ByteBuffer aBuffer, final int aIndex, final long aLong) {
+        LONG_BE_BUFFER.set(aBuffer, aIndex, aLong);
+    }
+
+    /**
+     * getFloatLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static float getFloatLE(final ByteBuffer aBuffer, final int aIndex) {
+        return (float) FLOAT_LE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * getFloatBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static float getFloatBE(final ByteBuffer aBuffer, final int aIndex) {
+        return (float) FLOAT_BE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * putFloatLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aFloat
+     */
+    public static void putFloatLE(final ByteBuffer aBuffer, final int aIndex, final float aFloat) {
+        FLOAT_LE_BUFFER.set(aBuffer, aIndex, aFloat);
+    }
+
+    /**
+     * putFloatBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aFloat
+     */
+    public static void putFloatBE(final ByteBuffer aBuffer, final int aIndex, final float aFloat) {
+        FLOAT_BE_BUFFER.set(aBuffer, aIndex, aFloat);
+    }
+
+    /**
+     * getDoubleLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static double getDoubleLE(final ByteBuffer aBuffer, final int aIndex) {
+        return (double) DOUBLE_LE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * getDoubleBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    public static double getDoubleBE(final ByteBuffer aBuffer, final int aIndex) {
+        return (double) DOUBLE_BE_BUFFER.get(aBuffer, aIndex);
+    }
+
+    /**
+     * putDoubleLE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aDouble
+     */
+    public static void putDoubleLE(final ByteBuffer aBuffer, final int aIndex, final double aDouble) {
+        DOUBLE_LE_BUFFER.set(aBuffer, aIndex, aDouble);
+    }
+
+    /**
+     * putDoubleBE.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aDouble
+     */
+    public static void putDoubleBE(final ByteBuffer aBuffer, final int aIndex, final double aDouble) {
+        DOUBLE_BE_BUFFER.set(aBuffer, aIndex, aDouble);
+    }
+
+    // native address, Unsafe only
+
+    /**
+     * unsafeGetByte.
+     * 
+     * @param aAddress
+     * @return
+     */
+    private static byte unsafeGetByte(final long aAddress) {
+        try {
+            return (byte) GET_BYTE.invokeExact(aAddress);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * unsafePutByte.
+     * 
+     * @param aAddress
+     * @param aByte
+     */
+    private static void unsafePutByte(final long aAddress, final byte aByte) {
+        try {
+            PUT_BYTE.invokeExact(aAddress, aByte);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * unsafeGetShort.
+     * 
+     * @param aAddress
+     * @return in the native order
+     */
+    private static short unsafeGetShort(final long aAddress) {
+        try {
+            return (short) GET_SHORT.invokeExact(aAddress);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * unsafePutShort.
+     * 
+     * @param aAddress
+     * @param aShort in the native order
+     */
+    private static void unsafePutShort(final long aAddress, final short aShort) {
+        try {
+            PUT_SHORT.invokeExact(aAddress, aShort);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * unsafeGetInt.
+     * 
+     * @param aAddress
+     * @return in the native order
+     */
+    private static int unsafeGetInt(final long aAddress) {
+        try {
+            return (int) GET_INT.invokeExact(aAddress);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * unsafePutInt.
+     * 
+     * @param aAddress
+     * @param aInt in the native order
+     */
+    private static void unsafePutInt(final long aAddress, final int aInt) {
+        try {
+            PUT_INT.invokeExact(aAddress, aInt);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * unsafeGetLong.
+     * 
+     * @param aAddress
+     * @return in the native order
+     */
+    private static long unsafeGetLong(final long aAddress) {
+        try {
+            return (long) GET_LONG.invokeExact(aAddress);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * unsafePutLong.
+     * 
+     * @param aAddress
+     * @param aLong in the native order
+     */
+    private static void unsafePutLong(final long aAddress, final long aLong) {
+        try {
+            PUT_LONG.invokeExact(aAddress, aLong);
+        } catch (final Throwable e) {
+            throw unsafeError(e);
+        }
+    }
+
+    /**
+     * getByte.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static byte getByte(final long aAddress) {
+        checkUnsafe();
+        return unsafeGetByte(aAddress);
+    }
+
+    /**
+     * putByte.
+     * 
+     * @param aAddress
+     * @param aByte
+     */
+    public static void putByte(final long aAddress, final byte aByte) {
+        checkUnsafe();
+        unsafePutByte(aAddress, aByte);
+    }
+
+    /**
+     * getShortLE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static short getShortLE(final long aAddress) {
+        checkUnsafe();
+        final short value = unsafeGetShort(aAddress);
+        return NATIVE_LE ? value : Short.reverseBytes(value);
+    }
+
+    /**
+     * getShortBE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static short getShortBE(final long aAddress) {
+        checkUnsafe();
+        final short value = unsafeGetShort(aAddress);
+        return NATIVE_LE ? Short.reverseBytes(value) : value;
+    }
+
+    /**
+     * putShortLE.
+     * 
+     * @param aAddress
+     * @param aShort
+     */
+    public static void putShortLE(final long aAddress, final short aShort) {
+        checkUnsafe();
+        unsafePutShort(aAddress, NATIVE_LE ? aShort : Short.reverseBytes(aShort));
+    }
+
+    /**
+     * putShortBE.
+     * 
+     * @param aAddress
+     * @param aShort
+     */
+    public static void putShortBE(final long aAddress, final short aShort) {
+        checkUnsafe();
+        unsafePutShort(aAddress, NATIVE_LE ? Short.reverseBytes(aShort) : aShort);
+    }
+
+    /**
+     * getIntLE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static int getIntLE(final long aAddress) {
+        checkUnsafe();
+        final int value = unsafeGetInt(aAddress);
+        return NATIVE_LE ? value : Integer.reverseBytes(value);
+    }
+
+    /**
+     * getIntBE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static int getIntBE(final long aAddress) {
+        checkUnsafe();
+        final int value = unsafeGetInt(aAddress);
+        return NATIVE_LE ? Integer.reverseBytes(value) : value;
+    }
+
+    /**
+     * putIntLE.
+     * 
+     * @param aAddress
+     * @param aInt
+     */
+    public static void putIntLE(final long aAddress, final int aInt) {
+        checkUnsafe();
+        unsafePutInt(aAddress, NATIVE_LE ? aInt : Integer.reverseBytes(aInt));
+    }
+
+    /**
+     * putIntBE.
+     * 
+     * @param aAddress
+     * @param aInt
+     */
+    public static void putIntBE(final long aAddress, final int aInt) {
+        checkUnsafe();
+        unsafePutInt(aAddress, NATIVE_LE ? Integer.reverseBytes(aInt) : aInt);
+    }
+
+    /**
+     * getLongLE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static long getLongLE(final long aAddress) {
+        checkUnsafe();
+        final long value = unsafeGetLong(aAddress);
+        return NATIVE_LE ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * getLongBE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static long getLongBE(final long aAddress) {
+        checkUnsafe();
+        final long value = unsafeGetLong(aAddress);
+        return NATIVE_LE ? Long.reverseBytes(value) : value;
+    }
+
+    /**
+     * putLongLE.
+     * 
+     * @param aAddress
+     * @param aLong
+     */
+    public static void putLongLE(final long aAddress, final long aLong) {
+        checkUnsafe();
+        unsafePutLong(aAddress, NATIVE_LE ? aLong : Long.reverseBytes(aLong));
+    }
+
+    /**
+     * putLongBE.
+     * 
+     * @param aAddress
+     * @param aLong
+     */
+    public static void putLongBE(final long aAddress, final long aLong) {
+        checkUnsafe();
+        unsafePutLong(aAddress, NATIVE_LE ? Long.reverseBytes(aLong) : aLong);
+    }
+
+    /**
+     * getFloatLE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static float getFloatLE(final long aAddress) {
+        return Float.intBitsToFloat(getIntLE(aAddress));
+    }
+
+    /**
+     * getFloatBE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static float getFloatBE(final long aAddress) {
+        return Float.intBitsToFloat(getIntBE(aAddress));
+    }
+
+    /**
+     * putFloatLE.
+     * 
+     * @param aAddress
+     * @param aFloat
+     */
+    public static void putFloatLE(final long aAddress, final float aFloat) {
+        putIntLE(aAddress, Float.floatToRawIntBits(aFloat));
+    }
+
+    /**
+     * putFloatBE.
+     * 
+     * @param aAddress
+     * @param aFloat
+     */
+    public static void putFloatBE(final long aAddress, final float aFloat) {
+        putIntBE(aAddress, Float.floatToRawIntBits(aFloat));
+    }
+
+    /**
+     * getDoubleLE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static double getDoubleLE(final long aAddress) {
+        return Double.longBitsToDouble(getLongLE(aAddress));
+    }
+
+    /**
+     * getDoubleBE.
+     * 
+     * @param aAddress
+     * @return
+     */
+    public static double getDoubleBE(final long aAddress) {
+        return Double.longBitsToDouble(getLongBE(aAddress));
+    }
+
+    /**
+     * putDoubleLE.
+     * 
+     * @param aAddress
+     * @param aDouble
+     */
+    public static void putDoubleLE(final long aAddress, final double aDouble) {
+        putLongLE(aAddress, Double.doubleToRawLongBits(aDouble));
+    }
+
+    /**
+     * putDoubleBE.
+     * 
+     * @param aAddress
+     * @param aDouble
+     */
+    public static void putDoubleBE(final long aAddress, final double aDouble) {
+        putLongBE(aAddress, Double.doubleToRawLongBits(aDouble));
+    }
+
+    // var-length ints
+
+    /**
+     * varIntLength.
+     * 
+     * @param aInt
+     * @return the number of bytes used to write aInt as a var-length int
+     */
+    public static int varIntLength(final int aInt) {
+        // 1 byte per 7 significant bits, at least 1 byte
+        return ((Integer.SIZE - Integer.numberOfLeadingZeros(aInt | 1)) + VAR_BITS - 1) / VAR_BITS;
+    }
+
+    /**
+     * varLongLength.
+     * 
+     * @param aLong
+     * @return the number of bytes used to write aLong as a var-length long
+     */
+    public static int varLongLength(final long aLong) {
+        return ((Long.SIZE - Long.numberOfLeadingZeros(aLong | 1)) + VAR_BITS - 1) / VAR_BITS;
+    }
+
+    /**
+     * putVarInt.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aInt
+     * @return the offset after the written bytes
+     */
+    public static int putVarInt(final byte[] aBytes, final int aOffset, final int aInt) {
+        int offset = aOffset;
+        int value = aInt;
+        while ((value & ~VAR_MASK) != 0) {
+            aBytes[offset++] = (byte) ((value & VAR_MASK) | VAR_CONTINUE);
+            value >>>= VAR_BITS;
+        }
+        aBytes[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * getVarInt.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return the var-length int at aOffset, its length is {@link #varIntLength(int)}
+     */
+    public static int getVarInt(final byte[] aBytes, final int aOffset) {
+        final byte first = aBytes[aOffset];
+        if (first >= 0) {
+            return first;
+        } else if (aBytes.length - aOffset >= Long.BYTES) {
+            final long word = getLongLE(aBytes, aOffset);
+            final long stops = ~word & VAR_STOPS;
+            // the last byte of a var-length int is one of the 5 first bytes
+            if ((stops & 0xFFFFFFFFFFL) != 0) {
+                return (int) packVarBytes(word, stops);
+            }
+        }
+        int offset = aOffset;
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = aBytes[offset++];
+            value |= (b & VAR_MASK) << shift;
+            shift += VAR_BITS;
+        } while (b < 0 && shift < Integer.SIZE);
+        return value;
+    }
+
+    /**
+     * putVarLong.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aLong
+     * @return the offset after the written bytes
+     */
+    public static int putVarLong(final byte[] aBytes, final int aOffset, final long aLong) {
+        int offset = aOffset;
+        long value = aLong;
+        while ((value & ~VAR_MASK) != 0) {
+            aBytes[offset++] = (byte) ((value & VAR_MASK) | VAR_CONTINUE);
+            value >>>= VAR_BITS;
+        }
+        aBytes[offset++] = (byte) value;
+        return offset;
+    }
+
+    /**
+     * getVarLong.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return the var-length long at aOffset, its length is {@link #varLongLength(long)}
+     */
+    public static long getVarLong(final byte[] aBytes, final int aOffset) {
+        final byte first = aBytes[aOffset];
+        if (first >= 0) {
+            return first;
+        } else if (aBytes.length - aOffset >= Long.BYTES) {
+            final long word = getLongLE(aBytes, aOffset);
+            final long stops = ~word & VAR_STOPS;
+            if (stops != 0) {
+                return packVarBytes(word, stops);
+            }
+        }
+        int offset = aOffset;
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = aBytes[offset++];
+            value |= (long) (b & VAR_MASK) << shift;
+            shift += VAR_BITS;
+        } while (b < 0 && shift < Long.SIZE);
+        return value;
+    }
+
+    /**
+     * packVarBytes, decodes without branch a var-length value of at most 8 bytes read as a little-endian long.
+     * 
+     * @param aWord the 8 bytes from the first byte of the value
+     * @param aStops the bytes of aWord without continuation bit (~aWord & VAR_STOPS), not 0
+     * @return the value
+     */
+    private static long packVarBytes(final long aWord, final long aStops) {
+        // keeps the bytes until the first one without continuation bit, then packs their 7 bits groups
+        final int bits = Long.numberOfTrailingZeros(aStops) + 1;
+        final long x = aWord & (-1L >>> (Long.SIZE - bits));
+        return (x & 0x7FL) | ((x & 0x7F00L) >>> 1) | ((x & 0x7F0000L) >>> 2) | ((x & 0x7F000000L) >>> 3) | ((x & 0x7F00000000L) >>> 4)
+        | ((x & 0x7F0000000000L) >>> 5) | ((x & 0x7F000000000000L) >>> 6) | ((x & 0x7F00000000000000L) >>> 7);
+    }
+
+    /**
+     * getVarLength.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return the length of the var-length int or long at aOffset
+     */
+    public static int getVarLength(final byte[] aBytes, final int aOffset) {
+        if (aBytes[aOffset] >= 0) {
+            return 1;
+        } else if (aBytes.length - aOffset >= Long.BYTES) {
+            final long stops = ~getLongLE(aBytes, aOffset) & VAR_STOPS;
+            if (stops != 0) {
+                return (Long.numberOfTrailingZeros(stops) >>> 3) + 1;
+            }
+        }
+        int offset = aOffset;
+        while (aBytes[offset++] < 0 && offset - aOffset < MAX_VAR_LONG_LENGTH) {
+            // skips the continuation bytes
+        }
+        return offset - aOffset;
+    }
+
+    /**
+     * getVarLength.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return the length of the var-length int or long at aIndex
+     */
+    public static int getVarLength(final ByteBuffer aBuffer, final int aIndex) {
+        int index = aIndex;
+        while (aBuffer.get(index++) < 0 && index - aIndex < MAX_VAR_LONG_LENGTH) {
+            // skips the continuation bytes
+        }
+        return index - aIndex;
+    }
+
+    /**
+     * encodeZigZag.
+     * 
+     * @param aLong
+     * @return aLong with its sign in its lowest bit, a small negative long is a small var-length long
+     */
+    public static long encodeZigZag(final long aLong) {
+        return (aLong << 1) ^ (aLong >> (Long.SIZE - 1));
+    }
+
+    /**
+     * decodeZigZag.
+     * 
+     * @param aZigZag
+     * @return the long encoded by {@link #encodeZigZag(long)}
+     */
+    public static long decodeZigZag(final long aZigZag) {
+        return (aZigZag >>> 1) ^ -(aZigZag & 1);
+    }
+
+    /**
+     * putVarInt.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aInt
+     * @return the index after the written bytes
+     */
+    public static int putVarInt(final ByteBuffer aBuffer, final int aIndex, final int aInt) {
+        int index = aIndex;
+        int value = aInt;
+        while ((value & ~VAR_MASK) != 0) {
+            aBuffer.put(index++, (byte) ((value & VAR_MASK) | VAR_CONTINUE));
+            value >>>= VAR_BITS;
+        }
+        aBuffer.put(index++, (byte) value);
+        return index;
+    }
+
+    /**
+     * getVarInt.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return the var-length int at aIndex, its length is {@link #varIntLength(int)}
+     */
+    public static int getVarInt(final ByteBuffer aBuffer, final int aIndex) {
+        int index = aIndex;
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = aBuffer.get(index++);
+            value |= (b & VAR_MASK) << shift;
+            shift += VAR_BITS;
+        } while (b < 0 && shift < Integer.SIZE);
+        return value;
+    }
+
+    /**
+     * putVarLong.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aLong
+     * @return the index after the written bytes
+     */
+    public static int putVarLong(final ByteBuffer aBuffer, final int aIndex, final long aLong) {
+        int index = aIndex;
+        long value = aLong;
+        while ((value & ~VAR_MASK) != 0) {
+            aBuffer.put(index++, (byte) ((value & VAR_MASK) | VAR_CONTINUE));
+            value >>>= VAR_BITS;
+        }
+        aBuffer.put(index++, (byte) value);
+        return index;
+    }
+
+    /**
+     * getVarLong.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return the var-length long at aIndex, its length is {@link #varLongLength(long)}
+     */
+    public static long getVarLong(final ByteBuffer aBuffer, final int aIndex) {
+        int index = aIndex;
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = aBuffer.get(index++);
+            value |= (long) (b & VAR_MASK) << shift;
+            shift += VAR_BITS;
+        } while (b < 0 && shift < Long.SIZE);
+        return value;
+    }
+
+    /**
+     * putVarInt.
+     * 
+     * @param aAddress
+     * @param aInt
+     * @return the address after the written bytes
+     */
+    public static long putVarInt(final long aAddress, final int aInt) {
+        checkUnsafe();
+        long address = aAddress;
+        int value = aInt;
+        while ((value & ~VAR_MASK) != 0) {
+            unsafePutByte(address++, (byte) ((value & VAR_MASK) | VAR_CONTINUE));
+            value >>>= VAR_BITS;
+        }
+        unsafePutByte(address++, (byte) value);
+        return address;
+    }
+
+    /**
+     * getVarInt.
+     * 
+     * @param aAddress
+     * @return the var-length int at aAddress, its length is {@link #varIntLength(int)}
+     */
+    public static int getVarInt(final long aAddress) {
+        checkUnsafe();
+        long address = aAddress;
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = unsafeGetByte(address++);
+            value |= (b & VAR_MASK) << shift;
+            shift += VAR_BITS;
+        } while (b < 0 && shift < Integer.SIZE);
+        return value;
+    }
 }
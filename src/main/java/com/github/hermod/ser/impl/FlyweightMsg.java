@@ -0,0 +1,618 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.Types.BYTE_TYPE;
+import static com.github.hermod.ser.Types.DOUBLE_TYPE;
+import static com.github.hermod.ser.Types.FLOAT_TYPE;
+import static com.github.hermod.ser.Types.INT_TYPE;
+import static com.github.hermod.ser.Types.LONG_TYPE;
+import static com.github.hermod.ser.Types.NULL_TYPE;
+import static com.github.hermod.ser.Types.SHORT_TYPE;
+import static com.github.hermod.ser.impl.Msgs.DEFAULT_MAX_KEY;
+import static com.github.hermod.ser.impl.Msgs.ERROR_WHEN_KEY_NOT_PRESENT;
+import static com.github.hermod.ser.impl.Msgs.NO_TYPE;
+import static com.github.hermod.ser.impl.Msgs.ONE;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Serializable;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>FlyweightMsg. </p>
+ * 
+ * Read-only Msg view over fields encoded by {@link MsgCodec} in a byte[] or a ByteBuffer, nothing is decoded up front. The first access builds
+ * a key -> offset index of the fields, then each getter decodes only the field asked. The scalar getters do not allocate.
+ * 
+ * The view is re-pointable with {@link #wrap(byte[], int, int)} or {@link #wrap(ByteBuffer, int, int)}, one instance can be reused (per
+ * thread, it is not thread-safe). The wrapped bytes are not copied, they must not change while they are viewed.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class FlyweightMsg extends AbstractMsg implements Serializable, BytesSerializable, ByteBufferSerializable {
+
+    private static final String ERROR_READ_ONLY = "Impossible to modify a FlyweightMsg, it is a read-only view.";
+
+    private byte[]              bytes;
+    private ByteBuffer          buffer;
+    private int                 offset;
+    private int                 length;
+
+    // index, built on first access
+    private boolean             indexed;
+    private byte[]              types;
+    private int[]               valueOffsets;
+    private int[]               keys;
+    private int                 keysLength;
+    private boolean             keysSorted;
+
+    /**
+     * Constructor.
+     * 
+     * @param aKeyMax
+     */
+    private FlyweightMsg(final int aKeyMax) {
+        this.types = new byte[aKeyMax + 1];
+        this.valueOffsets = new int[aKeyMax + 1];
+        this.keys = new int[aKeyMax + 1];
+        Arrays.fill(this.types, NO_TYPE);
+        this.indexed = true;
+        this.keysSorted = true;
+    }
+
+    /**
+     * create.
+     * 
+     * @return an empty view
+     */
+    public static FlyweightMsg create() {
+        return new FlyweightMsg(DEFAULT_MAX_KEY);
+    }
+
+    /**
+     * createWithKeyMax.
+     * 
+     * @param keyMax
+     * @return an empty view, with an index pre-sized for keyMax
+     */
+    public static FlyweightMsg createWithKeyMax(final int keyMax) {
+        return new FlyweightMsg(keyMax);
+    }
+
+    /**
+     * wrap.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aLength
+     * @return this
+     */
+    public final FlyweightMsg wrap(final byte[] aBytes, final int aOffset, final int aLength) {
+        clearIndex();
+        this.bytes = aBytes;
+        this.buffer = null;
+        this.offset = aOffset;
+        this.length = aLength;
+        this.indexed = false;
+        return this;
+    }
+
+    /**
+     * wrap.
+     * 
+     * @param aBuffer a heap or direct buffer, its position and limit are not used
+     * @param aOffset the absolute index of the fields
+     * @param aLength
+     * @return this
+     */
+    public final FlyweightMsg wrap(final ByteBuffer aBuffer, final int aOffset, final int aLength) {
+        if (aBuffer.hasArray()) {
+            return wrap(aBuffer.array(), aBuffer.arrayOffset() + aOffset, aLength);
+        }
+        clearIndex();
+        this.bytes = null;
+        this.buffer = aBuffer;
+        this.offset = aOffset;
+        this.length = aLength;
+        this.indexed = false;
+        return this;
+    }
+
+    /**
+     * clearIndex, resets only the keys of the previous fields.
+     * 
+     */
+    private void clearIndex() {
+        for (int i = 0; i < this.keysLength; i++) {
+            this.types[this.keys[i]] = NO_TYPE;
+        }
+        this.keysLength = 0;
+        this.keysSorted = true;
+    }
+
+    /**
+     * index, scans the fields once to record the offset and the type of each key, then sorts the keys if they were not written in
+     * ascending order.
+     * 
+     */
+    private void index() {
+        final MsgCodec codec = MsgCodec.DEFAULT;
+        final int end = this.offset + this.length;
+        int index = this.offset;
+        while (index < end) {
+            final int key = (this.bytes != null) ? codec.readCompact(this.bytes, index) : codec.readCompact(this.buffer, index);
+            index += codec.compactLength(key);
+            final byte type = (this.bytes != null) ? this.bytes[index] : this.buffer.get(index);
+            index += ONE;
+            addToIndex(key, type, index);
+            index = (this.bytes != null) ? codec.skipValue(this.bytes, index, type) : codec.skipValue(this.buffer, index, type);
+        }
+        if (!this.keysSorted) {
+            Arrays.sort(this.keys, 0, this.keysLength);
+            this.keysSorted = true;
+        }
+        this.indexed = true;
+    }
+
+    /**
+     * addToIndex.
+     * 
+     * @param aKey
+     * @param aType
+     * @param aValueOffset
+     */
+    private void addToIndex(final int aKey, final byte aType, final int aValueOffset) {
+        if (aKey >= this.types.length) {
+            final int nextPow2 = Msgs.calculateNextPowerOf2(aKey + 1);
+            final int oldLength = this.types.length;
+            this.types = Arrays.copyOf(this.types, nextPow2);
+            this.valueOffsets = Arrays.copyOf(this.valueOffsets, nextPow2);
+            Arrays.fill(this.types, oldLength, nextPow2, NO_TYPE);
+        }
+        if (this.types[aKey] == NO_TYPE) {
+            if (this.keysLength == this.keys.length) {
+                this.keys = Arrays.copyOf(this.keys, this.keysLength * 2);
+            }
+            if (this.keysLength > 0 && this.keys[this.keysLength - 1] > aKey) {
+                this.keysSorted = false;
+            }
+            this.keys[this.keysLength++] = aKey;
+        }
+        this.types[aKey] = aType;
+        this.valueOffsets[aKey] = aValueOffset;
+    }
+
+    /**
+     * typeOf.
+     * 
+     * @param aKey
+     * @return the type of aKey, NO_TYPE if absent
+     */
+    private byte typeOf(final int aKey) {
+        if (!this.indexed) {
+            index();
+        }
+        return (aKey >= 0 && aKey < this.types.length) ? this.types[aKey] : NO_TYPE;
+    }
+
+    /**
+     * readByte.
+     * 
+     * @param aKey
+     * @return
+     */
+    private byte readByte(final int aKey) {
+        final int valueOffset = this.valueOffsets[aKey];
+        return (this.bytes != null) ? this.bytes[valueOffset] : this.buffer.get(valueOffset);
+    }
+
+    /**
+     * readInteger.
+     * 
+     * @param aKey
+     * @param aType BYTE_TYPE, SHORT_TYPE, INT_TYPE or LONG_TYPE
+     * @return
+     */
+    private long readInteger(final int aKey, final byte aType) {
+        final int valueOffset = this.valueOffsets[aKey];
+        if (this.bytes != null) {
+            switch (aType) {
+                case BYTE_TYPE:
+                    return this.bytes[valueOffset];
+                case SHORT_TYPE:
+                    return DirectBytes.getShortLE(this.bytes, valueOffset);
+                case INT_TYPE:
+                    return DirectBytes.getIntLE(this.bytes, valueOffset);
+                default:
+                    return DirectBytes.getLongLE(this.bytes, valueOffset);
+            }
+        }
+        switch (aType) {
+            case BYTE_TYPE:
+                return this.buffer.get(valueOffset);
+            case SHORT_TYPE:
+                return DirectBytes.getShortLE(this.buffer, valueOffset);
+            case INT_TYPE:
+                return DirectBytes.getIntLE(this.buffer, valueOffset);
+            default:
+                return DirectBytes.getLongLE(this.buffer, valueOffset);
+        }
+    }
+
+    /**
+     * readFloat.
+     * 
+     * @param aKey
+     * @return
+     */
+    private float readFloat(final int aKey) {
+        final int valueOffset = this.valueOffsets[aKey];
+        return (this.bytes != null) ? DirectBytes.getFloatLE(this.bytes, valueOffset) : DirectBytes.getFloatLE(this.buffer, valueOffset);
+    }
+
+    /**
+     * readDouble.
+     * 
+     * @param aKey
+     * @return
+     */
+    private double readDouble(final int aKey) {
+        final int valueOffset = this.valueOffsets[aKey];
+        return (this.bytes != null) ? DirectBytes.getDoubleLE(this.bytes, valueOffset) : DirectBytes.getDoubleLE(this.buffer, valueOffset);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getValue(int)
+     */
+    @Override
+    protected final Object getValue(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == NO_TYPE) {
+            return null;
+        }
+        final int valueOffset = this.valueOffsets[aKey];
+        return (this.bytes != null) ? MsgCodec.DEFAULT.readValue(this.bytes, valueOffset, type) : MsgCodec.DEFAULT.readValue(this.buffer,
+        valueOffset, type);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)
+     */
+    @Override
+    protected final void setValue(final int aKey, final Object aValue) {
+        throw new UnsupportedOperationException(ERROR_READ_ONLY);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#removeValue(int)
+     */
+    @Override
+    protected final void removeValue(final int aKey) {
+        throw new UnsupportedOperationException(ERROR_READ_ONLY);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#removeAll()
+     */
+    @Override
+    public final void removeAll() {
+        throw new UnsupportedOperationException(ERROR_READ_ONLY);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isEmpty()
+     */
+    @Override
+    public final boolean isEmpty() {
+        return getKeysLength() == 0;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysArray()
+     */
+    @Override
+    public final int[] getKeysArray() {
+        if (!this.indexed) {
+            index();
+        }
+        return Arrays.copyOf(this.keys, this.keysLength);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysLength()
+     */
+    @Override
+    public final int getKeysLength() {
+        if (!this.indexed) {
+            index();
+        }
+        return this.keysLength;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#nextKey(int)
+     */
+    @Override
+    public final int nextKey(final int aFromKey) {
+        if (!this.indexed) {
+            index();
+        }
+        final int index = Arrays.binarySearch(this.keys, 0, this.keysLength, aFromKey);
+        if (index >= 0) {
+            return this.keys[index];
+        }
+        return (-index - 1 < this.keysLength) ? this.keys[-index - 1] : -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeyMax()
+     */
+    @Override
+    public final int getKeyMax() {
+        if (!this.indexed) {
+            index();
+        }
+        return (this.keysLength != 0) ? this.keys[this.keysLength - 1] : -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#contains(int)
+     */
+    @Override
+    public final boolean contains(final int aKey) {
+        return typeOf(aKey) != NO_TYPE;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getType(int)
+     */
+    @Override
+    public final Type getType(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == NO_TYPE) {
+            return Type.NULL;
+        }
+        return (type == NULL_TYPE) ? ((Null) getValue(aKey)).getType() : Msgs.getType(type);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getTypeAsByte(int)
+     */
+    @Override
+    public final byte getTypeAsByte(final int aKey) {
+        final byte type = typeOf(aKey);
+        return (type == NO_TYPE) ? NULL_TYPE : type;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsBoolean(int)
+     */
+    @Override
+    public final boolean getAsBoolean(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return readByte(aKey) != 0;
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableBoolean(int)
+     */
+    @Override
+    public final Boolean getAsNullableBoolean(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return (readByte(aKey) != 0) ? Boolean.TRUE : Boolean.FALSE;
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsByte(int)
+     */
+    @Override
+    public final byte getAsByte(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return readByte(aKey);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsShort(int)
+     */
+    @Override
+    public final short getAsShort(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE) {
+            return (short) readInteger(aKey, type);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsInt(int)
+     */
+    @Override
+    public final int getAsInt(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE) {
+            return (int) readInteger(aKey, type);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsLong(int)
+     */
+    @Override
+    public final long getAsLong(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE || type == LONG_TYPE) {
+            return readInteger(aKey, type);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsFloat(int)
+     */
+    @Override
+    public final float getAsFloat(final int aKey) {
+        if (typeOf(aKey) == FLOAT_TYPE) {
+            return readFloat(aKey);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsDouble(int)
+     */
+    @Override
+    public final double getAsDouble(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == DOUBLE_TYPE) {
+            return readDouble(aKey);
+        }
+        if (type == FLOAT_TYPE) {
+            return readFloat(aKey);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Serializable#getLength()
+     */
+    @Override
+    public final int getLength() {
+        return this.length;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes()
+     */
+    @Override
+    public final byte[] serializeToBytes() {
+        final byte[] destBytes = new byte[this.length];
+        serializeToBytes(destBytes, 0);
+        return destBytes;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)
+     */
+    @Override
+    public final int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {
+        if (aDestOffset < 0 || aDestBytes.length - aDestOffset < this.length) {
+            throw new IllegalArgumentException("Impossible to serialize " + this.length + " bytes into a byte[] of " + aDestBytes.length
+            + " bytes from offset=" + aDestOffset + ".");
+        }
+        if (this.bytes != null) {
+            System.arraycopy(this.bytes, this.offset, aDestBytes, aDestOffset, this.length);
+        } else {
+            this.buffer.get(this.offset, aDestBytes, aDestOffset, this.length);
+        }
+        return this.length;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Wraps aSrcBytes, without copy.
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)
+     */
+    @Override
+    public final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        wrap(aSrcBytes, aSrcOffset, aSrcLength);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer()
+     */
+    @Override
+    public final ByteBuffer serializeToByteBuffer() {
+        return ByteBuffer.wrap(serializeToBytes());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void serializeToByteBuffer(final ByteBuffer aDestByteBuffer) {
+        if (this.bytes != null) {
+            aDestByteBuffer.put(this.bytes, this.offset, this.length);
+        } else {
+            final ByteBuffer src = this.buffer.duplicate();
+            src.limit(this.offset + this.length).position(this.offset);
+            aDestByteBuffer.put(src);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Wraps aSrcByteBuffer from its position to its limit, without copy, and moves its position to its limit.
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#deserializeFromByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer) {
+        wrap(aSrcByteBuffer, aSrcByteBuffer.position(), aSrcByteBuffer.remaining());
+        aSrcByteBuffer.position(aSrcByteBuffer.limit());
+    }
+}
@@ -0,0 +1,341 @@
+package com.github.hermod.ser.impl;
+
+import java.nio.ByteBuffer;
+
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Serializable;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>ImmutableMsg. </p>
+ * 
+ * Frozen snapshot of a Msg, see {@link IndexedObjectsMsg#freeze()}. The fields are deep copied once (the nested Msgs are frozen too, the arrays
+ * are copied), then nothing can modify them : an ImmutableMsg can be shared between threads without lock or defensive copy, it is published
+ * safely through its final fields.
+ * 
+ * Its hash code is computed once, its serialized bytes are encoded on the first serialization and then only copied.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class ImmutableMsg extends AbstractMsg implements Serializable, BytesSerializable, ByteBufferSerializable {
+
+    private static final String     ERROR_IMMUTABLE = "Impossible to modify an ImmutableMsg, copy it with IndexedObjectsMsg.createFromMsg().";
+
+    private final IndexedObjectsMsg msg;
+    private final int               hashCode;
+    private volatile byte[]         bytes;
+
+    /**
+     * Constructor.
+     * 
+     * @param aMsg
+     */
+    private ImmutableMsg(final Msg aMsg) {
+        this.msg = IndexedObjectsMsg.createWithKeyMax(Math.max(aMsg.getKeyMax(), 0));
+        for (int key = Msgs.nextKey(aMsg, 0); key != -1; key = Msgs.nextKey(aMsg, key + 1)) {
+            this.msg.set(key, freezeValue(Msgs.getStoredValue(aMsg, key)));
+        }
+        this.hashCode = Msgs.hashCode(this);
+    }
+
+    /**
+     * createFromMsg.
+     * 
+     * @param aMsg
+     * @return aMsg if it is already an ImmutableMsg, a frozen copy otherwise
+     */
+    public static ImmutableMsg createFromMsg(final Msg aMsg) {
+        if (aMsg instanceof ImmutableMsg) {
+            return (ImmutableMsg) aMsg;
+        }
+        return new ImmutableMsg((aMsg != null) ? aMsg : IndexedObjectsMsg.createWithKeyMax(0));
+    }
+
+    /**
+     * createFromValues.
+     * 
+     * @param values
+     * @return
+     */
+    public static ImmutableMsg createFromValues(final Object... values) {
+        return new ImmutableMsg(IndexedObjectsMsg.createFromValues(values));
+    }
+
+    /**
+     * freezeValue.
+     * 
+     * @param aValue
+     * @return aValue with its nested Msgs frozen and its arrays copied
+     */
+    private static Object freezeValue(final Object aValue) {
+        if (aValue instanceof Msg) {
+            return createFromMsg((Msg) aValue);
+        } else if (aValue instanceof Object[]) {
+            final Object[] objects = ((Object[]) aValue).clone();
+            for (int i = 0; i < objects.length; i++) {
+                objects[i] = freezeValue(objects[i]);
+            }
+            return objects;
+        }
+        final Object array = Msgs.copyArray(aValue);
+        return (array != null) ? array : aValue;
+    }
+
+    /**
+     * bytes.
+     * 
+     * @return the serialized fields, encoded once
+     */
+    private byte[] bytes() {
+        byte[] encodedBytes = this.bytes;
+        if (encodedBytes == null) {
+            encodedBytes = MsgCodec.DEFAULT.serializeToBytes(this);
+            this.bytes = encodedBytes;
+        }
+        return encodedBytes;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getValue(int)
+     */
+    @Override
+    protected Object getValue(final int aKey) {
+        return this.msg.getValue(aKey);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * The frozen array is not lent, a copy is returned, its Msgs being frozen they are shared.
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getAsBorrowedMsgs(int)
+     */
+    @Override
+    public Msg[] getAsBorrowedMsgs(final int aKey) {
+        final Msg[] msgs = super.getAsBorrowedMsgs(aKey);
+        return (msgs != null) ? msgs.clone() : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)
+     */
+    @Override
+    protected void setValue(final int aKey, final Object aValue) {
+        throw new UnsupportedOperationException(ERROR_IMMUTABLE);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#removeValue(int)
+     */
+    @Override
+    protected void removeValue(final int aKey) {
+        throw new UnsupportedOperationException(ERROR_IMMUTABLE);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * The nested Msgs are already frozen, they are returned without copy.
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#copyMsg(com.github.hermod.ser.Msg)
+     */
+    @Override
+    protected Msg copyMsg(final Msg aMsg) {
+        return createFromMsg(aMsg);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#removeAll()
+     */
+    @Override
+    public void removeAll() {
+        throw new UnsupportedOperationException(ERROR_IMMUTABLE);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isEmpty()
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.msg.isEmpty();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#contains(int)
+     */
+    @Override
+    public boolean contains(final int aKey) {
+        return this.msg.contains(aKey);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getType(int)
+     */
+    @Override
+    public Type getType(final int aKey) {
+        return this.msg.getType(aKey);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getTypeAsByte(int)
+     */
+    @Override
+    public byte getTypeAsByte(final int aKey) {
+        return this.msg.getTypeAsByte(aKey);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysArray()
+     */
+    @Override
+    public int[] getKeysArray() {
+        return this.msg.getKeysArray();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysLength()
+     */
+    @Override
+    public int getKeysLength() {
+        return this.msg.getKeysLength();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeyMax()
+     */
+    @Override
+    public int getKeyMax() {
+        return this.msg.getKeyMax();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#nextKey(int)
+     */
+    @Override
+    public int nextKey(final int aFromKey) {
+        return this.msg.nextKey(aFromKey);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#accept(com.github.hermod.ser.impl.MsgVisitor)
+     */
+    @Override
+    public void accept(final MsgVisitor aVisitor) {
+        this.msg.accept(aVisitor);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Serializable#getLength()
+     */
+    @Override
+    public int getLength() {
+        return bytes().length;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes()
+     */
+    @Override
+    public byte[] serializeToBytes() {
+        return bytes().clone();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)
+     */
+    @Override
+    public int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {
+        final byte[] encodedBytes = bytes();
+        if (aDestOffset < 0 || aDestBytes.length - aDestOffset < encodedBytes.length) {
+            throw new IllegalArgumentException("Impossible to serialize " + encodedBytes.length + " bytes into a byte[] of " + aDestBytes.length
+            + " bytes from offset=" + aDestOffset + ".");
+        }
+        System.arraycopy(encodedBytes, 0, aDestBytes, aDestOffset, encodedBytes.length);
+        return encodedBytes.length;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)
+     */
+    @Override
+    public void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        throw new UnsupportedOperationException(ERROR_IMMUTABLE);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer()
+     */
+    @Override
+    public ByteBuffer serializeToByteBuffer() {
+        return ByteBuffer.wrap(serializeToBytes());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public void serializeToByteBuffer(final ByteBuffer aDestByteBuffer) {
+        aDestByteBuffer.put(bytes());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#deserializeFromByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer) {
+        throw new UnsupportedOperationException(ERROR_IMMUTABLE);
+    }
+}
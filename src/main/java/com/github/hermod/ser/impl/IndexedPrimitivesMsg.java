@@ -0,0 +1,866 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.Types.BYTE_TYPE;
+import static com.github.hermod.ser.Types.DOUBLE_TYPE;
+import static com.github.hermod.ser.Types.FLOAT_TYPE;
+import static com.github.hermod.ser.Types.INT_TYPE;
+import static com.github.hermod.ser.Types.LONG_TYPE;
+import static com.github.hermod.ser.Types.NULL_TYPE;
+import static com.github.hermod.ser.Types.SHORT_TYPE;
+import static com.github.hermod.ser.impl.Msgs.DEFAULT_MAX_KEY;
+import static com.github.hermod.ser.impl.Msgs.ERROR_WHEN_KEY_NOT_PRESENT;
+import static com.github.hermod.ser.impl.Msgs.NO_TYPE;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Serializable;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>IndexedPrimitivesMsg. </p>
+ * 
+ * Same semantics as {@link IndexedObjectsMsg}, but the scalars (byte, short, int, long, float, double and boolean) are stored in a long[] with a
+ * type tag per key, so the primitive set/get do not allocate. Only the Strings, the arrays, the Msgs and the Nulls are stored in an Object[].
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class IndexedPrimitivesMsg extends AbstractMsg implements Serializable, BytesSerializable, ByteBufferSerializable {
+
+    // one presence bit per key, bit (key & 63) of presences[key >>> 6]
+    private static final int PRESENCE_SHIFT = 6;
+
+    private byte[]   types;
+    private long[]   primitiveValues;
+    private Object[] objectValues;
+    private long[]   presences;
+    private int      keysLength;
+
+    /**
+     * Constructor.
+     * 
+     * @param aKeyMax
+     */
+    private IndexedPrimitivesMsg(final int aKeyMax) {
+        this.types = new byte[aKeyMax + 1];
+        this.primitiveValues = new long[aKeyMax + 1];
+        this.objectValues = new Object[aKeyMax + 1];
+        this.presences = new long[presencesLength(aKeyMax + 1)];
+        Arrays.fill(this.types, NO_TYPE);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param aMsg
+     */
+    private IndexedPrimitivesMsg(final IndexedPrimitivesMsg aMsg) {
+        this.types = aMsg.types.clone();
+        this.primitiveValues = aMsg.primitiveValues.clone();
+        this.objectValues = aMsg.objectValues.clone();
+        this.presences = aMsg.presences.clone();
+        this.keysLength = aMsg.keysLength;
+    }
+
+    /**
+     * create.
+     * 
+     * @return
+     */
+    public static IndexedPrimitivesMsg create() {
+        return new IndexedPrimitivesMsg(DEFAULT_MAX_KEY);
+    }
+
+    /**
+     * createWithKeyMax.
+     * 
+     * @param keyMax
+     * @return
+     */
+    public static IndexedPrimitivesMsg createWithKeyMax(final int keyMax) {
+        return new IndexedPrimitivesMsg(keyMax);
+    }
+
+    /**
+     * createFromMsg.
+     * 
+     * @param aMsg
+     * @return
+     */
+    public static IndexedPrimitivesMsg createFromMsg(final Msg aMsg) {
+        if (aMsg instanceof IndexedPrimitivesMsg) {
+            return new IndexedPrimitivesMsg((IndexedPrimitivesMsg) aMsg);
+        }
+        final IndexedPrimitivesMsg msg = new IndexedPrimitivesMsg((aMsg != null) ? Math.max(aMsg.getKeyMax(), DEFAULT_MAX_KEY) : DEFAULT_MAX_KEY);
+        msg.setAll(aMsg);
+        return msg;
+    }
+
+    /**
+     * createFromValues.
+     * 
+     * @param values
+     * @return
+     */
+    public static IndexedPrimitivesMsg createFromValues(final Object... values) {
+        final IndexedPrimitivesMsg msg = new IndexedPrimitivesMsg(values.length);
+        msg.setAll(values);
+        return msg;
+    }
+
+    /**
+     * <p>getInternalTypes.</p>
+     * 
+     * @return the type tags, NO_TYPE for an absent key
+     */
+    byte[] getInternalTypes() {
+        return this.types;
+    }
+
+    /**
+     * <p>getInternalPrimitiveValues.</p>
+     * 
+     * @return the scalars, the raw bits for a float or a double
+     */
+    long[] getInternalPrimitiveValues() {
+        return this.primitiveValues;
+    }
+
+    /**
+     * <p>getInternalObjectValues.</p>
+     * 
+     * @return the Strings, arrays, Msgs and Nulls
+     */
+    Object[] getInternalObjectValues() {
+        return this.objectValues;
+    }
+
+    /**
+     * increaseKeyMax.
+     * 
+     * @param aKey
+     */
+    private void increaseKeyMax(final int aKey) {
+        final int nextPow2 = Msgs.calculateNextPowerOf2(aKey + 1);
+        final int length = this.types.length;
+        this.types = Arrays.copyOf(this.types, nextPow2);
+        this.primitiveValues = Arrays.copyOf(this.primitiveValues, nextPow2);
+        this.objectValues = Arrays.copyOf(this.objectValues, nextPow2);
+        this.presences = Arrays.copyOf(this.presences, presencesLength(nextPow2));
+        Arrays.fill(this.types, length, nextPow2, NO_TYPE);
+    }
+
+    /**
+     * presencesLength.
+     * 
+     * @param aTypesLength
+     * @return the number of longs to have one presence bit per key
+     */
+    private static int presencesLength(final int aTypesLength) {
+        return (aTypesLength + Long.SIZE - 1) >>> PRESENCE_SHIFT;
+    }
+
+    /**
+     * setType.
+     * 
+     * @param aKey a key of types
+     * @param aType
+     */
+    private void setType(final int aKey, final byte aType) {
+        if (this.types[aKey] == NO_TYPE) {
+            this.presences[aKey >>> PRESENCE_SHIFT] |= 1L << aKey;
+            this.keysLength++;
+        }
+        this.types[aKey] = aType;
+    }
+
+    /**
+     * typeOf.
+     * 
+     * @param aKey
+     * @return the type tag of aKey, NO_TYPE if absent
+     */
+    private byte typeOf(final int aKey) {
+        return (aKey >= 0 && aKey < this.types.length) ? this.types[aKey] : NO_TYPE;
+    }
+
+    /**
+     * setPrimitive.
+     * 
+     * @param aKey
+     * @param aType
+     * @param aBits
+     */
+    private void setPrimitive(final int aKey, final byte aType, final long aBits) {
+        checkKey(aKey);
+        if (aKey >= this.types.length) {
+            increaseKeyMax(aKey);
+        }
+        setType(aKey, aType);
+        this.primitiveValues[aKey] = aBits;
+        this.objectValues[aKey] = null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getValue(int)
+     */
+    @Override
+    protected final Object getValue(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == NO_TYPE) {
+            return null;
+        }
+        final long bits = this.primitiveValues[aKey];
+        switch (type) {
+            case BYTE_TYPE:
+                return Byte.valueOf((byte) bits);
+            case SHORT_TYPE:
+                return Short.valueOf((short) bits);
+            case INT_TYPE:
+                return Integer.valueOf((int) bits);
+            case LONG_TYPE:
+                return Long.valueOf(bits);
+            case FLOAT_TYPE:
+                return Float.valueOf(Float.intBitsToFloat((int) bits));
+            case DOUBLE_TYPE:
+                return Double.valueOf(Double.longBitsToDouble(bits));
+            default:
+                return this.objectValues[aKey];
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)
+     */
+    @Override
+    protected final void setValue(final int aKey, final Object aValue) {
+        if (aValue instanceof Byte) {
+            setPrimitive(aKey, BYTE_TYPE, ((Byte) aValue).longValue());
+        } else if (aValue instanceof Short) {
+            setPrimitive(aKey, SHORT_TYPE, ((Short) aValue).longValue());
+        } else if (aValue instanceof Integer) {
+            setPrimitive(aKey, INT_TYPE, ((Integer) aValue).longValue());
+        } else if (aValue instanceof Long) {
+            setPrimitive(aKey, LONG_TYPE, ((Long) aValue).longValue());
+        } else if (aValue instanceof Float) {
+            setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits(((Float) aValue).floatValue()));
+        } else if (aValue instanceof Double) {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(((Double) aValue).doubleValue()));
+        } else {
+            checkKey(aKey);
+            if (aKey >= this.types.length) {
+                increaseKeyMax(aKey);
+            }
+            setType(aKey, Type.valueOf(aValue.getClass()).getId());
+            this.primitiveValues[aKey] = 0;
+            this.objectValues[aKey] = aValue;
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#removeValue(int)
+     */
+    @Override
+    protected final void removeValue(final int aKey) {
+        checkKey(aKey);
+        if (aKey < this.types.length && this.types[aKey] != NO_TYPE) {
+            this.types[aKey] = NO_TYPE;
+            this.objectValues[aKey] = null;
+            this.presences[aKey >>> PRESENCE_SHIFT] &= ~(1L << aKey);
+            this.keysLength--;
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#copyMsg(com.github.hermod.ser.Msg)
+     */
+    @Override
+    protected Msg copyMsg(final Msg aMsg) {
+        return createFromMsg(aMsg);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isEmpty()
+     */
+    @Override
+    public final boolean isEmpty() {
+        return this.keysLength == 0;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysArray()
+     */
+    @Override
+    public final int[] getKeysArray() {
+        final int[] keys = new int[this.keysLength];
+        int index = 0;
+        for (int i = 0; index < keys.length; i++) {
+            long presence = this.presences[i];
+            while (presence != 0) {
+                keys[index++] = (i << PRESENCE_SHIFT) + Long.numberOfTrailingZeros(presence);
+                presence &= presence - 1;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#nextKey(int)
+     */
+    @Override
+    public final int nextKey(final int aFromKey) {
+        final int fromKey = Math.max(aFromKey, 0);
+        int i = fromKey >>> PRESENCE_SHIFT;
+        if (i >= this.presences.length) {
+            return -1;
+        }
+        long presence = this.presences[i] & (-1L << fromKey);
+        while (presence == 0) {
+            if (++i == this.presences.length) {
+                return -1;
+            }
+            presence = this.presences[i];
+        }
+        return (i << PRESENCE_SHIFT) + Long.numberOfTrailingZeros(presence);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#accept(com.github.hermod.ser.impl.MsgVisitor)
+     */
+    @Override
+    public final void accept(final MsgVisitor aVisitor) {
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            final byte type = this.types[key];
+            final long bits = this.primitiveValues[key];
+            switch (type) {
+                case BYTE_TYPE:
+                    aVisitor.visitByte(key, (byte) bits);
+                    break;
+                case SHORT_TYPE:
+                    aVisitor.visitShort(key, (short) bits);
+                    break;
+                case INT_TYPE:
+                    aVisitor.visitInt(key, (int) bits);
+                    break;
+                case LONG_TYPE:
+                    aVisitor.visitLong(key, bits);
+                    break;
+                case FLOAT_TYPE:
+                    aVisitor.visitFloat(key, Float.intBitsToFloat((int) bits));
+                    break;
+                case DOUBLE_TYPE:
+                    aVisitor.visitDouble(key, Double.longBitsToDouble(bits));
+                    break;
+                default:
+                    Msgs.visitValue(key, this.objectValues[key], aVisitor);
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeyMax()
+     */
+    @Override
+    public final int getKeyMax() {
+        if (this.keysLength != 0) {
+            for (int i = this.presences.length; i-- != 0;) {
+                if (this.presences[i] != 0) {
+                    return (i << PRESENCE_SHIFT) + Long.SIZE - 1 - Long.numberOfLeadingZeros(this.presences[i]);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysLength()
+     */
+    @Override
+    public final int getKeysLength() {
+        return this.keysLength;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#removeAll()
+     */
+    @Override
+    public final void removeAll() {
+        // writes only the populated slots, found by the presences : a pooled Msg is reset for the cost of its fields
+        for (int i = 0; this.keysLength != 0; i++) {
+            long presence = this.presences[i];
+            while (presence != 0) {
+                final int key = (i << PRESENCE_SHIFT) + Long.numberOfTrailingZeros(presence);
+                this.types[key] = NO_TYPE;
+                this.objectValues[key] = null;
+                this.keysLength--;
+                presence &= presence - 1;
+            }
+            this.presences[i] = 0;
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#contains(int)
+     */
+    @Override
+    public final boolean contains(final int aKey) {
+        return typeOf(aKey) != NO_TYPE;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getType(int)
+     */
+    @Override
+    public final Type getType(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == NO_TYPE) {
+            return Type.NULL;
+        }
+        return (type == NULL_TYPE) ? ((Null) this.objectValues[aKey]).getType() : Msgs.getType(type);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getTypeAsByte(int)
+     */
+    @Override
+    public final byte getTypeAsByte(final int aKey) {
+        final byte type = typeOf(aKey);
+        return (type == NO_TYPE) ? NULL_TYPE : type;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsBoolean(int)
+     */
+    @Override
+    public final boolean getAsBoolean(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return this.primitiveValues[aKey] != 0;
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableBoolean(int)
+     */
+    @Override
+    public final Boolean getAsNullableBoolean(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return (this.primitiveValues[aKey] != 0) ? Boolean.TRUE : Boolean.FALSE;
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsByte(int)
+     */
+    @Override
+    public final byte getAsByte(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return (byte) this.primitiveValues[aKey];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableByte(int)
+     */
+    @Override
+    public final Byte getAsNullableByte(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return Byte.valueOf((byte) this.primitiveValues[aKey]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsShort(int)
+     */
+    @Override
+    public final short getAsShort(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE) {
+            return (short) this.primitiveValues[aKey];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableShort(int)
+     */
+    @Override
+    public final Short getAsNullableShort(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE) {
+            return Short.valueOf((short) this.primitiveValues[aKey]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsInt(int)
+     */
+    @Override
+    public final int getAsInt(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE) {
+            return (int) this.primitiveValues[aKey];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableInteger(int)
+     */
+    @Override
+    public final Integer getAsNullableInteger(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE) {
+            return Integer.valueOf((int) this.primitiveValues[aKey]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsLong(int)
+     */
+    @Override
+    public final long getAsLong(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE || type == LONG_TYPE) {
+            return this.primitiveValues[aKey];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableLong(int)
+     */
+    @Override
+    public final Long getAsNullableLong(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE || type == LONG_TYPE) {
+            return Long.valueOf(this.primitiveValues[aKey]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsFloat(int)
+     */
+    @Override
+    public final float getAsFloat(final int aKey) {
+        if (typeOf(aKey) == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) this.primitiveValues[aKey]);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableFloat(int)
+     */
+    @Override
+    public final Float getAsNullableFloat(final int aKey) {
+        if (typeOf(aKey) == FLOAT_TYPE) {
+            return Float.valueOf(Float.intBitsToFloat((int) this.primitiveValues[aKey]));
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsDouble(int)
+     */
+    @Override
+    public final double getAsDouble(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == DOUBLE_TYPE) {
+            return Double.longBitsToDouble(this.primitiveValues[aKey]);
+        }
+        if (type == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) this.primitiveValues[aKey]);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableDouble(int)
+     */
+    @Override
+    public final Double getAsNullableDouble(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == DOUBLE_TYPE || type == FLOAT_TYPE) {
+            return Double.valueOf(getAsDouble(aKey));
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final boolean aBoolean) {
+        setPrimitive(aKey, BYTE_TYPE, aBoolean ? 1 : 0);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, byte)
+     */
+    @Override
+    public final void set(final int aKey, final byte aByte) {
+        setPrimitive(aKey, BYTE_TYPE, aByte);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short)
+     */
+    @Override
+    public final void set(final int aKey, final short aShort) {
+        setPrimitive(aKey, (aShort == (byte) aShort) ? BYTE_TYPE : SHORT_TYPE, aShort);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final short aShort, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aShort);
+        } else {
+            setPrimitive(aKey, SHORT_TYPE, aShort);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int)
+     */
+    @Override
+    public final void set(final int aKey, final int aInt) {
+        setPrimitive(aKey, (aInt == (byte) aInt) ? BYTE_TYPE : (aInt == (short) aInt) ? SHORT_TYPE : INT_TYPE, aInt);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final int aInt, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aInt);
+        } else {
+            setPrimitive(aKey, INT_TYPE, aInt);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long)
+     */
+    @Override
+    public final void set(final int aKey, final long aLong) {
+        final byte type;
+        if (aLong == (byte) aLong) {
+            type = BYTE_TYPE;
+        } else if (aLong == (short) aLong) {
+            type = SHORT_TYPE;
+        } else if (aLong == (int) aLong) {
+            type = INT_TYPE;
+        } else {
+            type = LONG_TYPE;
+        }
+        setPrimitive(aKey, type, aLong);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final long aLong, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aLong);
+        } else {
+            setPrimitive(aKey, LONG_TYPE, aLong);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, float)
+     */
+    @Override
+    public final void set(final int aKey, final float aFloat) {
+        setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits(aFloat));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double)
+     */
+    @Override
+    public final void set(final int aKey, final double aDouble) {
+        if (aDouble == (float) aDouble) {
+            setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits((float) aDouble));
+        } else {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(aDouble));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final double aDouble, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aDouble);
+        } else {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(aDouble));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Serializable#getLength()
+     */
+    @Override
+    public final int getLength() {
+        return MsgCodec.DEFAULT.getLength(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes()
+     */
+    @Override
+    public final byte[] serializeToBytes() {
+        return MsgCodec.DEFAULT.serializeToBytes(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)
+     */
+    @Override
+    public final int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {
+        return MsgCodec.DEFAULT.serializeToBytes(this, aDestBytes, aDestOffset);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)
+     */
+    @Override
+    public final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        MsgCodec.DEFAULT.deserializeFromBytes(aSrcBytes, aSrcOffset, aSrcLength, this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer()
+     */
+    @Override
+    public final ByteBuffer serializeToByteBuffer() {
+        return MsgCodec.DEFAULT.serializeToByteBuffer(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void serializeToByteBuffer(final ByteBuffer aDestByteBuffer) {
+        MsgCodec.DEFAULT.serializeToByteBuffer(this, aDestByteBuffer);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#deserializeFromByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer) {
+        MsgCodec.DEFAULT.deserializeFromByteBuffer(aSrcByteBuffer, this);
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.Msgs.FOUR;
+import static com.github.hermod.ser.impl.MsgBatchSerializer.FRAME_HEADER_LENGTH;
+import static com.github.hermod.ser.impl.MsgBatchSerializer.HEADER_LENGTH;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>MsgBatchReader. </p>
+ * 
+ * Iterates in place over the frames of a batch written by {@link MsgBatchSerializer}, nothing is copied nor decoded up front : each
+ * {@link #next()} re-points the same {@link FlyweightMsg} on the next frame. The Msg returned is valid until the next call.
+ * 
+ * <pre>
+ * for (final MsgBatchReader reader = MsgBatchReader.create().wrap(bytes, offset, length); reader.hasNext();) {
+ *     final FlyweightMsg msg = reader.next();
+ * }
+ * </pre>
+ * 
+ * Reusable batch after batch, not thread-safe.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgBatchReader {
+
+    private final FlyweightMsg msg;
+    private byte[]             bytes;
+    private ByteBuffer         buffer;
+    private int                start;
+    private int                end;
+    private int                position;
+    private int                count;
+    private int                index;
+
+    /**
+     * Constructor.
+     * 
+     * @param aMsg
+     */
+    private MsgBatchReader(final FlyweightMsg aMsg) {
+        this.msg = aMsg;
+    }
+
+    /**
+     * create.
+     * 
+     * @return
+     */
+    public static MsgBatchReader create() {
+        return new MsgBatchReader(FlyweightMsg.create());
+    }
+
+    /**
+     * create.
+     * 
+     * @param aMsg the view re-pointed on each frame
+     * @return
+     */
+    public static MsgBatchReader create(final FlyweightMsg aMsg) {
+        return new MsgBatchReader(aMsg);
+    }
+
+    /**
+     * getBatchLength.
+     * 
+     * @param aBytes
+     * @param aOffset the offset of a batch header
+     * @return the length of the batch, header included
+     */
+    public static int getBatchLength(final byte[] aBytes, final int aOffset) {
+        return HEADER_LENGTH + DirectBytes.getIntLE(aBytes, aOffset + FOUR);
+    }
+
+    /**
+     * wrap.
+     * 
+     * @param aBytes
+     * @param aOffset the offset of the batch header
+     * @param aLength the length available from aOffset, at least the length of the batch
+     * @return this
+     */
+    public MsgBatchReader wrap(final byte[] aBytes, final int aOffset, final int aLength) {
+        if (aOffset < 0 || aLength < HEADER_LENGTH || aBytes.length - aOffset < aLength) {
+            throw new IllegalArgumentException("No batch header at the offset=" + aOffset + " and length=" + aLength + " of bytes of length="
+            + aBytes.length + ".");
+        }
+        return wrap(aBytes, null, aOffset, aLength, DirectBytes.getIntLE(aBytes, aOffset), DirectBytes.getIntLE(aBytes, aOffset + FOUR));
+    }
+
+    /**
+     * wrap.
+     * 
+     * @param aBuffer a heap or direct buffer, its position and limit are not used
+     * @param aOffset the absolute index of the batch header
+     * @param aLength the length available from aOffset, at least the length of the batch
+     * @return this
+     */
+    public MsgBatchReader wrap(final ByteBuffer aBuffer, final int aOffset, final int aLength) {
+        if (aBuffer.hasArray()) {
+            return wrap(aBuffer.array(), aBuffer.arrayOffset() + aOffset, aLength);
+        }
+        if (aOffset < 0 || aLength < HEADER_LENGTH || aBuffer.capacity() - aOffset < aLength) {
+            throw new IllegalArgumentException("No batch header at the index=" + aOffset + " and length=" + aLength + " of a buffer of capacity="
+            + aBuffer.capacity() + ".");
+        }
+        return wrap(null, aBuffer, aOffset, aLength, DirectBytes.getIntLE(aBuffer, aOffset), DirectBytes.getIntLE(aBuffer, aOffset + FOUR));
+    }
+
+    /**
+     * wrap.
+     * 
+     * @param aBytes
+     * @param aBuffer
+     * @param aOffset
+     * @param aLength
+     * @param aCount
+     * @param aFramesLength
+     * @return this
+     */
+    private MsgBatchReader wrap(final byte[] aBytes, final ByteBuffer aBuffer, final int aOffset, final int aLength, final int aCount,
+    final int aFramesLength) {
+        if (aCount < 0 || aFramesLength < 0 || aFramesLength > aLength - HEADER_LENGTH) {
+            throw new IllegalArgumentException("The batch header count=" + aCount + ", length=" + aFramesLength + " does not fit in the length="
+            + aLength + ".");
+        }
+        this.bytes = aBytes;
+        this.buffer = aBuffer;
+        this.start = aOffset;
+        this.position = aOffset + HEADER_LENGTH;
+        this.end = this.position + aFramesLength;
+        this.count = aCount;
+        this.index = 0;
+        return this;
+    }
+
+    /**
+     * getCount.
+     * 
+     * @return the number of frames of the batch
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * getBatchLength.
+     * 
+     * @return the length of the batch wrapped, header included, 0 if none
+     */
+    public int getBatchLength() {
+        return this.end - this.start;
+    }
+
+    /**
+     * hasNext.
+     * 
+     * @return true if a frame remains
+     */
+    public boolean hasNext() {
+        return this.index < this.count;
+    }
+
+    /**
+     * next.
+     * 
+     * @return the view of the next frame, the same instance on each call
+     */
+    public FlyweightMsg next() {
+        if (this.index >= this.count) {
+            throw new NoSuchElementException("No more frame in the batch of count=" + this.count + ".");
+        }
+        if (this.end - this.position < FRAME_HEADER_LENGTH) {
+            throw new IllegalStateException("The frame " + this.index + " overflows its batch.");
+        }
+        final int length = (this.bytes != null) ? DirectBytes.getIntLE(this.bytes, this.position) : DirectBytes.getIntLE(this.buffer, this.position);
+        final int fieldsOffset = this.position + FRAME_HEADER_LENGTH;
+        if (length < 0 || length > this.end - fieldsOffset) {
+            throw new IllegalStateException("The frame " + this.index + " of length=" + length + " overflows its batch.");
+        }
+        if (this.bytes != null) {
+            this.msg.wrap(this.bytes, fieldsOffset, length);
+        } else {
+            this.msg.wrap(this.buffer, fieldsOffset, length);
+        }
+        this.position = fieldsOffset + length;
+        this.index++;
+        return this.msg;
+    }
+}
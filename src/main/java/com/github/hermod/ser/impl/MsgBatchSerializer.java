@@ -0,0 +1,220 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.Msgs.EIGHT;
+import static com.github.hermod.ser.impl.Msgs.FOUR;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>MsgBatchSerializer. </p>
+ * 
+ * Appends many Msgs into one byte[] or ByteBuffer, to write a burst of Msgs with one buffer and one write :
+ * 
+ * <pre>
+ * batch header = count of frames (int, 4 bytes little-endian) + length of the frames (int, 4 bytes little-endian)
+ * frame        = length of the fields (int, 4 bytes little-endian) + fields, as written by IndexedObjectsMsg.serializeToBytes
+ * </pre>
+ * 
+ * A batch is {@link #begin(byte[], int)}, {@link #append(Msg)} per Msg and {@link #end()} which writes the header, the batch is read in
+ * place by {@link MsgBatchReader}. Reusable batch after batch, not thread-safe.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgBatchSerializer {
+
+    /**
+     * HEADER_LENGTH, the length of the batch header.
+     */
+    public static final int HEADER_LENGTH       = EIGHT;
+
+    /**
+     * FRAME_HEADER_LENGTH, the length of the length prefix of each frame.
+     */
+    public static final int FRAME_HEADER_LENGTH = FOUR;
+
+    private byte[]          bytes;
+    private ByteBuffer      buffer;
+    private int             start;
+    private int             end;
+    private int             position;
+    private int             count;
+    private boolean         started;
+
+    /**
+     * Constructor.
+     * 
+     */
+    private MsgBatchSerializer() {
+    }
+
+    /**
+     * create.
+     * 
+     * @return
+     */
+    public static MsgBatchSerializer create() {
+        return new MsgBatchSerializer();
+    }
+
+    /**
+     * begin, starts a batch at aDestOffset.
+     * 
+     * @param aDestBytes
+     * @param aDestOffset
+     * @return this
+     */
+    public MsgBatchSerializer begin(final byte[] aDestBytes, final int aDestOffset) {
+        if (aDestOffset < 0 || aDestBytes.length - aDestOffset < HEADER_LENGTH) {
+            throw new IllegalArgumentException("Impossible to begin a batch at the offset=" + aDestOffset + " of bytes of length=" + aDestBytes.length
+            + ".");
+        }
+        return begin(aDestBytes, null, aDestOffset, aDestBytes.length);
+    }
+
+    /**
+     * begin, starts a batch at the position of aDestByteBuffer, its position is moved after the batch by {@link #end()}.
+     * 
+     * @param aDestByteBuffer a heap or direct buffer
+     * @return this
+     */
+    public MsgBatchSerializer begin(final ByteBuffer aDestByteBuffer) {
+        if (aDestByteBuffer.remaining() < HEADER_LENGTH) {
+            throw new BufferOverflowException();
+        }
+        if (aDestByteBuffer.hasArray()) {
+            return begin(aDestByteBuffer.array(), aDestByteBuffer, aDestByteBuffer.arrayOffset() + aDestByteBuffer.position(),
+                    aDestByteBuffer.arrayOffset() + aDestByteBuffer.limit());
+        }
+        return begin(null, aDestByteBuffer, aDestByteBuffer.position(), aDestByteBuffer.limit());
+    }
+
+    /**
+     * begin.
+     * 
+     * @param aBytes the bytes written, null for a direct buffer
+     * @param aBuffer the buffer whose position is moved by end, null for a byte[]
+     * @param aStart
+     * @param aEnd
+     * @return this
+     */
+    private MsgBatchSerializer begin(final byte[] aBytes, final ByteBuffer aBuffer, final int aStart, final int aEnd) {
+        this.bytes = aBytes;
+        this.buffer = aBuffer;
+        this.start = aStart;
+        this.end = aEnd;
+        this.position = aStart + HEADER_LENGTH;
+        this.count = 0;
+        this.started = true;
+        return this;
+    }
+
+    /**
+     * append, appends the frame of aMsg to the batch.
+     * 
+     * @param aMsg
+     * @return true if aMsg is appended, false if the batch is full (the batch is unchanged, end it and begin a new one)
+     */
+    public boolean append(final Msg aMsg) {
+        checkStarted();
+        final int length = MsgCodec.DEFAULT.getLength(aMsg);
+        if (this.end - this.position < FRAME_HEADER_LENGTH + length) {
+            return false;
+        }
+        if (this.bytes != null) {
+            DirectBytes.putIntLE(this.bytes, this.position, length);
+            MsgCodec.DEFAULT.writeMsg(this.bytes, this.position + FRAME_HEADER_LENGTH, aMsg);
+        } else {
+            DirectBytes.putIntLE(this.buffer, this.position, length);
+            MsgCodec.DEFAULT.writeMsg(this.buffer, this.position + FRAME_HEADER_LENGTH, aMsg);
+        }
+        this.position += FRAME_HEADER_LENGTH + length;
+        this.count++;
+        return true;
+    }
+
+    /**
+     * end, writes the header of the batch.
+     * 
+     * @return the length of the batch, header included
+     */
+    public int end() {
+        checkStarted();
+        final int length = this.position - this.start;
+        if (this.bytes != null) {
+            DirectBytes.putIntLE(this.bytes, this.start, this.count);
+            DirectBytes.putIntLE(this.bytes, this.start + FOUR, length - HEADER_LENGTH);
+        } else {
+            DirectBytes.putIntLE(this.buffer, this.start, this.count);
+            DirectBytes.putIntLE(this.buffer, this.start + FOUR, length - HEADER_LENGTH);
+        }
+        if (this.buffer != null) {
+            this.buffer.position(this.buffer.position() + length);
+        }
+        this.bytes = null;
+        this.buffer = null;
+        this.started = false;
+        return length;
+    }
+
+    /**
+     * getCount.
+     * 
+     * @return the number of Msgs appended to the current batch
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * getLength.
+     * 
+     * @return the length of the current batch, header included
+     */
+    public int getLength() {
+        return (this.started) ? this.position - this.start : 0;
+    }
+
+    /**
+     * checkStarted.
+     * 
+     */
+    private void checkStarted() {
+        if (!this.started) {
+            throw new IllegalStateException("Impossible to append to or to end a batch before begin.");
+        }
+    }
+
+    /**
+     * getBatchLength.
+     * 
+     * @param aMsgs
+     * @return the length of the batch of aMsgs, header included
+     */
+    public static int getBatchLength(final Msg... aMsgs) {
+        int length = HEADER_LENGTH;
+        for (final Msg msg : aMsgs) {
+            length += FRAME_HEADER_LENGTH + MsgCodec.DEFAULT.getLength(msg);
+        }
+        return length;
+    }
+
+    /**
+     * serializeToBytes.
+     * 
+     * @param aMsgs
+     * @return the batch of aMsgs
+     */
+    public static byte[] serializeToBytes(final Msg... aMsgs) {
+        final byte[] batchBytes = new byte[getBatchLength(aMsgs)];
+        final MsgBatchSerializer serializer = create().begin(batchBytes, 0);
+        for (final Msg msg : aMsgs) {
+            serializer.append(msg);
+        }
+        serializer.end();
+        return batchBytes;
+    }
+}
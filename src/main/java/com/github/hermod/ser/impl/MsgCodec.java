@@ -0,0 +1,1787 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.Types.ARRAY_FIXED_VALUE_TYPE;
+import static com.github.hermod.ser.Types.ARRAY_VARIABLE_VALUE_TYPE;
+import static com.github.hermod.ser.Types.BYTE_TYPE;
+import static com.github.hermod.ser.Types.DOUBLE_TYPE;
+import static com.github.hermod.ser.Types.FLOAT_TYPE;
+import static com.github.hermod.ser.Types.INT_TYPE;
+import static com.github.hermod.ser.Types.LONG_TYPE;
+import static com.github.hermod.ser.Types.MSG_TYPE;
+import static com.github.hermod.ser.Types.NULL_TYPE;
+import static com.github.hermod.ser.Types.SHORT_TYPE;
+import static com.github.hermod.ser.Types.STRING_UTF_8_TYPE;
+import static com.github.hermod.ser.impl.Msgs.EIGHT;
+import static com.github.hermod.ser.impl.Msgs.FOUR;
+import static com.github.hermod.ser.impl.Msgs.MAX_VALUE_FOR_UNSIGNED_BYTE;
+import static com.github.hermod.ser.impl.Msgs.ONE;
+import static com.github.hermod.ser.impl.Msgs.TWO;
+import static com.github.hermod.ser.impl.Msgs.XFF;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+
+/**
+ * <p>MsgCodec.</p>
+ * 
+ * Binary codec of the Msgs of this module. A Msg is a sequence of fields, without header, its length is given by the caller :
+ * 
+ * <pre>
+ * field       = key type value
+ * key, length = 1 unsigned byte if < 0xFF, else 0xFF + int32
+ * BYTE..DOUBLE = 1, 2, 4, 8, 4, 8 bytes, little-endian (integers are already narrowed when set)
+ * STRING_UTF_8 = length + utf-8 bytes
+ * MSG          = length + fields
+ * NULL         = id of the Type of the Null + length of the Null
+ * ARRAY_FIXED_VALUE    = component type + count + raw elements
+ * ARRAY_VARIABLE_VALUE = component type (ARRAY_VARIABLE_VALUE for Object[]) + count + (type value) per element, NULL for a null element
+ * </pre>
+ * 
+ * {@link #VAR_INT} writes the keys, the lengths and the counts as LEB128 var-length ints (7 bits per byte, the high bit set on all the
+ * bytes but the last) and the SHORT, INT and LONG values as zigzag var-length longs (the sign in the lowest bit), so a key below 128 or a
+ * counter between -64 and 63 takes 1 byte. The Types are unchanged, BYTE, FLOAT, DOUBLE and the elements of the fixed arrays keep their
+ * fixed size. Both sides of a stream must use the same codec.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+final class MsgCodec {
+
+    /**
+     * DEFAULT, the compact codec.
+     */
+    static final MsgCodec       DEFAULT              = new MsgCodec(false);
+
+    /**
+     * VAR_INT, the codec with var-length keys, lengths and integers.
+     */
+    static final MsgCodec       VAR_INT              = new MsgCodec(true);
+
+    private static final int    COMPACT_INT_LENGTH   = ONE + FOUR;
+    private static final byte[] FIXED_SIZES          = new byte[MAX_VALUE_FOR_UNSIGNED_BYTE + 1];
+
+    private static final String ERROR_UNKNOWN_TYPE   = "Impossible to decode the type=%s at offset=%s.";
+    private static final String ERROR_NOT_ENOUGH_ROOM = "Impossible to serialize %s bytes into a byte[] of %s bytes from offset=%s.";
+
+    private final boolean       varInt;
+
+    static {
+        FIXED_SIZES[BYTE_TYPE & XFF] = ONE;
+        FIXED_SIZES[SHORT_TYPE & XFF] = TWO;
+        FIXED_SIZES[INT_TYPE & XFF] = FOUR;
+        FIXED_SIZES[LONG_TYPE & XFF] = EIGHT;
+        FIXED_SIZES[FLOAT_TYPE & XFF] = FOUR;
+        FIXED_SIZES[DOUBLE_TYPE & XFF] = EIGHT;
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param aVarInt
+     */
+    private MsgCodec(final boolean aVarInt) {
+        this.varInt = aVarInt;
+    }
+
+    /**
+     * isVarInt.
+     * 
+     * @return true for the codec with var-length keys, lengths and integers
+     */
+    final boolean isVarInt() {
+        return this.varInt;
+    }
+
+    // lengths
+
+    /**
+     * compactLength.
+     * 
+     * @param aInt a positive int
+     * @return
+     */
+    final int compactLength(final int aInt) {
+        if (this.varInt) {
+            return DirectBytes.varIntLength(aInt);
+        }
+        return (aInt < XFF) ? ONE : COMPACT_INT_LENGTH;
+    }
+
+    /**
+     * primitiveLength.
+     * 
+     * @param aType BYTE_TYPE..DOUBLE_TYPE
+     * @param aBits the value, the raw bits for a float or a double
+     * @return the length of the value
+     */
+    final int primitiveLength(final byte aType, final long aBits) {
+        if (this.varInt && (aType == SHORT_TYPE || aType == INT_TYPE || aType == LONG_TYPE)) {
+            return DirectBytes.varLongLength(DirectBytes.encodeZigZag(aBits));
+        }
+        return fixedSize(aType);
+    }
+
+    /**
+     * getLength.
+     * 
+     * @param aMsg
+     * @return the length of the fields of aMsg
+     */
+    final int getLength(final Msg aMsg) {
+        int length = 0;
+        if (aMsg instanceof IndexedObjectsMsg) {
+            final IndexedObjectsMsg msg = (IndexedObjectsMsg) aMsg;
+            final Object[] objectValues = msg.getInternalAllAsObjects();
+            for (int key = msg.nextKey(0); key != -1; key = msg.nextKey(key + 1)) {
+                length += compactLength(key) + ONE + valueLength(objectValues[key]);
+            }
+        } else if (aMsg instanceof IndexedPrimitivesMsg) {
+            final IndexedPrimitivesMsg msg = (IndexedPrimitivesMsg) aMsg;
+            final byte[] types = msg.getInternalTypes();
+            final long[] primitiveValues = msg.getInternalPrimitiveValues();
+            final Object[] objectValues = msg.getInternalObjectValues();
+            for (int key = msg.nextKey(0); key != -1; key = msg.nextKey(key + 1)) {
+                final byte type = types[key];
+                length += compactLength(key) + ONE + ((fixedSize(type) != 0) ? primitiveLength(type, primitiveValues[key])
+                : valueLength(objectValues[key]));
+            }
+        } else {
+            for (int key = Msgs.nextKey(aMsg, 0); key != -1; key = Msgs.nextKey(aMsg, key + 1)) {
+                length += compactLength(key) + ONE + valueLength(getValue(aMsg, key));
+            }
+        }
+        return length;
+    }
+
+    /**
+     * valueLength.
+     * 
+     * @param aValue
+     * @return the length of the value of aValue, without its type
+     */
+    final int valueLength(final Object aValue) {
+        if (aValue instanceof Byte || aValue instanceof Boolean) {
+            return ONE;
+        } else if (this.varInt && (aValue instanceof Short || aValue instanceof Integer || aValue instanceof Long)) {
+            return DirectBytes.varLongLength(DirectBytes.encodeZigZag(((Number) aValue).longValue()));
+        } else if (aValue instanceof Short) {
+            return TWO;
+        } else if (aValue instanceof Integer || aValue instanceof Float) {
+            return FOUR;
+        } else if (aValue instanceof Long || aValue instanceof Double) {
+            return EIGHT;
+        } else if (aValue instanceof String) {
+            final int length = utf8Length((String) aValue);
+            return compactLength(length) + length;
+        } else if (aValue instanceof Msg) {
+            final int length = getLength((Msg) aValue);
+            return compactLength(length) + length;
+        } else if (aValue instanceof Object[]) {
+            final Object[] objects = (Object[]) aValue;
+            int length = ONE + compactLength(objects.length);
+            for (final Object object : objects) {
+                length += ONE + valueLength(object);
+            }
+            return length;
+        } else if (aValue != null && aValue.getClass().isArray()) {
+            final int count = Msgs.getArrayLength(aValue);
+            return ONE + compactLength(count) + count * fixedSize(componentType(aValue));
+        } else {
+            return ONE + compactLength(nullLength(aValue));
+        }
+    }
+
+    /**
+     * utf8Length.
+     * 
+     * @param aString
+     * @return
+     */
+    static final int utf8Length(final String aString) {
+        final int charsLength = aString.length();
+        int length = charsLength;
+        for (int i = 0; i < charsLength; i++) {
+            final char c = aString.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    length++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < charsLength && Character.isLowSurrogate(aString.charAt(i + 1))) {
+                    // 2 chars, 4 bytes
+                    length += 2;
+                    i++;
+                } else {
+                    length += 2;
+                }
+            }
+        }
+        return length;
+    }
+
+    // types
+
+    /**
+     * fixedSize.
+     * 
+     * @param aType
+     * @return the length of a BYTE..DOUBLE value, 0 for the other types
+     */
+    static final int fixedSize(final byte aType) {
+        return FIXED_SIZES[aType & XFF];
+    }
+
+    /**
+     * typeOf.
+     * 
+     * @param aValue a value stored in a Msg, or null
+     * @return
+     */
+    static final byte typeOf(final Object aValue) {
+        if (aValue instanceof Byte || aValue instanceof Boolean) {
+            return BYTE_TYPE;
+        } else if (aValue instanceof Short) {
+            return SHORT_TYPE;
+        } else if (aValue instanceof Integer) {
+            return INT_TYPE;
+        } else if (aValue instanceof Long) {
+            return LONG_TYPE;
+        } else if (aValue instanceof Float) {
+            return FLOAT_TYPE;
+        } else if (aValue instanceof Double) {
+            return DOUBLE_TYPE;
+        } else if (aValue instanceof String) {
+            return STRING_UTF_8_TYPE;
+        } else if (aValue instanceof Msg) {
+            return MSG_TYPE;
+        } else if (aValue instanceof Object[]) {
+            return ARRAY_VARIABLE_VALUE_TYPE;
+        } else if (aValue != null && aValue.getClass().isArray()) {
+            return ARRAY_FIXED_VALUE_TYPE;
+        } else {
+            return NULL_TYPE;
+        }
+    }
+
+    /**
+     * componentType.
+     * 
+     * @param aArray
+     * @return
+     */
+    private static byte componentType(final Object aArray) {
+        final Class<?> componentType = aArray.getClass().getComponentType();
+        if (componentType == byte.class || componentType == Byte.class || componentType == boolean.class || componentType == Boolean.class) {
+            return BYTE_TYPE;
+        } else if (componentType == short.class || componentType == Short.class) {
+            return SHORT_TYPE;
+        } else if (componentType == int.class || componentType == Integer.class) {
+            return INT_TYPE;
+        } else if (componentType == long.class || componentType == Long.class) {
+            return LONG_TYPE;
+        } else if (componentType == float.class || componentType == Float.class) {
+            return FLOAT_TYPE;
+        } else if (componentType == double.class || componentType == Double.class) {
+            return DOUBLE_TYPE;
+        } else if (componentType == String.class) {
+            return STRING_UTF_8_TYPE;
+        } else if (Msg.class.isAssignableFrom(componentType)) {
+            return MSG_TYPE;
+        } else {
+            return ARRAY_VARIABLE_VALUE_TYPE;
+        }
+    }
+
+    /**
+     * nullLength.
+     * 
+     * @param aValue a Null or null
+     * @return
+     */
+    private static int nullLength(final Object aValue) {
+        return (aValue instanceof Null) ? ((Null) aValue).getLength() : 0;
+    }
+
+    /**
+     * getValue.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @return the value of aKey, the Null if aKey is null
+     */
+    private static Object getValue(final Msg aMsg, final int aKey) {
+        if (aMsg instanceof AbstractMsg) {
+            return ((AbstractMsg) aMsg).getValue(aKey);
+        }
+        final Object value = aMsg.get(aKey);
+        return (value != null) ? value : aMsg.getAsNull(aKey);
+    }
+
+    // encoding, one write path over a Sink : a byte[] or a ByteBuffer written by absolute index, each thread reusing its sinks
+
+    /**
+     * serializeToBytes.
+     * 
+     * @param aMsg
+     * @return
+     */
+    final byte[] serializeToBytes(final Msg aMsg) {
+        final byte[] bytes = new byte[getLength(aMsg)];
+        writeMsg(bytes, 0, aMsg);
+        return bytes;
+    }
+
+    /**
+     * serializeToBytes.
+     * 
+     * @param aMsg
+     * @param aDestBytes
+     * @param aDestOffset
+     * @return the number of bytes written
+     */
+    final int serializeToBytes(final Msg aMsg, final byte[] aDestBytes, final int aDestOffset) {
+        final int length = getLength(aMsg);
+        if (aDestOffset < 0 || aDestBytes.length - aDestOffset < length) {
+            throw new IllegalArgumentException(String.format(ERROR_NOT_ENOUGH_ROOM, length, aDestBytes.length, aDestOffset));
+        }
+        return writeMsg(aDestBytes, aDestOffset, aMsg) - aDestOffset;
+    }
+
+    /**
+     * serializeToByteBuffer.
+     * 
+     * @param aMsg
+     * @return a heap ByteBuffer, ready to be read
+     */
+    final ByteBuffer serializeToByteBuffer(final Msg aMsg) {
+        return ByteBuffer.wrap(serializeToBytes(aMsg));
+    }
+
+    /**
+     * serializeToByteBuffer.
+     * 
+     * @param aMsg
+     * @param aDestByteBuffer written from its position, its position is moved after the fields
+     */
+    final void serializeToByteBuffer(final Msg aMsg, final ByteBuffer aDestByteBuffer) {
+        final int length = getLength(aMsg);
+        if (aDestByteBuffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        final int position = aDestByteBuffer.position();
+        writeMsg(aDestByteBuffer, position, aMsg);
+        aDestByteBuffer.position(position + length);
+    }
+
+    /**
+     * writeCompact.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aInt a positive int
+     * @return the offset after the written bytes
+     */
+    final int writeCompact(final byte[] aBytes, final int aOffset, final int aInt) {
+        final BytesSink sink = BytesSink.acquire(aBytes);
+        try {
+            return writeCompact(sink, aOffset, aInt);
+        } finally {
+            sink.release();
+        }
+    }
+
+    /**
+     * writeMsg.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aMsg
+     * @return the offset after the written fields
+     */
+    final int writeMsg(final byte[] aBytes, final int aOffset, final Msg aMsg) {
+        final BytesSink sink = BytesSink.acquire(aBytes);
+        try {
+            return writeMsg(sink, aOffset, aMsg);
+        } finally {
+            sink.release();
+        }
+    }
+
+    /**
+     * writeMsg, a heap ByteBuffer is written through its array.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aMsg
+     * @return the index after the written fields
+     */
+    final int writeMsg(final ByteBuffer aBuffer, final int aIndex, final Msg aMsg) {
+        if (aBuffer.hasArray()) {
+            final int arrayOffset = aBuffer.arrayOffset();
+            return writeMsg(aBuffer.array(), arrayOffset + aIndex, aMsg) - arrayOffset;
+        }
+        final BufferSink sink = BufferSink.acquire(aBuffer);
+        try {
+            return writeMsg(sink, aIndex, aMsg);
+        } finally {
+            sink.release();
+        }
+    }
+
+    /**
+     * writePrimitive.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aType BYTE_TYPE..DOUBLE_TYPE
+     * @param aBits the value, the raw bits for a float or a double
+     * @return the offset after the written bytes
+     */
+    final int writePrimitive(final byte[] aBytes, final int aOffset, final byte aType, final long aBits) {
+        final BytesSink sink = BytesSink.acquire(aBytes);
+        try {
+            return writePrimitive(sink, aOffset, aType, aBits);
+        } finally {
+            sink.release();
+        }
+    }
+
+    /**
+     * writeTypedValue.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aValue
+     * @return the offset after the type and the value
+     */
+    final int writeTypedValue(final byte[] aBytes, final int aOffset, final Object aValue) {
+        final BytesSink sink = BytesSink.acquire(aBytes);
+        try {
+            return writeTypedValue(sink, aOffset, aValue);
+        } finally {
+            sink.release();
+        }
+    }
+
+    /**
+     * writeTypedValue.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aValue
+     * @return the index after the type and the value
+     */
+    final int writeTypedValue(final ByteBuffer aBuffer, final int aIndex, final Object aValue) {
+        final BufferSink sink = BufferSink.acquire(aBuffer);
+        try {
+            return writeTypedValue(sink, aIndex, aValue);
+        } finally {
+            sink.release();
+        }
+    }
+
+    /**
+     * writeCompact.
+     * 
+     * @param aSink
+     * @param aIndex
+     * @param aInt a positive int
+     * @return the index after the written bytes
+     */
+    private int writeCompact(final Sink aSink, final int aIndex, final int aInt) {
+        if (this.varInt) {
+            return aSink.putVarInt(aIndex, aInt);
+        } else if (aInt < XFF) {
+            aSink.put(aIndex, (byte) aInt);
+            return aIndex + ONE;
+        }
+        aSink.put(aIndex, (byte) XFF);
+        aSink.putIntLE(aIndex + ONE, aInt);
+        return aIndex + COMPACT_INT_LENGTH;
+    }
+
+    /**
+     * writeLength, back-patches the compact length reserved before a value written without computing its length first.
+     * 
+     * @param aSink
+     * @param aLengthIndex the index of the length
+     * @param aReservedLength the bytes reserved for the length, at most its compactLength
+     * @param aEnd the index after the value, written at aLengthIndex + aReservedLength
+     * @return the index after the value, moved after the length if it takes more than the reserved bytes
+     */
+    private int writeLength(final Sink aSink, final int aLengthIndex, final int aReservedLength, final int aEnd) {
+        final int valueIndex = aLengthIndex + aReservedLength;
+        final int length = aEnd - valueIndex;
+        final int lengthLength = compactLength(length);
+        if (lengthLength != aReservedLength) {
+            aSink.move(valueIndex, aLengthIndex + lengthLength, length);
+        }
+        writeCompact(aSink, aLengthIndex, length);
+        return aLengthIndex + lengthLength + length;
+    }
+
+    /**
+     * writeMsg.
+     * 
+     * @param aSink
+     * @param aIndex
+     * @param aMsg
+     * @return the index after the written fields
+     */
+    private int writeMsg(final Sink aSink, final int aIndex, final Msg aMsg) {
+        int index = aIndex;
+        if (aMsg instanceof IndexedObjectsMsg) {
+            final IndexedObjectsMsg msg = (IndexedObjectsMsg) aMsg;
+            final Object[] objectValues = msg.getInternalAllAsObjects();
+            for (int key = msg.nextKey(0); key != -1; key = msg.nextKey(key + 1)) {
+                index = writeCompact(aSink, index, key);
+                index = writeTypedValue(aSink, index, objectValues[key]);
+            }
+        } else if (aMsg instanceof IndexedPrimitivesMsg) {
+            final IndexedPrimitivesMsg msg = (IndexedPrimitivesMsg) aMsg;
+            final byte[] types = msg.getInternalTypes();
+            final long[] primitiveValues = msg.getInternalPrimitiveValues();
+            final Object[] objectValues = msg.getInternalObjectValues();
+            for (int key = msg.nextKey(0); key != -1; key = msg.nextKey(key + 1)) {
+                final byte type = types[key];
+                index = writeCompact(aSink, index, key);
+                if (fixedSize(type) != 0) {
+                    aSink.put(index++, type);
+                    index = writePrimitive(aSink, index, type, primitiveValues[key]);
+                } else {
+                    index = writeTypedValue(aSink, index, objectValues[key]);
+                }
+            }
+        } else {
+            for (int key = Msgs.nextKey(aMsg, 0); key != -1; key = Msgs.nextKey(aMsg, key + 1)) {
+                index = writeCompact(aSink, index, key);
+                index = writeTypedValue(aSink, index, getValue(aMsg, key));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * writePrimitive.
+     * 
+     * @param aSink
+     * @param aIndex
+     * @param aType BYTE_TYPE..DOUBLE_TYPE
+     * @param aBits the value, the raw bits for a float or a double
+     * @return the index after the written bytes
+     */
+    private int writePrimitive(final Sink aSink, final int aIndex, final byte aType, final long aBits) {
+        switch (aType) {
+            case BYTE_TYPE:
+                aSink.put(aIndex, (byte) aBits);
+                return aIndex + ONE;
+            case SHORT_TYPE:
+                if (this.varInt) {
+                    return aSink.putVarLong(aIndex, DirectBytes.encodeZigZag((short) aBits));
+                }
+                aSink.putShortLE(aIndex, (short) aBits);
+                return aIndex + TWO;
+            case INT_TYPE:
+                if (this.varInt) {
+                    return aSink.putVarLong(aIndex, DirectBytes.encodeZigZag((int) aBits));
+                }
+                aSink.putIntLE(aIndex, (int) aBits);
+                return aIndex + FOUR;
+            case LONG_TYPE:
+                if (this.varInt) {
+                    return aSink.putVarLong(aIndex, DirectBytes.encodeZigZag(aBits));
+                }
+                aSink.putLongLE(aIndex, aBits);
+                return aIndex + EIGHT;
+            case FLOAT_TYPE:
+                aSink.putIntLE(aIndex, (int) aBits);
+                return aIndex + FOUR;
+            default:
+                aSink.putLongLE(aIndex, aBits);
+                return aIndex + EIGHT;
+        }
+    }
+
+    /**
+     * writeTypedValue.
+     * 
+     * @param aSink
+     * @param aIndex
+     * @param aValue
+     * @return the index after the type and the value
+     */
+    private int writeTypedValue(final Sink aSink, final int aIndex, final Object aValue) {
+        final byte type = typeOf(aValue);
+        aSink.put(aIndex, type);
+        int index = aIndex + ONE;
+        switch (type) {
+            case BYTE_TYPE:
+                aSink.put(index, (aValue instanceof Boolean) ? (byte) (((Boolean) aValue).booleanValue() ? 1 : 0) : ((Byte) aValue).byteValue());
+                return index + ONE;
+            case SHORT_TYPE:
+            case INT_TYPE:
+            case LONG_TYPE:
+                return writePrimitive(aSink, index, type, ((Number) aValue).longValue());
+            case FLOAT_TYPE:
+                aSink.putIntLE(index, Float.floatToRawIntBits(((Float) aValue).floatValue()));
+                return index + FOUR;
+            case DOUBLE_TYPE:
+                aSink.putLongLE(index, Double.doubleToRawLongBits(((Double) aValue).doubleValue()));
+                return index + EIGHT;
+            case STRING_UTF_8_TYPE:
+                return writeString(aSink, index, (String) aValue);
+            case MSG_TYPE:
+                // the nested length is back-patched, not computed again at each depth
+                return writeLength(aSink, index, ONE, writeMsg(aSink, index + ONE, (Msg) aValue));
+            case ARRAY_FIXED_VALUE_TYPE:
+                return writeFixedArray(aSink, index, aValue);
+            case ARRAY_VARIABLE_VALUE_TYPE:
+                final Object[] objects = (Object[]) aValue;
+                aSink.put(index++, componentType(objects));
+                index = writeCompact(aSink, index, objects.length);
+                for (final Object object : objects) {
+                    index = writeTypedValue(aSink, index, object);
+                }
+                return index;
+            default:
+                aSink.put(index++, (aValue instanceof Null) ? ((Null) aValue).getType().getId() : NULL_TYPE);
+                return writeCompact(aSink, index, nullLength(aValue));
+        }
+    }
+
+    /**
+     * writeString, encodes aString in one pass, its utf-8 length being back-patched (at least its chars length, moved only when the
+     * compact length takes more bytes).
+     * 
+     * @param aSink
+     * @param aIndex
+     * @param aString
+     * @return the index after the length and the utf-8 bytes
+     */
+    private int writeString(final Sink aSink, final int aIndex, final String aString) {
+        final int reservedLength = compactLength(aString.length());
+        return writeLength(aSink, aIndex, reservedLength, aSink.putUtf8(aIndex + reservedLength, aString));
+    }
+
+    /**
+     * encodeUtf8.
+     * 
+     * @param aBytes at least 3 bytes per char of aString from aOffset
+     * @param aOffset
+     * @param aString
+     * @return the offset after the utf-8 bytes
+     */
+    private static int encodeUtf8(final byte[] aBytes, final int aOffset, final String aString) {
+        final int charsLength = aString.length();
+        int offset = aOffset;
+        for (int i = 0; i < charsLength; i++) {
+            final char c = aString.charAt(i);
+            if (c < 0x80) {
+                aBytes[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                aBytes[offset++] = (byte) (0xC0 | (c >> 6));
+                aBytes[offset++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < charsLength && Character.isLowSurrogate(aString.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, aString.charAt(++i));
+                aBytes[offset++] = (byte) (0xF0 | (codePoint >> 18));
+                aBytes[offset++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                aBytes[offset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                aBytes[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                aBytes[offset++] = (byte) (0xE0 | (c >> 12));
+                aBytes[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                aBytes[offset++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * littleEndianView.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return a little-endian duplicate of aBuffer positioned at aIndex, to read or write a primitive array at once through a typed view
+     */
+    private static ByteBuffer littleEndianView(final ByteBuffer aBuffer, final int aIndex) {
+        final ByteBuffer view = aBuffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        view.position(aIndex);
+        return view;
+    }
+
+    /**
+     * writeFixedArray.
+     * 
+     * @param aSink
+     * @param aIndex
+     * @param aArray a primitive array
+     * @return the index after the component type, the count and the elements
+     */
+    private int writeFixedArray(final Sink aSink, final int aIndex, final Object aArray) {
+        final byte componentType = componentType(aArray);
+        final int count = Msgs.getArrayLength(aArray);
+        aSink.put(aIndex, componentType);
+        int index = writeCompact(aSink, aIndex + ONE, count);
+        switch (componentType) {
+            case BYTE_TYPE:
+                if (aArray instanceof byte[]) {
+                    aSink.putBytes(index, (byte[]) aArray, count);
+                } else {
+                    final boolean[] booleans = (boolean[]) aArray;
+                    for (int i = 0; i < count; i++) {
+                        aSink.put(index + i, (byte) (booleans[i] ? 1 : 0));
+                    }
+                }
+                return index + count;
+            case SHORT_TYPE:
+                aSink.putShortsLE(index, (short[]) aArray);
+                return index + count * TWO;
+            case INT_TYPE:
+                aSink.putIntsLE(index, (int[]) aArray);
+                return index + count * FOUR;
+            case LONG_TYPE:
+                aSink.putLongsLE(index, (long[]) aArray);
+                return index + count * EIGHT;
+            case FLOAT_TYPE:
+                aSink.putFloatsLE(index, (float[]) aArray);
+                return index + count * FOUR;
+            default:
+                aSink.putDoublesLE(index, (double[]) aArray);
+                return index + count * EIGHT;
+        }
+    }
+
+    /**
+     * <p>Sink, the bytes written by the encoding, by absolute index.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private abstract static class Sink {
+
+        /**
+         * put.
+         * 
+         * @param aIndex
+         * @param aByte
+         */
+        abstract void put(final int aIndex, final byte aByte);
+
+        /**
+         * putBytes.
+         * 
+         * @param aIndex
+         * @param aBytes
+         * @param aLength
+         */
+        abstract void putBytes(final int aIndex, final byte[] aBytes, final int aLength);
+
+        /**
+         * putShortLE.
+         * 
+         * @param aIndex
+         * @param aShort
+         */
+        abstract void putShortLE(final int aIndex, final short aShort);
+
+        /**
+         * putIntLE.
+         * 
+         * @param aIndex
+         * @param aInt
+         */
+        abstract void putIntLE(final int aIndex, final int aInt);
+
+        /**
+         * putLongLE.
+         * 
+         * @param aIndex
+         * @param aLong
+         */
+        abstract void putLongLE(final int aIndex, final long aLong);
+
+        /**
+         * putShortsLE.
+         * 
+         * @param aIndex
+         * @param aShorts
+         */
+        abstract void putShortsLE(final int aIndex, final short[] aShorts);
+
+        /**
+         * putIntsLE.
+         * 
+         * @param aIndex
+         * @param aInts
+         */
+        abstract void putIntsLE(final int aIndex, final int[] aInts);
+
+        /**
+         * putLongsLE.
+         * 
+         * @param aIndex
+         * @param aLongs
+         */
+        abstract void putLongsLE(final int aIndex, final long[] aLongs);
+
+        /**
+         * putFloatsLE.
+         * 
+         * @param aIndex
+         * @param aFloats
+         */
+        abstract void putFloatsLE(final int aIndex, final float[] aFloats);
+
+        /**
+         * putDoublesLE.
+         * 
+         * @param aIndex
+         * @param aDoubles
+         */
+        abstract void putDoublesLE(final int aIndex, final double[] aDoubles);
+
+        /**
+         * putUtf8.
+         * 
+         * @param aIndex
+         * @param aString
+         * @return the index after the utf-8 bytes
+         */
+        abstract int putUtf8(final int aIndex, final String aString);
+
+        /**
+         * putVarInt.
+         * 
+         * @param aIndex
+         * @param aInt
+         * @return the index after the written bytes
+         */
+        abstract int putVarInt(final int aIndex, final int aInt);
+
+        /**
+         * putVarLong.
+         * 
+         * @param aIndex
+         * @param aLong
+         * @return the index after the written bytes
+         */
+        abstract int putVarLong(final int aIndex, final long aLong);
+
+        /**
+         * move, the ranges may overlap.
+         * 
+         * @param aFromIndex
+         * @param aToIndex greater than aFromIndex
+         * @param aLength
+         */
+        abstract void move(final int aFromIndex, final int aToIndex, final int aLength);
+    }
+
+    /**
+     * <p>BytesSink, a byte[] (or the array of a heap ByteBuffer).</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class BytesSink extends Sink {
+
+        private static final ThreadLocal<BytesSink> SINKS = new ThreadLocal<BytesSink>() {
+            @Override
+            protected BytesSink initialValue() {
+                return new BytesSink();
+            }
+        };
+
+        // null while the sink is free
+        private byte[]                              bytes;
+
+        /**
+         * acquire.
+         * 
+         * @param aBytes
+         * @return the sink of the current thread writing aBytes, a new one if it is already in use (a write nested in another write)
+         */
+        static BytesSink acquire(final byte[] aBytes) {
+            BytesSink sink = SINKS.get();
+            if (sink.bytes != null) {
+                sink = new BytesSink();
+            }
+            sink.bytes = aBytes;
+            return sink;
+        }
+
+        /**
+         * release, frees the sink without retaining the written bytes.
+         * 
+         */
+        void release() {
+            this.bytes = null;
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#put(int, byte)
+         */
+        @Override
+        void put(final int aIndex, final byte aByte) {
+            this.bytes[aIndex] = aByte;
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putBytes(int, byte[], int)
+         */
+        @Override
+        void putBytes(final int aIndex, final byte[] aBytes, final int aLength) {
+            System.arraycopy(aBytes, 0, this.bytes, aIndex, aLength);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putShortLE(int, short)
+         */
+        @Override
+        void putShortLE(final int aIndex, final short aShort) {
+            DirectBytes.putShortLE(this.bytes, aIndex, aShort);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putIntLE(int, int)
+         */
+        @Override
+        void putIntLE(final int aIndex, final int aInt) {
+            DirectBytes.putIntLE(this.bytes, aIndex, aInt);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putLongLE(int, long)
+         */
+        @Override
+        void putLongLE(final int aIndex, final long aLong) {
+            DirectBytes.putLongLE(this.bytes, aIndex, aLong);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putShortsLE(int, short[])
+         */
+        @Override
+        void putShortsLE(final int aIndex, final short[] aShorts) {
+            for (int i = 0; i < aShorts.length; i++) {
+                DirectBytes.putShortLE(this.bytes, aIndex + i * TWO, aShorts[i]);
+            }
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putIntsLE(int, int[])
+         */
+        @Override
+        void putIntsLE(final int aIndex, final int[] aInts) {
+            for (int i = 0; i < aInts.length; i++) {
+                DirectBytes.putIntLE(this.bytes, aIndex + i * FOUR, aInts[i]);
+            }
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putLongsLE(int, long[])
+         */
+        @Override
+        void putLongsLE(final int aIndex, final long[] aLongs) {
+            for (int i = 0; i < aLongs.length; i++) {
+                DirectBytes.putLongLE(this.bytes, aIndex + i * EIGHT, aLongs[i]);
+            }
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putFloatsLE(int, float[])
+         */
+        @Override
+        void putFloatsLE(final int aIndex, final float[] aFloats) {
+            for (int i = 0; i < aFloats.length; i++) {
+                DirectBytes.putFloatLE(this.bytes, aIndex + i * FOUR, aFloats[i]);
+            }
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putDoublesLE(int, double[])
+         */
+        @Override
+        void putDoublesLE(final int aIndex, final double[] aDoubles) {
+            for (int i = 0; i < aDoubles.length; i++) {
+                DirectBytes.putDoubleLE(this.bytes, aIndex + i * EIGHT, aDoubles[i]);
+            }
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putUtf8(int, java.lang.String)
+         */
+        @Override
+        int putUtf8(final int aIndex, final String aString) {
+            return encodeUtf8(this.bytes, aIndex, aString);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putVarInt(int, int)
+         */
+        @Override
+        int putVarInt(final int aIndex, final int aInt) {
+            return DirectBytes.putVarInt(this.bytes, aIndex, aInt);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putVarLong(int, long)
+         */
+        @Override
+        int putVarLong(final int aIndex, final long aLong) {
+            return DirectBytes.putVarLong(this.bytes, aIndex, aLong);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#move(int, int, int)
+         */
+        @Override
+        void move(final int aFromIndex, final int aToIndex, final int aLength) {
+            System.arraycopy(this.bytes, aFromIndex, this.bytes, aToIndex, aLength);
+        }
+    }
+
+    /**
+     * <p>BufferSink, a ByteBuffer written by absolute puts, its position unchanged.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class BufferSink extends Sink {
+
+        private static final ThreadLocal<BufferSink> SINKS = new ThreadLocal<BufferSink>() {
+            @Override
+            protected BufferSink initialValue() {
+                return new BufferSink();
+            }
+        };
+
+        // null while the sink is free
+        private ByteBuffer                           buffer;
+        // the utf-8 bytes of a String
+        private byte[]                               scratch = new byte[64];
+
+        /**
+         * acquire.
+         * 
+         * @param aBuffer
+         * @return the sink of the current thread writing aBuffer, a new one if it is already in use (a write nested in another write)
+         */
+        static BufferSink acquire(final ByteBuffer aBuffer) {
+            BufferSink sink = SINKS.get();
+            if (sink.buffer != null) {
+                sink = new BufferSink();
+            }
+            sink.buffer = aBuffer;
+            return sink;
+        }
+
+        /**
+         * release, frees the sink without retaining the written buffer.
+         * 
+         */
+        void release() {
+            this.buffer = null;
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#put(int, byte)
+         */
+        @Override
+        void put(final int aIndex, final byte aByte) {
+            this.buffer.put(aIndex, aByte);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putBytes(int, byte[], int)
+         */
+        @Override
+        void putBytes(final int aIndex, final byte[] aBytes, final int aLength) {
+            this.buffer.put(aIndex, aBytes, 0, aLength);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putShortLE(int, short)
+         */
+        @Override
+        void putShortLE(final int aIndex, final short aShort) {
+            DirectBytes.putShortLE(this.buffer, aIndex, aShort);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putIntLE(int, int)
+         */
+        @Override
+        void putIntLE(final int aIndex, final int aInt) {
+            DirectBytes.putIntLE(this.buffer, aIndex, aInt);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putLongLE(int, long)
+         */
+        @Override
+        void putLongLE(final int aIndex, final long aLong) {
+            DirectBytes.putLongLE(this.buffer, aIndex, aLong);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putShortsLE(int, short[])
+         */
+        @Override
+        void putShortsLE(final int aIndex, final short[] aShorts) {
+            littleEndianView(this.buffer, aIndex).asShortBuffer().put(aShorts);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putIntsLE(int, int[])
+         */
+        @Override
+        void putIntsLE(final int aIndex, final int[] aInts) {
+            littleEndianView(this.buffer, aIndex).asIntBuffer().put(aInts);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putLongsLE(int, long[])
+         */
+        @Override
+        void putLongsLE(final int aIndex, final long[] aLongs) {
+            littleEndianView(this.buffer, aIndex).asLongBuffer().put(aLongs);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putFloatsLE(int, float[])
+         */
+        @Override
+        void putFloatsLE(final int aIndex, final float[] aFloats) {
+            littleEndianView(this.buffer, aIndex).asFloatBuffer().put(aFloats);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putDoublesLE(int, double[])
+         */
+        @Override
+        void putDoublesLE(final int aIndex, final double[] aDoubles) {
+            littleEndianView(this.buffer, aIndex).asDoubleBuffer().put(aDoubles);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * Encoded in the scratch array of the sink, then put at once.
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putUtf8(int, java.lang.String)
+         */
+        @Override
+        int putUtf8(final int aIndex, final String aString) {
+            final int maxLength = aString.length() * 3;
+            if (this.scratch.length < maxLength) {
+                this.scratch = new byte[maxLength];
+            }
+            final int length = encodeUtf8(this.scratch, 0, aString);
+            this.buffer.put(aIndex, this.scratch, 0, length);
+            return aIndex + length;
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putVarInt(int, int)
+         */
+        @Override
+        int putVarInt(final int aIndex, final int aInt) {
+            return DirectBytes.putVarInt(this.buffer, aIndex, aInt);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#putVarLong(int, long)
+         */
+        @Override
+        int putVarLong(final int aIndex, final long aLong) {
+            return DirectBytes.putVarLong(this.buffer, aIndex, aLong);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgCodec.Sink#move(int, int, int)
+         */
+        @Override
+        void move(final int aFromIndex, final int aToIndex, final int aLength) {
+            // copied as through an intermediate array when the ranges overlap
+            this.buffer.put(aToIndex, this.buffer, aFromIndex, aLength);
+        }
+    }
+
+    // byte[] decoding
+
+    /**
+     * readCompact.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return the compact int at aOffset, its length is {@link #compactLength(int)}
+     */
+    final int readCompact(final byte[] aBytes, final int aOffset) {
+        if (this.varInt) {
+            return DirectBytes.getVarInt(aBytes, aOffset);
+        }
+        final int value = aBytes[aOffset] & XFF;
+        return (value != XFF) ? value : DirectBytes.getIntLE(aBytes, aOffset + ONE);
+    }
+
+    /**
+     * deserializeFromBytes.
+     * 
+     * @param aSrcBytes
+     * @param aSrcOffset
+     * @param aSrcLength
+     * @param aDestMsg removed before the decoding
+     */
+    final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength, final Msg aDestMsg) {
+        aDestMsg.removeAll();
+        final int end = aSrcOffset + aSrcLength;
+        int offset = aSrcOffset;
+        while (offset < end) {
+            offset = readField(aSrcBytes, offset, aDestMsg);
+        }
+    }
+
+    /**
+     * readField.
+     * 
+     * @param aSrcBytes
+     * @param aOffset the offset of the key of the field
+     * @param aDestMsg
+     * @return the offset after the field
+     */
+    final int readField(final byte[] aSrcBytes, final int aOffset, final Msg aDestMsg) {
+        final int key = readCompact(aSrcBytes, aOffset);
+        int offset = aOffset + compactLength(key);
+        final byte type = aSrcBytes[offset++];
+        switch (type) {
+            case BYTE_TYPE:
+                aDestMsg.set(key, aSrcBytes[offset]);
+                break;
+            case SHORT_TYPE:
+                aDestMsg.set(key, (short) readIntegral(aSrcBytes, offset, type), false);
+                break;
+            case INT_TYPE:
+                aDestMsg.set(key, (int) readIntegral(aSrcBytes, offset, type), false);
+                break;
+            case LONG_TYPE:
+                aDestMsg.set(key, readIntegral(aSrcBytes, offset, type), false);
+                break;
+            case FLOAT_TYPE:
+                aDestMsg.set(key, DirectBytes.getFloatLE(aSrcBytes, offset));
+                break;
+            case DOUBLE_TYPE:
+                aDestMsg.set(key, DirectBytes.getDoubleLE(aSrcBytes, offset), false);
+                break;
+            default:
+                aDestMsg.set(key, readValue(aSrcBytes, offset, type));
+                break;
+        }
+        return skipValue(aSrcBytes, offset, type);
+    }
+
+    /**
+     * readIntegral.
+     * 
+     * @param aBytes
+     * @param aOffset the offset of the value, after its type
+     * @param aType SHORT_TYPE, INT_TYPE or LONG_TYPE
+     * @return the value
+     */
+    final long readIntegral(final byte[] aBytes, final int aOffset, final byte aType) {
+        if (this.varInt) {
+            return DirectBytes.decodeZigZag(DirectBytes.getVarLong(aBytes, aOffset));
+        } else if (aType == SHORT_TYPE) {
+            return DirectBytes.getShortLE(aBytes, aOffset);
+        }
+        return (aType == INT_TYPE) ? DirectBytes.getIntLE(aBytes, aOffset) : DirectBytes.getLongLE(aBytes, aOffset);
+    }
+
+    /**
+     * skipValue.
+     * 
+     * @param aBytes
+     * @param aOffset the offset of the value, after its type
+     * @param aType
+     * @return the offset after the value
+     */
+    final int skipValue(final byte[] aBytes, final int aOffset, final byte aType) {
+        switch (aType) {
+            case SHORT_TYPE:
+            case INT_TYPE:
+            case LONG_TYPE:
+                return aOffset + ((this.varInt) ? DirectBytes.getVarLength(aBytes, aOffset) : fixedSize(aType));
+            case BYTE_TYPE:
+            case FLOAT_TYPE:
+            case DOUBLE_TYPE:
+                return aOffset + fixedSize(aType);
+            case STRING_UTF_8_TYPE:
+            case MSG_TYPE:
+                final int length = readCompact(aBytes, aOffset);
+                return aOffset + compactLength(length) + length;
+            case NULL_TYPE:
+                return aOffset + ONE + compactLength(readCompact(aBytes, aOffset + ONE));
+            case ARRAY_FIXED_VALUE_TYPE:
+                final int count = readCompact(aBytes, aOffset + ONE);
+                return aOffset + ONE + compactLength(count) + count * fixedSize(aBytes[aOffset]);
+            case ARRAY_VARIABLE_VALUE_TYPE:
+                final int size = readCompact(aBytes, aOffset + ONE);
+                int offset = aOffset + ONE + compactLength(size);
+                for (int i = 0; i < size; i++) {
+                    final byte type = aBytes[offset];
+                    offset = skipValue(aBytes, offset + ONE, type);
+                }
+                return offset;
+            default:
+                throw new IllegalArgumentException(String.format(ERROR_UNKNOWN_TYPE, aType, aOffset - ONE));
+        }
+    }
+
+    /**
+     * readValue.
+     * 
+     * @param aBytes
+     * @param aOffset the offset of the value, after its type
+     * @param aType
+     * @return the value, boxed for the primitives, null for a Null with type NULL and length 0
+     */
+    final Object readValue(final byte[] aBytes, final int aOffset, final byte aType) {
+        switch (aType) {
+            case BYTE_TYPE:
+                return Byte.valueOf(aBytes[aOffset]);
+            case SHORT_TYPE:
+                return Short.valueOf((short) readIntegral(aBytes, aOffset, aType));
+            case INT_TYPE:
+                return Integer.valueOf((int) readIntegral(aBytes, aOffset, aType));
+            case LONG_TYPE:
+                return Long.valueOf(readIntegral(aBytes, aOffset, aType));
+            case FLOAT_TYPE:
+                return Float.valueOf(DirectBytes.getFloatLE(aBytes, aOffset));
+            case DOUBLE_TYPE:
+                return Double.valueOf(DirectBytes.getDoubleLE(aBytes, aOffset));
+            case STRING_UTF_8_TYPE:
+                final int length = readCompact(aBytes, aOffset);
+                return new String(aBytes, aOffset + compactLength(length), length, StandardCharsets.UTF_8);
+            case MSG_TYPE:
+                final int msgLength = readCompact(aBytes, aOffset);
+                final Msg msg = IndexedObjectsMsg.create();
+                deserializeFromBytes(aBytes, aOffset + compactLength(msgLength), msgLength, msg);
+                return msg;
+            case NULL_TYPE:
+                return readNull(aBytes[aOffset], readCompact(aBytes, aOffset + ONE));
+            case ARRAY_FIXED_VALUE_TYPE:
+                return readFixedArray(aBytes, aOffset);
+            case ARRAY_VARIABLE_VALUE_TYPE:
+                return readVariableArray(aBytes, aOffset);
+            default:
+                throw new IllegalArgumentException(String.format(ERROR_UNKNOWN_TYPE, aType, aOffset - ONE));
+        }
+    }
+
+    /**
+     * readNull.
+     * 
+     * @param aTypeId
+     * @param aLength
+     * @return
+     */
+    static final Null readNull(final byte aTypeId, final int aLength) {
+        if (aTypeId != NULL_TYPE) {
+            return Null.valueOf(Msgs.getType(aTypeId));
+        }
+        return (aLength != 0) ? Null.valueOf(aLength) : null;
+    }
+
+    /**
+     * readFixedArray.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    private Object readFixedArray(final byte[] aBytes, final int aOffset) {
+        final byte componentType = aBytes[aOffset];
+        final int count = readCompact(aBytes, aOffset + ONE);
+        int offset = aOffset + ONE + compactLength(count);
+        switch (componentType) {
+            case BYTE_TYPE:
+                final byte[] bytes = new byte[count];
+                System.arraycopy(aBytes, offset, bytes, 0, count);
+                return bytes;
+            case SHORT_TYPE:
+                final short[] shorts = new short[count];
+                for (int i = 0; i < count; i++, offset += TWO) {
+                    shorts[i] = DirectBytes.getShortLE(aBytes, offset);
+                }
+                return shorts;
+            case INT_TYPE:
+                final int[] ints = new int[count];
+                for (int i = 0; i < count; i++, offset += FOUR) {
+                    ints[i] = DirectBytes.getIntLE(aBytes, offset);
+                }
+                return ints;
+            case LONG_TYPE:
+                final long[] longs = new long[count];
+                for (int i = 0; i < count; i++, offset += EIGHT) {
+                    longs[i] = DirectBytes.getLongLE(aBytes, offset);
+                }
+                return longs;
+            case FLOAT_TYPE:
+                final float[] floats = new float[count];
+                for (int i = 0; i < count; i++, offset += FOUR) {
+                    floats[i] = DirectBytes.getFloatLE(aBytes, offset);
+                }
+                return floats;
+            case DOUBLE_TYPE:
+                final double[] doubles = new double[count];
+                for (int i = 0; i < count; i++, offset += EIGHT) {
+                    doubles[i] = DirectBytes.getDoubleLE(aBytes, offset);
+                }
+                return doubles;
+            default:
+                throw new IllegalArgumentException(String.format(ERROR_UNKNOWN_TYPE, componentType, aOffset));
+        }
+    }
+
+    /**
+     * readVariableArray.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return
+     */
+    private Object[] readVariableArray(final byte[] aBytes, final int aOffset) {
+        final Object[] objects = newObjectArray(aBytes[aOffset], readCompact(aBytes, aOffset + ONE));
+        int offset = aOffset + ONE + compactLength(objects.length);
+        for (int i = 0; i < objects.length; i++) {
+            final byte type = aBytes[offset++];
+            objects[i] = readValue(aBytes, offset, type);
+            offset = skipValue(aBytes, offset, type);
+        }
+        return objects;
+    }
+
+    /**
+     * newObjectArray.
+     * 
+     * @param aComponentType
+     * @param aLength
+     * @return
+     */
+    static final Object[] newObjectArray(final byte aComponentType, final int aLength) {
+        switch (aComponentType) {
+            case BYTE_TYPE:
+                return new Byte[aLength];
+            case SHORT_TYPE:
+                return new Short[aLength];
+            case INT_TYPE:
+                return new Integer[aLength];
+            case LONG_TYPE:
+                return new Long[aLength];
+            case FLOAT_TYPE:
+                return new Float[aLength];
+            case DOUBLE_TYPE:
+                return new Double[aLength];
+            case STRING_UTF_8_TYPE:
+                return new String[aLength];
+            case MSG_TYPE:
+                return new Msg[aLength];
+            default:
+                return new Object[aLength];
+        }
+    }
+
+    // ByteBuffer decoding
+
+    /**
+     * deserializeFromByteBuffer.
+     * 
+     * @param aSrcByteBuffer read from its position to its limit, its position is moved to its limit
+     * @param aDestMsg removed before the decoding
+     */
+    final void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer, final Msg aDestMsg) {
+        final int position = aSrcByteBuffer.position();
+        final int length = aSrcByteBuffer.remaining();
+        if (aSrcByteBuffer.hasArray()) {
+            deserializeFromBytes(aSrcByteBuffer.array(), aSrcByteBuffer.arrayOffset() + position, length, aDestMsg);
+        } else {
+            deserializeFromByteBuffer(aSrcByteBuffer, position, length, aDestMsg);
+        }
+        aSrcByteBuffer.position(position + length);
+    }
+
+    /**
+     * readCompact.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return the compact int at aIndex, its length is {@link #compactLength(int)}
+     */
+    final int readCompact(final ByteBuffer aBuffer, final int aIndex) {
+        if (this.varInt) {
+            return DirectBytes.getVarInt(aBuffer, aIndex);
+        }
+        final int value = aBuffer.get(aIndex) & XFF;
+        return (value != XFF) ? value : DirectBytes.getIntLE(aBuffer, aIndex + ONE);
+    }
+
+    /**
+     * deserializeFromByteBuffer.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @param aLength
+     * @param aDestMsg removed before the decoding
+     */
+    final void deserializeFromByteBuffer(final ByteBuffer aBuffer, final int aIndex, final int aLength, final Msg aDestMsg) {
+        aDestMsg.removeAll();
+        final int end = aIndex + aLength;
+        int index = aIndex;
+        while (index < end) {
+            final int key = readCompact(aBuffer, index);
+            index += compactLength(key);
+            final byte type = aBuffer.get(index++);
+            switch (type) {
+                case BYTE_TYPE:
+                    aDestMsg.set(key, aBuffer.get(index));
+                    break;
+                case SHORT_TYPE:
+                    aDestMsg.set(key, (short) readIntegral(aBuffer, index, type), false);
+                    break;
+                case INT_TYPE:
+                    aDestMsg.set(key, (int) readIntegral(aBuffer, index, type), false);
+                    break;
+                case LONG_TYPE:
+                    aDestMsg.set(key, readIntegral(aBuffer, index, type), false);
+                    break;
+                case FLOAT_TYPE:
+                    aDestMsg.set(key, DirectBytes.getFloatLE(aBuffer, index));
+                    break;
+                case DOUBLE_TYPE:
+                    aDestMsg.set(key, DirectBytes.getDoubleLE(aBuffer, index), false);
+                    break;
+                default:
+                    aDestMsg.set(key, readValue(aBuffer, index, type));
+                    break;
+            }
+            index = skipValue(aBuffer, index, type);
+        }
+    }
+
+    /**
+     * readIntegral.
+     * 
+     * @param aBuffer
+     * @param aIndex the index of the value, after its type
+     * @param aType SHORT_TYPE, INT_TYPE or LONG_TYPE
+     * @return the value
+     */
+    final long readIntegral(final ByteBuffer aBuffer, final int aIndex, final byte aType) {
+        if (this.varInt) {
+            return DirectBytes.decodeZigZag(DirectBytes.getVarLong(aBuffer, aIndex));
+        } else if (aType == SHORT_TYPE) {
+            return DirectBytes.getShortLE(aBuffer, aIndex);
+        }
+        return (aType == INT_TYPE) ? DirectBytes.getIntLE(aBuffer, aIndex) : DirectBytes.getLongLE(aBuffer, aIndex);
+    }
+
+    /**
+     * skipValue.
+     * 
+     * @param aBuffer
+     * @param aIndex the index of the value, after its type
+     * @param aType
+     * @return the index after the value
+     */
+    final int skipValue(final ByteBuffer aBuffer, final int aIndex, final byte aType) {
+        switch (aType) {
+            case SHORT_TYPE:
+            case INT_TYPE:
+            case LONG_TYPE:
+                return aIndex + ((this.varInt) ? DirectBytes.getVarLength(aBuffer, aIndex) : fixedSize(aType));
+            case BYTE_TYPE:
+            case FLOAT_TYPE:
+            case DOUBLE_TYPE:
+                return aIndex + fixedSize(aType);
+            case STRING_UTF_8_TYPE:
+            case MSG_TYPE:
+                final int length = readCompact(aBuffer, aIndex);
+                return aIndex + compactLength(length) + length;
+            case NULL_TYPE:
+                return aIndex + ONE + compactLength(readCompact(aBuffer, aIndex + ONE));
+            case ARRAY_FIXED_VALUE_TYPE:
+                final int count = readCompact(aBuffer, aIndex + ONE);
+                return aIndex + ONE + compactLength(count) + count * fixedSize(aBuffer.get(aIndex));
+            case ARRAY_VARIABLE_VALUE_TYPE:
+                final int size = readCompact(aBuffer, aIndex + ONE);
+                int index = aIndex + ONE + compactLength(size);
+                for (int i = 0; i < size; i++) {
+                    final byte type = aBuffer.get(index);
+                    index = skipValue(aBuffer, index + ONE, type);
+                }
+                return index;
+            default:
+                throw new IllegalArgumentException(String.format(ERROR_UNKNOWN_TYPE, aType, aIndex - ONE));
+        }
+    }
+
+    /**
+     * readValue.
+     * 
+     * @param aBuffer
+     * @param aIndex the index of the value, after its type
+     * @param aType
+     * @return the value, boxed for the primitives, null for a Null with type NULL and length 0
+     */
+    final Object readValue(final ByteBuffer aBuffer, final int aIndex, final byte aType) {
+        switch (aType) {
+            case BYTE_TYPE:
+                return Byte.valueOf(aBuffer.get(aIndex));
+            case SHORT_TYPE:
+                return Short.valueOf((short) readIntegral(aBuffer, aIndex, aType));
+            case INT_TYPE:
+                return Integer.valueOf((int) readIntegral(aBuffer, aIndex, aType));
+            case LONG_TYPE:
+                return Long.valueOf(readIntegral(aBuffer, aIndex, aType));
+            case FLOAT_TYPE:
+                return Float.valueOf(DirectBytes.getFloatLE(aBuffer, aIndex));
+            case DOUBLE_TYPE:
+                return Double.valueOf(DirectBytes.getDoubleLE(aBuffer, aIndex));
+            case STRING_UTF_8_TYPE:
+                final int length = readCompact(aBuffer, aIndex);
+                final int start = aIndex + compactLength(length);
+                final byte[] bytes = new byte[length];
+                aBuffer.get(start, bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            case MSG_TYPE:
+                final int msgLength = readCompact(aBuffer, aIndex);
+                final Msg msg = IndexedObjectsMsg.create();
+                deserializeFromByteBuffer(aBuffer, aIndex + compactLength(msgLength), msgLength, msg);
+                return msg;
+            case NULL_TYPE:
+                return readNull(aBuffer.get(aIndex), readCompact(aBuffer, aIndex + ONE));
+            case ARRAY_FIXED_VALUE_TYPE:
+                return readFixedArray(aBuffer, aIndex);
+            case ARRAY_VARIABLE_VALUE_TYPE:
+                return readVariableArray(aBuffer, aIndex);
+            default:
+                throw new IllegalArgumentException(String.format(ERROR_UNKNOWN_TYPE, aType, aIndex - ONE));
+        }
+    }
+
+    /**
+     * readFixedArray.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    private Object readFixedArray(final ByteBuffer aBuffer, final int aIndex) {
+        final byte componentType = aBuffer.get(aIndex);
+        final int count = readCompact(aBuffer, aIndex + ONE);
+        int index = aIndex + ONE + compactLength(count);
+        switch (componentType) {
+            case BYTE_TYPE:
+                final byte[] bytes = new byte[count];
+                aBuffer.get(index, bytes);
+                return bytes;
+            case SHORT_TYPE:
+                final short[] shorts = new short[count];
+                littleEndianView(aBuffer, index).asShortBuffer().get(shorts);
+                return shorts;
+            case INT_TYPE:
+                final int[] ints = new int[count];
+                littleEndianView(aBuffer, index).asIntBuffer().get(ints);
+                return ints;
+            case LONG_TYPE:
+                final long[] longs = new long[count];
+                littleEndianView(aBuffer, index).asLongBuffer().get(longs);
+                return longs;
+            case FLOAT_TYPE:
+                final float[] floats = new float[count];
+                littleEndianView(aBuffer, index).asFloatBuffer().get(floats);
+                return floats;
+            case DOUBLE_TYPE:
+                final double[] doubles = new double[count];
+                littleEndianView(aBuffer, index).asDoubleBuffer().get(doubles);
+                return doubles;
+            default:
+                throw new IllegalArgumentException(String.format(ERROR_UNKNOWN_TYPE, componentType, aIndex));
+        }
+    }
+
+    /**
+     * readVariableArray.
+     * 
+     * @param aBuffer
+     * @param aIndex
+     * @return
+     */
+    private Object[] readVariableArray(final ByteBuffer aBuffer, final int aIndex) {
+        final Object[] objects = newObjectArray(aBuffer.get(aIndex), readCompact(aBuffer, aIndex + ONE));
+        int index = aIndex + ONE + compactLength(objects.length);
+        for (int i = 0; i < objects.length; i++) {
+            final byte type = aBuffer.get(index++);
+            objects[i] = readValue(aBuffer, index, type);
+            index = skipValue(aBuffer, index, type);
+        }
+        return objects;
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.MsgBatchSerializer.FRAME_HEADER_LENGTH;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>MsgInputStream. </p>
+ * 
+ * Reads the frames written by {@link MsgOutputStream} from an InputStream or a blocking ReadableByteChannel. The bytes are read into one
+ * reusable buffer, a frame split over several reads or over the end of the buffer is completed by the next reads (the buffer is compacted,
+ * or grown for a frame larger than it), and each frame is decoded into the Msg of the caller : a replay allocates nothing per Msg but its
+ * String and array values.
+ * 
+ * <pre>
+ * while (in.read(msg)) {
+ *     ...
+ * }
+ * </pre>
+ * 
+ * Not thread-safe.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgInputStream implements Closeable {
+
+    /**
+     * DEFAULT_BUFFER_SIZE.
+     */
+    public static final int           DEFAULT_BUFFER_SIZE      = 64 * 1024;
+
+    /**
+     * DEFAULT_MAX_FRAME_LENGTH, a longer frame length is considered as a corrupted stream.
+     */
+    public static final int           DEFAULT_MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+
+    private final InputStream         in;
+    private final ReadableByteChannel channel;
+    private final int                 maxFrameLength;
+    private byte[]                    bytes;
+    private ByteBuffer                buffer;
+    private int                       position;
+    private int                       limit;
+    private long                      msgsCount;
+
+    /**
+     * Constructor.
+     * 
+     * @param aIn null for a channel
+     * @param aChannel null for an InputStream
+     * @param aBufferSize
+     * @param aMaxFrameLength
+     */
+    private MsgInputStream(final InputStream aIn, final ReadableByteChannel aChannel, final int aBufferSize, final int aMaxFrameLength) {
+        if (aBufferSize < FRAME_HEADER_LENGTH || aMaxFrameLength < 0) {
+            throw new IllegalArgumentException("The bufferSize=" + aBufferSize + " must be at least " + FRAME_HEADER_LENGTH
+            + " and the maxFrameLength=" + aMaxFrameLength + " positive.");
+        }
+        this.in = aIn;
+        this.channel = aChannel;
+        this.maxFrameLength = aMaxFrameLength;
+        this.bytes = new byte[aBufferSize];
+        this.buffer = ByteBuffer.wrap(this.bytes);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aIn
+     * @return
+     */
+    public static MsgInputStream create(final InputStream aIn) {
+        return create(aIn, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aIn
+     * @param aBufferSize
+     * @param aMaxFrameLength
+     * @return
+     */
+    public static MsgInputStream create(final InputStream aIn, final int aBufferSize, final int aMaxFrameLength) {
+        if (aIn == null) {
+            throw new IllegalArgumentException("The InputStream must not be null.");
+        }
+        return new MsgInputStream(aIn, null, aBufferSize, aMaxFrameLength);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aChannel a blocking channel
+     * @return
+     */
+    public static MsgInputStream create(final ReadableByteChannel aChannel) {
+        return create(aChannel, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aChannel a blocking channel
+     * @param aBufferSize
+     * @param aMaxFrameLength
+     * @return
+     */
+    public static MsgInputStream create(final ReadableByteChannel aChannel, final int aBufferSize, final int aMaxFrameLength) {
+        if (aChannel == null) {
+            throw new IllegalArgumentException("The channel must not be null.");
+        }
+        return new MsgInputStream(null, aChannel, aBufferSize, aMaxFrameLength);
+    }
+
+    /**
+     * read, decodes the next frame into aDestMsg.
+     * 
+     * @param aDestMsg removed before the decoding
+     * @return true if a Msg is read, false at the end of the stream
+     * @throws EOFException if the stream ends inside a frame
+     * @throws StreamCorruptedException if a frame length is negative or longer than maxFrameLength
+     * @throws IOException
+     */
+    public boolean read(final Msg aDestMsg) throws IOException {
+        if (!fill(FRAME_HEADER_LENGTH)) {
+            return false;
+        }
+        final int length = DirectBytes.getIntLE(this.bytes, this.position);
+        if (length < 0 || length > this.maxFrameLength) {
+            throw new StreamCorruptedException("The frame length=" + length + " is not between 0 and maxFrameLength=" + this.maxFrameLength
+            + ".");
+        }
+        fill(FRAME_HEADER_LENGTH + length);
+        MsgCodec.DEFAULT.deserializeFromBytes(this.bytes, this.position + FRAME_HEADER_LENGTH, length, aDestMsg);
+        this.position += FRAME_HEADER_LENGTH + length;
+        this.msgsCount++;
+        return true;
+    }
+
+    /**
+     * fill, reads until aLength bytes are buffered from position.
+     * 
+     * @param aLength
+     * @return true if aLength bytes are buffered, false if the stream ends before any of them
+     * @throws EOFException if the stream ends after some of them
+     * @throws IOException
+     */
+    private boolean fill(final int aLength) throws IOException {
+        if (this.limit - this.position >= aLength) {
+            return true;
+        }
+        if (this.bytes.length - this.position < aLength) {
+            final int buffered = this.limit - this.position;
+            if (this.bytes.length < aLength) {
+                final byte[] newBytes = new byte[Math.max(aLength, this.bytes.length * 2)];
+                System.arraycopy(this.bytes, this.position, newBytes, 0, buffered);
+                this.bytes = newBytes;
+                this.buffer = ByteBuffer.wrap(this.bytes);
+            } else {
+                System.arraycopy(this.bytes, this.position, this.bytes, 0, buffered);
+            }
+            this.position = 0;
+            this.limit = buffered;
+        }
+        while (this.limit - this.position < aLength) {
+            final int read;
+            if (this.in != null) {
+                read = this.in.read(this.bytes, this.limit, this.bytes.length - this.limit);
+            } else {
+                this.buffer.limit(this.bytes.length).position(this.limit);
+                read = this.channel.read(this.buffer);
+            }
+            if (read < 0) {
+                if (this.limit == this.position) {
+                    return false;
+                }
+                throw new EOFException("The stream ends inside a frame, " + (this.limit - this.position) + " bytes read of " + aLength + ".");
+            }
+            this.limit += read;
+        }
+        return true;
+    }
+
+    /**
+     * getMsgsCount.
+     * 
+     * @return the number of Msgs read
+     */
+    public long getMsgsCount() {
+        return this.msgsCount;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.in != null) {
+            this.in.close();
+        } else {
+            this.channel.close();
+        }
+    }
+}
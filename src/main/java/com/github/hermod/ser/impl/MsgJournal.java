@@ -0,0 +1,428 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.MsgBatchSerializer.FRAME_HEADER_LENGTH;
+import static com.github.hermod.ser.impl.Msgs.EIGHT;
+import static com.github.hermod.ser.impl.Msgs.FOUR;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>MsgJournal. </p>
+ * 
+ * Append-only journal of Msgs in memory-mapped segment files of a directory, each Msg being numbered by its sequence (from 0). A segment
+ * <code>&lt;first sequence&gt;.journal</code> is a header followed by the frames of its Msgs, as the frames of {@link MsgBatchSerializer} :
+ * 
+ * <pre>
+ * header = end of the frames (int) + count of frames (int) + index interval (int), little-endian
+ * frame  = length of the fields (int, little-endian) + fields, as written by IndexedObjectsMsg.serializeToBytes
+ * </pre>
+ * 
+ * A new segment is rolled when a frame does not fit in the current one. The sparse index <code>&lt;first sequence&gt;.index</code> of a
+ * segment is the offset (int, little-endian) of each indexInterval-th frame : {@link #read(long, Msg)} finds the segment by a binary search
+ * and skips at most indexInterval - 1 frames from the indexed one. The header is updated after its frame, its end and count by one 8-byte
+ * release store, a journal reopened after a crash of the process ends at the last complete frame.
+ * 
+ * The segments stay mapped until {@link #close()}, they must not be read after. The appends are not thread-safe, and the writes reach
+ * the disk when the OS flushes the pages, on {@link #force()} and when a segment is rolled : after a crash of the OS or a power loss, only
+ * the Msgs appended before the last force or roll are guaranteed (a page of the header may also reach the disk before the page of its
+ * frame).
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgJournal implements Closeable {
+
+    /**
+     * DEFAULT_SEGMENT_SIZE.
+     */
+    public static final int      DEFAULT_SEGMENT_SIZE     = 64 * 1024 * 1024;
+
+    /**
+     * DEFAULT_INDEX_INTERVAL.
+     */
+    public static final int      DEFAULT_INDEX_INTERVAL   = 64;
+
+    static final int             SEGMENT_HEADER_LENGTH    = 12;
+    static final String          SEGMENT_SUFFIX           = ".journal";
+    static final String          INDEX_SUFFIX             = ".index";
+
+    private static final int     END_INDEX                = 0;
+    private static final int     COUNT_INDEX              = FOUR;
+    private static final int     INDEX_INTERVAL_INDEX     = EIGHT;
+
+    private final Path           directory;
+    private final int            segmentSize;
+    private final int            indexInterval;
+    private final List<Segment>  segments;
+    private Segment              lastSegment;
+    private long                 nextSequence;
+    private boolean              closed;
+
+    /**
+     * Constructor.
+     * 
+     * @param aDirectory
+     * @param aSegmentSize
+     * @param aIndexInterval
+     */
+    private MsgJournal(final Path aDirectory, final int aSegmentSize, final int aIndexInterval) {
+        this.directory = aDirectory;
+        this.segmentSize = aSegmentSize;
+        this.indexInterval = aIndexInterval;
+        this.segments = new ArrayList<Segment>();
+    }
+
+    /**
+     * open.
+     * 
+     * @param aDirectory created if needed
+     * @return the journal of aDirectory, positioned after its last Msg
+     * @throws IOException
+     */
+    public static MsgJournal open(final Path aDirectory) throws IOException {
+        return open(aDirectory, DEFAULT_SEGMENT_SIZE, DEFAULT_INDEX_INTERVAL);
+    }
+
+    /**
+     * open.
+     * 
+     * @param aDirectory created if needed
+     * @param aSegmentSize the size of the new segment files
+     * @param aIndexInterval the number of frames per index entry of the new segments
+     * @return the journal of aDirectory, positioned after its last Msg
+     * @throws IOException
+     */
+    public static MsgJournal open(final Path aDirectory, final int aSegmentSize, final int aIndexInterval) throws IOException {
+        if (aSegmentSize <= SEGMENT_HEADER_LENGTH + FRAME_HEADER_LENGTH || aIndexInterval <= 0) {
+            throw new IllegalArgumentException("The segmentSize=" + aSegmentSize + " must be greater than "
+            + (SEGMENT_HEADER_LENGTH + FRAME_HEADER_LENGTH) + " and the indexInterval=" + aIndexInterval + " positive.");
+        }
+        Files.createDirectories(aDirectory);
+        final MsgJournal journal = new MsgJournal(aDirectory, aSegmentSize, aIndexInterval);
+        final List<Long> firstSequences = new ArrayList<Long>();
+        try (final DirectoryStream<Path> paths = Files.newDirectoryStream(aDirectory, "*" + SEGMENT_SUFFIX)) {
+            for (final Path path : paths) {
+                final String fileName = path.getFileName().toString();
+                firstSequences.add(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        Collections.sort(firstSequences);
+        for (final long firstSequence : firstSequences) {
+            journal.segments.add(journal.mapSegment(firstSequence));
+        }
+        if (journal.segments.isEmpty()) {
+            journal.segments.add(journal.mapSegment(0));
+        }
+        journal.lastSegment = journal.segments.get(journal.segments.size() - 1);
+        journal.nextSequence = journal.lastSegment.getFirstSequence() + journal.lastSegment.getCount();
+        return journal;
+    }
+
+    /**
+     * mapSegment, maps the segment and the index of aFirstSequence, created if needed.
+     * 
+     * @param aFirstSequence
+     * @return
+     * @throws IOException
+     */
+    private Segment mapSegment(final long aFirstSequence) throws IOException {
+        final String name = String.format("%020d", aFirstSequence);
+        final MappedByteBuffer buffer = map(this.directory.resolve(name + SEGMENT_SUFFIX), this.segmentSize);
+        int interval = DirectBytes.getIntLE(buffer, INDEX_INTERVAL_INDEX);
+        if (interval == 0) {
+            interval = this.indexInterval;
+            DirectBytes.putIntLE(buffer, END_INDEX, SEGMENT_HEADER_LENGTH);
+            DirectBytes.putIntLE(buffer, INDEX_INTERVAL_INDEX, interval);
+        }
+        final int maxIndexEntries = (buffer.capacity() - SEGMENT_HEADER_LENGTH) / FRAME_HEADER_LENGTH / interval + 1;
+        final MappedByteBuffer index = map(this.directory.resolve(name + INDEX_SUFFIX), maxIndexEntries * FOUR);
+        return new Segment(aFirstSequence, buffer, index, interval);
+    }
+
+    /**
+     * map.
+     * 
+     * @param aPath
+     * @param aSize the size of a new file
+     * @return the whole file mapped
+     * @throws IOException
+     */
+    private static MappedByteBuffer map(final Path aPath, final int aSize) throws IOException {
+        try (final FileChannel channel = FileChannel.open(aPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final long size = (channel.size() != 0) ? channel.size() : aSize;
+            return channel.map(MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * append.
+     * 
+     * @param aMsg
+     * @return the sequence of aMsg
+     * @throws IOException if a new segment cannot be created
+     */
+    public long append(final Msg aMsg) throws IOException {
+        checkOpen();
+        final int length = MsgCodec.DEFAULT.getLength(aMsg);
+        final int frameLength = FRAME_HEADER_LENGTH + length;
+        if (frameLength > this.segmentSize - SEGMENT_HEADER_LENGTH) {
+            throw new IllegalArgumentException("The Msg of length=" + length + " does not fit in a segment of size=" + this.segmentSize + ".");
+        }
+        if (this.lastSegment.buffer.capacity() - this.lastSegment.end < frameLength) {
+            roll();
+        }
+        final Segment segment = this.lastSegment;
+        DirectBytes.putIntLE(segment.buffer, segment.end, length);
+        MsgCodec.DEFAULT.writeMsg(segment.buffer, segment.end + FRAME_HEADER_LENGTH, aMsg);
+        segment.commit(frameLength);
+        return this.nextSequence++;
+    }
+
+    /**
+     * roll, forces the last segment and starts a new one.
+     * 
+     * @throws IOException
+     */
+    private void roll() throws IOException {
+        this.lastSegment.force();
+        this.lastSegment = mapSegment(this.nextSequence);
+        this.segments.add(this.lastSegment);
+    }
+
+    /**
+     * read.
+     * 
+     * @param aSequence
+     * @param aDestMsg removed before the decoding
+     * @return true if aSequence is in the journal, false otherwise (aDestMsg unchanged)
+     */
+    public boolean read(final long aSequence, final Msg aDestMsg) {
+        checkOpen();
+        if (aSequence < getFirstSequence() || aSequence >= this.nextSequence) {
+            return false;
+        }
+        final Segment segment = this.segments.get(segmentIndexOf(aSequence));
+        final int offset = segment.offsetOf((int) (aSequence - segment.getFirstSequence()));
+        segment.decode(offset, aDestMsg);
+        return true;
+    }
+
+    /**
+     * segmentIndexOf.
+     * 
+     * @param aSequence a sequence of the journal
+     * @return the index of the segment of aSequence
+     */
+    private int segmentIndexOf(final long aSequence) {
+        int low = 0;
+        int high = this.segments.size() - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (this.segments.get(middle).getFirstSequence() <= aSequence) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * getFirstSequence.
+     * 
+     * @return the sequence of the first Msg of the journal
+     */
+    public long getFirstSequence() {
+        return this.segments.get(0).getFirstSequence();
+    }
+
+    /**
+     * getNextSequence.
+     * 
+     * @return the sequence of the next Msg appended
+     */
+    public long getNextSequence() {
+        return this.nextSequence;
+    }
+
+    /**
+     * getDirectory.
+     * 
+     * @return
+     */
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * getSegments.
+     * 
+     * @return the segments, ascending
+     */
+    final List<Segment> getSegments() {
+        checkOpen();
+        return Collections.unmodifiableList(this.segments);
+    }
+
+    /**
+     * force, writes the appended Msgs to the disk.
+     * 
+     */
+    public void force() {
+        checkOpen();
+        this.lastSegment.force();
+    }
+
+    /**
+     * checkOpen.
+     * 
+     */
+    private void checkOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("The journal of " + this.directory + " is closed.");
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.lastSegment.force();
+            this.closed = true;
+            for (final Segment segment : this.segments) {
+                DirectBytes.free(segment.buffer);
+                DirectBytes.free(segment.index);
+            }
+            this.segments.clear();
+        }
+    }
+
+    /**
+     * <p>Segment, a segment file and its index, mapped.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    static final class Segment {
+
+        private final long             firstSequence;
+        private final MappedByteBuffer buffer;
+        private final MappedByteBuffer index;
+        private final int              indexInterval;
+        private int                    end;
+        private int                    count;
+
+        /**
+         * Constructor.
+         * 
+         * @param aFirstSequence
+         * @param aBuffer
+         * @param aIndex
+         * @param aIndexInterval
+         */
+        Segment(final long aFirstSequence, final MappedByteBuffer aBuffer, final MappedByteBuffer aIndex, final int aIndexInterval) {
+            this.firstSequence = aFirstSequence;
+            this.buffer = aBuffer;
+            this.index = aIndex;
+            this.indexInterval = aIndexInterval;
+            this.end = DirectBytes.getIntLE(aBuffer, END_INDEX);
+            this.count = DirectBytes.getIntLE(aBuffer, COUNT_INDEX);
+        }
+
+        /**
+         * commit, indexes the frame written at end and updates the header.
+         * 
+         * @param aFrameLength
+         */
+        final void commit(final int aFrameLength) {
+            if (this.count % this.indexInterval == 0) {
+                DirectBytes.putIntLE(this.index, (this.count / this.indexInterval) * FOUR, this.end);
+            }
+            this.end += aFrameLength;
+            this.count++;
+            // end and count in one aligned 8-byte store, a crash never leaves one updated without the other, released after the frame
+            DirectBytes.putLongLERelease(this.buffer, END_INDEX, ((long) this.count << Integer.SIZE) | (this.end & 0xFFFFFFFFL));
+        }
+
+        /**
+         * offsetOf.
+         * 
+         * @param aRelativeSequence the sequence in the segment, from 0
+         * @return the offset of its frame
+         */
+        final int offsetOf(final int aRelativeSequence) {
+            final int entry = aRelativeSequence / this.indexInterval;
+            int offset = DirectBytes.getIntLE(this.index, entry * FOUR);
+            for (int i = entry * this.indexInterval; i < aRelativeSequence; i++) {
+                offset += FRAME_HEADER_LENGTH + DirectBytes.getIntLE(this.buffer, offset);
+            }
+            return offset;
+        }
+
+        /**
+         * decode.
+         * 
+         * @param aOffset the offset of a frame
+         * @param aDestMsg
+         * @return the offset of the next frame
+         */
+        final int decode(final int aOffset, final Msg aDestMsg) {
+            final int length = DirectBytes.getIntLE(this.buffer, aOffset);
+            MsgCodec.DEFAULT.deserializeFromByteBuffer(this.buffer, aOffset + FRAME_HEADER_LENGTH, length, aDestMsg);
+            return aOffset + FRAME_HEADER_LENGTH + length;
+        }
+
+        /**
+         * force.
+         * 
+         */
+        final void force() {
+            this.buffer.force();
+            this.index.force();
+        }
+
+        /**
+         * getFirstSequence.
+         * 
+         * @return
+         */
+        final long getFirstSequence() {
+            return this.firstSequence;
+        }
+
+        /**
+         * getCount.
+         * 
+         * @return the number of frames of the segment
+         */
+        final int getCount() {
+            return this.count;
+        }
+
+        /**
+         * getIndexInterval.
+         * 
+         * @return the number of frames per index entry
+         */
+        final int getIndexInterval() {
+            return this.indexInterval;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.github.hermod.ser.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ObjLongConsumer;
+
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.impl.MsgJournal.Segment;
+
+/**
+ * <p>MsgJournalReplay. </p>
+ * 
+ * Replays a {@link MsgJournal} with the frames decoded in parallel by a ForkJoinPool : the segments are split into chunks of chunkLength
+ * frames starting on an indexed frame, so each chunk is located without reading the previous ones, and each chunk is decoded by one task
+ * into Msgs of a {@link MsgPool}.
+ * 
+ * <ul>
+ * <li>{@link #replayOrdered(long, ObjLongConsumer)} delivers the Msgs in sequence order on the calling thread, the chunks being decoded
+ * ahead (at most window chunks in flight) and reassembled in order.</li>
+ * <li>{@link #replayUnordered(long, ObjLongConsumer)} delivers each Msg on the thread which decoded it, in order within a chunk only, for
+ * the consumers partitioned by key. The handler must be thread-safe.</li>
+ * </ul>
+ * 
+ * A delivered Msg is reused for a next frame when the handler returns, the handler copies what it keeps. The journal must not be appended
+ * nor closed during a replay.
+ * 
+ * The ordered replay decodes into window buffers of chunkLength Msgs (window = 4 * the parallelism of the ForkJoinPool), acquired once
+ * per replay and released at its end, the unordered replay into one Msg per chunk. The MsgPool is sized to window * chunkLength Msgs
+ * (see {@link MsgPool#create(java.util.function.Supplier, int, int, boolean)}) to reuse them from a replay to the next.
+ * 
+ * @param <T> the type of the pooled Msgs
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgJournalReplay<T extends Msg> {
+
+    /**
+     * DEFAULT_CHUNK_LENGTH.
+     */
+    public static final int    DEFAULT_CHUNK_LENGTH = 4096;
+
+    private static final int   WINDOW_PER_THREAD    = 4;
+
+    private final MsgJournal   journal;
+    private final ForkJoinPool pool;
+    private final MsgPool<T>   msgPool;
+    private final int          chunkLength;
+    private final int          window;
+
+    /**
+     * Constructor.
+     * 
+     * @param aJournal
+     * @param aPool
+     * @param aMsgPool
+     * @param aChunkLength
+     */
+    private MsgJournalReplay(final MsgJournal aJournal, final ForkJoinPool aPool, final MsgPool<T> aMsgPool, final int aChunkLength) {
+        if (aChunkLength <= 0) {
+            throw new IllegalArgumentException("The chunkLength=" + aChunkLength + " must be positive.");
+        }
+        this.journal = aJournal;
+        this.pool = aPool;
+        this.msgPool = aMsgPool;
+        this.chunkLength = aChunkLength;
+        this.window = aPool.getParallelism() * WINDOW_PER_THREAD;
+    }
+
+    /**
+     * create.
+     * 
+     * @param aJournal
+     * @param aPool
+     * @param aMsgPool
+     * @return
+     */
+    public static <T extends Msg> MsgJournalReplay<T> create(final MsgJournal aJournal, final ForkJoinPool aPool, final MsgPool<T> aMsgPool) {
+        return new MsgJournalReplay<T>(aJournal, aPool, aMsgPool, DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aJournal
+     * @param aPool
+     * @param aMsgPool
+     * @param aChunkLength the number of frames decoded per task, rounded up to a multiple of the index interval
+     * @return
+     */
+    public static <T extends Msg> MsgJournalReplay<T> create(final MsgJournal aJournal, final ForkJoinPool aPool, final MsgPool<T> aMsgPool,
+    final int aChunkLength) {
+        return new MsgJournalReplay<T>(aJournal, aPool, aMsgPool, aChunkLength);
+    }
+
+    /**
+     * replayOrdered.
+     * 
+     * @param aFromSequence the first sequence replayed
+     * @param aHandler called on the calling thread with each Msg and its sequence, in sequence order
+     * @return the number of Msgs replayed
+     */
+    @SuppressWarnings("unchecked")
+    public long replayOrdered(final long aFromSequence, final ObjLongConsumer<? super T> aHandler) {
+        final List<Chunk> chunks = chunks(aFromSequence);
+        int bufferLength = 0;
+        for (final Chunk chunk : chunks) {
+            bufferLength = Math.max(bufferLength, chunk.length);
+        }
+        // at most window buffers, each decoded again once delivered
+        final List<Msg[]> buffers = new ArrayList<Msg[]>();
+        final ArrayDeque<Msg[]> freeBuffers = new ArrayDeque<Msg[]>();
+        final ArrayDeque<DecodeTask> decodings = new ArrayDeque<DecodeTask>();
+        final AtomicBoolean stopped = new AtomicBoolean();
+        long count = 0;
+        int next = 0;
+        try {
+            for (final Chunk chunk : chunks) {
+                while (next < chunks.size() && decodings.size() < this.window) {
+                    Msg[] buffer = freeBuffers.poll();
+                    if (buffer == null) {
+                        buffer = new Msg[bufferLength];
+                        buffers.add(buffer);
+                    }
+                    final DecodeTask decoding = new DecodeTask(chunks.get(next++), buffer, stopped);
+                    this.pool.execute(decoding);
+                    decodings.add(decoding);
+                }
+                final DecodeTask decoding = decodings.poll();
+                decoding.join();
+                final Msg[] msgs = decoding.msgs;
+                for (int i = 0; i < chunk.length; i++) {
+                    aHandler.accept((T) msgs[i], chunk.firstSequence + i);
+                }
+                freeBuffers.add(msgs);
+                count += chunk.length;
+            }
+        } finally {
+            // the decodings ahead are joined before returning so the journal can be closed, not cancelled : a cancel marks a running task
+            // as done without waiting for it
+            stopped.set(true);
+            for (final DecodeTask decoding : decodings) {
+                decoding.quietlyJoin();
+            }
+            for (final Msg[] buffer : buffers) {
+                for (int i = 0; i < buffer.length && buffer[i] != null; i++) {
+                    this.msgPool.release((T) buffer[i]);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * replayUnordered.
+     * 
+     * @param aFromSequence the first sequence replayed
+     * @param aHandler called on the threads of the pool with each Msg and its sequence, thread-safe
+     * @return the number of Msgs replayed
+     */
+    public long replayUnordered(final long aFromSequence, final ObjLongConsumer<? super T> aHandler) {
+        final List<Chunk> chunks = chunks(aFromSequence);
+        if (!chunks.isEmpty()) {
+            this.pool.invoke(new ReplayAction(chunks, 0, chunks.size(), aHandler, new AtomicBoolean()));
+        }
+        long count = 0;
+        for (final Chunk chunk : chunks) {
+            count += chunk.length;
+        }
+        return count;
+    }
+
+    /**
+     * chunks.
+     * 
+     * @param aFromSequence
+     * @return the chunks of the frames from aFromSequence, ascending
+     */
+    private List<Chunk> chunks(final long aFromSequence) {
+        final List<Chunk> chunks = new ArrayList<Chunk>();
+        for (final Segment segment : this.journal.getSegments()) {
+            final int count = segment.getCount();
+            if (segment.getFirstSequence() + count <= aFromSequence) {
+                continue;
+            }
+            final int interval = segment.getIndexInterval();
+            final int step = ((this.chunkLength + interval - 1) / interval) * interval;
+            int start = (int) Math.max(0, aFromSequence - segment.getFirstSequence());
+            while (start < count) {
+                // ends before an indexed frame, the next chunk is located by the index
+                final int end = Math.min(count, (start / step + 1) * step);
+                chunks.add(new Chunk(segment, start, end - start));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * <p>Chunk, consecutive frames of a segment.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class Chunk {
+
+        private final Segment segment;
+        private final int     start;
+        private final int     length;
+        private final long    firstSequence;
+
+        /**
+         * Constructor.
+         * 
+         * @param aSegment
+         * @param aStart the first frame, relative to the segment
+         * @param aLength
+         */
+        Chunk(final Segment aSegment, final int aStart, final int aLength) {
+            this.segment = aSegment;
+            this.start = aStart;
+            this.length = aLength;
+            this.firstSequence = aSegment.getFirstSequence() + aStart;
+        }
+    }
+
+    /**
+     * <p>DecodeTask, decodes a chunk into a buffer of pooled Msgs, acquired on its first use and reused for the next chunks.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private final class DecodeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Chunk         chunk;
+        private final Msg[]         msgs;
+        private final AtomicBoolean stopped;
+
+        /**
+         * Constructor.
+         * 
+         * @param aChunk
+         * @param aMsgs the buffer, at least as long as aChunk
+         * @param aStopped true once the replay failed, the chunk is then skipped
+         */
+        DecodeTask(final Chunk aChunk, final Msg[] aMsgs, final AtomicBoolean aStopped) {
+            this.chunk = aChunk;
+            this.msgs = aMsgs;
+            this.stopped = aStopped;
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute() {
+            if (this.stopped.get()) {
+                return;
+            }
+            int offset = this.chunk.segment.offsetOf(this.chunk.start);
+            for (int i = 0; i < this.chunk.length; i++) {
+                if (this.msgs[i] == null) {
+                    this.msgs[i] = MsgJournalReplay.this.msgPool.acquire();
+                }
+                offset = this.chunk.segment.decode(offset, this.msgs[i]);
+            }
+        }
+    }
+
+    /**
+     * <p>ReplayAction, splits the chunks in halves down to one chunk, decoded and delivered into one pooled Msg.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private final class ReplayAction extends RecursiveAction {
+
+        private static final long                serialVersionUID = 1L;
+
+        private final List<Chunk>                chunks;
+        private final int                        from;
+        private final int                        to;
+        private final ObjLongConsumer<? super T> handler;
+        private final AtomicBoolean              stopped;
+
+        /**
+         * Constructor.
+         * 
+         * @param aChunks
+         * @param aFrom
+         * @param aTo
+         * @param aHandler
+         * @param aStopped true once the replay failed, the chunks not started are then skipped
+         */
+        ReplayAction(final List<Chunk> aChunks, final int aFrom, final int aTo, final ObjLongConsumer<? super T> aHandler,
+                final AtomicBoolean aStopped) {
+            this.chunks = aChunks;
+            this.from = aFrom;
+            this.to = aTo;
+            this.handler = aHandler;
+            this.stopped = aStopped;
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from > 1) {
+                final int middle = (this.from + this.to) >>> 1;
+                final ReplayAction right = new ReplayAction(this.chunks, middle, this.to, this.handler, this.stopped);
+                right.fork();
+                try {
+                    new ReplayAction(this.chunks, this.from, middle, this.handler, this.stopped).compute();
+                } catch (final RuntimeException | Error e) {
+                    // invokeAll would rethrow without waiting for the right half, still reading the segments
+                    this.stopped.set(true);
+                    right.quietlyJoin();
+                    throw e;
+                }
+                right.join();
+            } else if (!this.stopped.get()) {
+                final Chunk chunk = this.chunks.get(this.from);
+                final T msg = MsgJournalReplay.this.msgPool.acquire();
+                try {
+                    int offset = chunk.segment.offsetOf(chunk.start);
+                    for (int i = 0; i < chunk.length; i++) {
+                        offset = chunk.segment.decode(offset, msg);
+                        this.handler.accept(msg, chunk.firstSequence + i);
+                    }
+                } catch (final RuntimeException | Error e) {
+                    this.stopped.set(true);
+                    throw e;
+                } finally {
+                    MsgJournalReplay.this.msgPool.release(msg);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.MsgBatchSerializer.FRAME_HEADER_LENGTH;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>MsgOutputStream. </p>
+ * 
+ * Writes Msgs to an OutputStream or a blocking WritableByteChannel as frames (length of the fields as a 4 bytes little-endian int + fields,
+ * as the frames of {@link MsgBatchSerializer}), read back by {@link MsgInputStream}. The frames are encoded into one reusable buffer, written
+ * when it is full and on {@link #flush()}. A frame larger than the buffer grows it.
+ * 
+ * Not thread-safe.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgOutputStream implements Closeable, Flushable {
+
+    /**
+     * DEFAULT_BUFFER_SIZE.
+     */
+    public static final int           DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream        out;
+    private final WritableByteChannel channel;
+    private byte[]                    bytes;
+    private ByteBuffer                buffer;
+    private int                       position;
+    private long                      msgsCount;
+
+    /**
+     * Constructor.
+     * 
+     * @param aOut null for a channel
+     * @param aChannel null for an OutputStream
+     * @param aBufferSize
+     */
+    private MsgOutputStream(final OutputStream aOut, final WritableByteChannel aChannel, final int aBufferSize) {
+        if (aBufferSize < FRAME_HEADER_LENGTH) {
+            throw new IllegalArgumentException("The bufferSize=" + aBufferSize + " must be at least " + FRAME_HEADER_LENGTH + ".");
+        }
+        this.out = aOut;
+        this.channel = aChannel;
+        this.bytes = new byte[aBufferSize];
+        this.buffer = ByteBuffer.wrap(this.bytes);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aOut
+     * @return
+     */
+    public static MsgOutputStream create(final OutputStream aOut) {
+        return create(aOut, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aOut
+     * @param aBufferSize
+     * @return
+     */
+    public static MsgOutputStream create(final OutputStream aOut, final int aBufferSize) {
+        if (aOut == null) {
+            throw new IllegalArgumentException("The OutputStream must not be null.");
+        }
+        return new MsgOutputStream(aOut, null, aBufferSize);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aChannel a blocking channel
+     * @return
+     */
+    public static MsgOutputStream create(final WritableByteChannel aChannel) {
+        return create(aChannel, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aChannel a blocking channel
+     * @param aBufferSize
+     * @return
+     */
+    public static MsgOutputStream create(final WritableByteChannel aChannel, final int aBufferSize) {
+        if (aChannel == null) {
+            throw new IllegalArgumentException("The channel must not be null.");
+        }
+        return new MsgOutputStream(null, aChannel, aBufferSize);
+    }
+
+    /**
+     * write, appends the frame of aMsg to the buffer.
+     * 
+     * @param aMsg
+     * @throws IOException
+     */
+    public void write(final Msg aMsg) throws IOException {
+        final int length = MsgCodec.DEFAULT.getLength(aMsg);
+        final int frameLength = FRAME_HEADER_LENGTH + length;
+        if (this.bytes.length - this.position < frameLength) {
+            writeBuffer();
+            if (this.bytes.length < frameLength) {
+                this.bytes = new byte[Math.max(frameLength, this.bytes.length * 2)];
+                this.buffer = ByteBuffer.wrap(this.bytes);
+            }
+        }
+        DirectBytes.putIntLE(this.bytes, this.position, length);
+        MsgCodec.DEFAULT.writeMsg(this.bytes, this.position + FRAME_HEADER_LENGTH, aMsg);
+        this.position += frameLength;
+        this.msgsCount++;
+    }
+
+    /**
+     * writeBuffer, writes the buffered frames.
+     * 
+     * @throws IOException
+     */
+    private void writeBuffer() throws IOException {
+        if (this.position != 0) {
+            if (this.out != null) {
+                this.out.write(this.bytes, 0, this.position);
+            } else {
+                this.buffer.clear().limit(this.position);
+                while (this.buffer.hasRemaining()) {
+                    this.channel.write(this.buffer);
+                }
+            }
+            this.position = 0;
+        }
+    }
+
+    /**
+     * getBufferedLength.
+     * 
+     * @return the length of the frames not written yet
+     */
+    public int getBufferedLength() {
+        return this.position;
+    }
+
+    /**
+     * getMsgsCount.
+     * 
+     * @return the number of Msgs written
+     */
+    public long getMsgsCount() {
+        return this.msgsCount;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.io.Flushable#flush()
+     */
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+        if (this.out != null) {
+            this.out.flush();
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (this.out != null) {
+                this.out.close();
+            } else {
+                this.channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.hermod.ser.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>MsgPool. </p>
+ * 
+ * Recycler of Msgs for the short-lived messages (one per inbound packet) : {@link #acquire()} returns an empty Msg, {@link #release(Msg)}
+ * resets it and keeps it for a next acquire. Each thread has its own bounded free list, accessed without synchronization. When it is full,
+ * half of it is moved to a bounded shared stack (so a Msg released by another thread than its acquirer can be reused), when it is empty, it
+ * is refilled from the shared stack. The Msgs released when both are full are left to the garbage collector.
+ * 
+ * The reset is {@link Msg#removeAll()}, which only writes the populated slots for the implementations of this package. A released Msg must
+ * not be used anymore by its releaser.
+ * 
+ * The leak detection counters (acquires, releases, creations, drops) are optional, they cost a LongAdder increment per operation.
+ * 
+ * @param <T> the type of the pooled Msgs
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgPool<T extends Msg> {
+
+    private static final int            DEFAULT_LOCAL_CAPACITY  = 64;
+    private static final int            DEFAULT_SHARED_CAPACITY = 1024;
+
+    /**
+     * <p>FreeList, the free Msgs of one thread. </p>
+     * 
+     */
+    private static final class FreeList {
+        private final Msg[] msgs;
+        private int         length;
+
+        /**
+         * Constructor.
+         * 
+         * @param aCapacity
+         */
+        private FreeList(final int aCapacity) {
+            this.msgs = new Msg[aCapacity];
+        }
+    }
+
+    private final Supplier<T>           factory;
+    private final int                   localCapacity;
+    private final ThreadLocal<FreeList> freeLists;
+    private final Msg[]                 sharedMsgs;
+    private int                         sharedLength;
+    private final boolean               leakDetection;
+    private final LongAdder             acquiredCount;
+    private final LongAdder             releasedCount;
+    private final LongAdder             createdCount;
+    private final LongAdder             droppedCount;
+
+    /**
+     * Constructor.
+     * 
+     * @param aFactory
+     * @param aLocalCapacity
+     * @param aSharedCapacity
+     * @param aLeakDetection
+     */
+    private MsgPool(final Supplier<T> aFactory, final int aLocalCapacity, final int aSharedCapacity, final boolean aLeakDetection) {
+        if (aFactory == null) {
+            throw new IllegalArgumentException("The factory of a MsgPool must not be null.");
+        } else if (aLocalCapacity < 1 || aSharedCapacity < 0) {
+            throw new IllegalArgumentException("The localCapacity=" + aLocalCapacity + " must be positive and the sharedCapacity="
+            + aSharedCapacity + " must not be negative.");
+        }
+        this.factory = aFactory;
+        this.localCapacity = aLocalCapacity;
+        this.freeLists = new ThreadLocal<FreeList>() {
+            @Override
+            protected FreeList initialValue() {
+                return new FreeList(MsgPool.this.localCapacity);
+            }
+        };
+        this.sharedMsgs = new Msg[aSharedCapacity];
+        this.leakDetection = aLeakDetection;
+        this.acquiredCount = aLeakDetection ? new LongAdder() : null;
+        this.releasedCount = aLeakDetection ? new LongAdder() : null;
+        this.createdCount = aLeakDetection ? new LongAdder() : null;
+        this.droppedCount = aLeakDetection ? new LongAdder() : null;
+    }
+
+    /**
+     * create, with the default capacities and without leak detection.
+     * 
+     * @param aFactory
+     * @return
+     */
+    public static <T extends Msg> MsgPool<T> create(final Supplier<T> aFactory) {
+        return new MsgPool<T>(aFactory, DEFAULT_LOCAL_CAPACITY, DEFAULT_SHARED_CAPACITY, false);
+    }
+
+    /**
+     * create.
+     * 
+     * @param aFactory
+     * @param aLocalCapacity the max number of free Msgs per thread
+     * @param aSharedCapacity the max number of free Msgs shared by all the threads
+     * @param aLeakDetection true to count the acquires and releases
+     * @return
+     */
+    public static <T extends Msg> MsgPool<T> create(final Supplier<T> aFactory, final int aLocalCapacity, final int aSharedCapacity,
+            final boolean aLeakDetection) {
+        return new MsgPool<T>(aFactory, aLocalCapacity, aSharedCapacity, aLeakDetection);
+    }
+
+    /**
+     * createIndexedObjectsMsgPool.
+     * 
+     * @return a pool of IndexedObjectsMsg with the default capacities and without leak detection
+     */
+    public static MsgPool<IndexedObjectsMsg> createIndexedObjectsMsgPool() {
+        return new MsgPool<IndexedObjectsMsg>(new Supplier<IndexedObjectsMsg>() {
+            @Override
+            public IndexedObjectsMsg get() {
+                return IndexedObjectsMsg.create();
+            }
+        }, DEFAULT_LOCAL_CAPACITY, DEFAULT_SHARED_CAPACITY, false);
+    }
+
+    /**
+     * acquire.
+     * 
+     * @return an empty Msg, reused if one is free, created otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        final FreeList freeList = this.freeLists.get();
+        if (freeList.length == 0) {
+            freeList.length = moveFromShared(freeList.msgs, this.localCapacity / 2 + 1);
+        }
+        T msg;
+        if (freeList.length != 0) {
+            msg = (T) freeList.msgs[--freeList.length];
+            freeList.msgs[freeList.length] = null;
+        } else {
+            msg = this.factory.get();
+            if (this.leakDetection) {
+                this.createdCount.increment();
+            }
+        }
+        if (this.leakDetection) {
+            this.acquiredCount.increment();
+        }
+        return msg;
+    }
+
+    /**
+     * release, resets aMsg and keeps it for a next acquire.
+     * 
+     * @param aMsg
+     */
+    public void release(final T aMsg) {
+        if (aMsg == null) {
+            throw new IllegalArgumentException("Impossible to release a null Msg.");
+        }
+        aMsg.removeAll();
+        if (this.leakDetection) {
+            this.releasedCount.increment();
+        }
+        final FreeList freeList = this.freeLists.get();
+        if (freeList.length == this.localCapacity) {
+            final int movedLength = (this.localCapacity + 1) / 2;
+            moveToShared(freeList.msgs, this.localCapacity - movedLength, movedLength);
+            freeList.length -= movedLength;
+        }
+        freeList.msgs[freeList.length++] = aMsg;
+    }
+
+    /**
+     * moveFromShared.
+     * 
+     * @param aDestMsgs
+     * @param aMaxLength
+     * @return the number of Msgs moved at the beginning of aDestMsgs
+     */
+    private int moveFromShared(final Msg[] aDestMsgs, final int aMaxLength) {
+        synchronized (this.sharedMsgs) {
+            final int length = Math.min(aMaxLength, this.sharedLength);
+            this.sharedLength -= length;
+            System.arraycopy(this.sharedMsgs, this.sharedLength, aDestMsgs, 0, length);
+            Arrays.fill(this.sharedMsgs, this.sharedLength, this.sharedLength + length, null);
+            return length;
+        }
+    }
+
+    /**
+     * moveToShared, the Msgs which do not fit in the shared stack are dropped.
+     * 
+     * @param aSrcMsgs
+     * @param aSrcOffset
+     * @param aLength
+     */
+    private void moveToShared(final Msg[] aSrcMsgs, final int aSrcOffset, final int aLength) {
+        final int movedLength;
+        synchronized (this.sharedMsgs) {
+            movedLength = Math.min(aLength, this.sharedMsgs.length - this.sharedLength);
+            System.arraycopy(aSrcMsgs, aSrcOffset, this.sharedMsgs, this.sharedLength, movedLength);
+            this.sharedLength += movedLength;
+        }
+        Arrays.fill(aSrcMsgs, aSrcOffset, aSrcOffset + aLength, null);
+        if (this.leakDetection) {
+            this.droppedCount.add(aLength - movedLength);
+        }
+    }
+
+    /**
+     * isLeakDetection.
+     * 
+     * @return true if the counters are maintained
+     */
+    public boolean isLeakDetection() {
+        return this.leakDetection;
+    }
+
+    /**
+     * getAcquiredCount.
+     * 
+     * @return the number of acquires, 0 without leak detection
+     */
+    public long getAcquiredCount() {
+        return this.leakDetection ? this.acquiredCount.sum() : 0;
+    }
+
+    /**
+     * getReleasedCount.
+     * 
+     * @return the number of releases, 0 without leak detection
+     */
+    public long getReleasedCount() {
+        return this.leakDetection ? this.releasedCount.sum() : 0;
+    }
+
+    /**
+     * getCreatedCount.
+     * 
+     * @return the number of Msgs created because none was free, 0 without leak detection
+     */
+    public long getCreatedCount() {
+        return this.leakDetection ? this.createdCount.sum() : 0;
+    }
+
+    /**
+     * getDroppedCount.
+     * 
+     * @return the number of released Msgs left to the garbage collector because the pool was full, 0 without leak detection
+     */
+    public long getDroppedCount() {
+        return this.leakDetection ? this.droppedCount.sum() : 0;
+    }
+
+    /**
+     * getOutstandingCount.
+     * 
+     * @return the number of acquired Msgs not released yet (the leaked ones once the traffic is stopped), 0 without leak detection
+     */
+    public long getOutstandingCount() {
+        return getAcquiredCount() - getReleasedCount();
+    }
+}
@@ -0,0 +1,356 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.impl.Msgs.EIGHT;
+import static com.github.hermod.ser.impl.Msgs.ONE;
+
+import java.util.Arrays;
+
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>MsgSchema. </p>
+ * 
+ * Fixed set of fields of a message type : a key, a Type and an optional name per field. The Msgs of a schema are {@link SchemaMsg}s, created
+ * by {@link #createMsg()}, with one primitive slot per BYTE..DOUBLE field of the schema and one Object slot per STRING_UTF_8, MSG or ARRAY
+ * field, the slots being computed once on the first createMsg.
+ * 
+ * The fields are added before the first createMsg, the schema cannot be modified after.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class MsgSchema {
+
+    private static final int  NO_FIELD = -1;
+
+    private final String      name;
+    private int[]             keys;
+    private Type[]            types;
+    private String[]          fieldNames;
+    private int               fieldsLength;
+
+    // set by compile(), indexed by field in ascending key order
+    private int[]             fieldIndexes;
+    private int[]             slots;
+    private int[]             offsets;
+    private int               primitiveSlotsLength;
+    private int               objectSlotsLength;
+    private int               fixedLength;
+    private volatile boolean  compiled;
+
+    /**
+     * Constructor.
+     * 
+     * @param aName
+     */
+    private MsgSchema(final String aName) {
+        this.name = aName;
+        this.keys = new int[EIGHT];
+        this.types = new Type[EIGHT];
+        this.fieldNames = new String[EIGHT];
+    }
+
+    /**
+     * create.
+     * 
+     * @param aName the name of the message type
+     * @return
+     */
+    public static MsgSchema create(final String aName) {
+        return new MsgSchema(aName);
+    }
+
+    /**
+     * add.
+     * 
+     * @param aKey
+     * @param aType
+     * @return this
+     */
+    public MsgSchema add(final int aKey, final Type aType) {
+        return add(aKey, aType, null);
+    }
+
+    /**
+     * add.
+     * 
+     * @param aKey
+     * @param aType BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, STRING_UTF_8, MSG, ARRAY_FIXED_VALUE or ARRAY_VARIABLE_VALUE
+     * @param aFieldName the name of the field, may be null
+     * @return this
+     */
+    public synchronized MsgSchema add(final int aKey, final Type aType, final String aFieldName) {
+        if (this.compiled) {
+            throw new IllegalStateException("Impossible to add the key=" + aKey + " to the schema=" + this.name + " once its Msgs are created.");
+        }
+        AbstractMsg.checkKey(aKey);
+        if (aType == null || aType == Type.NULL || aType == Type.INTEGER || aType == Type.DECIMAL || aType == Type.FIVE_BITS_DECIMAL) {
+            throw new IllegalArgumentException("The type=" + aType + " of the key=" + aKey + " is not supported by a schema.");
+        } else if (indexOf(aKey) != NO_FIELD) {
+            throw new IllegalArgumentException("The key=" + aKey + " is already in the schema=" + this.name + ".");
+        }
+        if (this.fieldsLength == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.fieldsLength * 2);
+            this.types = Arrays.copyOf(this.types, this.fieldsLength * 2);
+            this.fieldNames = Arrays.copyOf(this.fieldNames, this.fieldsLength * 2);
+        }
+        // keeps the fields sorted by key
+        int index = this.fieldsLength;
+        while (index > 0 && this.keys[index - 1] > aKey) {
+            this.keys[index] = this.keys[index - 1];
+            this.types[index] = this.types[index - 1];
+            this.fieldNames[index] = this.fieldNames[index - 1];
+            index--;
+        }
+        this.keys[index] = aKey;
+        this.types[index] = aType;
+        this.fieldNames[index] = aFieldName;
+        this.fieldsLength++;
+        return this;
+    }
+
+    /**
+     * indexOf.
+     * 
+     * @param aKey
+     * @return the field of aKey, NO_FIELD if aKey is not in the schema
+     */
+    private int indexOf(final int aKey) {
+        final int index = Arrays.binarySearch(this.keys, 0, this.fieldsLength, aKey);
+        return (index >= 0) ? index : NO_FIELD;
+    }
+
+    /**
+     * createMsg.
+     * 
+     * @return an empty Msg of this schema
+     */
+    public SchemaMsg createMsg() {
+        if (!this.compiled) {
+            compile();
+        }
+        return new SchemaMsg(this);
+    }
+
+    /**
+     * createMsgFromMsg.
+     * 
+     * @param aMsg
+     * @return a Msg of this schema with the fields of aMsg
+     */
+    public SchemaMsg createMsgFromMsg(final Msg aMsg) {
+        final SchemaMsg msg = createMsg();
+        msg.setAll(aMsg);
+        return msg;
+    }
+
+    /**
+     * createMsgFromValues.
+     * 
+     * @param values the value of each key from 0
+     * @return a Msg of this schema with these values
+     */
+    public SchemaMsg createMsgFromValues(final Object... values) {
+        final SchemaMsg msg = createMsg();
+        msg.setAll(values);
+        return msg;
+    }
+
+    /**
+     * compile, computes the slots and the offsets of the fields.
+     * 
+     */
+    private synchronized void compile() {
+        if (!this.compiled) {
+            this.fieldIndexes = new int[(this.fieldsLength != 0) ? this.keys[this.fieldsLength - 1] + 1 : 0];
+            Arrays.fill(this.fieldIndexes, NO_FIELD);
+            this.slots = new int[this.fieldsLength];
+            this.offsets = new int[this.fieldsLength];
+            this.fixedLength = getPresencesLength();
+            for (int field = 0; field < this.fieldsLength; field++) {
+                this.fieldIndexes[this.keys[field]] = field;
+                final int fixedSize = MsgCodec.fixedSize(this.types[field].getId());
+                if (fixedSize != 0) {
+                    this.slots[field] = this.primitiveSlotsLength++;
+                    this.offsets[field] = this.fixedLength;
+                    this.fixedLength += fixedSize;
+                } else {
+                    this.slots[field] = this.objectSlotsLength++;
+                    this.offsets[field] = NO_FIELD;
+                }
+            }
+            this.compiled = true;
+        }
+    }
+
+    /**
+     * getName.
+     * 
+     * @return
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * getFieldsLength.
+     * 
+     * @return
+     */
+    public synchronized int getFieldsLength() {
+        return this.fieldsLength;
+    }
+
+    /**
+     * getKeys.
+     * 
+     * @return the keys of the fields, ascending
+     */
+    public synchronized int[] getKeys() {
+        return Arrays.copyOf(this.keys, this.fieldsLength);
+    }
+
+    /**
+     * getType.
+     * 
+     * @param aKey
+     * @return the Type of aKey, null if aKey is not in the schema
+     */
+    public synchronized Type getType(final int aKey) {
+        final int field = indexOf(aKey);
+        return (field != NO_FIELD) ? this.types[field] : null;
+    }
+
+    /**
+     * getFieldName.
+     * 
+     * @param aKey
+     * @return the name of aKey, null if aKey is not in the schema or has no name
+     */
+    public synchronized String getFieldName(final int aKey) {
+        final int field = indexOf(aKey);
+        return (field != NO_FIELD) ? this.fieldNames[field] : null;
+    }
+
+    /**
+     * getKey.
+     * 
+     * @param aFieldName
+     * @return the key of aFieldName, -1 if no field has this name
+     */
+    public synchronized int getKey(final String aFieldName) {
+        for (int field = 0; field < this.fieldsLength; field++) {
+            if (aFieldName.equals(this.fieldNames[field])) {
+                return this.keys[field];
+            }
+        }
+        return NO_FIELD;
+    }
+
+    // used by SchemaMsg once compiled
+
+    /**
+     * fieldIndex.
+     * 
+     * @param aKey
+     * @return the field of aKey, -1 if aKey is not in the schema
+     */
+    final int fieldIndex(final int aKey) {
+        return (aKey >= 0 && aKey < this.fieldIndexes.length) ? this.fieldIndexes[aKey] : NO_FIELD;
+    }
+
+    /**
+     * fieldKey.
+     * 
+     * @param aField
+     * @return
+     */
+    final int fieldKey(final int aField) {
+        return this.keys[aField];
+    }
+
+    /**
+     * fieldType.
+     * 
+     * @param aField
+     * @return the type id of aField
+     */
+    final byte fieldType(final int aField) {
+        return this.types[aField].getId();
+    }
+
+    /**
+     * fieldSlot.
+     * 
+     * @param aField
+     * @return the index of aField among the primitive fields or among the Object fields
+     */
+    final int fieldSlot(final int aField) {
+        return this.slots[aField];
+    }
+
+    /**
+     * fieldOffset.
+     * 
+     * @param aField
+     * @return the offset of a primitive field in the serialized bytes, -1 for an Object field
+     */
+    final int fieldOffset(final int aField) {
+        return this.offsets[aField];
+    }
+
+    /**
+     * getPrimitiveSlotsLength.
+     * 
+     * @return
+     */
+    final int getPrimitiveSlotsLength() {
+        return this.primitiveSlotsLength;
+    }
+
+    /**
+     * getObjectSlotsLength.
+     * 
+     * @return
+     */
+    final int getObjectSlotsLength() {
+        return this.objectSlotsLength;
+    }
+
+    /**
+     * getPresencesLength.
+     * 
+     * @return the number of bytes of the presence bits in the serialized bytes
+     */
+    final int getPresencesLength() {
+        return (this.fieldsLength + EIGHT - ONE) / EIGHT;
+    }
+
+    /**
+     * getFixedLength.
+     * 
+     * @return the length of the presence bits and of the primitive fields in the serialized bytes
+     */
+    final int getFixedLength() {
+        return this.fixedLength;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder(this.name).append('{');
+        for (int field = 0; field < this.fieldsLength; field++) {
+            sb.append((field != 0) ? ", " : "").append(this.keys[field]);
+            if (this.fieldNames[field] != null) {
+                sb.append('/').append(this.fieldNames[field]);
+            }
+            sb.append('=').append(this.types[field]);
+        }
+        return sb.append('}').toString();
+    }
+}
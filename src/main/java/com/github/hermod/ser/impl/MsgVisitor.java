@@ -0,0 +1,144 @@
+package com.github.hermod.ser.impl;
+
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+
+/**
+ * <p>MsgVisitor. </p>
+ * 
+ * Typed callback of {@link Msgs#accept(Msg, MsgVisitor)}, called once per present key in ascending order, with the value as it is stored :
+ * the scalars are given unboxed, the Strings, Msgs, Nulls and arrays are given without copy and must not be modified.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public interface MsgVisitor {
+
+    /**
+     * visitByte, a byte or a boolean (0 or 1).
+     * 
+     * @param aKey
+     * @param aByte
+     */
+    void visitByte(int aKey, byte aByte);
+
+    /**
+     * visitShort.
+     * 
+     * @param aKey
+     * @param aShort
+     */
+    void visitShort(int aKey, short aShort);
+
+    /**
+     * visitInt.
+     * 
+     * @param aKey
+     * @param aInt
+     */
+    void visitInt(int aKey, int aInt);
+
+    /**
+     * visitLong.
+     * 
+     * @param aKey
+     * @param aLong
+     */
+    void visitLong(int aKey, long aLong);
+
+    /**
+     * visitFloat.
+     * 
+     * @param aKey
+     * @param aFloat
+     */
+    void visitFloat(int aKey, float aFloat);
+
+    /**
+     * visitDouble.
+     * 
+     * @param aKey
+     * @param aDouble
+     */
+    void visitDouble(int aKey, double aDouble);
+
+    /**
+     * visitString.
+     * 
+     * @param aKey
+     * @param aString
+     */
+    void visitString(int aKey, String aString);
+
+    /**
+     * visitMsg.
+     * 
+     * @param aKey
+     * @param aMsg
+     */
+    void visitMsg(int aKey, Msg aMsg);
+
+    /**
+     * visitNull, a null value with its type and length.
+     * 
+     * @param aKey
+     * @param aNull
+     */
+    void visitNull(int aKey, Null aNull);
+
+    /**
+     * visitBytes, a byte[] or a boolean[] (0 or 1).
+     * 
+     * @param aKey
+     * @param aBytes
+     */
+    void visitBytes(int aKey, byte[] aBytes);
+
+    /**
+     * visitShorts.
+     * 
+     * @param aKey
+     * @param aShorts
+     */
+    void visitShorts(int aKey, short[] aShorts);
+
+    /**
+     * visitInts.
+     * 
+     * @param aKey
+     * @param aInts
+     */
+    void visitInts(int aKey, int[] aInts);
+
+    /**
+     * visitLongs.
+     * 
+     * @param aKey
+     * @param aLongs
+     */
+    void visitLongs(int aKey, long[] aLongs);
+
+    /**
+     * visitFloats.
+     * 
+     * @param aKey
+     * @param aFloats
+     */
+    void visitFloats(int aKey, float[] aFloats);
+
+    /**
+     * visitDoubles.
+     * 
+     * @param aKey
+     * @param aDoubles
+     */
+    void visitDoubles(int aKey, double[] aDoubles);
+
+    /**
+     * visitObjects, a variable length array : boxed scalars, Strings, Msgs or Objects.
+     * 
+     * @param aKey
+     * @param aObjects
+     */
+    void visitObjects(int aKey, Object[] aObjects);
+}
@@ -1,10 +1,13 @@
 package com.github.hermod.ser.impl;
 
-import static com.github.hermod.ser.Types.ARRAY_FIXED_VALUE_TYPE;
-import static com.github.hermod.ser.Types.ARRAY_VARIABLE_VALUE_TYPE;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
 
 import com.github.hermod.ser.Msg;
-import com.github.hermod.ser.Types;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Type;
 
 /**
  * <p>Msgs.</p>
@@ -150,6 +153,16 @@ public final class Msgs {
      */
     public static final String   ERROR_WHEN_YOU_SET_NULL_WITH_LENGTH_0 = "You must set a Null with type Null with a length > 0, use (Integer) null or Null.INTEGER_NULL or Null.valueOf(Type.INTEGER) any Types.* except Null.NULL or Null.valueOf(0) if you want to have length = 0.";
 
+    /**
+     * NO_TYPE, type tag of an absent key, different from all the Type ids.
+     */
+    static final byte            NO_TYPE                               = calculateNoType();
+
+    /**
+     * TYPES, the Types indexed by their id.
+     */
+    private static final Type[]  TYPES                                 = new Type[MAX_VALUE_FOR_UNSIGNED_BYTE + 1];
+
     /**
      * HALF.
      */
@@ -178,6 +191,11 @@ public final class Msgs {
 
     static {
 
+        // TYPES init
+        for (final Type type : Type.values()) {
+            TYPES[type.getId() & XFF] = type;
+        }
+
         // PWO_2 init
         for (int i = 0; i < POW_2.length - 1; i++) {
             POW_2[i] = 1 << i;
@@ -223,6 +241,360 @@ public final class Msgs {
         return POW_2[i];
     }
 
+    /**
+     * calculateNoType.
+     * 
+     * @return the first byte (from -1 downwards) which is not the id of a Type
+     */
+    private static byte calculateNoType() {
+        byte noType = -1;
+        boolean used = true;
+        while (used) {
+            used = false;
+            for (final Type type : Type.values()) {
+                if (type.getId() == noType) {
+                    used = true;
+                    noType--;
+                    break;
+                }
+            }
+        }
+        return noType;
+    }
+
+    /**
+     * getType.
+     * 
+     * @param aTypeId
+     * @return the Type with the id aTypeId, null if there is no such Type
+     */
+    static final Type getType(final byte aTypeId) {
+        return TYPES[aTypeId & XFF];
+    }
+
+    /**
+     * getArrayLength.
+     * 
+     * @param aArray
+     * @return the length of aArray, 0 if it is not an array
+     */
+    static final int getArrayLength(final Object aArray) {
+        if (aArray instanceof Object[]) {
+            return ((Object[]) aArray).length;
+        } else if (aArray instanceof byte[]) {
+            return ((byte[]) aArray).length;
+        } else if (aArray instanceof short[]) {
+            return ((short[]) aArray).length;
+        } else if (aArray instanceof int[]) {
+            return ((int[]) aArray).length;
+        } else if (aArray instanceof long[]) {
+            return ((long[]) aArray).length;
+        } else if (aArray instanceof float[]) {
+            return ((float[]) aArray).length;
+        } else if (aArray instanceof double[]) {
+            return ((double[]) aArray).length;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * copyArray.
+     * 
+     * @param aArray
+     * @return a shallow copy of aArray, null if it is not an array
+     */
+    static final Object copyArray(final Object aArray) {
+        if (aArray instanceof Object[]) {
+            return ((Object[]) aArray).clone();
+        } else if (aArray instanceof byte[]) {
+            return ((byte[]) aArray).clone();
+        } else if (aArray instanceof short[]) {
+            return ((short[]) aArray).clone();
+        } else if (aArray instanceof int[]) {
+            return ((int[]) aArray).clone();
+        } else if (aArray instanceof long[]) {
+            return ((long[]) aArray).clone();
+        } else if (aArray instanceof float[]) {
+            return ((float[]) aArray).clone();
+        } else if (aArray instanceof double[]) {
+            return ((double[]) aArray).clone();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * copyArray.
+     * 
+     * @param aArray
+     * @param aArrayClass the expected class of aArray, Object[].class for any array
+     * @param aDestArray
+     * @param aDestOffset
+     * @return the length of aArray, -1 if aArray is not an instance of aArrayClass
+     */
+    static final int copyArray(final Object aArray, final Class<?> aArrayClass, final Object aDestArray, final int aDestOffset) {
+        final boolean boxed = aArrayClass == Object[].class && aArray != null && aArray.getClass().isArray() && !(aArray instanceof Object[]);
+        if (!aArrayClass.isInstance(aArray) && !boxed) {
+            return -1;
+        }
+        final int length = getArrayLength(aArray);
+        if (aDestOffset < 0 || aDestOffset + length > getArrayLength(aDestArray)) {
+            throw new IllegalArgumentException("The destArray with length=" + getArrayLength(aDestArray) + " from offset=" + aDestOffset
+            + " is too small for the field array length=" + length + ". Use getArrayLength() to know the length before call this method.");
+        }
+        if (boxed) {
+            final Object[] destObjects = (Object[]) aDestArray;
+            for (int i = 0; i < length; i++) {
+                destObjects[aDestOffset + i] = Array.get(aArray, i);
+            }
+        } else {
+            System.arraycopy(aArray, 0, aDestArray, aDestOffset, length);
+        }
+        return length;
+    }
+
+    /**
+     * getAsBytes, copies the array of aKey into aDestBytes, without allocation for the Msgs of this package.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aDestBytes
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain such an array
+     */
+    public static final int getAsBytes(final Msg aMsg, final int aKey, final byte[] aDestBytes, final int aDestOffset) {
+        return copyArray(getStoredValue(aMsg, aKey), byte[].class, aDestBytes, aDestOffset);
+    }
+
+    /**
+     * getAsShorts, copies the array of aKey into aDestShorts, without allocation for the Msgs of this package.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aDestShorts
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain such an array
+     */
+    public static final int getAsShorts(final Msg aMsg, final int aKey, final short[] aDestShorts, final int aDestOffset) {
+        return copyArray(getStoredValue(aMsg, aKey), short[].class, aDestShorts, aDestOffset);
+    }
+
+    /**
+     * getAsInts, copies the array of aKey into aDestInts, without allocation for the Msgs of this package.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aDestInts
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain such an array
+     */
+    public static final int getAsInts(final Msg aMsg, final int aKey, final int[] aDestInts, final int aDestOffset) {
+        return copyArray(getStoredValue(aMsg, aKey), int[].class, aDestInts, aDestOffset);
+    }
+
+    /**
+     * getAsLongs, copies the array of aKey into aDestLongs, without allocation for the Msgs of this package.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aDestLongs
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain such an array
+     */
+    public static final int getAsLongs(final Msg aMsg, final int aKey, final long[] aDestLongs, final int aDestOffset) {
+        return copyArray(getStoredValue(aMsg, aKey), long[].class, aDestLongs, aDestOffset);
+    }
+
+    /**
+     * getAsFloats, copies the array of aKey into aDestFloats, without allocation for the Msgs of this package.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aDestFloats
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain such an array
+     */
+    public static final int getAsFloats(final Msg aMsg, final int aKey, final float[] aDestFloats, final int aDestOffset) {
+        return copyArray(getStoredValue(aMsg, aKey), float[].class, aDestFloats, aDestOffset);
+    }
+
+    /**
+     * getAsDoubles, copies the array of aKey into aDestDoubles, without allocation for the Msgs of this package.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aDestDoubles
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain such an array
+     */
+    public static final int getAsDoubles(final Msg aMsg, final int aKey, final double[] aDestDoubles, final int aDestOffset) {
+        return copyArray(getStoredValue(aMsg, aKey), double[].class, aDestDoubles, aDestOffset);
+    }
+
+    /**
+     * getAsObjects, copies the array of aKey into aDestObjects, without allocation for the Msgs of this package.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aDestObjects
+     * @param aDestOffset
+     * @return the length of the array, -1 if aKey does not contain such an array
+     */
+    public static final int getAsObjects(final Msg aMsg, final int aKey, final Object[] aDestObjects, final int aDestOffset) {
+        return copyArray(getStoredValue(aMsg, aKey), Object[].class, aDestObjects, aDestOffset);
+    }
+
+    /**
+     * getAsBorrowedMsg, the nested Msg of aKey without copy for the Msgs of this package (a copy for the others) : it must be read only.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @return the nested Msg, null if aKey does not contain a Msg
+     */
+    public static final Msg getAsBorrowedMsg(final Msg aMsg, final int aKey) {
+        if (aMsg instanceof AbstractMsg) {
+            return ((AbstractMsg) aMsg).getAsBorrowedMsg(aKey);
+        }
+        return aMsg.getAsMsg(aKey);
+    }
+
+    /**
+     * getAsBorrowedMsgs, the nested Msgs of aKey without copy for the Msgs of this package (a copy for the others) : they must be read only.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @return the nested Msgs, null if aKey does not contain a Msg array
+     */
+    public static final Msg[] getAsBorrowedMsgs(final Msg aMsg, final int aKey) {
+        if (aMsg instanceof AbstractMsg) {
+            return ((AbstractMsg) aMsg).getAsBorrowedMsgs(aKey);
+        }
+        return aMsg.getAsMsgs(aKey);
+    }
+
+    /**
+     * getStoredValue.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @return the value of aKey, without copy for the Msgs of this package, the Null if aKey is null
+     */
+    static final Object getStoredValue(final Msg aMsg, final int aKey) {
+        if (aMsg instanceof AbstractMsg) {
+            return ((AbstractMsg) aMsg).getValue(aKey);
+        }
+        final Object value = aMsg.get(aKey);
+        return (value != null) ? value : aMsg.getAsNull(aKey);
+    }
+
+    /**
+     * setStoredValue, the reverse of {@link #getStoredValue(Msg, int)}.
+     * 
+     * @param aMsg
+     * @param aKey
+     * @param aValue a value returned by getStoredValue, stored as is (not narrowed, not copied)
+     */
+    static final void setStoredValue(final Msg aMsg, final int aKey, final Object aValue) {
+        if (aMsg instanceof AbstractMsg) {
+            ((AbstractMsg) aMsg).setValue(aKey, aValue);
+        } else if (aValue instanceof Null) {
+            aMsg.set(aKey, (Null) aValue);
+        } else {
+            aMsg.set(aKey, aValue, false);
+        }
+    }
+
+    // codec of the fields, for the Msgs generated by hermod-java-ser-processor
+
+    /**
+     * compactLength.
+     * 
+     * @param aInt a positive int (a key, a length)
+     * @return the length of aInt written by the codec of IndexedObjectsMsg
+     */
+    public static final int compactLength(final int aInt) {
+        return MsgCodec.DEFAULT.compactLength(aInt);
+    }
+
+    /**
+     * readCompact.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return the positive int (a key, a length) at aOffset, its length is {@link #compactLength(int)}
+     */
+    public static final int readCompact(final byte[] aBytes, final int aOffset) {
+        return MsgCodec.DEFAULT.readCompact(aBytes, aOffset);
+    }
+
+    /**
+     * getValueLength.
+     * 
+     * @param aValue
+     * @return the length of the value of aValue, without its type
+     */
+    public static final int getValueLength(final Object aValue) {
+        return MsgCodec.DEFAULT.valueLength(aValue);
+    }
+
+    /**
+     * writeTypedValue.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aValue
+     * @return the offset after the type and the value of aValue
+     */
+    public static final int writeTypedValue(final byte[] aBytes, final int aOffset, final Object aValue) {
+        return MsgCodec.DEFAULT.writeTypedValue(aBytes, aOffset, aValue);
+    }
+
+    /**
+     * deserializeField, decodes one field (key, type, value) and sets it in aDestMsg.
+     * 
+     * @param aBytes
+     * @param aOffset the offset of the key of the field
+     * @param aDestMsg
+     * @return the offset after the field
+     */
+    public static final int deserializeField(final byte[] aBytes, final int aOffset, final Msg aDestMsg) {
+        return MsgCodec.DEFAULT.readField(aBytes, aOffset, aDestMsg);
+    }
+
+    /**
+     * nextKey, cursor over the keys of any Msg in ascending order, without allocation :
+     * <code>for (int key = Msgs.nextKey(msg, 0); key != -1; key = Msgs.nextKey(msg, key + 1))</code>.
+     * 
+     * @param aMsg
+     * @param aFromKey
+     * @return the first present key &gt;= aFromKey, -1 if there is none
+     */
+    public static final int nextKey(final Msg aMsg, final int aFromKey) {
+        if (aMsg instanceof AbstractMsg) {
+            return ((AbstractMsg) aMsg).nextKey(aFromKey);
+        }
+        final int keyMax = aMsg.getKeyMax();
+        for (int key = Math.max(aFromKey, 0); key <= keyMax; key++) {
+            if (aMsg.contains(key)) {
+                return key;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * forEachKey.
+     * 
+     * @param aMsg
+     * @param aKeyConsumer called with each present key, in ascending order
+     */
+    public static final void forEachKey(final Msg aMsg, final IntConsumer aKeyConsumer) {
+        for (int key = nextKey(aMsg, 0); key != -1; key = nextKey(aMsg, key + 1)) {
+            aKeyConsumer.accept(key);
+        }
+    }
+
     /**
      * isAsciiString.
      * 
@@ -241,6 +613,76 @@ public final class Msgs {
         return true;
     }
 
+    /**
+     * accept, calls aVisitor once per present key of aMsg, in ascending order, without boxing the scalars.
+     * 
+     * @param aMsg
+     * @param aVisitor
+     */
+    public static final void accept(final Msg aMsg, final MsgVisitor aVisitor) {
+        if (aMsg instanceof AbstractMsg) {
+            ((AbstractMsg) aMsg).accept(aVisitor);
+        } else {
+            for (int key = nextKey(aMsg, 0); key != -1; key = nextKey(aMsg, key + 1)) {
+                visitValue(key, aMsg.get(key), aVisitor);
+            }
+        }
+    }
+
+    /**
+     * visitValue, dispatches a stored value to the typed method of aVisitor.
+     * 
+     * @param aKey
+     * @param aValue not null
+     * @param aVisitor
+     */
+    static final void visitValue(final int aKey, final Object aValue, final MsgVisitor aVisitor) {
+        if (aValue instanceof Byte) {
+            aVisitor.visitByte(aKey, ((Byte) aValue).byteValue());
+        } else if (aValue instanceof Short) {
+            aVisitor.visitShort(aKey, ((Short) aValue).shortValue());
+        } else if (aValue instanceof Integer) {
+            aVisitor.visitInt(aKey, ((Integer) aValue).intValue());
+        } else if (aValue instanceof Long) {
+            aVisitor.visitLong(aKey, ((Long) aValue).longValue());
+        } else if (aValue instanceof Float) {
+            aVisitor.visitFloat(aKey, ((Float) aValue).floatValue());
+        } else if (aValue instanceof Double) {
+            aVisitor.visitDouble(aKey, ((Double) aValue).doubleValue());
+        } else if (aValue instanceof Boolean) {
+            aVisitor.visitByte(aKey, ((Boolean) aValue).booleanValue() ? (byte) ONE : (byte) ZERO);
+        } else if (aValue instanceof String) {
+            aVisitor.visitString(aKey, (String) aValue);
+        } else if (aValue instanceof Msg) {
+            aVisitor.visitMsg(aKey, (Msg) aValue);
+        } else if (aValue instanceof Null) {
+            aVisitor.visitNull(aKey, (Null) aValue);
+        } else if (aValue instanceof byte[]) {
+            aVisitor.visitBytes(aKey, (byte[]) aValue);
+        } else if (aValue instanceof short[]) {
+            aVisitor.visitShorts(aKey, (short[]) aValue);
+        } else if (aValue instanceof int[]) {
+            aVisitor.visitInts(aKey, (int[]) aValue);
+        } else if (aValue instanceof long[]) {
+            aVisitor.visitLongs(aKey, (long[]) aValue);
+        } else if (aValue instanceof float[]) {
+            aVisitor.visitFloats(aKey, (float[]) aValue);
+        } else if (aValue instanceof double[]) {
+            aVisitor.visitDoubles(aKey, (double[]) aValue);
+        } else if (aValue instanceof boolean[]) {
+            final boolean[] booleans = (boolean[]) aValue;
+            final byte[] bytes = new byte[booleans.length];
+            for (int i = 0; i < booleans.length; i++) {
+                bytes[i] = booleans[i] ? (byte) ONE : (byte) ZERO;
+            }
+            aVisitor.visitBytes(aKey, bytes);
+        } else if (aValue instanceof Object[]) {
+            aVisitor.visitObjects(aKey, (Object[]) aValue);
+        } else {
+            throw new IllegalArgumentException("Impossible to visit this type of value=" + aValue.getClass());
+        }
+    }
+
     /**
      * serializeToJsonString.
      * 
@@ -249,69 +691,24 @@ public final class Msgs {
      */
     public static final String serializeToJson(final Msg aMsg) {
         final StringBuilder sb = new StringBuilder();
-        sb.append("{");
-        final int[] keys = aMsg.getKeysArray();
-        for (final int key : keys) {
-            final byte typeAsByte = aMsg.getTypeAsByte(key);
-            sb.append("\"");
-            sb.append(key);
-            sb.append("\"");
-            sb.append(":");
-            if (typeAsByte == ARRAY_FIXED_VALUE_TYPE || typeAsByte == ARRAY_VARIABLE_VALUE_TYPE) {
-                final Object[] objects = aMsg.getAsObjects(key);
-                if (objects != null) {
-                    sb.append("[");
-                    for (Object object : objects) {
-                        sb.append(object);
-                        sb.append(",");
-                    }
-                    if (objects.length != 0) {
-                        sb.deleteCharAt(sb.length() - 1);
-                    }
-                    sb.append("]");
-                } else {
-                    sb.append("null");
-                }
-            } else if (typeAsByte == Types.BYTE_TYPE) {
-                sb.append(aMsg.getAsNullableByte(key));
-            } else if (typeAsByte == Types.SHORT_TYPE) {
-                sb.append(aMsg.getAsNullableShort(key));
-            } else if (typeAsByte == Types.INT_TYPE) {
-                sb.append(aMsg.getAsNullableInteger(key));
-            } else if (typeAsByte == Types.INTEGER_TYPE || typeAsByte == Types.LONG_TYPE) {
-                sb.append(aMsg.getAsNullableLong(key));
-            } else if (typeAsByte == Types.FLOAT_TYPE) {
-                sb.append(aMsg.getAsNullableFloat(key));
-            } else if (typeAsByte == Types.DECIMAL_TYPE || typeAsByte == Types.DOUBLE_TYPE || typeAsByte == Types.FIVE_BITS_DECIMAL_TYPE) {
-                sb.append(aMsg.getAsNullableDouble(key));
-            } else if (typeAsByte == Types.STRING_UTF_8_TYPE) {
-                final String s = aMsg.getAsString(key);
-                if (s != null) {
-                    sb.append("\"");
-                    sb.append(s);
-                    sb.append("\"");
-                } else {
-                    sb.append("null");
-                }
-            } else if (typeAsByte == Types.MSG_TYPE) {
-                Msg msg = aMsg.getAsMsg(key);
-                if (msg != null) {
-                    sb.append(msg);
-                } else {
-                    sb.append("null");
-                }
-            } else if (typeAsByte == Types.NULL_TYPE) {
-                sb.append("null");
-            }
-            sb.append(",");
-
-        }
-        if (keys.length > 0) {
-            sb.deleteCharAt(sb.length() - 1);
-        }
-        sb.append("}");
+        appendJson(aMsg, sb);
         return sb.toString();
+    }
 
+    /**
+     * appendJson.
+     * 
+     * @param aMsg
+     * @param aSb
+     */
+    private static void appendJson(final Msg aMsg, final StringBuilder aSb) {
+        final int start = aSb.length();
+        aSb.append("{");
+        accept(aMsg, new JsonMsgVisitor(aSb));
+        if (aSb.length() > start + 1) {
+            aSb.deleteCharAt(aSb.length() - 1);
+        }
+        aSb.append("}");
     }
 
     /**
@@ -321,13 +718,9 @@ public final class Msgs {
      * @return
      */
     public static final int hashCode(final Msg aMsg) {
-        int hashcode = 0;
-        // TODO to optimize
-        final int[] keys = aMsg.getKeysArray();
-        for (final int key : keys) {
-            hashcode += key ^ aMsg.get(key).hashCode();
-        }
-        return hashcode;
+        final HashCodeMsgVisitor hashCodeMsgVisitor = new HashCodeMsgVisitor();
+        accept(aMsg, hashCodeMsgVisitor);
+        return hashCodeMsgVisitor.hashcode;
     }
 
     /**
@@ -336,15 +729,13 @@ public final class Msgs {
      * @see java.lang.Object#equals(java.lang.Object)
      */
     public static final boolean equals(final Object aObj, final Msg aMsg) {
-        // TODO to optimize
         if (aObj != null && aObj instanceof Msg) {
             final Msg msg = (Msg) aObj;
-            final int[] keys = aMsg.getKeysArray();
-            if (keys.length != msg.getKeysLength()) {
+            if (aMsg.getKeysLength() != msg.getKeysLength()) {
                 return false;
             }
-            for (final int key : keys) {
-                if (!aMsg.get(key).equals(msg.get(key))) {
+            for (int key = nextKey(aMsg, 0); key != -1; key = nextKey(aMsg, key + 1)) {
+                if (!valueEquals(aMsg.get(key), msg.get(key))) {
                     return false;
                 }
             }
@@ -353,4 +744,431 @@ public final class Msgs {
             return false;
         }
     }
+
+    /**
+     * valueEquals, the arrays are compared by content (one level, as they are hashed).
+     * 
+     * @param aValue
+     * @param aOtherValue
+     * @return
+     */
+    static final boolean valueEquals(final Object aValue, final Object aOtherValue) {
+        if (aValue instanceof Object[] && aOtherValue instanceof Object[]) {
+            return Arrays.equals((Object[]) aValue, (Object[]) aOtherValue);
+        }
+        return Objects.deepEquals(aValue, aOtherValue);
+    }
+
+    /**
+     * <p>JsonMsgVisitor, appends each field as "key":value, followed by a comma.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class JsonMsgVisitor implements MsgVisitor {
+
+        private final StringBuilder sb;
+
+        /**
+         * Constructor.
+         * 
+         * @param aSb
+         */
+        JsonMsgVisitor(final StringBuilder aSb) {
+            this.sb = aSb;
+        }
+
+        /**
+         * appendKey.
+         * 
+         * @param aKey
+         * @return
+         */
+        private StringBuilder appendKey(final int aKey) {
+            return this.sb.append("\"").append(aKey).append("\":");
+        }
+
+        /**
+         * appendArrayStart.
+         * 
+         * @param aKey
+         * @return
+         */
+        private StringBuilder appendArrayStart(final int aKey) {
+            return appendKey(aKey).append("[");
+        }
+
+        /**
+         * appendArrayEnd.
+         * 
+         * @param aLength
+         */
+        private void appendArrayEnd(final int aLength) {
+            if (aLength != 0) {
+                this.sb.deleteCharAt(this.sb.length() - 1);
+            }
+            this.sb.append("],");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitByte(int, byte)
+         */
+        @Override
+        public void visitByte(final int aKey, final byte aByte) {
+            appendKey(aKey).append(aByte).append(",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitShort(int, short)
+         */
+        @Override
+        public void visitShort(final int aKey, final short aShort) {
+            appendKey(aKey).append(aShort).append(",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitInt(int, int)
+         */
+        @Override
+        public void visitInt(final int aKey, final int aInt) {
+            appendKey(aKey).append(aInt).append(",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitLong(int, long)
+         */
+        @Override
+        public void visitLong(final int aKey, final long aLong) {
+            appendKey(aKey).append(aLong).append(",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitFloat(int, float)
+         */
+        @Override
+        public void visitFloat(final int aKey, final float aFloat) {
+            appendKey(aKey).append(aFloat).append(",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitDouble(int, double)
+         */
+        @Override
+        public void visitDouble(final int aKey, final double aDouble) {
+            appendKey(aKey).append(aDouble).append(",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitString(int, java.lang.String)
+         */
+        @Override
+        public void visitString(final int aKey, final String aString) {
+            appendKey(aKey).append("\"").append(aString).append("\",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitMsg(int, com.github.hermod.ser.Msg)
+         */
+        @Override
+        public void visitMsg(final int aKey, final Msg aMsg) {
+            appendKey(aKey);
+            appendJson(aMsg, this.sb);
+            this.sb.append(",");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitNull(int, com.github.hermod.ser.Null)
+         */
+        @Override
+        public void visitNull(final int aKey, final Null aNull) {
+            appendKey(aKey).append("null,");
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitBytes(int, byte[])
+         */
+        @Override
+        public void visitBytes(final int aKey, final byte[] aBytes) {
+            appendArrayStart(aKey);
+            for (final byte b : aBytes) {
+                this.sb.append(b).append(",");
+            }
+            appendArrayEnd(aBytes.length);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitShorts(int, short[])
+         */
+        @Override
+        public void visitShorts(final int aKey, final short[] aShorts) {
+            appendArrayStart(aKey);
+            for (final short s : aShorts) {
+                this.sb.append(s).append(",");
+            }
+            appendArrayEnd(aShorts.length);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitInts(int, int[])
+         */
+        @Override
+        public void visitInts(final int aKey, final int[] aInts) {
+            appendArrayStart(aKey);
+            for (final int i : aInts) {
+                this.sb.append(i).append(",");
+            }
+            appendArrayEnd(aInts.length);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitLongs(int, long[])
+         */
+        @Override
+        public void visitLongs(final int aKey, final long[] aLongs) {
+            appendArrayStart(aKey);
+            for (final long l : aLongs) {
+                this.sb.append(l).append(",");
+            }
+            appendArrayEnd(aLongs.length);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitFloats(int, float[])
+         */
+        @Override
+        public void visitFloats(final int aKey, final float[] aFloats) {
+            appendArrayStart(aKey);
+            for (final float f : aFloats) {
+                this.sb.append(f).append(",");
+            }
+            appendArrayEnd(aFloats.length);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitDoubles(int, double[])
+         */
+        @Override
+        public void visitDoubles(final int aKey, final double[] aDoubles) {
+            appendArrayStart(aKey);
+            for (final double d : aDoubles) {
+                this.sb.append(d).append(",");
+            }
+            appendArrayEnd(aDoubles.length);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitObjects(int, java.lang.Object[])
+         */
+        @Override
+        public void visitObjects(final int aKey, final Object[] aObjects) {
+            appendArrayStart(aKey);
+            for (final Object object : aObjects) {
+                this.sb.append(object).append(",");
+            }
+            appendArrayEnd(aObjects.length);
+        }
+    }
+
+    /**
+     * <p>HashCodeMsgVisitor, sums key ^ hash of the value, the hash of a scalar is the one of its boxed value.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class HashCodeMsgVisitor implements MsgVisitor {
+
+        private int hashcode;
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitByte(int, byte)
+         */
+        @Override
+        public void visitByte(final int aKey, final byte aByte) {
+            this.hashcode += aKey ^ Byte.hashCode(aByte);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitShort(int, short)
+         */
+        @Override
+        public void visitShort(final int aKey, final short aShort) {
+            this.hashcode += aKey ^ Short.hashCode(aShort);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitInt(int, int)
+         */
+        @Override
+        public void visitInt(final int aKey, final int aInt) {
+            this.hashcode += aKey ^ Integer.hashCode(aInt);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitLong(int, long)
+         */
+        @Override
+        public void visitLong(final int aKey, final long aLong) {
+            this.hashcode += aKey ^ Long.hashCode(aLong);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitFloat(int, float)
+         */
+        @Override
+        public void visitFloat(final int aKey, final float aFloat) {
+            this.hashcode += aKey ^ Float.hashCode(aFloat);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitDouble(int, double)
+         */
+        @Override
+        public void visitDouble(final int aKey, final double aDouble) {
+            this.hashcode += aKey ^ Double.hashCode(aDouble);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitString(int, java.lang.String)
+         */
+        @Override
+        public void visitString(final int aKey, final String aString) {
+            this.hashcode += aKey ^ aString.hashCode();
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitMsg(int, com.github.hermod.ser.Msg)
+         */
+        @Override
+        public void visitMsg(final int aKey, final Msg aMsg) {
+            this.hashcode += aKey ^ aMsg.hashCode();
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitNull(int, com.github.hermod.ser.Null)
+         */
+        @Override
+        public void visitNull(final int aKey, final Null aNull) {
+            this.hashcode += aKey ^ aNull.hashCode();
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitBytes(int, byte[])
+         */
+        @Override
+        public void visitBytes(final int aKey, final byte[] aBytes) {
+            this.hashcode += aKey ^ Arrays.hashCode(aBytes);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitShorts(int, short[])
+         */
+        @Override
+        public void visitShorts(final int aKey, final short[] aShorts) {
+            this.hashcode += aKey ^ Arrays.hashCode(aShorts);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitInts(int, int[])
+         */
+        @Override
+        public void visitInts(final int aKey, final int[] aInts) {
+            this.hashcode += aKey ^ Arrays.hashCode(aInts);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitLongs(int, long[])
+         */
+        @Override
+        public void visitLongs(final int aKey, final long[] aLongs) {
+            this.hashcode += aKey ^ Arrays.hashCode(aLongs);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitFloats(int, float[])
+         */
+        @Override
+        public void visitFloats(final int aKey, final float[] aFloats) {
+            this.hashcode += aKey ^ Arrays.hashCode(aFloats);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitDoubles(int, double[])
+         */
+        @Override
+        public void visitDoubles(final int aKey, final double[] aDoubles) {
+            this.hashcode += aKey ^ Arrays.hashCode(aDoubles);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see com.github.hermod.ser.impl.MsgVisitor#visitObjects(int, java.lang.Object[])
+         */
+        @Override
+        public void visitObjects(final int aKey, final Object[] aObjects) {
+            this.hashcode += aKey ^ Arrays.hashCode(aObjects);
+        }
+    }
 }
@@ -0,0 +1,861 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.Types.BYTE_TYPE;
+import static com.github.hermod.ser.Types.DOUBLE_TYPE;
+import static com.github.hermod.ser.Types.FLOAT_TYPE;
+import static com.github.hermod.ser.Types.INT_TYPE;
+import static com.github.hermod.ser.Types.LONG_TYPE;
+import static com.github.hermod.ser.Types.NULL_TYPE;
+import static com.github.hermod.ser.Types.SHORT_TYPE;
+import static com.github.hermod.ser.impl.Msgs.DEFAULT_MAX_KEY;
+import static com.github.hermod.ser.impl.Msgs.ERROR_WHEN_KEY_NOT_PRESENT;
+import static com.github.hermod.ser.impl.Msgs.NO_TYPE;
+import static com.github.hermod.ser.impl.Msgs.ONE;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Serializable;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>OffHeapMsg. </p>
+ * 
+ * Same semantics as {@link IndexedPrimitivesMsg}, but all the fields live in one direct ByteBuffer, the heap only holds this handle, the
+ * ByteBuffer object and a presence bit per key, whatever the number of fields. Layout, accessed with {@link DirectBytes} :
+ * <ul>
+ * <li>a slot of 16 bytes per key : the type at +0, the length of the encoded object at +4, the scalar bits or the index of the encoded
+ * object at +8,</li>
+ * <li>then the Strings, the arrays, the Msgs and the Nulls, appended encoded as by {@link MsgCodec} (type + value).</li>
+ * </ul>
+ * An overwritten or removed object leaves garbage, the buffer is compacted when it is reallocated.
+ * 
+ * The native memory is released by {@link #close()}, the msg must not be used after. Without close(), it is released when the ByteBuffer is
+ * collected.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class OffHeapMsg extends AbstractMsg implements Serializable, BytesSerializable, ByteBufferSerializable, Closeable {
+
+    private static final int    SLOT_LENGTH_SHIFT     = 4;
+    private static final int    OBJECT_LENGTH_OFFSET  = 4;
+    private static final int    VALUE_OFFSET          = 8;
+    private static final int    DEFAULT_DATA_CAPACITY = 64;
+    private static final String ERROR_CLOSED          = "Impossible to access to a closed OffHeapMsg.";
+    // one presence bit per key, bit (key & 63) of presences[key >>> 6]
+    private static final int    PRESENCE_SHIFT        = 6;
+
+    private ByteBuffer          buffer;
+    private int                 slotCapacity;
+    private int                 dataEnd;
+    private int                 garbage;
+    private long[]              presences;
+    private int                 keysLength;
+
+    /**
+     * Constructor.
+     * 
+     * @param aKeyMax
+     * @param aDataCapacity
+     */
+    private OffHeapMsg(final int aKeyMax, final int aDataCapacity) {
+        this.buffer = allocate(aKeyMax + 1, aDataCapacity);
+        this.slotCapacity = aKeyMax + 1;
+        this.dataEnd = this.slotCapacity << SLOT_LENGTH_SHIFT;
+        this.presences = new long[presencesLength(this.slotCapacity)];
+    }
+
+    /**
+     * create.
+     * 
+     * @return
+     */
+    public static OffHeapMsg create() {
+        return new OffHeapMsg(DEFAULT_MAX_KEY, DEFAULT_DATA_CAPACITY);
+    }
+
+    /**
+     * createWithKeyMax.
+     * 
+     * @param keyMax
+     * @return
+     */
+    public static OffHeapMsg createWithKeyMax(final int keyMax) {
+        return new OffHeapMsg(keyMax, DEFAULT_DATA_CAPACITY);
+    }
+
+    /**
+     * createWithCapacity.
+     * 
+     * @param keyMax
+     * @param dataCapacity the initial number of bytes for the Strings, the arrays, the Msgs and the Nulls
+     * @return
+     */
+    public static OffHeapMsg createWithCapacity(final int keyMax, final int dataCapacity) {
+        return new OffHeapMsg(keyMax, dataCapacity);
+    }
+
+    /**
+     * createFromMsg.
+     * 
+     * @param aMsg
+     * @return
+     */
+    public static OffHeapMsg createFromMsg(final Msg aMsg) {
+        final OffHeapMsg msg = new OffHeapMsg((aMsg != null) ? Math.max(aMsg.getKeyMax(), DEFAULT_MAX_KEY) : DEFAULT_MAX_KEY, DEFAULT_DATA_CAPACITY);
+        msg.setAll(aMsg);
+        return msg;
+    }
+
+    /**
+     * createFromValues.
+     * 
+     * @param values
+     * @return
+     */
+    public static OffHeapMsg createFromValues(final Object... values) {
+        final OffHeapMsg msg = new OffHeapMsg(values.length, DEFAULT_DATA_CAPACITY);
+        msg.setAll(values);
+        return msg;
+    }
+
+    /**
+     * allocate.
+     * 
+     * @param aSlotCapacity
+     * @param aDataCapacity
+     * @return a direct buffer with all its slots empty
+     */
+    private static ByteBuffer allocate(final int aSlotCapacity, final int aDataCapacity) {
+        final ByteBuffer newBuffer = ByteBuffer.allocateDirect((aSlotCapacity << SLOT_LENGTH_SHIFT) + aDataCapacity);
+        if (NO_TYPE != 0) {
+            for (int i = 0; i < aSlotCapacity; i++) {
+                newBuffer.put(i << SLOT_LENGTH_SHIFT, NO_TYPE);
+            }
+        }
+        return newBuffer;
+    }
+
+    /**
+     * presencesLength.
+     * 
+     * @param aSlotCapacity
+     * @return the number of longs to have one presence bit per key
+     */
+    private static int presencesLength(final int aSlotCapacity) {
+        return (aSlotCapacity + Long.SIZE - 1) >>> PRESENCE_SHIFT;
+    }
+
+    /**
+     * reallocate, copies the slots and the live objects into a new buffer, then frees the old one.
+     * 
+     * @param aSlotCapacity
+     * @param aMinDataCapacity
+     */
+    private void reallocate(final int aSlotCapacity, final int aMinDataCapacity) {
+        final ByteBuffer oldBuffer = this.buffer;
+        final int oldSlotCapacity = this.slotCapacity;
+        final int dataCapacity = Math.max(aMinDataCapacity, (oldBuffer.capacity() - (oldSlotCapacity << SLOT_LENGTH_SHIFT)) * 2);
+        final ByteBuffer newBuffer = allocate(aSlotCapacity, dataCapacity);
+        int newDataEnd = aSlotCapacity << SLOT_LENGTH_SHIFT;
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            final int slot = key << SLOT_LENGTH_SHIFT;
+            final byte type = oldBuffer.get(slot);
+            if (type == NO_TYPE) {
+                // the key being overwritten by setObject
+                continue;
+            }
+            newBuffer.put(slot, type);
+            if (isPrimitive(type)) {
+                DirectBytes.putLongLE(newBuffer, slot + VALUE_OFFSET, DirectBytes.getLongLE(oldBuffer, slot + VALUE_OFFSET));
+            } else {
+                final int objectIndex = (int) DirectBytes.getLongLE(oldBuffer, slot + VALUE_OFFSET);
+                final int objectLength = DirectBytes.getIntLE(oldBuffer, slot + OBJECT_LENGTH_OFFSET);
+                newBuffer.put(newDataEnd, oldBuffer, objectIndex, objectLength);
+                DirectBytes.putIntLE(newBuffer, slot + OBJECT_LENGTH_OFFSET, objectLength);
+                DirectBytes.putLongLE(newBuffer, slot + VALUE_OFFSET, newDataEnd);
+                newDataEnd += objectLength;
+            }
+        }
+        this.buffer = newBuffer;
+        this.slotCapacity = aSlotCapacity;
+        this.dataEnd = newDataEnd;
+        this.garbage = 0;
+        if (presencesLength(aSlotCapacity) != this.presences.length) {
+            this.presences = Arrays.copyOf(this.presences, presencesLength(aSlotCapacity));
+        }
+        DirectBytes.free(oldBuffer);
+    }
+
+    /**
+     * isPrimitive.
+     * 
+     * @param aType
+     * @return true if the value is stored in the slot
+     */
+    private static boolean isPrimitive(final byte aType) {
+        return aType == BYTE_TYPE || aType == SHORT_TYPE || aType == INT_TYPE || aType == LONG_TYPE || aType == FLOAT_TYPE
+        || aType == DOUBLE_TYPE;
+    }
+
+    /**
+     * checkOpen.
+     * 
+     */
+    private void checkOpen() {
+        if (this.buffer == null) {
+            throw new IllegalStateException(ERROR_CLOSED);
+        }
+    }
+
+    /**
+     * typeOf.
+     * 
+     * @param aKey
+     * @return the type tag of aKey, NO_TYPE if absent
+     */
+    private byte typeOf(final int aKey) {
+        checkOpen();
+        return (aKey >= 0 && aKey < this.slotCapacity) ? this.buffer.get(aKey << SLOT_LENGTH_SHIFT) : NO_TYPE;
+    }
+
+    /**
+     * bitsOf.
+     * 
+     * @param aKey
+     * @return the scalar bits of aKey
+     */
+    private long bitsOf(final int aKey) {
+        return DirectBytes.getLongLE(this.buffer, (aKey << SLOT_LENGTH_SHIFT) + VALUE_OFFSET);
+    }
+
+    /**
+     * prepareSlot, grows the slots if needed and accounts the previous object of aKey as garbage.
+     * 
+     * @param aKey
+     * @return the index of the slot of aKey
+     */
+    private int prepareSlot(final int aKey) {
+        checkKey(aKey);
+        checkOpen();
+        if (aKey >= this.slotCapacity) {
+            reallocate(Msgs.calculateNextPowerOf2(aKey + 1), 0);
+        }
+        final int slot = aKey << SLOT_LENGTH_SHIFT;
+        final byte type = this.buffer.get(slot);
+        if (type != NO_TYPE && !isPrimitive(type)) {
+            this.garbage += DirectBytes.getIntLE(this.buffer, slot + OBJECT_LENGTH_OFFSET);
+        }
+        return slot;
+    }
+
+    /**
+     * setPresent, sets the presence bit of aKey.
+     * 
+     * @param aKey
+     */
+    private void setPresent(final int aKey) {
+        final long bit = 1L << aKey;
+        if ((this.presences[aKey >>> PRESENCE_SHIFT] & bit) == 0) {
+            this.presences[aKey >>> PRESENCE_SHIFT] |= bit;
+            this.keysLength++;
+        }
+    }
+
+    /**
+     * setPrimitive.
+     * 
+     * @param aKey
+     * @param aType
+     * @param aBits
+     */
+    private void setPrimitive(final int aKey, final byte aType, final long aBits) {
+        final int slot = prepareSlot(aKey);
+        this.buffer.put(slot, aType);
+        DirectBytes.putLongLE(this.buffer, slot + VALUE_OFFSET, aBits);
+        setPresent(aKey);
+    }
+
+    /**
+     * setObject.
+     * 
+     * @param aKey
+     * @param aValue a String, an array, a Msg or a Null
+     */
+    private void setObject(final int aKey, final Object aValue) {
+        // the previous value is garbage, not copied if the buffer is reallocated
+        final int slot = prepareSlot(aKey);
+        this.buffer.put(slot, NO_TYPE);
+        final MsgCodec codec = MsgCodec.DEFAULT;
+        final int objectLength = ONE + codec.valueLength(aValue);
+        if (this.dataEnd + objectLength > this.buffer.capacity()) {
+            final int liveLength = this.dataEnd - (this.slotCapacity << SLOT_LENGTH_SHIFT) - this.garbage;
+            reallocate(this.slotCapacity, liveLength + objectLength);
+        }
+        final int objectIndex = this.dataEnd;
+        this.dataEnd = codec.writeTypedValue(this.buffer, objectIndex, aValue);
+        this.buffer.put(slot, this.buffer.get(objectIndex));
+        DirectBytes.putIntLE(this.buffer, slot + OBJECT_LENGTH_OFFSET, objectLength);
+        DirectBytes.putLongLE(this.buffer, slot + VALUE_OFFSET, objectIndex);
+        setPresent(aKey);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getValue(int)
+     */
+    @Override
+    protected final Object getValue(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == NO_TYPE) {
+            return null;
+        }
+        final long bits = bitsOf(aKey);
+        switch (type) {
+            case BYTE_TYPE:
+                return Byte.valueOf((byte) bits);
+            case SHORT_TYPE:
+                return Short.valueOf((short) bits);
+            case INT_TYPE:
+                return Integer.valueOf((int) bits);
+            case LONG_TYPE:
+                return Long.valueOf(bits);
+            case FLOAT_TYPE:
+                return Float.valueOf(Float.intBitsToFloat((int) bits));
+            case DOUBLE_TYPE:
+                return Double.valueOf(Double.longBitsToDouble(bits));
+            default:
+                final Object value = MsgCodec.DEFAULT.readValue(this.buffer, (int) bits + ONE, type);
+                return (value == null && type == NULL_TYPE) ? Null.NULL : value;
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)
+     */
+    @Override
+    protected final void setValue(final int aKey, final Object aValue) {
+        if (aValue instanceof Byte) {
+            setPrimitive(aKey, BYTE_TYPE, ((Byte) aValue).longValue());
+        } else if (aValue instanceof Short) {
+            setPrimitive(aKey, SHORT_TYPE, ((Short) aValue).longValue());
+        } else if (aValue instanceof Integer) {
+            setPrimitive(aKey, INT_TYPE, ((Integer) aValue).longValue());
+        } else if (aValue instanceof Long) {
+            setPrimitive(aKey, LONG_TYPE, ((Long) aValue).longValue());
+        } else if (aValue instanceof Float) {
+            setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits(((Float) aValue).floatValue()));
+        } else if (aValue instanceof Double) {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(((Double) aValue).doubleValue()));
+        } else {
+            setObject(aKey, aValue);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#removeValue(int)
+     */
+    @Override
+    protected final void removeValue(final int aKey) {
+        checkKey(aKey);
+        if (typeOf(aKey) != NO_TYPE) {
+            prepareSlot(aKey);
+            this.buffer.put(aKey << SLOT_LENGTH_SHIFT, NO_TYPE);
+            this.presences[aKey >>> PRESENCE_SHIFT] &= ~(1L << aKey);
+            this.keysLength--;
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#copyMsg(com.github.hermod.ser.Msg)
+     */
+    @Override
+    protected Msg copyMsg(final Msg aMsg) {
+        return IndexedPrimitivesMsg.createFromMsg(aMsg);
+    }
+
+    /**
+     * close, releases the native memory.
+     * 
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public final void close() {
+        if (this.buffer != null) {
+            DirectBytes.free(this.buffer);
+            this.buffer = null;
+            this.slotCapacity = 0;
+            this.presences = new long[0];
+            this.keysLength = 0;
+        }
+    }
+
+    /**
+     * isClosed.
+     * 
+     * @return
+     */
+    public final boolean isClosed() {
+        return this.buffer == null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isEmpty()
+     */
+    @Override
+    public final boolean isEmpty() {
+        checkOpen();
+        return this.keysLength == 0;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysArray()
+     */
+    @Override
+    public final int[] getKeysArray() {
+        checkOpen();
+        final int[] keys = new int[this.keysLength];
+        int index = 0;
+        for (int i = 0; index < keys.length; i++) {
+            long presence = this.presences[i];
+            while (presence != 0) {
+                keys[index++] = (i << PRESENCE_SHIFT) + Long.numberOfTrailingZeros(presence);
+                presence &= presence - 1;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#nextKey(int)
+     */
+    @Override
+    public final int nextKey(final int aFromKey) {
+        checkOpen();
+        final int fromKey = Math.max(aFromKey, 0);
+        int i = fromKey >>> PRESENCE_SHIFT;
+        if (i >= this.presences.length) {
+            return -1;
+        }
+        long presence = this.presences[i] & (-1L << fromKey);
+        while (presence == 0) {
+            if (++i == this.presences.length) {
+                return -1;
+            }
+            presence = this.presences[i];
+        }
+        return (i << PRESENCE_SHIFT) + Long.numberOfTrailingZeros(presence);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeyMax()
+     */
+    @Override
+    public final int getKeyMax() {
+        checkOpen();
+        if (this.keysLength != 0) {
+            for (int i = this.presences.length; i-- != 0;) {
+                if (this.presences[i] != 0) {
+                    return (i << PRESENCE_SHIFT) + Long.SIZE - 1 - Long.numberOfLeadingZeros(this.presences[i]);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysLength()
+     */
+    @Override
+    public final int getKeysLength() {
+        checkOpen();
+        return this.keysLength;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#removeAll()
+     */
+    @Override
+    public final void removeAll() {
+        checkOpen();
+        for (int i = 0; this.keysLength != 0; i++) {
+            long presence = this.presences[i];
+            while (presence != 0) {
+                this.buffer.put(((i << PRESENCE_SHIFT) + Long.numberOfTrailingZeros(presence)) << SLOT_LENGTH_SHIFT, NO_TYPE);
+                this.keysLength--;
+                presence &= presence - 1;
+            }
+            this.presences[i] = 0;
+        }
+        this.dataEnd = this.slotCapacity << SLOT_LENGTH_SHIFT;
+        this.garbage = 0;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#contains(int)
+     */
+    @Override
+    public final boolean contains(final int aKey) {
+        return typeOf(aKey) != NO_TYPE;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getType(int)
+     */
+    @Override
+    public final Type getType(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == NO_TYPE) {
+            return Type.NULL;
+        }
+        return (type == NULL_TYPE) ? ((Null) getValue(aKey)).getType() : Msgs.getType(type);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getTypeAsByte(int)
+     */
+    @Override
+    public final byte getTypeAsByte(final int aKey) {
+        final byte type = typeOf(aKey);
+        return (type == NO_TYPE) ? NULL_TYPE : type;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsBoolean(int)
+     */
+    @Override
+    public final boolean getAsBoolean(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return bitsOf(aKey) != 0;
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsByte(int)
+     */
+    @Override
+    public final byte getAsByte(final int aKey) {
+        if (typeOf(aKey) == BYTE_TYPE) {
+            return (byte) bitsOf(aKey);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsShort(int)
+     */
+    @Override
+    public final short getAsShort(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE) {
+            return (short) bitsOf(aKey);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsInt(int)
+     */
+    @Override
+    public final int getAsInt(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE) {
+            return (int) bitsOf(aKey);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsLong(int)
+     */
+    @Override
+    public final long getAsLong(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE || type == LONG_TYPE) {
+            return bitsOf(aKey);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsFloat(int)
+     */
+    @Override
+    public final float getAsFloat(final int aKey) {
+        if (typeOf(aKey) == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) bitsOf(aKey));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsDouble(int)
+     */
+    @Override
+    public final double getAsDouble(final int aKey) {
+        final byte type = typeOf(aKey);
+        if (type == DOUBLE_TYPE) {
+            return Double.longBitsToDouble(bitsOf(aKey));
+        }
+        if (type == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) bitsOf(aKey));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final boolean aBoolean) {
+        setPrimitive(aKey, BYTE_TYPE, aBoolean ? 1 : 0);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, byte)
+     */
+    @Override
+    public final void set(final int aKey, final byte aByte) {
+        setPrimitive(aKey, BYTE_TYPE, aByte);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short)
+     */
+    @Override
+    public final void set(final int aKey, final short aShort) {
+        setPrimitive(aKey, (aShort == (byte) aShort) ? BYTE_TYPE : SHORT_TYPE, aShort);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final short aShort, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aShort);
+        } else {
+            setPrimitive(aKey, SHORT_TYPE, aShort);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int)
+     */
+    @Override
+    public final void set(final int aKey, final int aInt) {
+        setPrimitive(aKey, (aInt == (byte) aInt) ? BYTE_TYPE : (aInt == (short) aInt) ? SHORT_TYPE : INT_TYPE, aInt);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final int aInt, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aInt);
+        } else {
+            setPrimitive(aKey, INT_TYPE, aInt);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long)
+     */
+    @Override
+    public final void set(final int aKey, final long aLong) {
+        final byte type;
+        if (aLong == (byte) aLong) {
+            type = BYTE_TYPE;
+        } else if (aLong == (short) aLong) {
+            type = SHORT_TYPE;
+        } else if (aLong == (int) aLong) {
+            type = INT_TYPE;
+        } else {
+            type = LONG_TYPE;
+        }
+        setPrimitive(aKey, type, aLong);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final long aLong, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aLong);
+        } else {
+            setPrimitive(aKey, LONG_TYPE, aLong);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, float)
+     */
+    @Override
+    public final void set(final int aKey, final float aFloat) {
+        setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits(aFloat));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double)
+     */
+    @Override
+    public final void set(final int aKey, final double aDouble) {
+        if (aDouble == (float) aDouble) {
+            setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits((float) aDouble));
+        } else {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(aDouble));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final double aDouble, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aDouble);
+        } else {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(aDouble));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Serializable#getLength()
+     */
+    @Override
+    public final int getLength() {
+        return MsgCodec.DEFAULT.getLength(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes()
+     */
+    @Override
+    public final byte[] serializeToBytes() {
+        return MsgCodec.DEFAULT.serializeToBytes(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)
+     */
+    @Override
+    public final int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {
+        return MsgCodec.DEFAULT.serializeToBytes(this, aDestBytes, aDestOffset);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)
+     */
+    @Override
+    public final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        MsgCodec.DEFAULT.deserializeFromBytes(aSrcBytes, aSrcOffset, aSrcLength, this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer()
+     */
+    @Override
+    public final ByteBuffer serializeToByteBuffer() {
+        return MsgCodec.DEFAULT.serializeToByteBuffer(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void serializeToByteBuffer(final ByteBuffer aDestByteBuffer) {
+        MsgCodec.DEFAULT.serializeToByteBuffer(this, aDestByteBuffer);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#deserializeFromByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer) {
+        MsgCodec.DEFAULT.deserializeFromByteBuffer(aSrcByteBuffer, this);
+    }
+}
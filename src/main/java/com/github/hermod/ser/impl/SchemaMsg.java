@@ -0,0 +1,861 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.Types.BYTE_TYPE;
+import static com.github.hermod.ser.Types.DOUBLE_TYPE;
+import static com.github.hermod.ser.Types.FLOAT_TYPE;
+import static com.github.hermod.ser.Types.INT_TYPE;
+import static com.github.hermod.ser.Types.LONG_TYPE;
+import static com.github.hermod.ser.Types.NULL_TYPE;
+import static com.github.hermod.ser.Types.SHORT_TYPE;
+import static com.github.hermod.ser.impl.Msgs.ERROR_WHEN_KEY_NOT_PRESENT;
+import static com.github.hermod.ser.impl.Msgs.ONE;
+import static com.github.hermod.ser.impl.Msgs.SIXTY_FOUR;
+import static com.github.hermod.ser.impl.Msgs.XFF;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Serializable;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>SchemaMsg. </p>
+ * 
+ * Msg of a {@link MsgSchema}, created by {@link MsgSchema#createMsg()}. The fields of the schema are stored at the slot given by the schema,
+ * in a long array for BYTE..DOUBLE (the raw bits of a float or a double, no boxing and no type tag) and in an Object array for the others, the
+ * keys which are not in the schema are stored in an overflow IndexedObjectsMsg, created on the first unknown key.
+ * 
+ * The Type of a schema field is fixed : a value is stored if it can be converted to this Type without loss (an int 3 in a LONG field, a double
+ * 0.5 in a FLOAT field), an IllegalArgumentException is thrown otherwise.
+ * 
+ * Serialized bytes :
+ * 
+ * <pre>
+ * presence bits        = 1 bit per schema field, in key order
+ * primitive fields     = at fixed offsets (given by the schema), little-endian, 0 when absent
+ * Object fields        = type value (MsgCodec) per present field, in key order
+ * overflow             = key type value (MsgCodec) per overflow key
+ * </pre>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public final class SchemaMsg extends AbstractMsg implements Serializable, BytesSerializable, ByteBufferSerializable {
+
+    private static final String ERROR_WRONG_TYPE = "The key=%s is a %s field of the schema=%s, it cannot store %s.";
+    private static final int    PRESENCE_SHIFT   = 6;
+
+    private final MsgSchema     schema;
+    private final int           fieldsLength;
+    private final long[]        presences;
+    private final long[]        bits;
+    private final Object[]      objects;
+    private IndexedObjectsMsg   overflow;
+
+    /**
+     * Constructor.
+     * 
+     * @param aSchema
+     */
+    SchemaMsg(final MsgSchema aSchema) {
+        this.schema = aSchema;
+        this.fieldsLength = aSchema.getFieldsLength();
+        this.presences = new long[(this.fieldsLength + SIXTY_FOUR - ONE) >>> PRESENCE_SHIFT];
+        this.bits = new long[aSchema.getPrimitiveSlotsLength()];
+        this.objects = new Object[aSchema.getObjectSlotsLength()];
+    }
+
+    /**
+     * getBits.
+     * 
+     * @param aSlot
+     * @return the value of the primitive field aSlot, the raw bits for a float or a double
+     */
+    private long getBits(final int aSlot) {
+        return this.bits[aSlot];
+    }
+
+    /**
+     * setBits.
+     * 
+     * @param aSlot
+     * @param aBits the value of the primitive field aSlot, the raw bits for a float or a double
+     */
+    private void setBits(final int aSlot, final long aBits) {
+        this.bits[aSlot] = aBits;
+    }
+
+    /**
+     * getObject.
+     * 
+     * @param aSlot
+     * @return the value of the Object field aSlot
+     */
+    private Object getObject(final int aSlot) {
+        return this.objects[aSlot];
+    }
+
+    /**
+     * setObject.
+     * 
+     * @param aSlot
+     * @param aObject
+     */
+    private void setObject(final int aSlot, final Object aObject) {
+        this.objects[aSlot] = aObject;
+    }
+
+    /**
+     * getSchema.
+     * 
+     * @return
+     */
+    public final MsgSchema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * isPresent.
+     * 
+     * @param aField
+     * @return
+     */
+    private boolean isPresent(final int aField) {
+        return (this.presences[aField >>> PRESENCE_SHIFT] & (1L << aField)) != 0;
+    }
+
+    /**
+     * presentType.
+     * 
+     * @param aField a schema field
+     * @return the type of aField if it is present, NULL_TYPE otherwise
+     */
+    private byte presentType(final int aField) {
+        return isPresent(aField) ? this.schema.fieldType(aField) : NULL_TYPE;
+    }
+
+    /**
+     * overflow.
+     * 
+     * @return the overflow, created if needed
+     */
+    private IndexedObjectsMsg overflow() {
+        if (this.overflow == null) {
+            this.overflow = IndexedObjectsMsg.create();
+        }
+        return this.overflow;
+    }
+
+    /**
+     * setBitsField.
+     * 
+     * @param aField
+     * @param aBits
+     */
+    private void setBitsField(final int aField, final long aBits) {
+        setBits(this.schema.fieldSlot(aField), aBits);
+        this.presences[aField >>> PRESENCE_SHIFT] |= 1L << aField;
+    }
+
+    /**
+     * setIntegralField.
+     * 
+     * @param aField
+     * @param aLong
+     */
+    private void setIntegralField(final int aField, final long aLong) {
+        final byte type = this.schema.fieldType(aField);
+        if ((type == BYTE_TYPE && aLong == (byte) aLong) || (type == SHORT_TYPE && aLong == (short) aLong)
+        || (type == INT_TYPE && aLong == (int) aLong) || type == LONG_TYPE) {
+            setBitsField(aField, aLong);
+        } else if (type == DOUBLE_TYPE && aLong == (long) (double) aLong && aLong != Long.MAX_VALUE) {
+            // an integral converted exactly, Long.MAX_VALUE rounded up to 2^63 being cast back to Long.MAX_VALUE
+            setBitsField(aField, Double.doubleToRawLongBits(aLong));
+        } else if (type == FLOAT_TYPE && aLong == (long) (float) aLong && aLong != Long.MAX_VALUE) {
+            setBitsField(aField, Float.floatToRawIntBits(aLong));
+        } else {
+            throw wrongType(aField, Long.valueOf(aLong));
+        }
+    }
+
+    /**
+     * setDecimalField.
+     * 
+     * @param aField
+     * @param aDouble
+     */
+    private void setDecimalField(final int aField, final double aDouble) {
+        final byte type = this.schema.fieldType(aField);
+        if (type == DOUBLE_TYPE) {
+            setBitsField(aField, Double.doubleToRawLongBits(aDouble));
+        } else if (type == FLOAT_TYPE && (aDouble == (float) aDouble || Double.isNaN(aDouble))) {
+            setBitsField(aField, Float.floatToRawIntBits((float) aDouble));
+        } else {
+            throw wrongType(aField, Double.valueOf(aDouble));
+        }
+    }
+
+    /**
+     * wrongType.
+     * 
+     * @param aField
+     * @param aValue
+     * @return
+     */
+    private IllegalArgumentException wrongType(final int aField, final Object aValue) {
+        return new IllegalArgumentException(String.format(ERROR_WRONG_TYPE, this.schema.fieldKey(aField), Msgs.getType(this.schema
+        .fieldType(aField)), this.schema.getName(), aValue));
+    }
+
+    /**
+     * fieldValue.
+     * 
+     * @param aField a present schema field
+     * @return the boxed value of aField
+     */
+    private Object fieldValue(final int aField) {
+        final int slot = this.schema.fieldSlot(aField);
+        switch (this.schema.fieldType(aField)) {
+            case BYTE_TYPE:
+                return Byte.valueOf((byte) getBits(slot));
+            case SHORT_TYPE:
+                return Short.valueOf((short) getBits(slot));
+            case INT_TYPE:
+                return Integer.valueOf((int) getBits(slot));
+            case LONG_TYPE:
+                return Long.valueOf(getBits(slot));
+            case FLOAT_TYPE:
+                return Float.valueOf(Float.intBitsToFloat((int) getBits(slot)));
+            case DOUBLE_TYPE:
+                return Double.valueOf(Double.longBitsToDouble(getBits(slot)));
+            default:
+                return getObject(slot);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getValue(int)
+     */
+    @Override
+    protected final Object getValue(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return (this.overflow != null) ? this.overflow.getValue(aKey) : null;
+        }
+        return isPresent(field) ? fieldValue(field) : null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)
+     */
+    @Override
+    protected final void setValue(final int aKey, final Object aValue) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            Msgs.setStoredValue(overflow(), aKey, aValue);
+        } else if (aValue instanceof Byte || aValue instanceof Short || aValue instanceof Integer || aValue instanceof Long) {
+            setIntegralField(field, ((Number) aValue).longValue());
+        } else if (aValue instanceof Float || aValue instanceof Double) {
+            setDecimalField(field, ((Number) aValue).doubleValue());
+        } else if (MsgCodec.fixedSize(this.schema.fieldType(field)) == 0
+        && (aValue instanceof Null || Type.valueOf(aValue.getClass()).getId() == this.schema.fieldType(field))) {
+            setObject(this.schema.fieldSlot(field), aValue);
+            this.presences[field >>> PRESENCE_SHIFT] |= 1L << field;
+        } else {
+            throw wrongType(field, aValue);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#removeValue(int)
+     */
+    @Override
+    protected final void removeValue(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            checkKey(aKey);
+            if (this.overflow != null) {
+                this.overflow.remove(aKey);
+            }
+        } else {
+            this.presences[field >>> PRESENCE_SHIFT] &= ~(1L << field);
+            if (MsgCodec.fixedSize(this.schema.fieldType(field)) == 0) {
+                setObject(this.schema.fieldSlot(field), null);
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#removeAll()
+     */
+    @Override
+    public final void removeAll() {
+        for (int field = 0; field < this.fieldsLength; field++) {
+            if (isPresent(field)) {
+                removeValue(this.schema.fieldKey(field));
+            }
+        }
+        if (this.overflow != null) {
+            this.overflow.removeAll();
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isEmpty()
+     */
+    @Override
+    public final boolean isEmpty() {
+        for (final long presence : this.presences) {
+            if (presence != 0) {
+                return false;
+            }
+        }
+        return this.overflow == null || this.overflow.isEmpty();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#contains(int)
+     */
+    @Override
+    public final boolean contains(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return this.overflow != null && this.overflow.contains(aKey);
+        }
+        return isPresent(field);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getType(int)
+     */
+    @Override
+    public final Type getType(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return (this.overflow != null) ? this.overflow.getType(aKey) : Type.NULL;
+        } else if (!isPresent(field)) {
+            return Type.NULL;
+        }
+        final Object value = (MsgCodec.fixedSize(this.schema.fieldType(field)) == 0) ? getObject(this.schema.fieldSlot(field)) : null;
+        return (value instanceof Null) ? ((Null) value).getType() : Msgs.getType(this.schema.fieldType(field));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getTypeAsByte(int)
+     */
+    @Override
+    public final byte getTypeAsByte(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return (this.overflow != null) ? this.overflow.getTypeAsByte(aKey) : NULL_TYPE;
+        }
+        final byte type = presentType(field);
+        return (type != NULL_TYPE && getValue(aKey) instanceof Null) ? NULL_TYPE : type;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#nextKey(int)
+     */
+    @Override
+    public final int nextKey(final int aFromKey) {
+        final int fromKey = Math.max(aFromKey, 0);
+        final int overflowKey = (this.overflow != null) ? this.overflow.nextKey(fromKey) : -1;
+        for (int field = 0; field < this.fieldsLength; field++) {
+            final int key = this.schema.fieldKey(field);
+            if (overflowKey != -1 && key > overflowKey) {
+                break;
+            } else if (key >= fromKey && isPresent(field)) {
+                return key;
+            }
+        }
+        return overflowKey;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysArray()
+     */
+    @Override
+    public final int[] getKeysArray() {
+        final int[] keys = new int[getKeysLength()];
+        int index = 0;
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            keys[index++] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysLength()
+     */
+    @Override
+    public final int getKeysLength() {
+        int keysLength = (this.overflow != null) ? this.overflow.getKeysLength() : 0;
+        for (final long presence : this.presences) {
+            keysLength += Long.bitCount(presence);
+        }
+        return keysLength;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeyMax()
+     */
+    @Override
+    public final int getKeyMax() {
+        int keyMax = (this.overflow != null) ? this.overflow.getKeyMax() : -1;
+        for (int field = this.fieldsLength; field-- != 0;) {
+            if (isPresent(field)) {
+                keyMax = Math.max(keyMax, this.schema.fieldKey(field));
+                break;
+            }
+        }
+        return keyMax;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#accept(com.github.hermod.ser.impl.MsgVisitor)
+     */
+    @Override
+    public final void accept(final MsgVisitor aVisitor) {
+        for (int key = nextKey(0); key != -1; key = nextKey(key + 1)) {
+            final int field = this.schema.fieldIndex(key);
+            final int slot = (field >= 0) ? this.schema.fieldSlot(field) : -1;
+            switch ((field >= 0) ? this.schema.fieldType(field) : NULL_TYPE) {
+                case BYTE_TYPE:
+                    aVisitor.visitByte(key, (byte) getBits(slot));
+                    break;
+                case SHORT_TYPE:
+                    aVisitor.visitShort(key, (short) getBits(slot));
+                    break;
+                case INT_TYPE:
+                    aVisitor.visitInt(key, (int) getBits(slot));
+                    break;
+                case LONG_TYPE:
+                    aVisitor.visitLong(key, getBits(slot));
+                    break;
+                case FLOAT_TYPE:
+                    aVisitor.visitFloat(key, Float.intBitsToFloat((int) getBits(slot)));
+                    break;
+                case DOUBLE_TYPE:
+                    aVisitor.visitDouble(key, Double.longBitsToDouble(getBits(slot)));
+                    break;
+                default:
+                    Msgs.visitValue(key, getValue(key), aVisitor);
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsByte(int)
+     */
+    @Override
+    public final byte getAsByte(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return super.getAsByte(aKey);
+        } else if (presentType(field) == BYTE_TYPE) {
+            return (byte) getBits(this.schema.fieldSlot(field));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsShort(int)
+     */
+    @Override
+    public final short getAsShort(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return super.getAsShort(aKey);
+        }
+        final byte type = presentType(field);
+        if (type == BYTE_TYPE || type == SHORT_TYPE) {
+            return (short) getBits(this.schema.fieldSlot(field));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsInt(int)
+     */
+    @Override
+    public final int getAsInt(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return super.getAsInt(aKey);
+        }
+        final byte type = presentType(field);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE) {
+            return (int) getBits(this.schema.fieldSlot(field));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsLong(int)
+     */
+    @Override
+    public final long getAsLong(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return super.getAsLong(aKey);
+        }
+        final byte type = presentType(field);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE || type == LONG_TYPE) {
+            return getBits(this.schema.fieldSlot(field));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsFloat(int)
+     */
+    @Override
+    public final float getAsFloat(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return super.getAsFloat(aKey);
+        } else if (presentType(field) == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) getBits(this.schema.fieldSlot(field)));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsDouble(int)
+     */
+    @Override
+    public final double getAsDouble(final int aKey) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            return super.getAsDouble(aKey);
+        }
+        final byte type = presentType(field);
+        if (type == DOUBLE_TYPE) {
+            return Double.longBitsToDouble(getBits(this.schema.fieldSlot(field)));
+        } else if (type == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) getBits(this.schema.fieldSlot(field)));
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, byte)
+     */
+    @Override
+    public final void set(final int aKey, final byte aByte) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            super.set(aKey, aByte);
+        } else {
+            setIntegralField(field, aByte);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short)
+     */
+    @Override
+    public final void set(final int aKey, final short aShort) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            super.set(aKey, aShort);
+        } else {
+            setIntegralField(field, aShort);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int)
+     */
+    @Override
+    public final void set(final int aKey, final int aInt) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            super.set(aKey, aInt);
+        } else {
+            setIntegralField(field, aInt);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long)
+     */
+    @Override
+    public final void set(final int aKey, final long aLong) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            super.set(aKey, aLong);
+        } else {
+            setIntegralField(field, aLong);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, float)
+     */
+    @Override
+    public final void set(final int aKey, final float aFloat) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            super.set(aKey, aFloat);
+        } else {
+            setDecimalField(field, aFloat);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double)
+     */
+    @Override
+    public final void set(final int aKey, final double aDouble) {
+        final int field = this.schema.fieldIndex(aKey);
+        if (field < 0) {
+            super.set(aKey, aDouble);
+        } else {
+            setDecimalField(field, aDouble);
+        }
+    }
+
+    // serialization
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Serializable#getLength()
+     */
+    @Override
+    public final int getLength() {
+        int length = this.schema.getFixedLength();
+        for (int field = 0; field < this.fieldsLength; field++) {
+            if (isPresent(field) && this.schema.fieldOffset(field) < 0) {
+                length += ONE + MsgCodec.DEFAULT.valueLength(getObject(this.schema.fieldSlot(field)));
+            }
+        }
+        return length + ((this.overflow != null) ? MsgCodec.DEFAULT.getLength(this.overflow) : 0);
+    }
+
+    /**
+     * writeFields.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @return the offset after the written fields
+     */
+    private int writeFields(final byte[] aBytes, final int aOffset) {
+        final int fixedLength = this.schema.getFixedLength();
+        int offset = aOffset + fixedLength;
+        for (int i = aOffset; i < offset; i++) {
+            aBytes[i] = 0;
+        }
+        for (int field = 0; field < this.fieldsLength; field++) {
+            if (isPresent(field)) {
+                aBytes[aOffset + (field >>> 3)] |= (byte) (1 << (field & 7));
+                final int fieldOffset = this.schema.fieldOffset(field);
+                if (fieldOffset >= 0) {
+                    MsgCodec.DEFAULT.writePrimitive(aBytes, aOffset + fieldOffset, this.schema.fieldType(field), getBits(this.schema
+                    .fieldSlot(field)));
+                } else {
+                    offset = MsgCodec.DEFAULT.writeTypedValue(aBytes, offset, getObject(this.schema.fieldSlot(field)));
+                }
+            }
+        }
+        return (this.overflow != null) ? MsgCodec.DEFAULT.writeMsg(aBytes, offset, this.overflow) : offset;
+    }
+
+    /**
+     * readFields.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aLength
+     */
+    private void readFields(final byte[] aBytes, final int aOffset, final int aLength) {
+        removeAll();
+        final int fixedLength = this.schema.getFixedLength();
+        if (aLength < fixedLength) {
+            throw new IllegalArgumentException("Impossible to decode a Msg of the schema=" + this.schema.getName() + " from " + aLength
+            + " bytes, its fixed length is " + fixedLength + ".");
+        }
+        int offset = aOffset + fixedLength;
+        for (int field = 0; field < this.fieldsLength; field++) {
+            if ((aBytes[aOffset + (field >>> 3)] & XFF & (1 << (field & 7))) != 0) {
+                final int fieldOffset = this.schema.fieldOffset(field);
+                if (fieldOffset >= 0) {
+                    setBitsField(field, readPrimitive(aBytes, aOffset + fieldOffset, this.schema.fieldType(field)));
+                } else {
+                    final byte type = aBytes[offset++];
+                    final Object value = MsgCodec.DEFAULT.readValue(aBytes, offset, type);
+                    setValue(this.schema.fieldKey(field), (value != null) ? value : Null.NULL);
+                    offset = MsgCodec.DEFAULT.skipValue(aBytes, offset, type);
+                }
+            }
+        }
+        final int end = aOffset + aLength;
+        if (offset < end) {
+            MsgCodec.DEFAULT.deserializeFromBytes(aBytes, offset, end - offset, overflow());
+        }
+    }
+
+    /**
+     * readPrimitive.
+     * 
+     * @param aBytes
+     * @param aOffset
+     * @param aType BYTE_TYPE..DOUBLE_TYPE
+     * @return the value, the raw bits for a float or a double
+     */
+    private static long readPrimitive(final byte[] aBytes, final int aOffset, final byte aType) {
+        switch (aType) {
+            case BYTE_TYPE:
+                return aBytes[aOffset];
+            case SHORT_TYPE:
+                return DirectBytes.getShortLE(aBytes, aOffset);
+            case INT_TYPE:
+            case FLOAT_TYPE:
+                return DirectBytes.getIntLE(aBytes, aOffset);
+            default:
+                return DirectBytes.getLongLE(aBytes, aOffset);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes()
+     */
+    @Override
+    public final byte[] serializeToBytes() {
+        final byte[] bytes = new byte[getLength()];
+        writeFields(bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)
+     */
+    @Override
+    public final int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {
+        final int length = getLength();
+        if (aDestOffset < 0 || aDestBytes.length - aDestOffset < length) {
+            throw new IllegalArgumentException("Impossible to serialize " + length + " bytes into a byte[] of " + aDestBytes.length
+            + " bytes from offset=" + aDestOffset + ".");
+        }
+        return writeFields(aDestBytes, aDestOffset) - aDestOffset;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)
+     */
+    @Override
+    public final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        readFields(aSrcBytes, aSrcOffset, aSrcLength);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer()
+     */
+    @Override
+    public final ByteBuffer serializeToByteBuffer() {
+        return ByteBuffer.wrap(serializeToBytes());
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void serializeToByteBuffer(final ByteBuffer aDestByteBuffer) {
+        final int length = getLength();
+        if (aDestByteBuffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (aDestByteBuffer.hasArray()) {
+            final int position = aDestByteBuffer.position();
+            writeFields(aDestByteBuffer.array(), aDestByteBuffer.arrayOffset() + position);
+            aDestByteBuffer.position(position + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            writeFields(bytes, 0);
+            aDestByteBuffer.put(bytes);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#deserializeFromByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer) {
+        final int length = aSrcByteBuffer.remaining();
+        if (aSrcByteBuffer.hasArray()) {
+            readFields(aSrcByteBuffer.array(), aSrcByteBuffer.arrayOffset() + aSrcByteBuffer.position(), length);
+            aSrcByteBuffer.position(aSrcByteBuffer.limit());
+        } else {
+            final byte[] bytes = new byte[length];
+            aSrcByteBuffer.get(bytes);
+            readFields(bytes, 0, length);
+        }
+    }
+}
@@ -0,0 +1,960 @@
+package com.github.hermod.ser.impl;
+
+import static com.github.hermod.ser.Types.BYTE_TYPE;
+import static com.github.hermod.ser.Types.DOUBLE_TYPE;
+import static com.github.hermod.ser.Types.FLOAT_TYPE;
+import static com.github.hermod.ser.Types.INT_TYPE;
+import static com.github.hermod.ser.Types.LONG_TYPE;
+import static com.github.hermod.ser.Types.NULL_TYPE;
+import static com.github.hermod.ser.Types.SHORT_TYPE;
+import static com.github.hermod.ser.impl.Msgs.DEFAULT_MAX_KEY;
+import static com.github.hermod.ser.impl.Msgs.ERROR_WHEN_KEY_NOT_PRESENT;
+import static com.github.hermod.ser.impl.Msgs.NO_TYPE;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.github.hermod.ser.ByteBufferSerializable;
+import com.github.hermod.ser.BytesSerializable;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Serializable;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>SparseMsg. </p>
+ * 
+ * Same semantics as {@link IndexedPrimitivesMsg}, but the keys are stored in an open-addressing table (linear probing, backward shift on
+ * remove) instead of being used as indexes, so the memory is proportional to the number of fields and not to the max key : a message with a
+ * few FIX-style tags like 9000 stays a few slots long.
+ * 
+ * The keys are sorted lazily, only after a key has been added or removed, for the ordered iteration ({@link #nextKey(int)},
+ * {@link #getKeysArray()}, {@link #getKeyMax()}).
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class SparseMsg extends AbstractMsg implements Serializable, BytesSerializable, ByteBufferSerializable {
+
+    private static final int EMPTY_KEY        = -1;
+    private static final int MIN_CAPACITY     = 8;
+    private static final int HASH_MULTIPLIER  = 0x9E3779B9;
+
+    private int[]            keys;
+    private byte[]           types;
+    private long[]           primitiveValues;
+    private Object[]         objectValues;
+    private int              size;
+    private int              mask;
+
+    // ascending keys, rebuilt only when a key has been added or removed
+    private int[]            sortedKeys;
+    private boolean          sortedKeysValid;
+
+    /**
+     * Constructor.
+     * 
+     * @param aExpectedSize
+     */
+    private SparseMsg(final int aExpectedSize) {
+        allocate(Msgs.calculateNextPowerOf2(Math.max(aExpectedSize * 2, MIN_CAPACITY)));
+        this.sortedKeys = new int[0];
+        this.sortedKeysValid = true;
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param aMsg
+     */
+    private SparseMsg(final SparseMsg aMsg) {
+        this.keys = aMsg.keys.clone();
+        this.types = aMsg.types.clone();
+        this.primitiveValues = aMsg.primitiveValues.clone();
+        this.objectValues = aMsg.objectValues.clone();
+        this.size = aMsg.size;
+        this.mask = aMsg.mask;
+        this.sortedKeys = new int[0];
+    }
+
+    /**
+     * create.
+     * 
+     * @return
+     */
+    public static SparseMsg create() {
+        return new SparseMsg(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * createWithKeyMax, for the same factories as the other Msgs, the table is sized for min(keyMax + 1, DEFAULT_MAX_KEY + 1) fields.
+     * 
+     * @param keyMax
+     * @return
+     */
+    public static SparseMsg createWithKeyMax(final int keyMax) {
+        return new SparseMsg(Math.min(keyMax, DEFAULT_MAX_KEY) + 1);
+    }
+
+    /**
+     * createWithExpectedSize.
+     * 
+     * @param expectedSize the expected number of fields
+     * @return
+     */
+    public static SparseMsg createWithExpectedSize(final int expectedSize) {
+        return new SparseMsg(expectedSize);
+    }
+
+    /**
+     * createFromMsg.
+     * 
+     * @param aMsg
+     * @return
+     */
+    public static SparseMsg createFromMsg(final Msg aMsg) {
+        if (aMsg instanceof SparseMsg) {
+            return new SparseMsg((SparseMsg) aMsg);
+        }
+        final SparseMsg msg = new SparseMsg((aMsg != null) ? aMsg.getKeysLength() : 0);
+        msg.setAll(aMsg);
+        return msg;
+    }
+
+    /**
+     * createFromValues.
+     * 
+     * @param values
+     * @return
+     */
+    public static SparseMsg createFromValues(final Object... values) {
+        final SparseMsg msg = new SparseMsg(values.length);
+        msg.setAll(values);
+        return msg;
+    }
+
+    /**
+     * allocate.
+     * 
+     * @param aCapacity a power of 2
+     */
+    private void allocate(final int aCapacity) {
+        this.keys = new int[aCapacity];
+        this.types = new byte[aCapacity];
+        this.primitiveValues = new long[aCapacity];
+        this.objectValues = new Object[aCapacity];
+        this.mask = aCapacity - 1;
+        Arrays.fill(this.keys, EMPTY_KEY);
+    }
+
+    /**
+     * getCapacity.
+     * 
+     * @return the number of slots of the table
+     */
+    final int getCapacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * hash.
+     * 
+     * @param aKey
+     * @return the home slot of aKey
+     */
+    private int hash(final int aKey) {
+        final int h = aKey * HASH_MULTIPLIER;
+        return (h ^ (h >>> Short.SIZE)) & this.mask;
+    }
+
+    /**
+     * slotOf.
+     * 
+     * @param aKey
+     * @return the slot of aKey, -1 if absent
+     */
+    private int slotOf(final int aKey) {
+        if (aKey < 0) {
+            return -1;
+        }
+        int slot = hash(aKey);
+        while (true) {
+            final int key = this.keys[slot];
+            if (key == aKey) {
+                return slot;
+            } else if (key == EMPTY_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    /**
+     * typeAt.
+     * 
+     * @param aSlot
+     * @return the type tag in aSlot, NO_TYPE if aSlot is -1
+     */
+    private byte typeAt(final int aSlot) {
+        return (aSlot >= 0) ? this.types[aSlot] : NO_TYPE;
+    }
+
+    /**
+     * insertSlot.
+     * 
+     * @param aKey
+     * @return the slot of aKey, added if absent
+     */
+    private int insertSlot(final int aKey) {
+        checkKey(aKey);
+        int slot = hash(aKey);
+        while (true) {
+            final int key = this.keys[slot];
+            if (key == aKey) {
+                return slot;
+            } else if (key == EMPTY_KEY) {
+                break;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        if ((this.size + 1) * 2 > this.keys.length) {
+            rehash(this.keys.length * 2);
+            return insertSlot(aKey);
+        }
+        this.keys[slot] = aKey;
+        this.size++;
+        this.sortedKeysValid = false;
+        return slot;
+    }
+
+    /**
+     * rehash.
+     * 
+     * @param aCapacity a power of 2
+     */
+    private void rehash(final int aCapacity) {
+        final int[] oldKeys = this.keys;
+        final byte[] oldTypes = this.types;
+        final long[] oldPrimitiveValues = this.primitiveValues;
+        final Object[] oldObjectValues = this.objectValues;
+        allocate(aCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = hash(oldKeys[i]);
+                while (this.keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.types[slot] = oldTypes[i];
+                this.primitiveValues[slot] = oldPrimitiveValues[i];
+                this.objectValues[slot] = oldObjectValues[i];
+            }
+        }
+    }
+
+    /**
+     * sortedKeys.
+     * 
+     * @return the ascending keys, in the first size cells
+     */
+    private int[] sortedKeys() {
+        if (!this.sortedKeysValid) {
+            if (this.sortedKeys.length < this.size) {
+                this.sortedKeys = new int[this.keys.length / 2];
+            }
+            int index = 0;
+            for (final int key : this.keys) {
+                if (key != EMPTY_KEY) {
+                    this.sortedKeys[index++] = key;
+                }
+            }
+            Arrays.sort(this.sortedKeys, 0, this.size);
+            this.sortedKeysValid = true;
+        }
+        return this.sortedKeys;
+    }
+
+    /**
+     * setPrimitive.
+     * 
+     * @param aKey
+     * @param aType
+     * @param aBits
+     */
+    private void setPrimitive(final int aKey, final byte aType, final long aBits) {
+        final int slot = insertSlot(aKey);
+        this.types[slot] = aType;
+        this.primitiveValues[slot] = aBits;
+        this.objectValues[slot] = null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#getValue(int)
+     */
+    @Override
+    protected final Object getValue(final int aKey) {
+        final int slot = slotOf(aKey);
+        if (slot < 0) {
+            return null;
+        }
+        final long bits = this.primitiveValues[slot];
+        switch (this.types[slot]) {
+            case BYTE_TYPE:
+                return Byte.valueOf((byte) bits);
+            case SHORT_TYPE:
+                return Short.valueOf((short) bits);
+            case INT_TYPE:
+                return Integer.valueOf((int) bits);
+            case LONG_TYPE:
+                return Long.valueOf(bits);
+            case FLOAT_TYPE:
+                return Float.valueOf(Float.intBitsToFloat((int) bits));
+            case DOUBLE_TYPE:
+                return Double.valueOf(Double.longBitsToDouble(bits));
+            default:
+                return this.objectValues[slot];
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#setValue(int, java.lang.Object)
+     */
+    @Override
+    protected final void setValue(final int aKey, final Object aValue) {
+        if (aValue instanceof Byte) {
+            setPrimitive(aKey, BYTE_TYPE, ((Byte) aValue).longValue());
+        } else if (aValue instanceof Short) {
+            setPrimitive(aKey, SHORT_TYPE, ((Short) aValue).longValue());
+        } else if (aValue instanceof Integer) {
+            setPrimitive(aKey, INT_TYPE, ((Integer) aValue).longValue());
+        } else if (aValue instanceof Long) {
+            setPrimitive(aKey, LONG_TYPE, ((Long) aValue).longValue());
+        } else if (aValue instanceof Float) {
+            setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits(((Float) aValue).floatValue()));
+        } else if (aValue instanceof Double) {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(((Double) aValue).doubleValue()));
+        } else {
+            final int slot = insertSlot(aKey);
+            this.types[slot] = Type.valueOf(aValue.getClass()).getId();
+            this.primitiveValues[slot] = 0;
+            this.objectValues[slot] = aValue;
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * Backward shift : the next entries of the probe sequence are moved back, so that no tombstone is needed.
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#removeValue(int)
+     */
+    @Override
+    protected final void removeValue(final int aKey) {
+        checkKey(aKey);
+        int slot = slotOf(aKey);
+        if (slot < 0) {
+            return;
+        }
+        int next = slot;
+        while (true) {
+            next = (next + 1) & this.mask;
+            final int key = this.keys[next];
+            if (key == EMPTY_KEY) {
+                break;
+            }
+            final int home = hash(key);
+            // the entry in next can be moved to slot only if its home is not cyclically in ]slot, next]
+            final boolean stays = (slot <= next) ? (slot < home && home <= next) : (slot < home || home <= next);
+            if (!stays) {
+                this.keys[slot] = key;
+                this.types[slot] = this.types[next];
+                this.primitiveValues[slot] = this.primitiveValues[next];
+                this.objectValues[slot] = this.objectValues[next];
+                slot = next;
+            }
+        }
+        this.keys[slot] = EMPTY_KEY;
+        this.objectValues[slot] = null;
+        this.size--;
+        this.sortedKeysValid = false;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#copyMsg(com.github.hermod.ser.Msg)
+     */
+    @Override
+    protected Msg copyMsg(final Msg aMsg) {
+        return createFromMsg(aMsg);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#isEmpty()
+     */
+    @Override
+    public final boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysArray()
+     */
+    @Override
+    public final int[] getKeysArray() {
+        return Arrays.copyOf(sortedKeys(), this.size);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#accept(com.github.hermod.ser.impl.MsgVisitor)
+     */
+    @Override
+    public final void accept(final MsgVisitor aVisitor) {
+        final int[] ascendingKeys = sortedKeys();
+        for (int i = 0; i < this.size; i++) {
+            final int key = ascendingKeys[i];
+            final int slot = slotOf(key);
+            final long bits = this.primitiveValues[slot];
+            switch (this.types[slot]) {
+                case BYTE_TYPE:
+                    aVisitor.visitByte(key, (byte) bits);
+                    break;
+                case SHORT_TYPE:
+                    aVisitor.visitShort(key, (short) bits);
+                    break;
+                case INT_TYPE:
+                    aVisitor.visitInt(key, (int) bits);
+                    break;
+                case LONG_TYPE:
+                    aVisitor.visitLong(key, bits);
+                    break;
+                case FLOAT_TYPE:
+                    aVisitor.visitFloat(key, Float.intBitsToFloat((int) bits));
+                    break;
+                case DOUBLE_TYPE:
+                    aVisitor.visitDouble(key, Double.longBitsToDouble(bits));
+                    break;
+                default:
+                    Msgs.visitValue(key, this.objectValues[slot], aVisitor);
+            }
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsg#nextKey(int)
+     */
+    @Override
+    public final int nextKey(final int aFromKey) {
+        final int[] ascendingKeys = sortedKeys();
+        final int index = Arrays.binarySearch(ascendingKeys, 0, this.size, Math.max(aFromKey, 0));
+        if (index >= 0) {
+            return ascendingKeys[index];
+        }
+        final int insertionIndex = -index - 1;
+        return (insertionIndex < this.size) ? ascendingKeys[insertionIndex] : -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeyMax()
+     */
+    @Override
+    public final int getKeyMax() {
+        return (this.size != 0) ? sortedKeys()[this.size - 1] : -1;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getKeysLength()
+     */
+    @Override
+    public final int getKeysLength() {
+        return this.size;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#removeAll()
+     */
+    @Override
+    public final void removeAll() {
+        // writes only the occupied slots, and stops after the last one
+        for (int slot = 0; this.size != 0; slot++) {
+            if (this.keys[slot] != EMPTY_KEY) {
+                this.keys[slot] = EMPTY_KEY;
+                this.objectValues[slot] = null;
+                this.size--;
+            }
+        }
+        this.sortedKeysValid = false;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#contains(int)
+     */
+    @Override
+    public final boolean contains(final int aKey) {
+        return slotOf(aKey) >= 0;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getType(int)
+     */
+    @Override
+    public final Type getType(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == NO_TYPE) {
+            return Type.NULL;
+        }
+        return (type == NULL_TYPE) ? ((Null) this.objectValues[slot]).getType() : Msgs.getType(type);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getTypeAsByte(int)
+     */
+    @Override
+    public final byte getTypeAsByte(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        return (type == NO_TYPE) ? NULL_TYPE : type;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsBoolean(int)
+     */
+    @Override
+    public final boolean getAsBoolean(final int aKey) {
+        final int slot = slotOf(aKey);
+        if (typeAt(slot) == BYTE_TYPE) {
+            return this.primitiveValues[slot] != 0;
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableBoolean(int)
+     */
+    @Override
+    public final Boolean getAsNullableBoolean(final int aKey) {
+        final int slot = slotOf(aKey);
+        if (typeAt(slot) == BYTE_TYPE) {
+            return (this.primitiveValues[slot] != 0) ? Boolean.TRUE : Boolean.FALSE;
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsByte(int)
+     */
+    @Override
+    public final byte getAsByte(final int aKey) {
+        final int slot = slotOf(aKey);
+        if (typeAt(slot) == BYTE_TYPE) {
+            return (byte) this.primitiveValues[slot];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableByte(int)
+     */
+    @Override
+    public final Byte getAsNullableByte(final int aKey) {
+        final int slot = slotOf(aKey);
+        if (typeAt(slot) == BYTE_TYPE) {
+            return Byte.valueOf((byte) this.primitiveValues[slot]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsShort(int)
+     */
+    @Override
+    public final short getAsShort(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == BYTE_TYPE || type == SHORT_TYPE) {
+            return (short) this.primitiveValues[slot];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableShort(int)
+     */
+    @Override
+    public final Short getAsNullableShort(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == BYTE_TYPE || type == SHORT_TYPE) {
+            return Short.valueOf((short) this.primitiveValues[slot]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsInt(int)
+     */
+    @Override
+    public final int getAsInt(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE) {
+            return (int) this.primitiveValues[slot];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableInteger(int)
+     */
+    @Override
+    public final Integer getAsNullableInteger(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE) {
+            return Integer.valueOf((int) this.primitiveValues[slot]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsLong(int)
+     */
+    @Override
+    public final long getAsLong(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE || type == LONG_TYPE) {
+            return this.primitiveValues[slot];
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableLong(int)
+     */
+    @Override
+    public final Long getAsNullableLong(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == BYTE_TYPE || type == SHORT_TYPE || type == INT_TYPE || type == LONG_TYPE) {
+            return Long.valueOf(this.primitiveValues[slot]);
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsFloat(int)
+     */
+    @Override
+    public final float getAsFloat(final int aKey) {
+        final int slot = slotOf(aKey);
+        if (typeAt(slot) == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) this.primitiveValues[slot]);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableFloat(int)
+     */
+    @Override
+    public final Float getAsNullableFloat(final int aKey) {
+        final int slot = slotOf(aKey);
+        if (typeAt(slot) == FLOAT_TYPE) {
+            return Float.valueOf(Float.intBitsToFloat((int) this.primitiveValues[slot]));
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsDouble(int)
+     */
+    @Override
+    public final double getAsDouble(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == DOUBLE_TYPE) {
+            return Double.longBitsToDouble(this.primitiveValues[slot]);
+        }
+        if (type == FLOAT_TYPE) {
+            return Float.intBitsToFloat((int) this.primitiveValues[slot]);
+        }
+        throw new IllegalArgumentException(String.format(ERROR_WHEN_KEY_NOT_PRESENT, aKey));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#getAsNullableDouble(int)
+     */
+    @Override
+    public final Double getAsNullableDouble(final int aKey) {
+        final int slot = slotOf(aKey);
+        final byte type = typeAt(slot);
+        if (type == DOUBLE_TYPE || type == FLOAT_TYPE) {
+            return Double.valueOf(getAsDouble(aKey));
+        }
+        return null;
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final boolean aBoolean) {
+        setPrimitive(aKey, BYTE_TYPE, aBoolean ? 1 : 0);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, byte)
+     */
+    @Override
+    public final void set(final int aKey, final byte aByte) {
+        setPrimitive(aKey, BYTE_TYPE, aByte);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short)
+     */
+    @Override
+    public final void set(final int aKey, final short aShort) {
+        setPrimitive(aKey, (aShort == (byte) aShort) ? BYTE_TYPE : SHORT_TYPE, aShort);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, short, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final short aShort, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aShort);
+        } else {
+            setPrimitive(aKey, SHORT_TYPE, aShort);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int)
+     */
+    @Override
+    public final void set(final int aKey, final int aInt) {
+        setPrimitive(aKey, (aInt == (byte) aInt) ? BYTE_TYPE : (aInt == (short) aInt) ? SHORT_TYPE : INT_TYPE, aInt);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, int, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final int aInt, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aInt);
+        } else {
+            setPrimitive(aKey, INT_TYPE, aInt);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long)
+     */
+    @Override
+    public final void set(final int aKey, final long aLong) {
+        final byte type;
+        if (aLong == (byte) aLong) {
+            type = BYTE_TYPE;
+        } else if (aLong == (short) aLong) {
+            type = SHORT_TYPE;
+        } else if (aLong == (int) aLong) {
+            type = INT_TYPE;
+        } else {
+            type = LONG_TYPE;
+        }
+        setPrimitive(aKey, type, aLong);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, long, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final long aLong, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aLong);
+        } else {
+            setPrimitive(aKey, LONG_TYPE, aLong);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, float)
+     */
+    @Override
+    public final void set(final int aKey, final float aFloat) {
+        setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits(aFloat));
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double)
+     */
+    @Override
+    public final void set(final int aKey, final double aDouble) {
+        if (aDouble == (float) aDouble) {
+            setPrimitive(aKey, FLOAT_TYPE, Float.floatToRawIntBits((float) aDouble));
+        } else {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(aDouble));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Msg#set(int, double, boolean)
+     */
+    @Override
+    public final void set(final int aKey, final double aDouble, final boolean optimizeLength) {
+        if (optimizeLength) {
+            set(aKey, aDouble);
+        } else {
+            setPrimitive(aKey, DOUBLE_TYPE, Double.doubleToRawLongBits(aDouble));
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.Serializable#getLength()
+     */
+    @Override
+    public final int getLength() {
+        return MsgCodec.DEFAULT.getLength(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes()
+     */
+    @Override
+    public final byte[] serializeToBytes() {
+        return MsgCodec.DEFAULT.serializeToBytes(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#serializeToBytes(byte[], int)
+     */
+    @Override
+    public final int serializeToBytes(final byte[] aDestBytes, final int aDestOffset) {
+        return MsgCodec.DEFAULT.serializeToBytes(this, aDestBytes, aDestOffset);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.BytesSerializable#deserializeFromBytes(byte[], int, int)
+     */
+    @Override
+    public final void deserializeFromBytes(final byte[] aSrcBytes, final int aSrcOffset, final int aSrcLength) {
+        MsgCodec.DEFAULT.deserializeFromBytes(aSrcBytes, aSrcOffset, aSrcLength, this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer()
+     */
+    @Override
+    public final ByteBuffer serializeToByteBuffer() {
+        return MsgCodec.DEFAULT.serializeToByteBuffer(this);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#serializeToByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void serializeToByteBuffer(final ByteBuffer aDestByteBuffer) {
+        MsgCodec.DEFAULT.serializeToByteBuffer(this, aDestByteBuffer);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.ByteBufferSerializable#deserializeFromByteBuffer(java.nio.ByteBuffer)
+     */
+    @Override
+    public final void deserializeFromByteBuffer(final ByteBuffer aSrcByteBuffer) {
+        MsgCodec.DEFAULT.deserializeFromByteBuffer(aSrcByteBuffer, this);
+    }
+}
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -258,6 +259,217 @@ public abstract class AbstractMsgTest {
         assertThat(this.srcMsg.getKeyMax()).isEqualTo(keyMax);
     }
 
+    /**
+     * testNextKeyAndForEachKey.
+     * 
+     */
+    @Test
+    public void testNextKeyAndForEachKey() {
+        assertThat(Msgs.nextKey(this.srcMsg, 0)).isEqualTo(-1);
+        this.srcMsg.set(KEY_ONE, INT_TEST);
+        this.srcMsg.set(KEY_NINETY, INT_TEST);
+        this.srcMsg.set(KEY_THREE_THOUSANDS, INT_TEST);
+        assertThat(Msgs.nextKey(this.srcMsg, -1)).isEqualTo(KEY_ONE);
+        assertThat(Msgs.nextKey(this.srcMsg, KEY_ONE)).isEqualTo(KEY_ONE);
+        assertThat(Msgs.nextKey(this.srcMsg, KEY_ONE + 1)).isEqualTo(KEY_NINETY);
+        assertThat(Msgs.nextKey(this.srcMsg, KEY_NINETY + 1)).isEqualTo(KEY_THREE_THOUSANDS);
+        assertThat(Msgs.nextKey(this.srcMsg, KEY_THREE_THOUSANDS + 1)).isEqualTo(-1);
+        assertThat(Msgs.nextKey(this.srcMsg, Integer.MAX_VALUE)).isEqualTo(-1);
+
+        final StringBuilder keys = new StringBuilder();
+        Msgs.forEachKey(this.srcMsg, key -> keys.append(key).append(','));
+        assertThat(keys.toString()).isEqualTo(KEY_ONE + "," + KEY_NINETY + "," + KEY_THREE_THOUSANDS + ",");
+    }
+
+    /**
+     * testGetAsArraysIntoDest.
+     * 
+     */
+    @Test
+    public void testGetAsArraysIntoDest() {
+        final Msg msg = createMsg();
+        msg.set(KEY_ONE, new int[] { 1, Integer.MAX_VALUE });
+        msg.set(KEY_NINETY, new double[] { 1.5 });
+        msg.set(KEY_THREE_THOUSANDS, new String[] { "string", null });
+
+        final int[] ints = new int[3];
+        assertThat(Msgs.getAsInts(msg, KEY_ONE, ints, 1)).isEqualTo(2);
+        assertThat(ints).isEqualTo(new int[] { 0, 1, Integer.MAX_VALUE });
+        final double[] doubles = new double[1];
+        assertThat(Msgs.getAsDoubles(msg, KEY_NINETY, doubles, 0)).isEqualTo(1);
+        assertThat(doubles).isEqualTo(new double[] { 1.5 });
+        assertThat(Msgs.getAsLongs(msg, KEY_ONE, new long[2], 0)).isEqualTo(-1);
+        assertThat(Msgs.getAsBytes(msg, KEY_TWO, new byte[2], 0)).isEqualTo(-1);
+
+        final Object[] objects = new Object[2];
+        assertThat(Msgs.getAsObjects(msg, KEY_THREE_THOUSANDS, objects, 0)).isEqualTo(2);
+        assertThat(objects).isEqualTo(new Object[] { "string", null });
+        assertThat(Msgs.getAsObjects(msg, KEY_ONE, objects, 0)).isEqualTo(2);
+        assertThat(objects).isEqualTo(new Object[] { 1, Integer.MAX_VALUE });
+
+        try {
+            Msgs.getAsInts(msg, KEY_ONE, ints, 2);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * testGetAllAsObjectsIntoDest.
+     * 
+     */
+    @Test
+    public void testGetAllAsObjectsIntoDest() {
+        final Msg msg = createMsg();
+        msg.set(KEY_ONE, INT_TEST);
+        msg.set(KEY_NINETY, STRING_TEST);
+
+        final Object[] objects = new Object[KEY_NINETY + 2];
+        Arrays.fill(objects, STRING_TEST32);
+        msg.getAllAsObjects(objects);
+        final Object[] expectedObjects = new Object[KEY_NINETY + 2];
+        expectedObjects[KEY_ONE] = INT_TEST;
+        expectedObjects[KEY_NINETY] = STRING_TEST;
+        assertThat(objects).isEqualTo(expectedObjects);
+
+        try {
+            msg.getAllAsObjects(new Object[KEY_NINETY]);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * testSetWithScale, the scale is not applied yet, the value is stored as is.
+     * 
+     */
+    @Test
+    public void testSetWithScale() {
+        this.srcMsg.set(KEY_ONE, 2.675, 2);
+        this.srcMsg.set(KEY_NINETY, Double.valueOf(-11.15), 1);
+        this.srcMsg.set(KEY_THREE_THOUSANDS, (Double) null, 2);
+        assertThat(this.srcMsg.getAsDouble(KEY_ONE)).isEqualTo(2.675);
+        assertThat(this.srcMsg.getAsDouble(KEY_NINETY)).isEqualTo(-11.15);
+        assertThat(this.srcMsg.getAsNullableDouble(KEY_THREE_THOUSANDS)).isNull();
+    }
+
+    /**
+     * testGetAsBorrowedMsgs.
+     * 
+     */
+    @Test
+    public void testGetAsBorrowedMsgs() {
+        final Msg legMsg = createMsg();
+        legMsg.set(KEY_ONE, Integer.MAX_VALUE);
+        final Msg msg = createMsg();
+        msg.set(KEY_ONE, legMsg);
+        msg.set(KEY_NINETY, new Msg[] { legMsg, null });
+
+        final Msg borrowedMsg = Msgs.getAsBorrowedMsg(msg, KEY_ONE);
+        assertThat(borrowedMsg).isEqualTo(legMsg);
+        final Msg[] borrowedMsgs = Msgs.getAsBorrowedMsgs(msg, KEY_NINETY);
+        assertThat(borrowedMsgs).hasSize(2);
+        assertThat(borrowedMsgs[0].getAsInt(KEY_ONE)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(borrowedMsgs[1]).isNull();
+        assertThat(Msgs.getAsBorrowedMsg(msg, KEY_NINETY)).isNull();
+        assertThat(Msgs.getAsBorrowedMsgs(msg, KEY_ONE)).isNull();
+        assertThat(Msgs.getAsBorrowedMsg(msg, KEY_TWO)).isNull();
+    }
+
+    /**
+     * testAccept.
+     * 
+     */
+    @Test
+    public void testAccept() {
+        final Msg nestedMsg = IndexedObjectsMsg.create();
+        nestedMsg.set(KEY_ONE, INT_TEST);
+        this.srcMsg.set(KEY_ZERO, true);
+        this.srcMsg.set(KEY_ONE, Short.MAX_VALUE);
+        this.srcMsg.set(KEY_TWO, Integer.MAX_VALUE);
+        this.srcMsg.set(KEY_THREE, Long.MAX_VALUE);
+        this.srcMsg.set(KEY_FOUR, 10.10f);
+        this.srcMsg.set(KEY_FIVE, 11.11);
+        this.srcMsg.set(KEY_SIX, "string");
+        this.srcMsg.set(KEY_SEVEN, nestedMsg);
+        this.srcMsg.set(KEY_EIGHT, (Integer) null);
+        this.srcMsg.set(KEY_NINE, new int[] { 1, 2 });
+        this.srcMsg.set(KEY_TEN, new String[] { "a", null });
+        this.srcMsg.set(KEY_THREE_THOUSANDS, new double[] { 1.5 });
+
+        final StringBuilder sb = new StringBuilder();
+        Msgs.accept(this.srcMsg, new MsgVisitor() {
+            public void visitByte(final int aKey, final byte aByte) {
+                sb.append(aKey).append("b").append(aByte).append(";");
+            }
+
+            public void visitShort(final int aKey, final short aShort) {
+                sb.append(aKey).append("s").append(aShort).append(";");
+            }
+
+            public void visitInt(final int aKey, final int aInt) {
+                sb.append(aKey).append("i").append(aInt).append(";");
+            }
+
+            public void visitLong(final int aKey, final long aLong) {
+                sb.append(aKey).append("l").append(aLong).append(";");
+            }
+
+            public void visitFloat(final int aKey, final float aFloat) {
+                sb.append(aKey).append("f").append(aFloat).append(";");
+            }
+
+            public void visitDouble(final int aKey, final double aDouble) {
+                sb.append(aKey).append("d").append(aDouble).append(";");
+            }
+
+            public void visitString(final int aKey, final String aString) {
+                sb.append(aKey).append("S").append(aString).append(";");
+            }
+
+            public void visitMsg(final int aKey, final Msg aMsg) {
+                sb.append(aKey).append("M").append(aMsg.getAsInt(KEY_ONE)).append(";");
+            }
+
+            public void visitNull(final int aKey, final Null aNull) {
+                sb.append(aKey).append("N").append(aNull.getType()).append(";");
+            }
+
+            public void visitBytes(final int aKey, final byte[] aBytes) {
+                sb.append(aKey).append("B").append(Arrays.toString(aBytes)).append(";");
+            }
+
+            public void visitShorts(final int aKey, final short[] aShorts) {
+                sb.append(aKey).append("S").append(Arrays.toString(aShorts)).append(";");
+            }
+
+            public void visitInts(final int aKey, final int[] aInts) {
+                sb.append(aKey).append("I").append(Arrays.toString(aInts)).append(";");
+            }
+
+            public void visitLongs(final int aKey, final long[] aLongs) {
+                sb.append(aKey).append("L").append(Arrays.toString(aLongs)).append(";");
+            }
+
+            public void visitFloats(final int aKey, final float[] aFloats) {
+                sb.append(aKey).append("F").append(Arrays.toString(aFloats)).append(";");
+            }
+
+            public void visitDoubles(final int aKey, final double[] aDoubles) {
+                sb.append(aKey).append("D").append(Arrays.toString(aDoubles)).append(";");
+            }
+
+            public void visitObjects(final int aKey, final Object[] aObjects) {
+                sb.append(aKey).append("O").append(Arrays.toString(aObjects)).append(";");
+            }
+        });
+        assertThat(sb.toString()).isEqualTo(
+        "0b1;1s32767;2i2147483647;3l9223372036854775807;4f10.1;5d11.11;6Sstring;7M" + INT_TEST + ";8N" + Type.INTEGER + ";9I[1, 2];10O[a, null];"
+        + KEY_THREE_THOUSANDS + "D[1.5];");
+    }
+
     /**
      * testClear.
      * 
@@ -0,0 +1,216 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.ByteBufferMsgSerializer;
+import com.github.hermod.ser.BytesMsgSerializer;
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>ConcurrentMsgTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class ConcurrentMsgTest extends AbstractMsgTest {
+
+    private static final int THREADS = 4;
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createMsg()
+     */
+    @Override
+    public Msg createMsg() {
+        return ConcurrentMsg.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createBytesMsgSerializer()
+     */
+    @Override
+    public BytesMsgSerializer createBytesMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createByteBufferMsgSerializer()
+     */
+    @Override
+    public ByteBufferMsgSerializer createByteBufferMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * testConcurrentWritersWithGrowth.
+     * 
+     * @throws InterruptedException
+     */
+    @Test
+    public void testConcurrentWritersWithGrowth() throws InterruptedException {
+        final ConcurrentMsg msg = ConcurrentMsg.create();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            final int firstKey = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startLatch.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    for (int key = firstKey; key < 20000; key += THREADS) {
+                        msg.set(key, key);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        startLatch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(msg.getKeysLength()).isEqualTo(20000);
+        assertThat(msg.getKeyMax()).isEqualTo(19999);
+        for (int key = 0; key < 20000; key++) {
+            assertThat(msg.getAsInt(key)).isEqualTo(key);
+        }
+    }
+
+    /**
+     * testSnapshotReadsOneUpdate.
+     * 
+     * @throws InterruptedException
+     */
+    @Test
+    public void testSnapshotReadsOneUpdate() throws InterruptedException {
+        final ConcurrentMsg msg = ConcurrentMsg.create();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; running.get(); i++) {
+                    final int value = i;
+                    msg.update(new Consumer<ConcurrentMsg>() {
+                        @Override
+                        public void accept(final ConcurrentMsg aMsg) {
+                            for (int key = 1; key <= 100; key++) {
+                                aMsg.set(key, value);
+                            }
+                        }
+                    });
+                }
+            }
+        });
+        writer.start();
+        try {
+            final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+            for (int i = 0; i < 2000; i++) {
+                msg.snapshot(destMsg);
+                if (!destMsg.isEmpty()) {
+                    assertThat(destMsg.getKeysLength()).isEqualTo(100);
+                    for (int key = 2; key <= 100; key++) {
+                        assertThat(destMsg.getAsInt(key)).isEqualTo(destMsg.getAsInt(1));
+                    }
+                }
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        final ImmutableMsg snapshot = msg.snapshot();
+        assertThat(snapshot).isEqualTo(msg);
+    }
+
+    /**
+     * testSerializeOneUpdate.
+     * 
+     * @throws InterruptedException
+     */
+    @Test
+    public void testSerializeOneUpdate() throws InterruptedException {
+        final ConcurrentMsg msg = ConcurrentMsg.create();
+        msg.set(1, 0);
+        msg.set(2, "");
+        msg.set(3, 0);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 1; running.get(); i++) {
+                    final int value = i;
+                    msg.update(new Consumer<ConcurrentMsg>() {
+                        @Override
+                        public void accept(final ConcurrentMsg aMsg) {
+                            aMsg.set(1, value);
+                            if ((value & 1) == 0) {
+                                aMsg.set(2, new String(new char[value % 300]).replace('\0', 'a'));
+                            } else {
+                                aMsg.remove(2);
+                            }
+                            aMsg.set(3, -value);
+                        }
+                    });
+                }
+            }
+        });
+        writer.start();
+        try {
+            final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+            final byte[] bytes = new byte[1024];
+            for (int i = 0; i < 2000; i++) {
+                final int length = msg.serializeToBytes(bytes, 0);
+                destMsg.removeAll();
+                destMsg.deserializeFromBytes(bytes, 0, length);
+                final int value = destMsg.getAsInt(1);
+                assertThat(destMsg.getAsInt(3)).isEqualTo(-value);
+                assertThat(destMsg.contains(2)).isEqualTo((value & 1) == 0);
+                if ((value & 1) == 0) {
+                    assertThat(destMsg.getAsString(2).length()).isEqualTo(value % 300);
+                }
+                final byte[] serializedBytes = msg.serializeToBytes();
+                destMsg.removeAll();
+                destMsg.deserializeFromBytes(serializedBytes, 0, serializedBytes.length);
+                assertThat(destMsg.getAsInt(3)).isEqualTo(-destMsg.getAsInt(1));
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    /**
+     * testSnapshotInUpdate.
+     * 
+     */
+    @Test
+    public void testSnapshotInUpdate() {
+        final ConcurrentMsg msg = ConcurrentMsg.create();
+        msg.set(1, 1);
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+        msg.update(new Consumer<ConcurrentMsg>() {
+            @Override
+            public void accept(final ConcurrentMsg aMsg) {
+                aMsg.set(2, 2);
+                aMsg.snapshot(destMsg);
+                assertThat(aMsg.snapshot().getKeysLength()).isEqualTo(2);
+                assertThat(aMsg.serializeToBytes()).isEqualTo(destMsg.serializeToBytes());
+            }
+        });
+        assertThat(destMsg.getAsInt(1)).isEqualTo(1);
+        assertThat(destMsg.getAsInt(2)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>DeltaMsgCodecTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class DeltaMsgCodecTest {
+
+    /**
+     * createQuote.
+     * 
+     * @return a Msg of 30 fields
+     */
+    private static IndexedObjectsMsg createQuote() {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        for (int key = 0; key < 30; key++) {
+            msg.set(key, 100000L * key);
+        }
+        msg.set(30, "EUR/USD");
+        msg.set(31, new int[] {1, 2, 3});
+        return msg;
+    }
+
+    /**
+     * testDeltaCarriesChangedAndRemovedKeys.
+     * 
+     */
+    @Test
+    public void testDeltaCarriesChangedAndRemovedKeys() {
+        final DeltaMsgCodec encoder = DeltaMsgCodec.create();
+        final DeltaMsgCodec decoder = DeltaMsgCodec.create();
+        final IndexedObjectsMsg msg = createQuote();
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+
+        final byte[] snapshot = encoder.encode(7L, msg);
+        assertThat(snapshot[0]).isEqualTo(DeltaMsgCodec.SNAPSHOT);
+        assertThat(decoder.decode(snapshot, 0, snapshot.length, destMsg)).isEqualTo(7L);
+        assertThat(destMsg.getAsLong(29)).isEqualTo(2900000L);
+        assertThat(destMsg.getAsString(30)).isEqualTo("EUR/USD");
+
+        msg.set(3, 42L);
+        msg.set(31, new int[] {1, 2, 4});
+        msg.set(40, "new");
+        msg.remove(12, 20);
+        final byte[] delta = encoder.encode(7L, msg);
+        assertThat(delta[0]).isEqualTo(DeltaMsgCodec.DELTA);
+        assertThat(delta.length).isLessThan(snapshot.length / 4);
+        decoder.decode(delta, 0, delta.length, destMsg);
+        assertThat(destMsg.getAsLong(3)).isEqualTo(42L);
+        assertThat(destMsg.getAsLong(29)).isEqualTo(2900000L);
+        assertThat((int[]) destMsg.get(31)).containsExactly(1, 2, 4);
+        assertThat(destMsg.getAsString(40)).isEqualTo("new");
+        assertThat(destMsg.contains(12)).isFalse();
+        assertThat(destMsg.contains(20)).isFalse();
+        assertThat(destMsg.getKeysLength()).isEqualTo(msg.getKeysLength());
+
+        // an unchanged Msg is a delta without field
+        final byte[] emptyDelta = encoder.encode(7L, msg);
+        assertThat(emptyDelta.length).isEqualTo(4);
+        decoder.decode(emptyDelta, 0, emptyDelta.length, destMsg);
+        assertThat(destMsg.getKeysLength()).isEqualTo(msg.getKeysLength());
+
+        assertThat(encoder.getSnapshotsCount()).isEqualTo(1);
+        assertThat(encoder.getDeltasCount()).isEqualTo(2);
+        assertThat(encoder.getEncodedLength()).isEqualTo(snapshot.length + delta.length + emptyDelta.length);
+        assertThat(encoder.getCompressionRatio()).isGreaterThan(2.0);
+    }
+
+    /**
+     * testLostFrameNeedsSnapshot.
+     * 
+     */
+    @Test
+    public void testLostFrameNeedsSnapshot() {
+        final DeltaMsgCodec encoder = DeltaMsgCodec.create();
+        final DeltaMsgCodec decoder = DeltaMsgCodec.create();
+        final IndexedObjectsMsg msg = createQuote();
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+
+        final byte[] snapshot = encoder.encode(1L, msg);
+        decoder.decode(snapshot, 0, snapshot.length, destMsg);
+        msg.set(1, 1L);
+        encoder.encode(1L, msg);
+        msg.set(2, 2L);
+        final byte[] delta = encoder.encode(1L, msg);
+        try {
+            decoder.decode(delta, 0, delta.length, destMsg);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(decoder.isSynchronized(1L)).isFalse();
+        assertThat(decoder.getRejectedDeltasCount()).isEqualTo(1);
+
+        encoder.refresh(1L);
+        msg.set(3, 3L);
+        final byte[] refresh = encoder.encode(1L, msg);
+        assertThat(refresh[0]).isEqualTo(DeltaMsgCodec.SNAPSHOT);
+        decoder.decode(refresh, 0, refresh.length, destMsg);
+        assertThat(decoder.isSynchronized(1L)).isTrue();
+        assertThat(destMsg.getAsLong(1)).isEqualTo(1L);
+        assertThat(destMsg.getAsLong(2)).isEqualTo(2L);
+        assertThat(destMsg.getAsLong(3)).isEqualTo(3L);
+
+        // a delta of an unknown stream
+        final byte[] otherDelta = encoder.encode(1L, msg);
+        try {
+            DeltaMsgCodec.create().decode(otherDelta, 0, otherDelta.length, destMsg);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    /**
+     * testSnapshotIntervalAndStreams.
+     * 
+     */
+    @Test
+    public void testSnapshotIntervalAndStreams() {
+        final DeltaMsgCodec encoder = DeltaMsgCodec.create(2);
+        final DeltaMsgCodec decoder = DeltaMsgCodec.create(2);
+        final IndexedObjectsMsg msg1 = createQuote();
+        final IndexedObjectsMsg msg2 = IndexedObjectsMsg.createFromValues(1, "two");
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+        final byte[] bytes = new byte[1024];
+        final byte[] frameTypes = new byte[5];
+        for (int i = 0; i < frameTypes.length; i++) {
+            msg1.set(0, (long) i);
+            final int length = encoder.encode(1L, msg1, bytes, 10);
+            frameTypes[i] = bytes[10];
+            assertThat(decoder.decode(bytes, 10, length, destMsg)).isEqualTo(1L);
+            assertThat(destMsg.getAsLong(0)).isEqualTo(i);
+
+            msg2.set(2, i);
+            final int length2 = encoder.encode(2L, msg2, bytes, 0);
+            assertThat(decoder.decode(bytes, 0, length2, destMsg)).isEqualTo(2L);
+            assertThat(destMsg.getAsInt(2)).isEqualTo(i);
+            assertThat(destMsg.getAsString(1)).isEqualTo("two");
+        }
+        assertThat(frameTypes).containsExactly(DeltaMsgCodec.SNAPSHOT, DeltaMsgCodec.DELTA, DeltaMsgCodec.DELTA, DeltaMsgCodec.SNAPSHOT,
+        DeltaMsgCodec.DELTA);
+        try {
+            encoder.encode(1L, msg1, bytes, 1022);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * testBorrowedDecodeAndRawLength.
+     * 
+     */
+    @Test
+    public void testBorrowedDecodeAndRawLength() {
+        final DeltaMsgCodec encoder = DeltaMsgCodec.create(3);
+        final DeltaMsgCodec decoder = DeltaMsgCodec.create(3);
+        final IndexedObjectsMsg msg = createQuote();
+        assertThat(decoder.getAsBorrowedMsg(5L)).isNull();
+        long rawLength = 0;
+        Msg borrowedMsg = null;
+        for (int i = 0; i < 10; i++) {
+            msg.set(i, "changed" + i);
+            if (i % 3 == 0) {
+                msg.remove(20 + i);
+            }
+            rawLength += MsgCodec.DEFAULT.getLength(msg);
+            final byte[] frame = encoder.encode(5L, msg);
+            assertThat(decoder.decode(frame, 0, frame.length)).isEqualTo(5L);
+            if (borrowedMsg == null) {
+                borrowedMsg = decoder.getAsBorrowedMsg(5L);
+            }
+            // the same Msg, updated in place by each frame
+            assertThat(decoder.getAsBorrowedMsg(5L)).isSameAs(borrowedMsg);
+            assertThat(borrowedMsg.getKeysArray()).isEqualTo(msg.getKeysArray());
+            assertThat(borrowedMsg.getAsString(i)).isEqualTo("changed" + i);
+            assertThat((int[]) borrowedMsg.get(31)).containsExactly(1, 2, 3);
+        }
+        // the raw length follows the Msgs through the snapshots and the deltas
+        assertThat(encoder.getRawLength()).isEqualTo(rawLength);
+        assertThat(encoder.getSnapshotsCount()).isEqualTo(3);
+    }
+
+    /**
+     * testManyStreamsAndRemove.
+     * 
+     */
+    @Test
+    public void testManyStreamsAndRemove() {
+        final DeltaMsgCodec encoder = DeltaMsgCodec.create();
+        final DeltaMsgCodec decoder = DeltaMsgCodec.create();
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+        for (long i = 0; i < 200; i++) {
+            final long streamId = (i % 2 == 0) ? i << 40 : -i;
+            msg.set(1, streamId);
+            final byte[] frame = encoder.encode(streamId, msg);
+            assertThat(decoder.decode(frame, 0, frame.length, destMsg)).isEqualTo(streamId);
+        }
+        for (long i = 0; i < 200; i += 3) {
+            final long streamId = (i % 2 == 0) ? i << 40 : -i;
+            encoder.remove(streamId);
+            decoder.remove(streamId);
+        }
+        for (long i = 0; i < 200; i++) {
+            final long streamId = (i % 2 == 0) ? i << 40 : -i;
+            assertThat(decoder.isSynchronized(streamId)).isEqualTo(i % 3 != 0);
+            if (i % 3 != 0) {
+                assertThat(decoder.getAsBorrowedMsg(streamId).getAsLong(1)).isEqualTo(streamId);
+            }
+            msg.set(1, streamId + 1);
+            final byte[] frame = encoder.encode(streamId, msg);
+            // a removed stream starts again with a snapshot
+            assertThat(frame[0]).isEqualTo((i % 3 != 0) ? DeltaMsgCodec.DELTA : DeltaMsgCodec.SNAPSHOT);
+            decoder.decode(frame, 0, frame.length, destMsg);
+            assertThat(destMsg.getAsLong(1)).isEqualTo(streamId + 1);
+        }
+        assertThat(encoder.getSnapshotsCount()).isEqualTo(200 + 67);
+    }
+}
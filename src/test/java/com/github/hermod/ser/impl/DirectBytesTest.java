@@ -0,0 +1,180 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * <p>DirectBytesTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class DirectBytesTest {
+
+    private static final int[]  INTS_TEST  = { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE };
+    private static final long[] LONGS_TEST = { 0, 1, 127, 128, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE };
+
+    @Test
+    public void testValidatesThatClassIsNotInstanciable() throws Exception {
+        final Constructor<DirectBytes> constructor = DirectBytes.class.getDeclaredConstructor();
+        assertThat(Modifier.isPrivate(constructor.getModifiers())).isTrue();
+        constructor.setAccessible(true);
+        constructor.newInstance();
+    }
+
+    /**
+     * testBytesSameAsByteBuffer.
+     * 
+     */
+    @Test
+    public void testBytesSameAsByteBuffer() {
+        final byte[] bytes = new byte[32];
+        final ByteBuffer expected = ByteBuffer.allocate(32);
+
+        DirectBytes.putShortLE(bytes, 1, (short) 0x1234);
+        expected.order(ByteOrder.LITTLE_ENDIAN).putShort(1, (short) 0x1234);
+        DirectBytes.putIntBE(bytes, 3, 0x12345678);
+        expected.order(ByteOrder.BIG_ENDIAN).putInt(3, 0x12345678);
+        DirectBytes.putLongLE(bytes, 7, 0x123456789ABCDEFL);
+        expected.order(ByteOrder.LITTLE_ENDIAN).putLong(7, 0x123456789ABCDEFL);
+        DirectBytes.putFloatBE(bytes, 15, 10.10f);
+        expected.order(ByteOrder.BIG_ENDIAN).putFloat(15, 10.10f);
+        DirectBytes.putDoubleLE(bytes, 19, 11.11);
+        expected.order(ByteOrder.LITTLE_ENDIAN).putDouble(19, 11.11);
+
+        assertThat(bytes).isEqualTo(expected.array());
+        assertThat(DirectBytes.getShortLE(bytes, 1)).isEqualTo((short) 0x1234);
+        assertThat(DirectBytes.getShortBE(bytes, 1)).isEqualTo((short) 0x3412);
+        assertThat(DirectBytes.getIntBE(bytes, 3)).isEqualTo(0x12345678);
+        assertThat(DirectBytes.getIntLE(bytes, 3)).isEqualTo(0x78563412);
+        assertThat(DirectBytes.getLongLE(bytes, 7)).isEqualTo(0x123456789ABCDEFL);
+        assertThat(DirectBytes.getFloatBE(bytes, 15)).isEqualTo(10.10f);
+        assertThat(DirectBytes.getDoubleLE(bytes, 19)).isEqualTo(11.11);
+    }
+
+    /**
+     * testDirectByteBuffer.
+     * 
+     */
+    @Test
+    public void testDirectByteBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        DirectBytes.putShortBE(buffer, 1, (short) -2);
+        DirectBytes.putIntLE(buffer, 3, Integer.MIN_VALUE);
+        DirectBytes.putLongBE(buffer, 7, Long.MAX_VALUE);
+        DirectBytes.putFloatLE(buffer, 15, Float.MAX_VALUE);
+        DirectBytes.putDoubleBE(buffer, 19, Double.MIN_VALUE);
+
+        assertThat(buffer.position()).isEqualTo(0);
+        assertThat(DirectBytes.getShortBE(buffer, 1)).isEqualTo((short) -2);
+        assertThat(DirectBytes.getIntLE(buffer, 3)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(DirectBytes.getLongBE(buffer, 7)).isEqualTo(Long.MAX_VALUE);
+        assertThat(DirectBytes.getFloatLE(buffer, 15)).isEqualTo(Float.MAX_VALUE);
+        assertThat(DirectBytes.getDoubleBE(buffer, 19)).isEqualTo(Double.MIN_VALUE);
+        assertThat(buffer.order(ByteOrder.BIG_ENDIAN).getLong(7)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    /**
+     * testVarInt.
+     * 
+     */
+    @Test
+    public void testVarInt() {
+        final byte[] bytes = new byte[DirectBytes.MAX_VAR_INT_LENGTH + 1];
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(DirectBytes.MAX_VAR_INT_LENGTH + 1);
+        for (final int value : INTS_TEST) {
+            final int length = DirectBytes.varIntLength(value);
+            assertThat(DirectBytes.putVarInt(bytes, 1, value)).isEqualTo(1 + length);
+            assertThat(DirectBytes.getVarInt(bytes, 1)).isEqualTo(value);
+            assertThat(DirectBytes.putVarInt(buffer, 1, value)).isEqualTo(1 + length);
+            assertThat(DirectBytes.getVarInt(buffer, 1)).isEqualTo(value);
+        }
+        assertThat(DirectBytes.varIntLength(127)).isEqualTo(1);
+        assertThat(DirectBytes.varIntLength(128)).isEqualTo(2);
+        assertThat(DirectBytes.varIntLength(-1)).isEqualTo(DirectBytes.MAX_VAR_INT_LENGTH);
+    }
+
+    /**
+     * testVarLong.
+     * 
+     */
+    @Test
+    public void testVarLong() {
+        final byte[] bytes = new byte[DirectBytes.MAX_VAR_LONG_LENGTH];
+        final ByteBuffer buffer = ByteBuffer.allocate(DirectBytes.MAX_VAR_LONG_LENGTH);
+        for (final long value : LONGS_TEST) {
+            final int length = DirectBytes.varLongLength(value);
+            assertThat(DirectBytes.putVarLong(bytes, 0, value)).isEqualTo(length);
+            assertThat(DirectBytes.getVarLong(bytes, 0)).isEqualTo(value);
+            assertThat(DirectBytes.putVarLong(buffer, 0, value)).isEqualTo(length);
+            assertThat(DirectBytes.getVarLong(buffer, 0)).isEqualTo(value);
+        }
+        assertThat(DirectBytes.varLongLength(-1L)).isEqualTo(DirectBytes.MAX_VAR_LONG_LENGTH);
+    }
+
+    /**
+     * testVarLongInLargerArrayAndZigZag.
+     * 
+     */
+    @Test
+    public void testVarLongInLargerArrayAndZigZag() {
+        // the decoding reads 8 bytes at once when they are available
+        final byte[] bytes = new byte[32];
+        for (final long value : LONGS_TEST) {
+            final int length = DirectBytes.varLongLength(value);
+            Arrays.fill(bytes, (byte) -1);
+            assertThat(DirectBytes.putVarLong(bytes, 3, value)).isEqualTo(3 + length);
+            assertThat(DirectBytes.getVarLong(bytes, 3)).isEqualTo(value);
+            assertThat(DirectBytes.getVarLength(bytes, 3)).isEqualTo(length);
+            assertThat(DirectBytes.putVarInt(bytes, 3, (int) value)).isEqualTo(3 + DirectBytes.varIntLength((int) value));
+            assertThat(DirectBytes.getVarInt(bytes, 3)).isEqualTo((int) value);
+            assertThat(DirectBytes.decodeZigZag(DirectBytes.encodeZigZag(value))).isEqualTo(value);
+        }
+        assertThat(DirectBytes.encodeZigZag(-1L)).isEqualTo(1L);
+        assertThat(DirectBytes.encodeZigZag(1L)).isEqualTo(2L);
+        assertThat(DirectBytes.encodeZigZag(Long.MIN_VALUE)).isEqualTo(-1L);
+    }
+
+    /**
+     * testNativeAddress, through the Unsafe MethodHandles, on memory allocated by the Unsafe reached by reflection.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testNativeAddress() throws Exception {
+        assertThat(DirectBytes.isUnsafeAvailable()).isTrue();
+        final Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        final Object unsafe = field.get(null);
+        final Method freeMemory = unsafe.getClass().getMethod("freeMemory", long.class);
+        final long address = (Long) unsafe.getClass().getMethod("allocateMemory", long.class).invoke(unsafe, 32L);
+        try {
+            DirectBytes.putLongLE(address, 0x0102030405060708L);
+            assertThat(DirectBytes.getByte(address)).isEqualTo((byte) 0x08);
+            assertThat(DirectBytes.getLongBE(address)).isEqualTo(0x0807060504030201L);
+            DirectBytes.putIntBE(address + 8, -2);
+            assertThat(DirectBytes.getIntLE(address + 8)).isEqualTo(Integer.reverseBytes(-2));
+            DirectBytes.putShortLE(address + 12, Short.MIN_VALUE);
+            assertThat(DirectBytes.getShortLE(address + 12)).isEqualTo(Short.MIN_VALUE);
+            for (final int value : INTS_TEST) {
+                assertThat(DirectBytes.putVarInt(address + 16, value)).isEqualTo(address + 16 + DirectBytes.varIntLength(value));
+                assertThat(DirectBytes.getVarInt(address + 16)).isEqualTo(value);
+            }
+        } finally {
+            freeMemory.invoke(unsafe, address);
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        DirectBytes.free(buffer);
+        DirectBytes.free(ByteBuffer.allocate(16));
+    }
+}
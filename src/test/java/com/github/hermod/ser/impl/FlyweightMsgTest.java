@@ -0,0 +1,178 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>FlyweightMsgTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class FlyweightMsgTest {
+
+    /**
+     * createSrcMsg.
+     * 
+     * @return
+     */
+    private static Msg createSrcMsg() {
+        final Msg nestedMsg = IndexedObjectsMsg.create();
+        nestedMsg.set(1, "nested");
+
+        final Msg srcMsg = IndexedPrimitivesMsg.create();
+        srcMsg.set(1, true);
+        srcMsg.set(2, Short.MIN_VALUE);
+        srcMsg.set(3, Integer.MAX_VALUE);
+        srcMsg.set(4, Long.MIN_VALUE);
+        srcMsg.set(5, 10.10f);
+        srcMsg.set(6, 11.11);
+        srcMsg.set(7, "string");
+        srcMsg.set(8, nestedMsg);
+        srcMsg.set(9, new int[] { 1, 2, 3 });
+        srcMsg.set(10, (Integer) null);
+        srcMsg.set(3000, 1);
+        return srcMsg;
+    }
+
+    /**
+     * assertSameAsSrcMsg.
+     * 
+     * @param aMsg
+     */
+    private static void assertSameAsSrcMsg(final Msg aMsg) {
+        assertThat(aMsg.getAsBoolean(1)).isTrue();
+        assertThat(aMsg.getAsShort(2)).isEqualTo(Short.MIN_VALUE);
+        assertThat(aMsg.getAsLong(2)).isEqualTo(Short.MIN_VALUE);
+        assertThat(aMsg.getAsInt(3)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(aMsg.getAsLong(4)).isEqualTo(Long.MIN_VALUE);
+        assertThat(aMsg.getAsFloat(5)).isEqualTo(10.10f);
+        assertThat(aMsg.getAsDouble(5)).isEqualTo(10.10f);
+        assertThat(aMsg.getAsDouble(6)).isEqualTo(11.11);
+        assertThat(aMsg.getAsString(7)).isEqualTo("string");
+        assertThat(aMsg.getAsMsg(8).getAsString(1)).isEqualTo("nested");
+        assertThat(aMsg.getAsInts(9)).isEqualTo(new int[] { 1, 2, 3 });
+        assertThat(aMsg.getAsNull(10)).isEqualTo(Null.INTEGER_NULL);
+        assertThat(aMsg.getType(10)).isEqualTo(Type.INTEGER);
+        assertThat(aMsg.getAsInt(3000)).isEqualTo(1);
+        assertThat(aMsg.contains(11)).isFalse();
+        assertThat(aMsg.getAsNullableInteger(11)).isNull();
+        assertThat(aMsg.getKeysArray()).isEqualTo(new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 3000 });
+        assertThat(aMsg.getKeyMax()).isEqualTo(3000);
+    }
+
+    /**
+     * testWrapBytes.
+     * 
+     */
+    @Test
+    public void testWrapBytes() {
+        final byte[] srcBytes = MsgCodec.DEFAULT.serializeToBytes(createSrcMsg());
+        final byte[] bytes = new byte[srcBytes.length + 5];
+        System.arraycopy(srcBytes, 0, bytes, 5, srcBytes.length);
+
+        final FlyweightMsg msg = FlyweightMsg.create().wrap(bytes, 5, srcBytes.length);
+        assertSameAsSrcMsg(msg);
+        assertThat(msg.getLength()).isEqualTo(srcBytes.length);
+        assertThat(msg.serializeToBytes()).isEqualTo(srcBytes);
+    }
+
+    /**
+     * testWrapDirectByteBuffer.
+     * 
+     */
+    @Test
+    public void testWrapDirectByteBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        buffer.position(7);
+        MsgCodec.DEFAULT.serializeToByteBuffer(createSrcMsg(), buffer);
+        buffer.flip();
+        buffer.position(7);
+
+        final FlyweightMsg msg = FlyweightMsg.create();
+        msg.deserializeFromByteBuffer(buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertSameAsSrcMsg(msg);
+
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+        final byte[] bytes = msg.serializeToBytes();
+        destMsg.deserializeFromBytes(bytes, 0, bytes.length);
+        assertSameAsSrcMsg(destMsg);
+    }
+
+    /**
+     * testRewrap.
+     * 
+     */
+    @Test
+    public void testRewrap() {
+        final FlyweightMsg msg = FlyweightMsg.create();
+        assertThat(msg.isEmpty()).isTrue();
+        msg.deserializeFromBytes(MsgCodec.DEFAULT.serializeToBytes(createSrcMsg()), 0, MsgCodec.DEFAULT.getLength(createSrcMsg()));
+        assertThat(msg.getKeysLength()).isEqualTo(11);
+
+        final Msg otherMsg = IndexedObjectsMsg.create();
+        otherMsg.set(2, "other");
+        final byte[] otherBytes = MsgCodec.DEFAULT.serializeToBytes(otherMsg);
+        msg.wrap(otherBytes, 0, otherBytes.length);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 2 });
+        assertThat(msg.contains(3000)).isFalse();
+        assertThat(msg.getAsString(2)).isEqualTo("other");
+        assertThat(msg.getTypeAsByte(2)).isEqualTo(Type.STRING_UTF_8.getId());
+    }
+
+    /**
+     * testUnsortedKeys.
+     * 
+     */
+    @Test
+    public void testUnsortedKeys() {
+        final Msg lastMsg = IndexedObjectsMsg.create();
+        lastMsg.set(3000, 1);
+        final Msg firstMsg = IndexedObjectsMsg.create();
+        firstMsg.set(1, "first");
+        firstMsg.set(5, 5);
+        final byte[] lastBytes = MsgCodec.DEFAULT.serializeToBytes(lastMsg);
+        final byte[] firstBytes = MsgCodec.DEFAULT.serializeToBytes(firstMsg);
+        final byte[] bytes = new byte[lastBytes.length + firstBytes.length];
+        System.arraycopy(lastBytes, 0, bytes, 0, lastBytes.length);
+        System.arraycopy(firstBytes, 0, bytes, lastBytes.length, firstBytes.length);
+
+        final FlyweightMsg msg = FlyweightMsg.create().wrap(bytes, 0, bytes.length);
+        assertThat(msg.nextKey(0)).isEqualTo(1);
+        assertThat(msg.nextKey(2)).isEqualTo(5);
+        assertThat(msg.nextKey(5)).isEqualTo(5);
+        assertThat(msg.nextKey(6)).isEqualTo(3000);
+        assertThat(msg.nextKey(3001)).isEqualTo(-1);
+        assertThat(msg.getKeyMax()).isEqualTo(3000);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 1, 5, 3000 });
+        assertThat(msg.getAsString(1)).isEqualTo("first");
+    }
+
+    /**
+     * testGetWithWrongType.
+     * 
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetWithWrongType() {
+        final byte[] bytes = MsgCodec.DEFAULT.serializeToBytes(createSrcMsg());
+        FlyweightMsg.create().wrap(bytes, 0, bytes.length).getAsInt(4);
+    }
+
+    /**
+     * testReadOnly.
+     * 
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        final byte[] bytes = MsgCodec.DEFAULT.serializeToBytes(createSrcMsg());
+        FlyweightMsg.create().wrap(bytes, 0, bytes.length).set(1, 1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+
+/**
+ * <p>ImmutableMsgTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class ImmutableMsgTest {
+
+    /**
+     * createMsg.
+     * 
+     * @return
+     */
+    private static IndexedObjectsMsg createMsg() {
+        final IndexedObjectsMsg legMsg = IndexedObjectsMsg.create();
+        legMsg.set(1, 11.11);
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        msg.set(1, Integer.MAX_VALUE);
+        msg.set(2, "instrument");
+        msg.set(3, new long[] { Long.MIN_VALUE, 0 });
+        msg.set(4, legMsg);
+        msg.set(5, new Msg[] { legMsg, null });
+        msg.set(6, (String) null);
+        msg.set(3000, 1);
+        return msg;
+    }
+
+    /**
+     * testFreezeIsADeepSnapshot.
+     * 
+     */
+    @Test
+    public void testFreezeIsADeepSnapshot() {
+        final IndexedObjectsMsg msg = createMsg();
+        final ImmutableMsg immutableMsg = msg.freeze();
+        assertThat(immutableMsg).isEqualTo(msg);
+        assertThat(immutableMsg.hashCode()).isEqualTo(msg.hashCode());
+        assertThat(immutableMsg.getAsNull(6)).isEqualTo(Null.STRING_UTF8_NULL);
+
+        msg.set(1, 0);
+        msg.getAsBorrowedMsg(4).set(1, 0);
+        msg.getAsBorrowedMsgs(5)[0].set(2, 0);
+        assertThat(immutableMsg.getAsInt(1)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(immutableMsg.getAsMsg(4).getKeysArray()).isEqualTo(new int[] { 1 });
+        assertThat(immutableMsg.getAsMsg(4).getAsDouble(1)).isEqualTo(11.11);
+        assertThat(immutableMsg.getAsMsgs(5)[0].getKeysArray()).isEqualTo(new int[] { 1 });
+        assertThat(immutableMsg.getAsLongs(3)).isEqualTo(new long[] { Long.MIN_VALUE, 0 });
+
+        // the nested Msgs are frozen and shared
+        assertThat(immutableMsg.getAsMsg(4)).isInstanceOf(ImmutableMsg.class).isSameAs(immutableMsg.getAsMsg(4));
+        assertThat(ImmutableMsg.createFromMsg(immutableMsg)).isSameAs(immutableMsg);
+    }
+
+    /**
+     * testBorrowedMsgsIsACopy.
+     * 
+     */
+    @Test
+    public void testBorrowedMsgsIsACopy() {
+        final ImmutableMsg immutableMsg = createMsg().freeze();
+        final Msg[] msgs = immutableMsg.getAsBorrowedMsgs(5);
+        assertThat(msgs).hasSize(2);
+        assertThat(msgs[0]).isInstanceOf(ImmutableMsg.class);
+        msgs[0] = null;
+        msgs[1] = immutableMsg;
+        assertThat(immutableMsg.getAsBorrowedMsgs(5)).isNotSameAs(msgs);
+        assertThat(immutableMsg.getAsBorrowedMsgs(5)[0]).isNotNull().isSameAs(immutableMsg.getAsMsgs(5)[0]);
+        assertThat(immutableMsg.getAsBorrowedMsgs(5)[1]).isNull();
+        assertThat(immutableMsg.getAsBorrowedMsgs(1)).isNull();
+    }
+
+    /**
+     * testSerializationIsCached.
+     * 
+     */
+    @Test
+    public void testSerializationIsCached() {
+        final IndexedObjectsMsg msg = createMsg();
+        final ImmutableMsg immutableMsg = msg.freeze();
+        final byte[] bytes = immutableMsg.serializeToBytes();
+        assertThat(bytes).isEqualTo(msg.serializeToBytes());
+        assertThat(immutableMsg.getLength()).isEqualTo(bytes.length);
+        bytes[0] = (byte) ~bytes[0];
+        assertThat(immutableMsg.serializeToBytes()).isEqualTo(msg.serializeToBytes());
+
+        final byte[] destBytes = new byte[bytes.length + 2];
+        assertThat(immutableMsg.serializeToBytes(destBytes, 2)).isEqualTo(bytes.length);
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+        immutableMsg.serializeToByteBuffer(buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+
+        final IndexedObjectsMsg destMsg = IndexedObjectsMsg.create();
+        destMsg.deserializeFromBytes(destBytes, 2, bytes.length);
+        assertThat(destMsg).isEqualTo(immutableMsg);
+    }
+
+    /**
+     * testSetIsUnsupported.
+     * 
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetIsUnsupported() {
+        createMsg().freeze().set(1, 1);
+    }
+
+    /**
+     * testRemoveIsUnsupported.
+     * 
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoveIsUnsupported() {
+        createMsg().freeze().remove(1);
+    }
+}
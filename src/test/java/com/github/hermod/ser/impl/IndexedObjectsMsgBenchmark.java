@@ -0,0 +1,158 @@
+package com.github.hermod.ser.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>IndexedObjectsMsgBenchmark. </p>
+ * 
+ * Cost of the reads of an absent key out of the storage, before (the getter of the baseline, ArrayIndexOutOfBoundsException caught) and
+ * after (explicit length check), and of the first writes past the capacity with and without ensureKeyCapacity.
+ * 
+ * Run with the test classpath : java com.github.hermod.ser.impl.IndexedObjectsMsgBenchmark
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedObjectsMsgBenchmark {
+
+    private static final int  KEY_PRESENT = 10;
+    private static final int  KEY_ABSENT  = 3000;
+
+    private IndexedObjectsMsg msg;
+    private Object[]          objectValues;
+
+    /**
+     * setUp.
+     * 
+     */
+    @Setup
+    public void setUp() {
+        this.msg = IndexedObjectsMsg.create();
+        this.msg.set(KEY_PRESENT, Integer.MAX_VALUE);
+        this.objectValues = new Object[this.msg.getKeyCapacity()];
+        this.objectValues[KEY_PRESENT] = Integer.valueOf(Integer.MAX_VALUE);
+    }
+
+    /**
+     * baselineGetAsNullableInteger, IndexedObjectsMsg.getAsNullableInteger before the explicit length check, on the same storage.
+     * 
+     * @param aObjectValues
+     * @param aKey
+     * @return
+     */
+    private static Integer baselineGetAsNullableInteger(final Object[] aObjectValues, final int aKey) {
+        try {
+            final Object value = aObjectValues[aKey];
+            if (value instanceof Integer) {
+                return (Integer) aObjectValues[aKey];
+            }
+            if (value instanceof Short) {
+                return Integer.valueOf(((Short) aObjectValues[aKey]).intValue());
+            }
+            if (value instanceof Byte) {
+                return Integer.valueOf(((Byte) aObjectValues[aKey]).intValue());
+            }
+        } catch (final ArrayIndexOutOfBoundsException e) {
+        }
+        return null;
+    }
+
+    /**
+     * absentKeyReadWithException, the baseline read of IndexedObjectsMsg.
+     * 
+     * @return
+     */
+    @Benchmark
+    public Integer absentKeyReadWithException() {
+        return baselineGetAsNullableInteger(this.objectValues, KEY_ABSENT);
+    }
+
+    /**
+     * presentKeyReadWithException, the baseline read of IndexedObjectsMsg.
+     * 
+     * @return
+     */
+    @Benchmark
+    public Integer presentKeyReadWithException() {
+        return baselineGetAsNullableInteger(this.objectValues, KEY_PRESENT);
+    }
+
+    /**
+     * absentKeyRead.
+     * 
+     * @return
+     */
+    @Benchmark
+    public Integer absentKeyRead() {
+        return this.msg.getAsNullableInteger(KEY_ABSENT);
+    }
+
+    /**
+     * presentKeyRead.
+     * 
+     * @return
+     */
+    @Benchmark
+    public Integer presentKeyRead() {
+        return this.msg.getAsNullableInteger(KEY_PRESENT);
+    }
+
+    /**
+     * setPastCapacity.
+     * 
+     * @return
+     */
+    @Benchmark
+    public IndexedObjectsMsg setPastCapacity() {
+        final IndexedObjectsMsg newMsg = IndexedObjectsMsg.create();
+        for (int key = KEY_PRESENT; key <= KEY_ABSENT; key += KEY_PRESENT) {
+            newMsg.set(key, key);
+        }
+        return newMsg;
+    }
+
+    /**
+     * setPastCapacityWithEnsureKeyCapacity.
+     * 
+     * @return
+     */
+    @Benchmark
+    public IndexedObjectsMsg setPastCapacityWithEnsureKeyCapacity() {
+        final IndexedObjectsMsg newMsg = IndexedObjectsMsg.create();
+        newMsg.ensureKeyCapacity(KEY_ABSENT);
+        for (int key = KEY_PRESENT; key <= KEY_ABSENT; key += KEY_PRESENT) {
+            newMsg.set(key, key);
+        }
+        return newMsg;
+    }
+
+    /**
+     * main.
+     * 
+     * @param args
+     * @throws RunnerException
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IndexedObjectsMsgBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.ByteBufferMsgSerializer;
+import com.github.hermod.ser.BytesMsgSerializer;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>IndexedObjectsMsgTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class IndexedObjectsMsgTest extends AbstractMsgTest {
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createMsg()
+     */
+    @Override
+    public Msg createMsg() {
+        return IndexedObjectsMsg.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createBytesMsgSerializer()
+     */
+    @Override
+    public BytesMsgSerializer createBytesMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createByteBufferMsgSerializer()
+     */
+    @Override
+    public ByteBufferMsgSerializer createByteBufferMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * testKeysFollowSetAndRemove.
+     * 
+     */
+    @Test
+    public void testKeysFollowSetAndRemove() {
+        final Msg msg = IndexedObjectsMsg.create();
+        msg.set(63, 1);
+        msg.set(64, "64");
+        msg.set(KEY_THREE_THOUSANDS, 1L);
+        msg.set(64, "overwritten");
+        assertThat(msg.getKeysLength()).isEqualTo(3);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 63, 64, KEY_THREE_THOUSANDS });
+        assertThat(msg.getKeyMax()).isEqualTo(KEY_THREE_THOUSANDS);
+
+        msg.remove(KEY_THREE_THOUSANDS, KEY_THREE_THOUSANDS, 5000);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 63, 64 });
+        assertThat(msg.getKeyMax()).isEqualTo(64);
+
+        msg.removeAll();
+        assertThat(msg.isEmpty()).isTrue();
+        assertThat(msg.getKeysLength()).isEqualTo(0);
+        assertThat(msg.getKeyMax()).isEqualTo(-1);
+        msg.set(0, true);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 0 });
+    }
+
+    /**
+     * testEnsureKeyCapacityAndTrimToSize.
+     * 
+     */
+    @Test
+    public void testEnsureKeyCapacityAndTrimToSize() {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        assertThat(msg.contains(KEY_THREE_THOUSANDS)).isFalse();
+        assertThat(msg.getAsNullableInteger(KEY_THREE_THOUSANDS)).isNull();
+        assertThat(msg.getKeyCapacity()).isLessThanOrEqualTo(KEY_THREE_THOUSANDS);
+
+        msg.ensureKeyCapacity(KEY_THREE_THOUSANDS);
+        final int keyCapacity = msg.getKeyCapacity();
+        assertThat(keyCapacity).isGreaterThan(KEY_THREE_THOUSANDS);
+        msg.set(KEY_THREE_THOUSANDS, 1);
+        msg.set(KEY_ONE, 1);
+        assertThat(msg.getKeyCapacity()).isEqualTo(keyCapacity);
+
+        msg.trimToSize();
+        assertThat(msg.getKeyCapacity()).isEqualTo(keyCapacity);
+        msg.remove(KEY_THREE_THOUSANDS);
+        msg.trimToSize();
+        assertThat(msg.getKeyCapacity()).isEqualTo(2);
+        assertThat(msg.getAsInt(KEY_ONE)).isEqualTo(1);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { KEY_ONE });
+        msg.set(KEY_NINETY, 90);
+        assertThat(msg.getAsInt(KEY_NINETY)).isEqualTo(90);
+    }
+
+    /**
+     * testEnsureKeyCapacityWithNegativeKey.
+     * 
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEnsureKeyCapacityWithNegativeKey() {
+        IndexedObjectsMsg.create().ensureKeyCapacity(-1);
+    }
+
+    /**
+     * testTypesFollowSetAndRemove.
+     * 
+     */
+    @Test
+    public void testTypesFollowSetAndRemove() {
+        final Msg msg = IndexedObjectsMsg.create();
+        msg.set(KEY_ONE, 1L);
+        assertThat(msg.getTypeAsByte(KEY_ONE)).isEqualTo(Type.BYTE.getId());
+        msg.set(KEY_ONE, Long.MAX_VALUE);
+        assertThat(msg.getType(KEY_ONE)).isEqualTo(Type.LONG);
+        msg.set(KEY_ONE, new int[] { 1 });
+        assertThat(msg.isArray(KEY_ONE)).isTrue();
+        assertThat(msg.getType(KEY_ONE)).isEqualTo(Type.ARRAY_FIXED_VALUE);
+        msg.set(KEY_ONE, (String) null);
+        assertThat(msg.getType(KEY_ONE)).isEqualTo(Null.STRING_UTF8_NULL.getType());
+        assertThat(msg.getTypeAsByte(KEY_ONE)).isEqualTo(Type.NULL.getId());
+        assertThat(msg.isArray(KEY_ONE)).isFalse();
+        msg.remove(KEY_ONE);
+        assertThat(msg.getType(KEY_ONE)).isEqualTo(Type.NULL);
+        msg.set(KEY_THREE_THOUSANDS, 1.1);
+        assertThat(msg.getTypeAsByte(KEY_THREE_THOUSANDS)).isEqualTo(Type.DOUBLE.getId());
+    }
+
+    /**
+     * testGetAsBorrowedMsgWithoutCopy.
+     * 
+     */
+    @Test
+    public void testGetAsBorrowedMsgWithoutCopy() {
+        final IndexedObjectsMsg legMsg = IndexedObjectsMsg.create();
+        legMsg.set(KEY_ONE, 1);
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        msg.set(KEY_ONE, legMsg);
+        assertThat(msg.getAsBorrowedMsg(KEY_ONE)).isSameAs(legMsg);
+        assertThat(msg.getAsMsg(KEY_ONE)).isNotSameAs(legMsg).isEqualTo(legMsg);
+    }
+
+    /**
+     * testSetObjectWithNullAndPrimitiveArrays.
+     * 
+     */
+    @Test
+    public void testSetObjectWithNullAndPrimitiveArrays() {
+        final Msg msg = IndexedObjectsMsg.create();
+        msg.set(1, (Object) Null.INTEGER_NULL);
+        msg.set(90, (Object) new int[] { 1, Integer.MAX_VALUE });
+        msg.set(3000, (Object) new double[] { 1.5 });
+        assertThat(msg.getAsNullableInteger(1)).isNull();
+        assertThat(msg.getTypeAsByte(1)).isEqualTo(Type.NULL.getId());
+        assertThat(msg.getAsInts(90)).isEqualTo(new int[] { 1, Integer.MAX_VALUE });
+        assertThat(msg.getAsDoubles(3000)).isEqualTo(new double[] { 1.5 });
+    }
+
+    /**
+     * testCreateFromEmptyMsg.
+     * 
+     */
+    @Test
+    public void testCreateFromEmptyMsg() {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.createFromMsg(IndexedPrimitivesMsg.create());
+        assertThat(msg.isEmpty()).isTrue();
+        assertThat(msg.getAllAsMsg().isEmpty()).isTrue();
+        msg.set(3000, 1);
+        assertThat(msg.getAsInt(3000)).isEqualTo(1);
+    }
+
+    /**
+     * testSetLongNarrowsToInt.
+     * 
+     */
+    @Test
+    public void testSetLongNarrowsToInt() {
+        final Msg msg = IndexedObjectsMsg.create();
+        msg.set(1, (long) Integer.MAX_VALUE);
+        assertThat(msg.getType(1)).isEqualTo(Type.INT);
+        assertThat(msg.getAsInt(1)).isEqualTo(Integer.MAX_VALUE);
+        msg.set(1, Integer.MAX_VALUE + 1L);
+        assertThat(msg.getType(1)).isEqualTo(Type.LONG);
+        assertThat(msg.getAsLong(1)).isEqualTo(Integer.MAX_VALUE + 1L);
+    }
+}
@@ -0,0 +1,161 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.ByteBufferMsgSerializer;
+import com.github.hermod.ser.BytesMsgSerializer;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>IndexedPrimitivesMsgTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class IndexedPrimitivesMsgTest extends AbstractMsgTest {
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createMsg()
+     */
+    @Override
+    public Msg createMsg() {
+        return IndexedPrimitivesMsg.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createBytesMsgSerializer()
+     */
+    @Override
+    public BytesMsgSerializer createBytesMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createByteBufferMsgSerializer()
+     */
+    @Override
+    public ByteBufferMsgSerializer createByteBufferMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * testKeysCountedAcrossResizeAndRemoveAll.
+     * 
+     */
+    @Test
+    public void testKeysCountedAcrossResizeAndRemoveAll() {
+        final IndexedPrimitivesMsg msg = IndexedPrimitivesMsg.createWithKeyMax(1);
+        msg.set(0, 1);
+        msg.set(0, "overwritten");
+        msg.set(63, 2L);
+        msg.set(64, 3.5);
+        msg.set(1000, new int[] { 1 });
+        msg.remove(63);
+        msg.remove(63);
+        msg.remove(500);
+        assertThat(msg.getKeysLength()).isEqualTo(3);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 0, 64, 1000 });
+        assertThat(msg.nextKey(1)).isEqualTo(64);
+        assertThat(msg.nextKey(65)).isEqualTo(1000);
+        assertThat(msg.getKeyMax()).isEqualTo(1000);
+
+        final IndexedPrimitivesMsg copy = IndexedPrimitivesMsg.createFromMsg(msg);
+        msg.removeAll();
+        assertThat(msg.isEmpty()).isTrue();
+        assertThat(msg.getKeyMax()).isEqualTo(-1);
+        assertThat(msg.nextKey(0)).isEqualTo(-1);
+        assertThat(msg.serializeToBytes()).isEmpty();
+        assertThat(msg.contains(64)).isFalse();
+
+        // the copy keeps its own presences
+        assertThat(copy.getKeysArray()).isEqualTo(new int[] { 0, 64, 1000 });
+        msg.set(64, 1);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 64 });
+    }
+
+    /**
+     * testScalarsKeepTheirType.
+     * 
+     */
+    @Test
+    public void testScalarsKeepTheirType() {
+        final Msg msg = IndexedPrimitivesMsg.create();
+        msg.set(1, (byte) -1);
+        msg.set(2, Short.MIN_VALUE);
+        msg.set(3, Integer.MAX_VALUE);
+        msg.set(4, Long.MIN_VALUE);
+        msg.set(5, 1.5f);
+        msg.set(6, 0.1);
+        msg.set(7, true);
+        assertThat(msg.getType(1)).isEqualTo(Type.BYTE);
+        assertThat(msg.getAsByte(1)).isEqualTo((byte) -1);
+        assertThat(msg.getType(2)).isEqualTo(Type.SHORT);
+        assertThat(msg.getAsShort(2)).isEqualTo(Short.MIN_VALUE);
+        assertThat(msg.getType(3)).isEqualTo(Type.INT);
+        assertThat(msg.getAsInt(3)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(msg.getType(4)).isEqualTo(Type.LONG);
+        assertThat(msg.getAsLong(4)).isEqualTo(Long.MIN_VALUE);
+        assertThat(msg.getType(5)).isEqualTo(Type.FLOAT);
+        assertThat(msg.getAsFloat(5)).isEqualTo(1.5f);
+        assertThat(msg.getType(6)).isEqualTo(Type.DOUBLE);
+        assertThat(msg.getAsDouble(6)).isEqualTo(0.1);
+        assertThat(msg.getAsBoolean(7)).isTrue();
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 1, 2, 3, 4, 5, 6, 7 });
+    }
+
+    /**
+     * testObjectsAndRemove.
+     * 
+     */
+    @Test
+    public void testObjectsAndRemove() {
+        final Msg msg = IndexedPrimitivesMsg.createWithKeyMax(1);
+        msg.set(1, "string");
+        msg.set(2, new int[] { 1, 2 });
+        msg.set(3, IndexedObjectsMsg.createFromValues(1, "a"));
+        msg.set(4, (Integer) null);
+        msg.set(3000, 1L);
+        assertThat(msg.getAsString(1)).isEqualTo("string");
+        assertThat(msg.getAsInts(2)).isEqualTo(new int[] { 1, 2 });
+        assertThat(msg.getAsMsg(3).getAsString(1)).isEqualTo("a");
+        assertThat(msg.getAsNull(4)).isEqualTo(Null.INTEGER_NULL);
+        assertThat(msg.getKeyMax()).isEqualTo(3000);
+
+        // narrowed to the smallest type holding the value, as IndexedObjectsMsg does
+        msg.set(1, 10);
+        assertThat(msg.getType(1)).isEqualTo(Type.BYTE);
+        msg.remove(3000);
+        assertThat(msg.contains(3000)).isFalse();
+        assertThat(msg.getKeyMax()).isEqualTo(4);
+        msg.removeAll();
+        assertThat(msg.isEmpty()).isTrue();
+    }
+
+    /**
+     * testSameContentAsIndexedObjectsMsg.
+     * 
+     */
+    @Test
+    public void testSameContentAsIndexedObjectsMsg() {
+        final IndexedObjectsMsg srcMsg = IndexedObjectsMsg.createFromValues(1, 2L, "three", new double[] { 4.0 }, (byte) 5);
+        final IndexedPrimitivesMsg msg = IndexedPrimitivesMsg.createFromMsg(srcMsg);
+        assertThat(msg.getKeysArray()).isEqualTo(srcMsg.getKeysArray());
+        for (final int key : srcMsg.getKeysArray()) {
+            assertThat(msg.getType(key)).isEqualTo(srcMsg.getType(key));
+        }
+        assertThat(msg.getAsDoubles(3)).isEqualTo(new double[] { 4.0 });
+        msg.remove(3);
+        assertThat(msg).isEqualTo(IndexedPrimitivesMsg.createFromMsg(msg));
+        assertThat(IndexedObjectsMsg.createFromMsg(msg).getAsString(2)).isEqualTo("three");
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * <p>MsgBatchSerializerTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class MsgBatchSerializerTest {
+
+    /**
+     * testBatchRoundTripInPlace.
+     * 
+     */
+    @Test
+    public void testBatchRoundTripInPlace() {
+        final IndexedObjectsMsg[] msgs = new IndexedObjectsMsg[100];
+        for (int i = 0; i < msgs.length; i++) {
+            msgs[i] = IndexedObjectsMsg.createFromValues(i, (long) i * 1000, "msg" + i);
+        }
+        final byte[] bytes = MsgBatchSerializer.serializeToBytes(msgs);
+        assertThat(bytes.length).isEqualTo(MsgBatchSerializer.getBatchLength(msgs));
+        assertThat(MsgBatchReader.getBatchLength(bytes, 0)).isEqualTo(bytes.length);
+
+        final MsgBatchReader reader = MsgBatchReader.create().wrap(bytes, 0, bytes.length);
+        assertThat(reader.getCount()).isEqualTo(100);
+        assertThat(reader.getBatchLength()).isEqualTo(bytes.length);
+        FlyweightMsg previousMsg = null;
+        int i = 0;
+        while (reader.hasNext()) {
+            final FlyweightMsg msg = reader.next();
+            if (previousMsg != null) {
+                assertThat(msg).isSameAs(previousMsg);
+            }
+            assertThat(msg.getAsInt(0)).isEqualTo(i);
+            assertThat(msg.getAsLong(1)).isEqualTo(i * 1000L);
+            assertThat(msg.getAsString(2)).isEqualTo("msg" + i);
+            previousMsg = msg;
+            i++;
+        }
+        assertThat(i).isEqualTo(100);
+        try {
+            reader.next();
+            failBecauseExceptionWasNotThrown(NoSuchElementException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    /**
+     * testAppendUntilFullInDirectBuffer.
+     * 
+     */
+    @Test
+    public void testAppendUntilFullInDirectBuffer() {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.createFromValues(1, 2L, "three");
+        final int frameLength = MsgBatchSerializer.FRAME_HEADER_LENGTH + msg.getLength();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(4 + MsgBatchSerializer.HEADER_LENGTH + 3 * frameLength + 1);
+        buffer.position(4);
+        final MsgBatchSerializer serializer = MsgBatchSerializer.create().begin(buffer);
+        int appended = 0;
+        while (serializer.append(msg)) {
+            msg.set(0, ++appended + 1);
+        }
+        assertThat(appended).isEqualTo(3);
+        assertThat(serializer.getCount()).isEqualTo(3);
+        final int length = serializer.end();
+        assertThat(length).isEqualTo(MsgBatchSerializer.HEADER_LENGTH + 3 * frameLength);
+        assertThat(buffer.position()).isEqualTo(4 + length);
+
+        final MsgBatchReader reader = MsgBatchReader.create().wrap(buffer, 4, length);
+        for (int i = 0; i < 3; i++) {
+            assertThat(reader.next().getAsInt(0)).isEqualTo(i + 1);
+        }
+        assertThat(reader.hasNext()).isFalse();
+
+        try {
+            serializer.append(msg);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    /**
+     * testSeveralBatchesAndTruncatedBatch.
+     * 
+     */
+    @Test
+    public void testSeveralBatchesAndTruncatedBatch() {
+        final byte[] bytes = new byte[256];
+        final MsgBatchSerializer serializer = MsgBatchSerializer.create();
+        serializer.begin(bytes, 0).append(IndexedObjectsMsg.createFromValues(1));
+        final int length1 = serializer.end();
+        serializer.begin(bytes, length1);
+        serializer.append(IndexedObjectsMsg.createFromValues(2));
+        serializer.append(IndexedObjectsMsg.createFromValues(3));
+        final int length2 = serializer.end();
+
+        final MsgBatchReader reader = MsgBatchReader.create();
+        int offset = 0;
+        int sum = 0;
+        while (offset < length1 + length2) {
+            reader.wrap(bytes, offset, bytes.length - offset);
+            while (reader.hasNext()) {
+                sum += reader.next().getAsInt(0);
+            }
+            offset += reader.getBatchLength();
+        }
+        assertThat(sum).isEqualTo(6);
+        try {
+            reader.wrap(bytes, length1, length2 - 1);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Null;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>MsgCodecTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class MsgCodecTest {
+
+    private static final String STRING_TEST_UTF16 = "€" + new String(Character.toChars(119070)) + "é";
+
+    /**
+     * testCompactKeysAndNarrowedIntegers.
+     * 
+     */
+    @Test
+    public void testCompactKeysAndNarrowedIntegers() {
+        final Msg msg = IndexedObjectsMsg.create();
+        msg.set(1, 1L);
+        msg.set(2, 300L);
+        // 1 (key) + 1 (type) + 1 (byte) and 1 + 1 + 2 (short)
+        assertThat(MsgCodec.DEFAULT.getLength(msg)).isEqualTo(7);
+
+        msg.set(3000, 1);
+        // 5 (0xFF + int32 key) + 1 + 1
+        assertThat(MsgCodec.DEFAULT.getLength(msg)).isEqualTo(14);
+        assertThat(MsgCodec.DEFAULT.serializeToBytes(msg)).hasSize(14);
+    }
+
+    /**
+     * testUtf8String.
+     * 
+     */
+    @Test
+    public void testUtf8String() {
+        assertThat(MsgCodec.utf8Length(STRING_TEST_UTF16)).isEqualTo(STRING_TEST_UTF16.getBytes(java.nio.charset.StandardCharsets.UTF_8).length);
+
+        final Msg srcMsg = IndexedObjectsMsg.create();
+        srcMsg.set(1, STRING_TEST_UTF16);
+        final byte[] bytes = MsgCodec.DEFAULT.serializeToBytes(srcMsg);
+        final Msg destMsg = IndexedObjectsMsg.create();
+        MsgCodec.DEFAULT.deserializeFromBytes(bytes, 0, bytes.length, destMsg);
+        assertThat(destMsg.getAsString(1)).isEqualTo(STRING_TEST_UTF16);
+    }
+
+    /**
+     * testSerializeAtOffset.
+     * 
+     */
+    @Test
+    public void testSerializeAtOffset() {
+        final Msg srcMsg = IndexedPrimitivesMsg.create();
+        srcMsg.set(1, Integer.MIN_VALUE);
+        srcMsg.set(2, 11.11);
+        final byte[] bytes = new byte[64];
+        final int length = MsgCodec.DEFAULT.serializeToBytes(srcMsg, bytes, 10);
+        assertThat(length).isEqualTo(MsgCodec.DEFAULT.getLength(srcMsg));
+
+        final Msg destMsg = IndexedPrimitivesMsg.create();
+        MsgCodec.DEFAULT.deserializeFromBytes(bytes, 10, length, destMsg);
+        assertThat(destMsg).isEqualTo(srcMsg);
+        assertThat(destMsg.getTypeAsByte(2)).isEqualTo(Type.DOUBLE.getId());
+    }
+
+    /**
+     * testSerializeToBytesWithIllegalArgument.
+     * 
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSerializeToBytesWithIllegalArgument() {
+        final Msg srcMsg = IndexedObjectsMsg.create();
+        srcMsg.set(1, 1L);
+        MsgCodec.DEFAULT.serializeToBytes(srcMsg, new byte[4], 2);
+    }
+
+    /**
+     * testNestedMsgsArraysAndNulls.
+     * 
+     */
+    @Test
+    public void testNestedMsgsArraysAndNulls() {
+        final Msg nestedMsg = IndexedPrimitivesMsg.create();
+        nestedMsg.set(1, Long.MAX_VALUE);
+        nestedMsg.set(2, new int[] { 1, 2, 3 });
+
+        final Msg srcMsg = IndexedObjectsMsg.create();
+        srcMsg.set(1, nestedMsg);
+        srcMsg.set(2, new Msg[] { nestedMsg, null });
+        srcMsg.set(3, new Long[] { null, 1L, Long.MIN_VALUE });
+        srcMsg.set(4, new Object[] { 1, "string", new double[] { 1.5 } });
+        srcMsg.set(5, (Integer) null);
+        srcMsg.set(6, Null.valueOf(300));
+        srcMsg.set(7, new boolean[] { true, false });
+        srcMsg.set(8, new String[0]);
+
+        final byte[] bytes = MsgCodec.DEFAULT.serializeToBytes(srcMsg);
+        final Msg destMsg = IndexedPrimitivesMsg.create();
+        MsgCodec.DEFAULT.deserializeFromBytes(bytes, 0, bytes.length, destMsg);
+
+        assertThat(destMsg.getAsMsg(1).getAsLong(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(destMsg.getAsMsg(1).getAsInts(2)).isEqualTo(new int[] { 1, 2, 3 });
+        assertThat(destMsg.getAsMsgs(2)[0].getAsLong(1)).isEqualTo(Long.MAX_VALUE);
+        assertThat(destMsg.getAsMsgs(2)[1]).isNull();
+        assertThat(destMsg.getAsNullableLongs(3)).isEqualTo(new Long[] { null, 1L, Long.MIN_VALUE });
+        final Object[] objects = destMsg.getAsObjects(4);
+        assertThat(objects[0]).isEqualTo(Integer.valueOf(1));
+        assertThat(objects[1]).isEqualTo("string");
+        assertThat((double[]) objects[2]).isEqualTo(new double[] { 1.5 });
+        assertThat(destMsg.getAsNull(5)).isEqualTo(Null.INTEGER_NULL);
+        assertThat(destMsg.getAsNull(6)).isEqualTo(Null.valueOf(300));
+        assertThat(destMsg.getAsBooleans(7)).isEqualTo(new boolean[] { true, false });
+        assertThat(destMsg.getAsStrings(8)).isEmpty();
+    }
+
+    /**
+     * testBackPatchedLengths, the nested Msgs and the strings longer than a one byte length are moved after their length.
+     * 
+     */
+    @Test
+    public void testBackPatchedLengths() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append('é');
+        }
+        // 100 chars of 2 utf-8 bytes, their length moved in VAR_INT (200 > 127), twice as many moved in DEFAULT (400 > 254)
+        final String accentsString = builder.toString();
+        final Msg deepMsg = IndexedObjectsMsg.create();
+        deepMsg.set(1, accentsString);
+        deepMsg.set(2, new byte[300]);
+        final Msg nestedMsg = IndexedObjectsMsg.create();
+        nestedMsg.set(1, deepMsg);
+        nestedMsg.set(2, "short");
+
+        final Msg srcMsg = IndexedObjectsMsg.create();
+        srcMsg.set(1, nestedMsg);
+        srcMsg.set(2, accentsString + accentsString);
+        srcMsg.set(3, "é");
+
+        for (final MsgCodec codec : new MsgCodec[] { MsgCodec.DEFAULT, MsgCodec.VAR_INT }) {
+            final int length = codec.getLength(srcMsg);
+            final byte[] bytes = codec.serializeToBytes(srcMsg);
+            assertThat(bytes).hasSize(length);
+            // key, type, then the length of the nested Msg
+            assertThat(codec.readCompact(bytes, 2)).isEqualTo(codec.getLength(nestedMsg));
+
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+            codec.serializeToByteBuffer(srcMsg, buffer);
+            for (int i = 0; i < length; i++) {
+                assertThat(buffer.get(i)).isEqualTo(bytes[i]);
+            }
+
+            final Msg destMsg = IndexedObjectsMsg.create();
+            codec.deserializeFromBytes(bytes, 0, length, destMsg);
+            assertThat(destMsg.getAsMsg(1).getAsMsg(1).getAsString(1)).isEqualTo(accentsString);
+            assertThat(destMsg.getAsMsg(1).getAsMsg(1).getAsBytes(2)).hasSize(300);
+            assertThat(destMsg.getAsMsg(1).getAsString(2)).isEqualTo("short");
+            assertThat(destMsg.getAsString(2)).isEqualTo(accentsString + accentsString);
+            assertThat(destMsg.getAsString(3)).isEqualTo("é");
+        }
+    }
+
+    /**
+     * testDirectByteBuffer.
+     * 
+     */
+    @Test
+    public void testDirectByteBuffer() {
+        final Msg srcMsg = IndexedObjectsMsg.create();
+        srcMsg.set(1, Short.MIN_VALUE);
+        srcMsg.set(2, 10.10f);
+        srcMsg.set(3, STRING_TEST_UTF16);
+        srcMsg.set(300, new long[] { Long.MIN_VALUE, 0 });
+        srcMsg.set(4, new String[] { "string", null });
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+        buffer.position(3);
+        MsgCodec.DEFAULT.serializeToByteBuffer(srcMsg, buffer);
+        assertThat(buffer.position()).isEqualTo(3 + MsgCodec.DEFAULT.getLength(srcMsg));
+
+        // same bytes as the byte[] encoding
+        final byte[] bytes = MsgCodec.DEFAULT.serializeToBytes(srcMsg);
+        for (int i = 0; i < bytes.length; i++) {
+            assertThat(buffer.get(3 + i)).isEqualTo(bytes[i]);
+        }
+
+        buffer.flip();
+        buffer.position(3);
+        final Msg destMsg = IndexedPrimitivesMsg.create();
+        MsgCodec.DEFAULT.deserializeFromByteBuffer(buffer, destMsg);
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(destMsg.getAsShort(1)).isEqualTo(Short.MIN_VALUE);
+        assertThat(destMsg.getAsFloat(2)).isEqualTo(10.10f);
+        assertThat(destMsg.getAsString(3)).isEqualTo(STRING_TEST_UTF16);
+        assertThat(destMsg.getAsLongs(300)).isEqualTo(new long[] { Long.MIN_VALUE, 0 });
+        assertThat(destMsg.getAsStrings(4)).isEqualTo(new String[] { "string", null });
+    }
+
+    /**
+     * testSerializeToByteBufferWithOverflow.
+     * 
+     */
+    @Test(expected = BufferOverflowException.class)
+    public void testSerializeToByteBufferWithOverflow() {
+        final Msg srcMsg = IndexedObjectsMsg.create();
+        srcMsg.set(1, 1L);
+        MsgCodec.DEFAULT.serializeToByteBuffer(srcMsg, ByteBuffer.allocateDirect(2));
+    }
+
+    /**
+     * testVarIntKeysAndIntegers.
+     * 
+     */
+    @Test
+    public void testVarIntKeysAndIntegers() {
+        final Msg msg = IndexedObjectsMsg.create();
+        msg.set(1, 1L);
+        msg.set(2, -64L);
+        msg.set(3, 100000L);
+        // 1 (key) + 1 (type) + 1 (byte), 1 + 1 + 1 (byte), 1 + 1 + 3 (zigzag 100000 = 200000) instead of 1 + 1 + 4 (int)
+        assertThat(MsgCodec.VAR_INT.getLength(msg)).isEqualTo(11);
+        assertThat(MsgCodec.DEFAULT.getLength(msg)).isEqualTo(12);
+
+        msg.set(3000, Integer.MIN_VALUE);
+        // 2 (key) + 1 + 5 instead of 5 (0xFF + int32 key) + 1 + 4
+        assertThat(MsgCodec.VAR_INT.getLength(msg)).isEqualTo(19);
+        assertThat(MsgCodec.DEFAULT.getLength(msg)).isEqualTo(22);
+        assertThat(MsgCodec.VAR_INT.serializeToBytes(msg)).hasSize(19);
+    }
+
+    /**
+     * testVarIntRoundTrip.
+     * 
+     */
+    @Test
+    public void testVarIntRoundTrip() {
+        final Msg nestedMsg = IndexedPrimitivesMsg.create();
+        nestedMsg.set(1, Long.MIN_VALUE);
+        nestedMsg.set(200, (short) -1);
+
+        final Msg srcMsg = IndexedObjectsMsg.create();
+        srcMsg.set(0, Long.MAX_VALUE);
+        srcMsg.set(1, Integer.MIN_VALUE);
+        srcMsg.set(2, (short) 1000);
+        srcMsg.set(3, 1.5);
+        srcMsg.set(4, STRING_TEST_UTF16);
+        srcMsg.set(5, nestedMsg);
+        srcMsg.set(6, new int[] { -1, 0, 1 });
+        srcMsg.set(7, new Long[] { null, -2L });
+        srcMsg.set(8, Null.valueOf(300));
+        srcMsg.set(100000, 127);
+
+        final CodecMsgSerializer serializer = CodecMsgSerializer.createVarInt();
+        assertThat(serializer.isVarInt()).isTrue();
+        final byte[] bytes = new byte[serializer.getLength(srcMsg) + 16];
+        final int length = serializer.serializeToBytes(srcMsg, bytes, 16);
+        final Msg destMsg = IndexedObjectsMsg.create();
+        serializer.deserializeFromBytes(bytes, 16, length, destMsg);
+        assertThat(destMsg).isEqualTo(srcMsg);
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        serializer.serializeToByteBuffer(srcMsg, buffer);
+        for (int i = 0; i < length; i++) {
+            assertThat(buffer.get(i)).isEqualTo(bytes[16 + i]);
+        }
+        buffer.flip();
+        final Msg bufferMsg = IndexedPrimitivesMsg.create();
+        serializer.deserializeFromByteBuffer(buffer, bufferMsg);
+        assertThat(bufferMsg.getAsLong(0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(bufferMsg.getAsInt(1)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(bufferMsg.getAsMsg(5).getAsShort(200)).isEqualTo((short) -1);
+        assertThat(bufferMsg.getAsInt(100000)).isEqualTo(127);
+        assertThat(CodecMsgSerializer.create().serializeToBytes(srcMsg)).isEqualTo(MsgCodec.DEFAULT.serializeToBytes(srcMsg));
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * <p>MsgJournalReplayTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class MsgJournalReplayTest {
+
+    private static final int     COUNT  = 20000;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MsgJournal           journal;
+    private ForkJoinPool         pool;
+
+    /**
+     * setUp, a journal of COUNT Msgs over several segments.
+     * 
+     * @throws IOException
+     */
+    @Before
+    public void setUp() throws IOException {
+        this.journal = MsgJournal.open(this.folder.getRoot().toPath(), 64 * 1024, 16);
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        for (int i = 0; i < COUNT; i++) {
+            msg.set(0, (long) i);
+            msg.set(1, i % 7);
+            this.journal.append(msg);
+        }
+        this.pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * tearDown.
+     * 
+     */
+    @After
+    public void tearDown() {
+        this.pool.shutdown();
+        this.journal.close();
+    }
+
+    /**
+     * createLeakDetectingMsgPool.
+     * 
+     * @return
+     */
+    private static MsgPool<IndexedObjectsMsg> createLeakDetectingMsgPool() {
+        return MsgPool.create(new Supplier<IndexedObjectsMsg>() {
+            @Override
+            public IndexedObjectsMsg get() {
+                return IndexedObjectsMsg.create();
+            }
+        }, 64, 1024, true);
+    }
+
+    /**
+     * testReplayOrdered.
+     * 
+     */
+    @Test
+    public void testReplayOrdered() {
+        final MsgPool<IndexedObjectsMsg> msgPool = createLeakDetectingMsgPool();
+        final MsgJournalReplay<IndexedObjectsMsg> replay = MsgJournalReplay.create(this.journal, this.pool, msgPool, 100);
+        final long[] expectedSequence = new long[] {5};
+        final Thread thread = Thread.currentThread();
+        final long count = replay.replayOrdered(5, new ObjLongConsumer<IndexedObjectsMsg>() {
+            @Override
+            public void accept(final IndexedObjectsMsg aMsg, final long aSequence) {
+                assertThat(Thread.currentThread()).isSameAs(thread);
+                assertThat(aSequence).isEqualTo(expectedSequence[0]++);
+                assertThat(aMsg.getAsLong(0)).isEqualTo(aSequence);
+                assertThat(aMsg.getAsInt(1)).isEqualTo((int) (aSequence % 7));
+            }
+        });
+        assertThat(count).isEqualTo(COUNT - 5);
+        assertThat(expectedSequence[0]).isEqualTo(COUNT);
+        // window buffers of one chunk (100 rounded up to 112, a multiple of the index interval) reused for all the chunks
+        assertThat(msgPool.getCreatedCount()).isLessThanOrEqualTo(4 * 4 * 112);
+        assertThat(msgPool.getOutstandingCount()).isEqualTo(0);
+    }
+
+    /**
+     * testReplayUnordered.
+     * 
+     */
+    @Test
+    public void testReplayUnordered() {
+        final MsgJournalReplay<IndexedObjectsMsg> replay = MsgJournalReplay.create(this.journal, this.pool,
+                MsgPool.createIndexedObjectsMsgPool(), 50);
+        final AtomicLongArray seen = new AtomicLongArray(COUNT);
+        final LongAdder sum = new LongAdder();
+        final long count = replay.replayUnordered(0, new ObjLongConsumer<IndexedObjectsMsg>() {
+            @Override
+            public void accept(final IndexedObjectsMsg aMsg, final long aSequence) {
+                seen.incrementAndGet((int) aSequence);
+                sum.add(aMsg.getAsLong(0));
+            }
+        });
+        assertThat(count).isEqualTo(COUNT);
+        assertThat(sum.sum()).isEqualTo((long) COUNT * (COUNT - 1) / 2);
+        for (int i = 0; i < COUNT; i++) {
+            assertThat(seen.get(i)).isEqualTo(1);
+        }
+        assertThat(replay.replayUnordered(COUNT, new ObjLongConsumer<IndexedObjectsMsg>() {
+            @Override
+            public void accept(final IndexedObjectsMsg aMsg, final long aSequence) {
+                throw new AssertionError();
+            }
+        })).isEqualTo(0);
+    }
+
+    /**
+     * testHandlerExceptionStopsReplay.
+     * 
+     */
+    @Test
+    public void testHandlerExceptionStopsReplay() {
+        final MsgPool<IndexedObjectsMsg> msgPool = createLeakDetectingMsgPool();
+        final MsgJournalReplay<IndexedObjectsMsg> replay = MsgJournalReplay.create(this.journal, this.pool, msgPool, 100);
+        final ObjLongConsumer<IndexedObjectsMsg> handler = new ObjLongConsumer<IndexedObjectsMsg>() {
+            @Override
+            public void accept(final IndexedObjectsMsg aMsg, final long aSequence) {
+                if (aSequence == 10000) {
+                    throw new IllegalStateException("stop");
+                }
+            }
+        };
+        try {
+            replay.replayOrdered(0, handler);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+        // the decodings ahead are joined and their Msgs released, the journal can be closed right after
+        assertThat(msgPool.getOutstandingCount()).isEqualTo(0);
+
+        try {
+            replay.replayUnordered(0, handler);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(msgPool.getOutstandingCount()).isEqualTo(0);
+    }
+}
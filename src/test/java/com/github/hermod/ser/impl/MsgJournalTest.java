@@ -0,0 +1,115 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * <p>MsgJournalTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class MsgJournalTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * appendMsgs.
+     * 
+     * @param aJournal
+     * @param aFrom
+     * @param aTo
+     * @throws IOException
+     */
+    private static void appendMsgs(final MsgJournal aJournal, final int aFrom, final int aTo) throws IOException {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        for (int i = aFrom; i < aTo; i++) {
+            msg.set(0, i);
+            msg.set(1, "msg" + i);
+            assertThat(aJournal.append(msg)).isEqualTo(i);
+        }
+    }
+
+    /**
+     * testAppendRollAndRandomRead.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void testAppendRollAndRandomRead() throws IOException {
+        final Path directory = this.folder.getRoot().toPath().resolve("journal");
+        try (final MsgJournal journal = MsgJournal.open(directory, 4096, 16)) {
+            appendMsgs(journal, 0, 1000);
+            assertThat(journal.getFirstSequence()).isEqualTo(0);
+            assertThat(journal.getNextSequence()).isEqualTo(1000);
+            assertThat(journal.getSegments().size()).isGreaterThan(3);
+            try (final Stream<Path> files = Files.list(directory)) {
+                assertThat(files.count()).isEqualTo(2L * journal.getSegments().size());
+            }
+
+            final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+            for (final int sequence : new int[] {0, 15, 16, 17, 999, 500, 263, 1}) {
+                assertThat(journal.read(sequence, msg)).isTrue();
+                assertThat(msg.getAsInt(0)).isEqualTo(sequence);
+                assertThat(msg.getAsString(1)).isEqualTo("msg" + sequence);
+            }
+            assertThat(journal.read(1000, msg)).isFalse();
+            assertThat(journal.read(-1, msg)).isFalse();
+        }
+    }
+
+    /**
+     * testReopenContinuesSequence.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void testReopenContinuesSequence() throws IOException {
+        final Path directory = this.folder.getRoot().toPath();
+        try (final MsgJournal journal = MsgJournal.open(directory, 2048, 4)) {
+            appendMsgs(journal, 0, 300);
+        }
+        try (final MsgJournal journal = MsgJournal.open(directory, 2048, 4)) {
+            assertThat(journal.getNextSequence()).isEqualTo(300);
+            appendMsgs(journal, 300, 350);
+            final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+            assertThat(journal.read(299, msg)).isTrue();
+            assertThat(msg.getAsInt(0)).isEqualTo(299);
+            assertThat(journal.read(349, msg)).isTrue();
+            assertThat(msg.getAsString(1)).isEqualTo("msg349");
+        }
+    }
+
+    /**
+     * testTooLargeMsgAndClosedJournal.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void testTooLargeMsgAndClosedJournal() throws IOException {
+        final MsgJournal journal = MsgJournal.open(this.folder.getRoot().toPath(), 1024, 8);
+        try {
+            journal.append(IndexedObjectsMsg.createFromValues(new byte[2000]));
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+        journal.close();
+        try {
+            journal.read(0, IndexedObjectsMsg.create());
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * <p>MsgPoolTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class MsgPoolTest {
+
+    private static final Supplier<SparseMsg> SPARSE_MSG_FACTORY = new Supplier<SparseMsg>() {
+                                                                   @Override
+                                                                   public SparseMsg get() {
+                                                                       return SparseMsg.create();
+                                                                   }
+                                                               };
+
+    /**
+     * testAcquireAfterReleaseReusesResetMsg.
+     * 
+     */
+    @Test
+    public void testAcquireAfterReleaseReusesResetMsg() {
+        final MsgPool<IndexedObjectsMsg> pool = MsgPool.createIndexedObjectsMsgPool();
+        final IndexedObjectsMsg msg = pool.acquire();
+        msg.set(1, 10);
+        msg.set(100, "value");
+        pool.release(msg);
+        final IndexedObjectsMsg reusedMsg = pool.acquire();
+        assertThat(reusedMsg).isSameAs(msg);
+        assertThat(reusedMsg.isEmpty()).isTrue();
+        assertThat(reusedMsg.contains(100)).isFalse();
+        assertThat(pool.acquire()).isNotSameAs(msg);
+    }
+
+    /**
+     * testLeakDetectionCounters.
+     * 
+     */
+    @Test
+    public void testLeakDetectionCounters() {
+        final MsgPool<SparseMsg> pool = MsgPool.create(SPARSE_MSG_FACTORY, 2, 1, true);
+        final SparseMsg[] msgs = new SparseMsg[5];
+        for (int i = 0; i < msgs.length; i++) {
+            msgs[i] = pool.acquire();
+            msgs[i].set(i, i);
+        }
+        for (int i = 0; i < 4; i++) {
+            pool.release(msgs[i]);
+        }
+        assertThat(pool.isLeakDetection()).isTrue();
+        assertThat(pool.getAcquiredCount()).isEqualTo(5);
+        assertThat(pool.getReleasedCount()).isEqualTo(4);
+        assertThat(pool.getCreatedCount()).isEqualTo(5);
+        assertThat(pool.getDroppedCount()).isEqualTo(1);
+        assertThat(pool.getOutstandingCount()).isEqualTo(1);
+        for (int i = 0; i < 3; i++) {
+            assertThat(pool.acquire().isEmpty()).isTrue();
+        }
+        assertThat(pool.getCreatedCount()).isEqualTo(5);
+        pool.acquire();
+        assertThat(pool.getCreatedCount()).isEqualTo(6);
+    }
+
+    /**
+     * testReleaseFromAnotherThreadThroughSharedStack.
+     * 
+     * @throws InterruptedException
+     */
+    @Test
+    public void testReleaseFromAnotherThreadThroughSharedStack() throws InterruptedException {
+        final MsgPool<SparseMsg> pool = MsgPool.create(SPARSE_MSG_FACTORY, 2, 8, true);
+        final SparseMsg[] msgs = new SparseMsg[4];
+        for (int i = 0; i < msgs.length; i++) {
+            msgs[i] = pool.acquire();
+        }
+        final Thread releaser = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (final SparseMsg msg : msgs) {
+                    pool.release(msg);
+                }
+            }
+        });
+        releaser.start();
+        releaser.join();
+        // 2 Msgs moved to the shared stack, 2 kept by the releaser
+        assertThat(pool.acquire()).isIn((Object[]) msgs);
+        assertThat(pool.acquire()).isIn((Object[]) msgs);
+        assertThat(pool.getCreatedCount()).isEqualTo(4);
+    }
+
+    /**
+     * testReleaseNull.
+     * 
+     */
+    @Test
+    public void testReleaseNull() {
+        try {
+            MsgPool.createIndexedObjectsMsgPool().release(null);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
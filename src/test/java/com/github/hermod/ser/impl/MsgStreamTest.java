@@ -0,0 +1,166 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * <p>MsgStreamTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class MsgStreamTest {
+
+    /**
+     * <p>TricklingInputStream, returns at most 3 bytes per read.</p>
+     * 
+     * @author agent - Oct 18, 2026
+     * 
+     */
+    private static final class TricklingInputStream extends ByteArrayInputStream {
+
+        /**
+         * Constructor.
+         * 
+         * @param aBytes
+         */
+        TricklingInputStream(final byte[] aBytes) {
+            super(aBytes);
+        }
+
+        /**
+         * (non-Javadoc)
+         * 
+         * @see java.io.ByteArrayInputStream#read(byte[], int, int)
+         */
+        @Override
+        public synchronized int read(final byte[] aBytes, final int aOffset, final int aLength) {
+            return super.read(aBytes, aOffset, Math.min(aLength, 1 + (this.pos % 3)));
+        }
+    }
+
+    /**
+     * writeMsgs.
+     * 
+     * @param aOut
+     * @param aCount
+     * @throws IOException
+     */
+    private static void writeMsgs(final MsgOutputStream aOut, final int aCount) throws IOException {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        for (int i = 0; i < aCount; i++) {
+            msg.set(0, i);
+            msg.set(1, (long) i * 7);
+            msg.set(2, "msg" + i);
+            aOut.write(msg);
+        }
+        aOut.flush();
+    }
+
+    /**
+     * readMsgs.
+     * 
+     * @param aIn
+     * @return the number of Msgs read
+     * @throws IOException
+     */
+    private static int readMsgs(final MsgInputStream aIn) throws IOException {
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+        int i = 0;
+        while (aIn.read(msg)) {
+            assertThat(msg.getAsInt(0)).isEqualTo(i);
+            assertThat(msg.getAsLong(1)).isEqualTo(i * 7L);
+            assertThat(msg.getAsString(2)).isEqualTo("msg" + i);
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * testStreamRoundTripWithPartialReads.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void testStreamRoundTripWithPartialReads() throws IOException {
+        final ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        final MsgOutputStream out = MsgOutputStream.create(bytesOut, 64);
+        writeMsgs(out, 500);
+        assertThat(out.getMsgsCount()).isEqualTo(500);
+        assertThat(out.getBufferedLength()).isEqualTo(0);
+
+        // frames split over the reads and over the end of a buffer smaller than some frames
+        final MsgInputStream in = MsgInputStream.create(new TricklingInputStream(bytesOut.toByteArray()), 8, 1024);
+        assertThat(readMsgs(in)).isEqualTo(500);
+        assertThat(in.getMsgsCount()).isEqualTo(500);
+        assertThat(in.read(IndexedObjectsMsg.create())).isFalse();
+    }
+
+    /**
+     * testChannelRoundTrip.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void testChannelRoundTrip() throws IOException {
+        final ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        final IndexedObjectsMsg largeMsg = IndexedObjectsMsg.create();
+        largeMsg.set(0, new byte[10000]);
+        try (final MsgOutputStream out = MsgOutputStream.create(Channels.newChannel(bytesOut), 100)) {
+            writeMsgs(out, 1000);
+            out.write(largeMsg);
+        }
+        final InputStream trickling = new TricklingInputStream(bytesOut.toByteArray());
+        try (final MsgInputStream in = MsgInputStream.create(Channels.newChannel(trickling), 16, 1 << 20)) {
+            final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+            for (int i = 0; i < 1000; i++) {
+                assertThat(in.read(msg)).isTrue();
+                assertThat(msg.getAsInt(0)).isEqualTo(i);
+            }
+            assertThat(in.read(msg)).isTrue();
+            assertThat((byte[]) msg.get(0)).hasSize(10000);
+            assertThat(in.read(msg)).isFalse();
+        }
+    }
+
+    /**
+     * testTruncatedAndCorruptedStream.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void testTruncatedAndCorruptedStream() throws IOException {
+        final ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        writeMsgs(MsgOutputStream.create(bytesOut), 2);
+        final byte[] bytes = bytesOut.toByteArray();
+        final IndexedObjectsMsg msg = IndexedObjectsMsg.create();
+
+        final MsgInputStream truncatedIn = MsgInputStream.create(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThat(truncatedIn.read(msg)).isTrue();
+        try {
+            truncatedIn.read(msg);
+            failBecauseExceptionWasNotThrown(EOFException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(EOFException.class);
+        }
+
+        final MsgInputStream corruptedIn = MsgInputStream.create(new ByteArrayInputStream(new byte[] {-1, -1, -1, -1, 0, 0}));
+        try {
+            corruptedIn.read(msg);
+            failBecauseExceptionWasNotThrown(StreamCorruptedException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(StreamCorruptedException.class);
+        }
+    }
+}
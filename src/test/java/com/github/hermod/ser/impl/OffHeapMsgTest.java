@@ -0,0 +1,91 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.ByteBufferMsgSerializer;
+import com.github.hermod.ser.BytesMsgSerializer;
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>OffHeapMsgTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class OffHeapMsgTest extends AbstractMsgTest {
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createMsg()
+     */
+    @Override
+    public Msg createMsg() {
+        return OffHeapMsg.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createBytesMsgSerializer()
+     */
+    @Override
+    public BytesMsgSerializer createBytesMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createByteBufferMsgSerializer()
+     */
+    @Override
+    public ByteBufferMsgSerializer createByteBufferMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * testReallocateKeepsLiveValues.
+     * 
+     */
+    @Test
+    public void testReallocateKeepsLiveValues() {
+        final OffHeapMsg msg = OffHeapMsg.createWithCapacity(1, 8);
+        for (int i = 0; i < 100; i++) {
+            msg.set(1, "value" + i);
+            msg.set(2, i);
+        }
+        msg.set(3000, new long[] { 1L, Long.MAX_VALUE });
+        msg.set(4, 11.11);
+        msg.remove(2);
+        assertThat(msg.getAsString(1)).isEqualTo("value99");
+        assertThat(msg.getAsLongs(3000)).isEqualTo(new long[] { 1L, Long.MAX_VALUE });
+        assertThat(msg.getAsDouble(4)).isEqualTo(11.11);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 1, 4, 3000 });
+        assertThat(msg.getKeysLength()).isEqualTo(3);
+        assertThat(msg.getKeyMax()).isEqualTo(3000);
+        assertThat(msg.nextKey(5)).isEqualTo(3000);
+        msg.removeAll();
+        assertThat(msg.isEmpty()).isTrue();
+        assertThat(msg.nextKey(0)).isEqualTo(-1);
+        msg.set(2, "value");
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 2 });
+        msg.close();
+    }
+
+    /**
+     * testClose.
+     * 
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testClose() {
+        final OffHeapMsg msg = OffHeapMsg.create();
+        msg.set(1, 1);
+        msg.close();
+        assertThat(msg.isClosed()).isTrue();
+        msg.close();
+        msg.getAsInt(1);
+    }
+}
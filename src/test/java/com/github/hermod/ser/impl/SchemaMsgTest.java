@@ -0,0 +1,262 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.ByteBufferMsgSerializer;
+import com.github.hermod.ser.BytesMsgSerializer;
+import com.github.hermod.ser.Msg;
+import com.github.hermod.ser.Type;
+
+/**
+ * <p>SchemaMsgTest. </p>
+ * 
+ * The generic tests run with an empty schema (every key in the overflow), the schema fields are tested below.
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class SchemaMsgTest extends AbstractMsgTest {
+
+    private static final MsgSchema EMPTY_SCHEMA = MsgSchema.create("Empty");
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createMsg()
+     */
+    @Override
+    public Msg createMsg() {
+        return EMPTY_SCHEMA.createMsg();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createBytesMsgSerializer()
+     */
+    @Override
+    public BytesMsgSerializer createBytesMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createByteBufferMsgSerializer()
+     */
+    @Override
+    public ByteBufferMsgSerializer createByteBufferMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * The Msgs of a schema are created by the schema, the key max is not preallocated.
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#testCreateWithKeyMax()
+     */
+    @Override
+    @Test
+    public void testCreateWithKeyMax() {
+        final int keyMax = 10;
+        final Msg msg = EMPTY_SCHEMA.createMsg();
+        msg.set(keyMax, true);
+        assertThat(msg.getKeyMax()).isEqualTo(keyMax);
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#testCreateFromValues()
+     */
+    @Override
+    @Test
+    public void testCreateFromValues() {
+        final Msg msg = createOrderSchema().createMsgFromValues(0, 1, 2, 3);
+        for (final int key : msg.getKeysArray()) {
+            assertThat(msg.getAsInt(key)).isEqualTo(key);
+        }
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#testCreateFromMsg()
+     */
+    @Override
+    @Test
+    public void testCreateFromMsg() {
+        final MsgSchema schema = createOrderSchema();
+        final Msg msg1 = schema.createMsgFromValues(0, 1, 2, 3);
+        final Msg msg2 = schema.createMsgFromMsg(msg1);
+        assertThat(msg1).isEqualTo(msg2);
+    }
+
+    /**
+     * createOrderSchema.
+     * 
+     * @return
+     */
+    private static MsgSchema createOrderSchema() {
+        return MsgSchema.create("Order").add(38, Type.LONG, "quantity").add(44, Type.DOUBLE, "price").add(11, Type.STRING_UTF_8, "clOrdId")
+        .add(54, Type.BYTE, "side").add(40, Type.SHORT).add(59, Type.FLOAT).add(99, Type.INT).add(100, Type.MSG);
+    }
+
+    /**
+     * testSchemaFields.
+     * 
+     */
+    @Test
+    public void testSchemaFields() {
+        final MsgSchema schema = createOrderSchema();
+        assertThat(schema.getKeys()).isEqualTo(new int[] { 11, 38, 40, 44, 54, 59, 99, 100 });
+        assertThat(schema.getType(44)).isEqualTo(Type.DOUBLE);
+        assertThat(schema.getType(45)).isNull();
+        assertThat(schema.getFieldName(38)).isEqualTo("quantity");
+        assertThat(schema.getKey("price")).isEqualTo(44);
+        assertThat(schema.getKey("unknown")).isEqualTo(-1);
+
+        final SchemaMsg msg = schema.createMsg();
+        assertThat(msg.getSchema()).isSameAs(schema);
+        assertThat(msg.isEmpty()).isTrue();
+        try {
+            schema.add(12, Type.INT);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (final Exception e) {
+            assertThat(e).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    /**
+     * testSetAndGetSchemaFields.
+     * 
+     */
+    @Test
+    public void testSetAndGetSchemaFields() {
+        final SchemaMsg msg = createOrderSchema().createMsg();
+        msg.set(38, 100);
+        msg.set(44, 12.25);
+        msg.set(11, "ID-1");
+        msg.set(54, (byte) 1);
+        msg.set(40, 2);
+        msg.set(59, 0.5);
+        msg.set(99, Integer.MIN_VALUE);
+        msg.set(100, IndexedObjectsMsg.createFromValues(1, "a"));
+
+        assertThat(msg.getAsLong(38)).isEqualTo(100L);
+        assertThat(msg.getType(38)).isEqualTo(Type.LONG);
+        assertThat(msg.getAsDouble(44)).isEqualTo(12.25);
+        assertThat(msg.getAsString(11)).isEqualTo("ID-1");
+        assertThat(msg.getAsByte(54)).isEqualTo((byte) 1);
+        assertThat(msg.getAsInt(40)).isEqualTo(2);
+        assertThat(msg.getAsFloat(59)).isEqualTo(0.5f);
+        assertThat(msg.getAsInt(99)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(msg.getAsMsg(100)).isEqualTo(IndexedObjectsMsg.createFromValues(1, "a"));
+        assertThat(msg.getKeysLength()).isEqualTo(8);
+        assertThat(msg.getKeyMax()).isEqualTo(100);
+
+        msg.remove(11);
+        assertThat(msg.contains(11)).isFalse();
+        assertThat(msg.getAsString(11)).isNull();
+        msg.removeAll();
+        assertThat(msg.isEmpty()).isTrue();
+    }
+
+    /**
+     * testWrongTypeOnSchemaField.
+     * 
+     */
+    @Test
+    public void testWrongTypeOnSchemaField() {
+        final SchemaMsg msg = createOrderSchema().createMsg();
+        final Object[][] keysAndValues = { { 54, 1000 }, { 99, Long.MAX_VALUE }, { 38, "100" }, { 59, 0.1 }, { 11, 1 }, { 44, Long.MAX_VALUE },
+        { 44, (1L << 53) + 1 }, { 59, (1 << 24) + 1 } };
+        for (final Object[] keyAndValue : keysAndValues) {
+            try {
+                msg.set((Integer) keyAndValue[0], keyAndValue[1]);
+                failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+            } catch (final Exception e) {
+                assertThat(e).isInstanceOf(IllegalArgumentException.class);
+            }
+        }
+        assertThat(msg.isEmpty()).isTrue();
+    }
+
+    /**
+     * testIntegralOnDecimalField.
+     * 
+     */
+    @Test
+    public void testIntegralOnDecimalField() {
+        final SchemaMsg msg = createOrderSchema().createMsg();
+        msg.set(44, 100);
+        assertThat(msg.getType(44)).isEqualTo(Type.DOUBLE);
+        assertThat(msg.getAsDouble(44)).isEqualTo(100.0);
+        msg.set(44, 1L << 53);
+        assertThat(msg.getAsDouble(44)).isEqualTo(9007199254740992.0);
+        msg.set(59, (short) -3);
+        assertThat(msg.getType(59)).isEqualTo(Type.FLOAT);
+        assertThat(msg.getAsFloat(59)).isEqualTo(-3f);
+        msg.set(59, 1L << 40);
+        assertThat(msg.getAsFloat(59)).isEqualTo((float) (1L << 40));
+    }
+
+    /**
+     * testOverflowKeys.
+     * 
+     */
+    @Test
+    public void testOverflowKeys() {
+        final SchemaMsg msg = createOrderSchema().createMsg();
+        msg.set(38, 5L);
+        msg.set(39, "overflow");
+        msg.set(9000, 1.5);
+        msg.set(1, 7);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 1, 38, 39, 9000 });
+        assertThat(msg.getAsString(39)).isEqualTo("overflow");
+        assertThat(msg.getAsDouble(9000)).isEqualTo(1.5);
+        assertThat(msg.getKeyMax()).isEqualTo(9000);
+        final SchemaMsg copyMsg = msg.getSchema().createMsgFromMsg(msg);
+        assertThat(copyMsg).isEqualTo(msg);
+        assertThat(copyMsg.getType(38)).isEqualTo(Type.LONG);
+    }
+
+    /**
+     * testSerializationWithFixedOffsets.
+     * 
+     */
+    @Test
+    public void testSerializationWithFixedOffsets() {
+        final MsgSchema schema = createOrderSchema();
+        final SchemaMsg msg = schema.createMsg();
+        msg.set(38, 100L);
+        msg.set(44, 12.25);
+        msg.set(11, "ID-1");
+        msg.set(9000, "tag");
+
+        final byte[] bytes = msg.serializeToBytes();
+        assertThat(bytes.length).isEqualTo(msg.getLength());
+        // 1 presence byte, then quantity at offset 1
+        assertThat(bytes[0]).isEqualTo((byte) 0b1011);
+        assertThat(DirectBytes.getLongLE(bytes, 1)).isEqualTo(100L);
+
+        final SchemaMsg decodedMsg = schema.createMsg();
+        decodedMsg.set(54, (byte) 2);
+        decodedMsg.deserializeFromBytes(bytes, 0, bytes.length);
+        assertThat(decodedMsg).isEqualTo(msg);
+        assertThat(decodedMsg.contains(54)).isFalse();
+
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        msg.serializeToByteBuffer(byteBuffer);
+        byteBuffer.flip();
+        final SchemaMsg bufferMsg = schema.createMsg();
+        bufferMsg.deserializeFromByteBuffer(byteBuffer);
+        assertThat(bufferMsg).isEqualTo(msg);
+    }
+}
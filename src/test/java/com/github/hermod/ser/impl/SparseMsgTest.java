@@ -0,0 +1,87 @@
+package com.github.hermod.ser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.github.hermod.ser.ByteBufferMsgSerializer;
+import com.github.hermod.ser.BytesMsgSerializer;
+import com.github.hermod.ser.Msg;
+
+/**
+ * <p>SparseMsgTest. </p>
+ * 
+ * @author agent - Oct 18, 2026
+ * 
+ */
+public class SparseMsgTest extends AbstractMsgTest {
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createMsg()
+     */
+    @Override
+    public Msg createMsg() {
+        return SparseMsg.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createBytesMsgSerializer()
+     */
+    @Override
+    public BytesMsgSerializer createBytesMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * (non-Javadoc)
+     * 
+     * @see com.github.hermod.ser.impl.AbstractMsgTest#createByteBufferMsgSerializer()
+     */
+    @Override
+    public ByteBufferMsgSerializer createByteBufferMsgSerializer() {
+        return DelegateMsgSerializer.create();
+    }
+
+    /**
+     * testCapacityFollowsFieldCount.
+     * 
+     */
+    @Test
+    public void testCapacityFollowsFieldCount() {
+        final SparseMsg msg = SparseMsg.create();
+        msg.set(9000, 1);
+        msg.set(35, "D");
+        msg.set(Integer.MAX_VALUE - 1, 2L);
+        assertThat(msg.getCapacity()).isEqualTo(8);
+        assertThat(msg.getKeysArray()).isEqualTo(new int[] { 35, 9000, Integer.MAX_VALUE - 1 });
+        assertThat(msg.getKeyMax()).isEqualTo(Integer.MAX_VALUE - 1);
+        assertThat(msg.nextKey(36)).isEqualTo(9000);
+    }
+
+    /**
+     * testRemoveKeepsProbeSequences.
+     * 
+     */
+    @Test
+    public void testRemoveKeepsProbeSequences() {
+        final SparseMsg msg = SparseMsg.create();
+        for (int key = 0; key < 1000; key++) {
+            msg.set(key * 64, key);
+        }
+        for (int key = 0; key < 1000; key += 2) {
+            msg.remove(key * 64);
+        }
+        assertThat(msg.getKeysLength()).isEqualTo(500);
+        for (int key = 0; key < 1000; key++) {
+            assertThat(msg.contains(key * 64)).isEqualTo(key % 2 == 1);
+            if (key % 2 == 1) {
+                assertThat(msg.getAsInt(key * 64)).isEqualTo(key);
+            }
+        }
+        assertThat(msg.nextKey(0)).isEqualTo(64);
+    }
+}